@@ -41,4 +41,58 @@ public final class CosAngle {
                                double[] v2) {
         return Sum.ofProducts(v1, v2).getAsDouble() / Norm.L2.of(v1) / Norm.L2.of(v2);
     }
+
+    /**
+     * Computes the cosine of the angle between the vectors formed by the
+     * elements in the range {@code [from, to)} of {@code v1} and {@code v2}.
+     *
+     * @param v1 Cartesian coordinates of the first vector.
+     * @param v2 Cartesian coordinates of the second vector.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the cosine of the angle between the vectors.
+     * @throws IllegalArgumentException if the sizes of the input arrays are different,
+     * or the range is empty
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the arrays
+     * @since 1.2
+     */
+    public static double value(double[] v1,
+                               double[] v2,
+                               int from,
+                               int to) {
+        return Sum.ofProducts(v1, v2, from, to).getAsDouble() /
+            Norm.L2.of(v1, from, to) / Norm.L2.of(v2, from, to);
+    }
+
+    /**
+     * Computes the cosine of the angle between two vectors formed from {@code count}
+     * elements of {@code v1} and {@code v2}. The elements of each array start from
+     * the offset and have a spacing of the stride.
+     *
+     * <p>For example the cosine of the angle between row {@code i} and column
+     * {@code j} of an {@code n x n} matrix stored in a row-major array is
+     * {@code value(m, i * n, 1, m, j, n, n)}.
+     *
+     * @param v1 Cartesian coordinates of the first vector.
+     * @param offset1 Index of the first element of {@code v1}.
+     * @param stride1 Spacing between elements of {@code v1}.
+     * @param v2 Cartesian coordinates of the second vector.
+     * @param offset2 Index of the first element of {@code v2}.
+     * @param stride2 Spacing between elements of {@code v2}.
+     * @param count Number of elements.
+     * @return the cosine of the angle between the vectors.
+     * @throws IllegalArgumentException if either stride is {@code < 1} or {@code count < 1}
+     * @throws IndexOutOfBoundsException if either range is out of bounds of the array
+     * @since 1.2
+     */
+    public static double value(double[] v1,
+                               int offset1,
+                               int stride1,
+                               double[] v2,
+                               int offset2,
+                               int stride2,
+                               int count) {
+        return Sum.ofProducts(v1, offset1, stride1, v2, offset2, stride2, count).getAsDouble() /
+            Norm.L2.of(v1, offset1, stride1, count) / Norm.L2.of(v2, offset2, stride2, count);
+    }
 }
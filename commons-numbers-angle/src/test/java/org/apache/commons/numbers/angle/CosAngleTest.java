@@ -88,4 +88,37 @@ class CosAngleTest {
             CosAngle.value(a, b);
         });
     }
+
+    @Test
+    void testCosAngleRange() {
+        final double[] v1 = {9, 1, 1, 0, 9};
+        final double[] v2 = {9, 1, 1, 1, 9};
+        Assertions.assertEquals(CosAngle.value(new double[] {1, 1, 0}, new double[] {1, 1, 1}),
+            CosAngle.value(v1, v2, 1, 4));
+        Assertions.assertEquals(1, CosAngle.value(v1, v1, 0, 5), 1e-15);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.value(v1, new double[4], 0, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.value(v1, v2, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> CosAngle.value(v1, v2, 0, 6));
+    }
+
+    @Test
+    void testCosAngleStrided() {
+        // Row-major 3x3 matrix
+        final double[] m = {
+            1, 1, 0,
+            2, 7, 1,
+            1, 3, 1,
+        };
+        // Row 0 and column 2
+        Assertions.assertEquals(CosAngle.value(new double[] {1, 1, 0}, new double[] {0, 1, 1}),
+            CosAngle.value(m, 0, 1, m, 2, 3, 3));
+        // Column 0 and column 1
+        Assertions.assertEquals(CosAngle.value(new double[] {1, 2, 1}, new double[] {1, 7, 3}),
+            CosAngle.value(m, 0, 3, m, 1, 3, 3));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.value(m, 0, 0, m, 0, 1, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CosAngle.value(m, 0, 1, m, 0, 1, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> CosAngle.value(m, 0, 3, m, 1, 3, 4));
+    }
 }
@@ -0,0 +1,576 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexArray;
+
+/**
+ * Static implementations of the {@link ComplexUtils} conversions operating on
+ * {@link DoubleBuffer} and {@link FloatBuffer} data.
+ *
+ * <p>The buffers may be views of a {@link java.nio.ByteBuffer}, including a
+ * {@link java.nio.MappedByteBuffer} of a file, allowing data to be processed
+ * in place without copying to a heap array. For example to stream the complex
+ * numbers stored in a file as interleaved little-endian doubles:
+ *
+ * <pre>
+ * try (FileChannel channel = FileChannel.open(path)) {
+ *     DoubleBuffer data = channel.map(MapMode.READ_ONLY, 0, channel.size())
+ *                                .order(ByteOrder.LITTLE_ENDIAN)
+ *                                .asDoubleBuffer();
+ *     double sum = ComplexBufferUtils.interleaved2ComplexStream(data)
+ *                                    .mapToDouble(Complex::abs)
+ *                                    .sum();
+ * }</pre>
+ *
+ * <p>Data is read from, or written to, the remaining elements of a buffer: the
+ * elements between the current position and the limit. The position, limit and
+ * mark of the buffers are not modified.
+ *
+ * <p>Conversions between interleaved and split data, and to and from the
+ * {@code double[]} parts of a {@link ComplexArray}, copy the primitive values
+ * and do not create a {@code Complex} object for each element.
+ *
+ * @see ComplexUtils
+ * @since 1.2
+ */
+public final class ComplexBufferUtils {
+    /**
+     * Utility class.
+     */
+    private ComplexBufferUtils() {}
+
+    /**
+     * Returns the complex number at the given index of interleaved complex
+     * {@code double} data. The index is relative to the buffer position.
+     *
+     * @param d interleaved complex data
+     * @param index index of the complex number
+     * @return {@code Complex}
+     * @throws IndexOutOfBoundsException if the index is not within the remaining complex numbers
+     */
+    public static Complex extractComplexFromInterleavedBuffer(DoubleBuffer d, int index) {
+        final int i = d.position() + index * 2;
+        return Complex.ofCartesian(d.get(i), d.get(i + 1));
+    }
+
+    /**
+     * Returns the complex number at the given index of interleaved complex
+     * {@code float} data. The index is relative to the buffer position.
+     *
+     * @param f interleaved complex data
+     * @param index index of the complex number
+     * @return {@code Complex}
+     * @throws IndexOutOfBoundsException if the index is not within the remaining complex numbers
+     */
+    public static Complex extractComplexFromInterleavedBuffer(FloatBuffer f, int index) {
+        final int i = f.position() + index * 2;
+        return Complex.ofCartesian(f.get(i), f.get(i + 1));
+    }
+
+    /**
+     * Converts interleaved complex {@code double} data to a {@code Complex[]} array.
+     *
+     * @param interleaved interleaved complex data
+     * @return {@code Complex} array
+     */
+    public static Complex[] interleaved2Complex(DoubleBuffer interleaved) {
+        final int length = interleaved.remaining() / 2;
+        final int offset = interleaved.position();
+        final Complex[] c = new Complex[length];
+        for (int n = 0; n < length; n++) {
+            final int i = offset + n * 2;
+            c[n] = Complex.ofCartesian(interleaved.get(i), interleaved.get(i + 1));
+        }
+        return c;
+    }
+
+    /**
+     * Converts interleaved complex {@code float} data to a {@code Complex[]} array.
+     *
+     * @param interleaved interleaved complex data
+     * @return {@code Complex} array
+     */
+    public static Complex[] interleaved2Complex(FloatBuffer interleaved) {
+        final int length = interleaved.remaining() / 2;
+        final int offset = interleaved.position();
+        final Complex[] c = new Complex[length];
+        for (int n = 0; n < length; n++) {
+            final int i = offset + n * 2;
+            c[n] = Complex.ofCartesian(interleaved.get(i), interleaved.get(i + 1));
+        }
+        return c;
+    }
+
+    /**
+     * Converts split complex {@code double} data to a {@code Complex[]} array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return {@code Complex} array
+     * @throws IllegalArgumentException if the remaining sizes of the buffers are not equal
+     */
+    public static Complex[] split2Complex(DoubleBuffer real, DoubleBuffer imag) {
+        final int length = checkSize(real.remaining(), imag.remaining());
+        final int r = real.position();
+        final int i = imag.position();
+        final Complex[] c = new Complex[length];
+        for (int n = 0; n < length; n++) {
+            c[n] = Complex.ofCartesian(real.get(r + n), imag.get(i + n));
+        }
+        return c;
+    }
+
+    /**
+     * Converts split complex {@code float} data to a {@code Complex[]} array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return {@code Complex} array
+     * @throws IllegalArgumentException if the remaining sizes of the buffers are not equal
+     */
+    public static Complex[] split2Complex(FloatBuffer real, FloatBuffer imag) {
+        final int length = checkSize(real.remaining(), imag.remaining());
+        final int r = real.position();
+        final int i = imag.position();
+        final Complex[] c = new Complex[length];
+        for (int n = 0; n < length; n++) {
+            c[n] = Complex.ofCartesian(real.get(r + n), imag.get(i + n));
+        }
+        return c;
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from interleaved complex
+     * {@code double} data. The data is read when the stream is consumed.
+     *
+     * @param interleaved interleaved complex data
+     * @return stream of {@code Complex}
+     */
+    public static Stream<Complex> interleaved2ComplexStream(DoubleBuffer interleaved) {
+        final int offset = interleaved.position();
+        return IntStream.range(0, interleaved.remaining() / 2)
+            .mapToObj(n -> Complex.ofCartesian(interleaved.get(offset + n * 2),
+                                               interleaved.get(offset + n * 2 + 1)));
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from interleaved complex
+     * {@code float} data. The data is read when the stream is consumed.
+     *
+     * @param interleaved interleaved complex data
+     * @return stream of {@code Complex}
+     */
+    public static Stream<Complex> interleaved2ComplexStream(FloatBuffer interleaved) {
+        final int offset = interleaved.position();
+        return IntStream.range(0, interleaved.remaining() / 2)
+            .mapToObj(n -> Complex.ofCartesian(interleaved.get(offset + n * 2),
+                                               interleaved.get(offset + n * 2 + 1)));
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from split complex
+     * {@code double} data. The data is read when the stream is consumed.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return stream of {@code Complex}
+     * @throws IllegalArgumentException if the remaining sizes of the buffers are not equal
+     */
+    public static Stream<Complex> split2ComplexStream(DoubleBuffer real, DoubleBuffer imag) {
+        final int length = checkSize(real.remaining(), imag.remaining());
+        final int r = real.position();
+        final int i = imag.position();
+        return IntStream.range(0, length)
+            .mapToObj(n -> Complex.ofCartesian(real.get(r + n), imag.get(i + n)));
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from split complex
+     * {@code float} data. The data is read when the stream is consumed.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return stream of {@code Complex}
+     * @throws IllegalArgumentException if the remaining sizes of the buffers are not equal
+     */
+    public static Stream<Complex> split2ComplexStream(FloatBuffer real, FloatBuffer imag) {
+        final int length = checkSize(real.remaining(), imag.remaining());
+        final int r = real.position();
+        final int i = imag.position();
+        return IntStream.range(0, length)
+            .mapToObj(n -> Complex.ofCartesian(real.get(r + n), imag.get(i + n)));
+    }
+
+    /**
+     * Writes a {@code Complex[]} array to the buffer as interleaved complex
+     * {@code double} data.
+     *
+     * @param c Complex array
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static DoubleBuffer complex2Interleaved(Complex[] c, DoubleBuffer interleaved) {
+        checkSpace(interleaved.remaining(), c.length * 2L);
+        final int offset = interleaved.position();
+        for (int n = 0; n < c.length; n++) {
+            final int i = offset + n * 2;
+            interleaved.put(i, c[n].getReal());
+            interleaved.put(i + 1, c[n].getImaginary());
+        }
+        return interleaved;
+    }
+
+    /**
+     * Writes a {@code Complex[]} array to the buffer as interleaved complex
+     * {@code float} data.
+     *
+     * @param c Complex array
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static FloatBuffer complex2Interleaved(Complex[] c, FloatBuffer interleaved) {
+        checkSpace(interleaved.remaining(), c.length * 2L);
+        final int offset = interleaved.position();
+        for (int n = 0; n < c.length; n++) {
+            final int i = offset + n * 2;
+            interleaved.put(i, (float) c[n].getReal());
+            interleaved.put(i + 1, (float) c[n].getImaginary());
+        }
+        return interleaved;
+    }
+
+    /**
+     * Writes a {@code Complex[]} array to the buffers as split complex
+     * {@code double} data.
+     *
+     * @param c Complex array
+     * @param real destination for the real component
+     * @param imag destination for the imaginary component
+     * @throws IllegalArgumentException if either buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if either buffer is read-only
+     */
+    public static void complex2Split(Complex[] c, DoubleBuffer real, DoubleBuffer imag) {
+        checkSpace(real.remaining(), c.length);
+        checkSpace(imag.remaining(), c.length);
+        final int r = real.position();
+        final int i = imag.position();
+        for (int n = 0; n < c.length; n++) {
+            real.put(r + n, c[n].getReal());
+            imag.put(i + n, c[n].getImaginary());
+        }
+    }
+
+    /**
+     * Writes a {@code Complex[]} array to the buffers as split complex
+     * {@code float} data.
+     *
+     * @param c Complex array
+     * @param real destination for the real component
+     * @param imag destination for the imaginary component
+     * @throws IllegalArgumentException if either buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if either buffer is read-only
+     */
+    public static void complex2Split(Complex[] c, FloatBuffer real, FloatBuffer imag) {
+        checkSpace(real.remaining(), c.length);
+        checkSpace(imag.remaining(), c.length);
+        final int r = real.position();
+        final int i = imag.position();
+        for (int n = 0; n < c.length; n++) {
+            real.put(r + n, (float) c[n].getReal());
+            imag.put(i + n, (float) c[n].getImaginary());
+        }
+    }
+
+    /**
+     * Copies interleaved complex {@code double} data to arrays of split complex data.
+     * The number of complex values is half the remaining elements of the buffer.
+     *
+     * @param interleaved interleaved complex data
+     * @param real destination for the real component
+     * @param imag destination for the imaginary component
+     * @throws IllegalArgumentException if either array has insufficient space
+     */
+    public static void interleaved2Split(DoubleBuffer interleaved, double[] real, double[] imag) {
+        final int length = interleaved.remaining() / 2;
+        checkSpace(real.length, length);
+        checkSpace(imag.length, length);
+        final int offset = interleaved.position();
+        for (int n = 0; n < length; n++) {
+            final int i = offset + n * 2;
+            real[n] = interleaved.get(i);
+            imag[n] = interleaved.get(i + 1);
+        }
+    }
+
+    /**
+     * Copies interleaved complex {@code float} data to arrays of split complex data.
+     * The number of complex values is half the remaining elements of the buffer.
+     *
+     * @param interleaved interleaved complex data
+     * @param real destination for the real component
+     * @param imag destination for the imaginary component
+     * @throws IllegalArgumentException if either array has insufficient space
+     */
+    public static void interleaved2Split(FloatBuffer interleaved, double[] real, double[] imag) {
+        final int length = interleaved.remaining() / 2;
+        checkSpace(real.length, length);
+        checkSpace(imag.length, length);
+        final int offset = interleaved.position();
+        for (int n = 0; n < length; n++) {
+            final int i = offset + n * 2;
+            real[n] = interleaved.get(i);
+            imag[n] = interleaved.get(i + 1);
+        }
+    }
+
+    /**
+     * Converts interleaved complex {@code double} data to a {@code ComplexArray}.
+     *
+     * @param interleaved interleaved complex data
+     * @return {@code ComplexArray}
+     */
+    public static ComplexArray interleaved2ComplexArray(DoubleBuffer interleaved) {
+        final ComplexArray c = ComplexArray.ofSize(interleaved.remaining() / 2);
+        interleaved2Split(interleaved, c.getReal(), c.getImaginary());
+        return c;
+    }
+
+    /**
+     * Converts interleaved complex {@code float} data to a {@code ComplexArray}.
+     *
+     * @param interleaved interleaved complex data
+     * @return {@code ComplexArray}
+     */
+    public static ComplexArray interleaved2ComplexArray(FloatBuffer interleaved) {
+        final ComplexArray c = ComplexArray.ofSize(interleaved.remaining() / 2);
+        interleaved2Split(interleaved, c.getReal(), c.getImaginary());
+        return c;
+    }
+
+    /**
+     * Writes arrays of split complex data to the buffer as interleaved complex
+     * {@code double} data.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the array lengths are not equal, or the buffer
+     * has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static DoubleBuffer split2Interleaved(double[] real, double[] imag, DoubleBuffer interleaved) {
+        final int length = checkSize(real.length, imag.length);
+        checkSpace(interleaved.remaining(), length * 2L);
+        final int offset = interleaved.position();
+        for (int n = 0; n < length; n++) {
+            final int i = offset + n * 2;
+            interleaved.put(i, real[n]);
+            interleaved.put(i + 1, imag[n]);
+        }
+        return interleaved;
+    }
+
+    /**
+     * Writes arrays of split complex data to the buffer as interleaved complex
+     * {@code float} data.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the array lengths are not equal, or the buffer
+     * has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static FloatBuffer split2Interleaved(double[] real, double[] imag, FloatBuffer interleaved) {
+        final int length = checkSize(real.length, imag.length);
+        checkSpace(interleaved.remaining(), length * 2L);
+        final int offset = interleaved.position();
+        for (int n = 0; n < length; n++) {
+            final int i = offset + n * 2;
+            interleaved.put(i, (float) real[n]);
+            interleaved.put(i + 1, (float) imag[n]);
+        }
+        return interleaved;
+    }
+
+    /**
+     * Writes a {@code ComplexArray} to the buffer as interleaved complex
+     * {@code double} data.
+     *
+     * @param c Complex array
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static DoubleBuffer complexArray2Interleaved(ComplexArray c, DoubleBuffer interleaved) {
+        return split2Interleaved(c.getReal(), c.getImaginary(), interleaved);
+    }
+
+    /**
+     * Writes a {@code ComplexArray} to the buffer as interleaved complex
+     * {@code float} data.
+     *
+     * @param c Complex array
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static FloatBuffer complexArray2Interleaved(ComplexArray c, FloatBuffer interleaved) {
+        return split2Interleaved(c.getReal(), c.getImaginary(), interleaved);
+    }
+
+    /**
+     * Copies interleaved complex {@code double} data to buffers of split complex data.
+     * The number of complex values is half the remaining elements of the interleaved buffer.
+     *
+     * @param interleaved interleaved complex data
+     * @param real destination for the real component
+     * @param imag destination for the imaginary component
+     * @throws IllegalArgumentException if either destination buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if either destination buffer is read-only
+     */
+    public static void interleaved2Split(DoubleBuffer interleaved, DoubleBuffer real, DoubleBuffer imag) {
+        final int length = interleaved.remaining() / 2;
+        checkSpace(real.remaining(), length);
+        checkSpace(imag.remaining(), length);
+        final int offset = interleaved.position();
+        final int r = real.position();
+        final int i = imag.position();
+        for (int n = 0; n < length; n++) {
+            final int j = offset + n * 2;
+            real.put(r + n, interleaved.get(j));
+            imag.put(i + n, interleaved.get(j + 1));
+        }
+    }
+
+    /**
+     * Copies interleaved complex {@code float} data to buffers of split complex data.
+     * The number of complex values is half the remaining elements of the interleaved buffer.
+     *
+     * @param interleaved interleaved complex data
+     * @param real destination for the real component
+     * @param imag destination for the imaginary component
+     * @throws IllegalArgumentException if either destination buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if either destination buffer is read-only
+     */
+    public static void interleaved2Split(FloatBuffer interleaved, FloatBuffer real, FloatBuffer imag) {
+        final int length = interleaved.remaining() / 2;
+        checkSpace(real.remaining(), length);
+        checkSpace(imag.remaining(), length);
+        final int offset = interleaved.position();
+        final int r = real.position();
+        final int i = imag.position();
+        for (int n = 0; n < length; n++) {
+            final int j = offset + n * 2;
+            real.put(r + n, interleaved.get(j));
+            imag.put(i + n, interleaved.get(j + 1));
+        }
+    }
+
+    /**
+     * Copies split complex {@code double} data to a buffer of interleaved complex data.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the remaining sizes of the split buffers are not
+     * equal, or the destination buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the destination buffer is read-only
+     */
+    public static DoubleBuffer split2Interleaved(DoubleBuffer real, DoubleBuffer imag, DoubleBuffer interleaved) {
+        final int length = checkSize(real.remaining(), imag.remaining());
+        checkSpace(interleaved.remaining(), length * 2L);
+        final int offset = interleaved.position();
+        final int r = real.position();
+        final int i = imag.position();
+        for (int n = 0; n < length; n++) {
+            final int j = offset + n * 2;
+            interleaved.put(j, real.get(r + n));
+            interleaved.put(j + 1, imag.get(i + n));
+        }
+        return interleaved;
+    }
+
+    /**
+     * Copies split complex {@code float} data to a buffer of interleaved complex data.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param interleaved destination for the interleaved complex data
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the remaining sizes of the split buffers are not
+     * equal, or the destination buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the destination buffer is read-only
+     */
+    public static FloatBuffer split2Interleaved(FloatBuffer real, FloatBuffer imag, FloatBuffer interleaved) {
+        final int length = checkSize(real.remaining(), imag.remaining());
+        checkSpace(interleaved.remaining(), length * 2L);
+        final int offset = interleaved.position();
+        final int r = real.position();
+        final int i = imag.position();
+        for (int n = 0; n < length; n++) {
+            final int j = offset + n * 2;
+            interleaved.put(j, real.get(r + n));
+            interleaved.put(j + 1, imag.get(i + n));
+        }
+        return interleaved;
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @return the size
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static int checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Size mismatch: " + size1 + " != " + size2);
+        }
+        return size1;
+    }
+
+    /**
+     * Check the remaining space is at least the required size.
+     *
+     * @param remaining Remaining space.
+     * @param required Required space.
+     * @throws IllegalArgumentException if the remaining space is too small.
+     */
+    private static void checkSpace(int remaining, long required) {
+        if (remaining < required) {
+            throw new IllegalArgumentException("Insufficient space: " + remaining + " < " + required);
+        }
+    }
+}
@@ -17,6 +17,11 @@
 
 package org.apache.commons.numbers.complex.streams;
 
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.commons.numbers.complex.Complex;
 
 /**
@@ -1513,6 +1518,174 @@ public final class ComplexUtils {
         return c;
     }
 
+    // STREAMS
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from an interleaved
+     * complex {@code double[]} array. The stream does not create an
+     * intermediate {@code Complex[]} array.
+     *
+     * @param interleaved array of numbers to be converted to their {@code Complex} equivalent
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> interleaved2ComplexStream(double[] interleaved) {
+        return IntStream.range(0, interleaved.length / 2)
+            .mapToObj(n -> Complex.ofCartesian(interleaved[n * 2], interleaved[n * 2 + 1]));
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a 2D interleaved
+     * complex {@code double[][]} array. The second level of the array is assumed
+     * to be interleaved. The numbers are streamed in row-major order.
+     *
+     * @param d 2D complex interleaved array
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> interleaved2ComplexStream(double[][] d) {
+        return Arrays.stream(d).flatMap(ComplexUtils::interleaved2ComplexStream);
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a 3D interleaved
+     * complex {@code double[][][]} array. The third level of the array is assumed
+     * to be interleaved. The numbers are streamed in row-major order.
+     *
+     * @param d 3D complex interleaved array
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> interleaved2ComplexStream(double[][][] d) {
+        return Arrays.stream(d).flatMap(ComplexUtils::interleaved2ComplexStream);
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a 4D interleaved
+     * complex {@code double[][][][]} array. The fourth level of the array is assumed
+     * to be interleaved. The numbers are streamed in row-major order.
+     *
+     * @param d 4D complex interleaved array
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> interleaved2ComplexStream(double[][][][] d) {
+        return Arrays.stream(d).flatMap(ComplexUtils::interleaved2ComplexStream);
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a split complex
+     * array {@code double[] r, double[] i}. The stream does not create an
+     * intermediate {@code Complex[]} array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> split2ComplexStream(double[] real, double[] imag) {
+        return IntStream.range(0, real.length)
+            .mapToObj(n -> Complex.ofCartesian(real[n], imag[n]));
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a 2D split complex
+     * array {@code double[][] r, double[][] i}. The numbers are streamed in
+     * row-major order.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> split2ComplexStream(double[][] real, double[][] imag) {
+        return IntStream.range(0, real.length)
+            .mapToObj(x -> split2ComplexStream(real[x], imag[x]))
+            .flatMap(Function.identity());
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a 3D split complex
+     * array {@code double[][][] r, double[][][] i}. The numbers are streamed in
+     * row-major order.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> split2ComplexStream(double[][][] real, double[][][] imag) {
+        return IntStream.range(0, real.length)
+            .mapToObj(x -> split2ComplexStream(real[x], imag[x]))
+            .flatMap(Function.identity());
+    }
+
+    /**
+     * Creates a lazy stream of {@code Complex} numbers from a 4D split complex
+     * array {@code double[][][][] r, double[][][][] i}. The numbers are streamed in
+     * row-major order.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return stream of {@code Complex}
+     * @since 1.2
+     */
+    public static Stream<Complex> split2ComplexStream(double[][][][] real, double[][][][] imag) {
+        return IntStream.range(0, real.length)
+            .mapToObj(x -> split2ComplexStream(real[x], imag[x]))
+            .flatMap(Function.identity());
+    }
+
+    /**
+     * Creates a lazy stream of interleaved real and imaginary values from a
+     * {@code Complex[]} array. The stream does not create an intermediate
+     * {@code double[]} array.
+     *
+     * @param c Complex array
+     * @return stream alternating real and imaginary values
+     * @since 1.2
+     */
+    public static DoubleStream complex2InterleavedStream(Complex[] c) {
+        return IntStream.range(0, c.length * 2)
+            .mapToDouble(n -> (n & 1) == 0 ? c[n >> 1].getReal() : c[n >> 1].getImaginary());
+    }
+
+    /**
+     * Creates a lazy stream of interleaved real and imaginary values from a
+     * {@code Complex[][]} array. The values are streamed in row-major order.
+     *
+     * @param c 2D Complex array
+     * @return stream alternating real and imaginary values
+     * @since 1.2
+     */
+    public static DoubleStream complex2InterleavedStream(Complex[][] c) {
+        return Arrays.stream(c).flatMapToDouble(ComplexUtils::complex2InterleavedStream);
+    }
+
+    /**
+     * Creates a lazy stream of interleaved real and imaginary values from a
+     * {@code Complex[][][]} array. The values are streamed in row-major order.
+     *
+     * @param c 3D Complex array
+     * @return stream alternating real and imaginary values
+     * @since 1.2
+     */
+    public static DoubleStream complex2InterleavedStream(Complex[][][] c) {
+        return Arrays.stream(c).flatMapToDouble(ComplexUtils::complex2InterleavedStream);
+    }
+
+    /**
+     * Creates a lazy stream of interleaved real and imaginary values from a
+     * {@code Complex[][][][]} array. The values are streamed in row-major order.
+     *
+     * @param c 4D Complex array
+     * @return stream alternating real and imaginary values
+     * @since 1.2
+     */
+    public static DoubleStream complex2InterleavedStream(Complex[][][][] c) {
+        return Arrays.stream(c).flatMapToDouble(ComplexUtils::complex2InterleavedStream);
+    }
+
     // MISC
 
     /**
@@ -1610,7 +1783,7 @@ public final class ComplexUtils {
     /**
      * Exception to be throw when an out-of-range index value is passed.
      */
-    private static class IndexOutOfRangeException extends IllegalArgumentException {
+    static class IndexOutOfRangeException extends IllegalArgumentException {
         /** Serializable version identifier. */
         private static final long serialVersionUID = 20181205L;
 
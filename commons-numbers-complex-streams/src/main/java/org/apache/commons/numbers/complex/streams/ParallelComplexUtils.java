@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import org.apache.commons.numbers.complex.Complex;
+
+/**
+ * Parallel implementations of the multi-dimensional array conversions in
+ * {@link ComplexUtils}.
+ *
+ * <p>The work is divided over the outer dimension of the array and executed
+ * using fork-join tasks. Each task converts a range of the outer dimension using
+ * the corresponding sequential method of {@link ComplexUtils}. The range is split
+ * until the number of elements in a task is below a threshold. Arrays below the
+ * threshold are converted in the calling thread.
+ *
+ * <p>The result is identical to the sequential method. The arrays are assumed to be
+ * rectangular; the size of each sub-array is used to estimate the work per task.
+ *
+ * @see ComplexUtils
+ * @since 1.2
+ */
+public final class ParallelComplexUtils {
+    /** The default minimum number of elements to process in a task. */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * Task to apply an action to a range of indices.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261016L;
+
+        /** Range start (inclusive). */
+        private final int from;
+        /** Range end (exclusive). */
+        private final int to;
+        /** Maximum number of indices to process without splitting. */
+        private final int grain;
+        /** Action for each index. */
+        private final transient IntConsumer action;
+
+        /**
+         * @param from Range start (inclusive).
+         * @param to Range end (exclusive).
+         * @param grain Maximum number of indices to process without splitting.
+         * @param action Action for each index.
+         */
+        RangeTask(int from, int to, int grain, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, mid, grain, action),
+                          new RangeTask(mid, to, grain, action));
+            }
+        }
+    }
+
+    /**
+     * Utility class.
+     */
+    private ParallelComplexUtils() {}
+
+    /**
+     * Converts a 3D interleaved complex {@code double[][][]} array to a
+     * {@code Complex[][][]} array in parallel using the common pool.
+     *
+     * @param i 3D complex interleaved array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return 3D {@code Complex} array
+     * @throws IllegalArgumentException if {@code interleavedDim} is not 0, 1, or 2
+     * @see ComplexUtils#interleaved2Complex(double[][][], int)
+     */
+    public static Complex[][][] interleaved2Complex(double[][][] i, int interleavedDim) {
+        return interleaved2Complex(i, interleavedDim, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Converts a 3D interleaved complex {@code double[][][]} array to a
+     * {@code Complex[][][]} array in parallel.
+     *
+     * @param i 3D complex interleaved array
+     * @param interleavedDim Depth level of the array to interleave
+     * @param pool Pool used to execute the tasks
+     * @param threshold Minimum number of elements to process in a task
+     * @return 3D {@code Complex} array
+     * @throws IllegalArgumentException if {@code interleavedDim} is not 0, 1, or 2;
+     * or the {@code threshold} is not strictly positive
+     * @see ComplexUtils#interleaved2Complex(double[][][], int)
+     */
+    public static Complex[][][] interleaved2Complex(double[][][] i, int interleavedDim,
+                                                    ForkJoinPool pool, int threshold) {
+        checkDimension(interleavedDim, 2);
+        checkThreshold(threshold);
+        if (i.length == 0) {
+            return new Complex[0][][];
+        }
+        final long size = elements(i[0]);
+        final Complex[][][] c;
+        if (interleavedDim == 0) {
+            c = new Complex[i.length / 2][][];
+            forEach(c.length, size, pool, threshold,
+                x -> c[x] = ComplexUtils.split2Complex(i[x * 2], i[x * 2 + 1]));
+        } else {
+            c = new Complex[i.length][][];
+            forEach(c.length, size, pool, threshold,
+                x -> c[x] = ComplexUtils.interleaved2Complex(i[x], interleavedDim - 1));
+        }
+        return c;
+    }
+
+    /**
+     * Converts a 4D interleaved complex {@code double[][][][]} array to a
+     * {@code Complex[][][][]} array in parallel using the common pool.
+     *
+     * @param i 4D complex interleaved array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return 4D {@code Complex} array
+     * @throws IllegalArgumentException if {@code interleavedDim} is not in the range {@code [0, 3]}
+     * @see ComplexUtils#interleaved2Complex(double[][][][], int)
+     */
+    public static Complex[][][][] interleaved2Complex(double[][][][] i, int interleavedDim) {
+        return interleaved2Complex(i, interleavedDim, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Converts a 4D interleaved complex {@code double[][][][]} array to a
+     * {@code Complex[][][][]} array in parallel.
+     *
+     * @param i 4D complex interleaved array
+     * @param interleavedDim Depth level of the array to interleave
+     * @param pool Pool used to execute the tasks
+     * @param threshold Minimum number of elements to process in a task
+     * @return 4D {@code Complex} array
+     * @throws IllegalArgumentException if {@code interleavedDim} is not in the range {@code [0, 3]};
+     * or the {@code threshold} is not strictly positive
+     * @see ComplexUtils#interleaved2Complex(double[][][][], int)
+     */
+    public static Complex[][][][] interleaved2Complex(double[][][][] i, int interleavedDim,
+                                                      ForkJoinPool pool, int threshold) {
+        checkDimension(interleavedDim, 3);
+        checkThreshold(threshold);
+        if (i.length == 0) {
+            return new Complex[0][][][];
+        }
+        final long size = elements(i[0]);
+        final Complex[][][][] c;
+        if (interleavedDim == 0) {
+            c = new Complex[i.length / 2][][][];
+            forEach(c.length, size, pool, threshold,
+                x -> c[x] = ComplexUtils.split2Complex(i[x * 2], i[x * 2 + 1]));
+        } else {
+            c = new Complex[i.length][][][];
+            forEach(c.length, size, pool, threshold,
+                x -> c[x] = ComplexUtils.interleaved2Complex(i[x], interleavedDim - 1));
+        }
+        return c;
+    }
+
+    /**
+     * Converts a 3D {@code Complex[][][]} array to an interleaved complex
+     * {@code double[][][]} array in parallel using the common pool.
+     *
+     * @param c 3D Complex array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @throws IllegalArgumentException if {@code interleavedDim} is not 0, 1, or 2
+     * @see ComplexUtils#complex2Interleaved(Complex[][][], int)
+     */
+    public static double[][][] complex2Interleaved(Complex[][][] c, int interleavedDim) {
+        return complex2Interleaved(c, interleavedDim, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Converts a 3D {@code Complex[][][]} array to an interleaved complex
+     * {@code double[][][]} array in parallel.
+     *
+     * @param c 3D Complex array
+     * @param interleavedDim Depth level of the array to interleave
+     * @param pool Pool used to execute the tasks
+     * @param threshold Minimum number of elements to process in a task
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @throws IllegalArgumentException if {@code interleavedDim} is not 0, 1, or 2;
+     * or the {@code threshold} is not strictly positive
+     * @see ComplexUtils#complex2Interleaved(Complex[][][], int)
+     */
+    public static double[][][] complex2Interleaved(Complex[][][] c, int interleavedDim,
+                                                   ForkJoinPool pool, int threshold) {
+        checkDimension(interleavedDim, 2);
+        checkThreshold(threshold);
+        if (c.length == 0) {
+            return new double[0][][];
+        }
+        final long size = elements(c[0]);
+        final double[][][] i;
+        if (interleavedDim == 0) {
+            i = new double[c.length * 2][][];
+            forEach(c.length, size, pool, threshold, x -> {
+                i[x * 2] = ComplexUtils.complex2Real(c[x]);
+                i[x * 2 + 1] = ComplexUtils.complex2Imaginary(c[x]);
+            });
+        } else {
+            i = new double[c.length][][];
+            forEach(c.length, size, pool, threshold,
+                x -> i[x] = ComplexUtils.complex2Interleaved(c[x], interleavedDim - 1));
+        }
+        return i;
+    }
+
+    /**
+     * Converts a 4D {@code Complex[][][][]} array to an interleaved complex
+     * {@code double[][][][]} array in parallel using the common pool.
+     *
+     * @param c 4D Complex array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @throws IllegalArgumentException if {@code interleavedDim} is not in the range {@code [0, 3]}
+     * @see ComplexUtils#complex2Interleaved(Complex[][][][], int)
+     */
+    public static double[][][][] complex2Interleaved(Complex[][][][] c, int interleavedDim) {
+        return complex2Interleaved(c, interleavedDim, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Converts a 4D {@code Complex[][][][]} array to an interleaved complex
+     * {@code double[][][][]} array in parallel.
+     *
+     * @param c 4D Complex array
+     * @param interleavedDim Depth level of the array to interleave
+     * @param pool Pool used to execute the tasks
+     * @param threshold Minimum number of elements to process in a task
+     * @return complex interleaved array alternating real and
+     *         imaginary values
+     * @throws IllegalArgumentException if {@code interleavedDim} is not in the range {@code [0, 3]};
+     * or the {@code threshold} is not strictly positive
+     * @see ComplexUtils#complex2Interleaved(Complex[][][][], int)
+     */
+    public static double[][][][] complex2Interleaved(Complex[][][][] c, int interleavedDim,
+                                                     ForkJoinPool pool, int threshold) {
+        checkDimension(interleavedDim, 3);
+        checkThreshold(threshold);
+        if (c.length == 0) {
+            return new double[0][][][];
+        }
+        final long size = elements(c[0]);
+        final double[][][][] i;
+        if (interleavedDim == 0) {
+            i = new double[c.length * 2][][][];
+            forEach(c.length, size, pool, threshold, x -> {
+                i[x * 2] = ComplexUtils.complex2Real(c[x]);
+                i[x * 2 + 1] = ComplexUtils.complex2Imaginary(c[x]);
+            });
+        } else {
+            i = new double[c.length][][][];
+            forEach(c.length, size, pool, threshold,
+                x -> i[x] = ComplexUtils.complex2Interleaved(c[x], interleavedDim - 1));
+        }
+        return i;
+    }
+
+    /**
+     * Converts a 3D split complex array {@code double[][][] r, double[][][] i}
+     * to a 3D {@code Complex[][][]} array in parallel using the common pool.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return 3D {@code Complex} array
+     * @see ComplexUtils#split2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] split2Complex(double[][][] real, double[][][] imag) {
+        return split2Complex(real, imag, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Converts a 3D split complex array {@code double[][][] r, double[][][] i}
+     * to a 3D {@code Complex[][][]} array in parallel.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param pool Pool used to execute the tasks
+     * @param threshold Minimum number of elements to process in a task
+     * @return 3D {@code Complex} array
+     * @throws IllegalArgumentException if the {@code threshold} is not strictly positive
+     * @see ComplexUtils#split2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] split2Complex(double[][][] real, double[][][] imag,
+                                              ForkJoinPool pool, int threshold) {
+        checkThreshold(threshold);
+        final Complex[][][] c = new Complex[real.length][][];
+        if (c.length != 0) {
+            final long size = elements(real[0]);
+            forEach(c.length, size, pool, threshold,
+                x -> c[x] = ComplexUtils.split2Complex(real[x], imag[x]));
+        }
+        return c;
+    }
+
+    /**
+     * Converts a 4D split complex array {@code double[][][][] r, double[][][][] i}
+     * to a 4D {@code Complex[][][][]} array in parallel using the common pool.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return 4D {@code Complex} array
+     * @see ComplexUtils#split2Complex(double[][][][], double[][][][])
+     */
+    public static Complex[][][][] split2Complex(double[][][][] real, double[][][][] imag) {
+        return split2Complex(real, imag, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Converts a 4D split complex array {@code double[][][][] r, double[][][][] i}
+     * to a 4D {@code Complex[][][][]} array in parallel.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @param pool Pool used to execute the tasks
+     * @param threshold Minimum number of elements to process in a task
+     * @return 4D {@code Complex} array
+     * @throws IllegalArgumentException if the {@code threshold} is not strictly positive
+     * @see ComplexUtils#split2Complex(double[][][][], double[][][][])
+     */
+    public static Complex[][][][] split2Complex(double[][][][] real, double[][][][] imag,
+                                                ForkJoinPool pool, int threshold) {
+        checkThreshold(threshold);
+        final Complex[][][][] c = new Complex[real.length][][][];
+        if (c.length != 0) {
+            final long size = elements(real[0]);
+            forEach(c.length, size, pool, threshold,
+                x -> c[x] = ComplexUtils.split2Complex(real[x], imag[x]));
+        }
+        return c;
+    }
+
+    /**
+     * Apply the action to each index in {@code [0, n)}. The indices are divided
+     * into tasks containing at least {@code threshold} elements.
+     *
+     * @param n Number of indices.
+     * @param size Number of elements processed for each index.
+     * @param pool Pool used to execute the tasks.
+     * @param threshold Minimum number of elements to process in a task.
+     * @param action Action for each index.
+     */
+    private static void forEach(int n, long size, ForkJoinPool pool, int threshold, IntConsumer action) {
+        // Number of indices per task; at least 1
+        final int grain = (int) Math.max(1, Math.min(n, threshold / Math.max(1, size)));
+        if (n <= grain) {
+            for (int x = 0; x < n; x++) {
+                action.accept(x);
+            }
+        } else {
+            pool.invoke(new RangeTask(0, n, grain, action));
+        }
+    }
+
+    /**
+     * Gets the number of elements in the 2D array. The array is assumed to be
+     * rectangular; the size is an estimate of the work to process the array.
+     *
+     * @param a Array.
+     * @return the number of elements
+     */
+    private static long elements(double[][] a) {
+        return a.length == 0 ? 0 : (long) a.length * a[0].length;
+    }
+
+    /**
+     * Gets the number of elements in the 3D array. The array is assumed to be
+     * rectangular; the size is an estimate of the work to process the array.
+     *
+     * @param a Array.
+     * @return the number of elements
+     */
+    private static long elements(double[][][] a) {
+        return a.length == 0 ? 0 : a.length * elements(a[0]);
+    }
+
+    /**
+     * Gets the number of elements in the 2D array. The array is assumed to be
+     * rectangular; the size is an estimate of the work to process the array.
+     *
+     * @param a Array.
+     * @return the number of elements
+     */
+    private static long elements(Complex[][] a) {
+        return a.length == 0 ? 0 : (long) a.length * a[0].length;
+    }
+
+    /**
+     * Gets the number of elements in the 3D array. The array is assumed to be
+     * rectangular; the size is an estimate of the work to process the array.
+     *
+     * @param a Array.
+     * @return the number of elements
+     */
+    private static long elements(Complex[][][] a) {
+        return a.length == 0 ? 0 : a.length * elements(a[0]);
+    }
+
+    /**
+     * Check the interleaved dimension is in the range {@code [0, max]}.
+     * The exception matches the sequential conversions in {@link ComplexUtils}.
+     *
+     * @param interleavedDim Depth level of the array to interleave.
+     * @param max Maximum depth level.
+     * @throws IllegalArgumentException if the dimension is out of range
+     */
+    private static void checkDimension(int interleavedDim, int max) {
+        if (interleavedDim > max || interleavedDim < 0) {
+            throw new ComplexUtils.IndexOutOfRangeException(interleavedDim);
+        }
+    }
+
+    /**
+     * Check the threshold is strictly positive.
+     *
+     * @param threshold Threshold.
+     * @throws IllegalArgumentException if the threshold is not strictly positive
+     */
+    private static void checkThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be strictly positive: " + threshold);
+        }
+    }
+}
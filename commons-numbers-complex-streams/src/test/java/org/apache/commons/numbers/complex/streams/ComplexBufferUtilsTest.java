@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ComplexBufferUtils}.
+ */
+class ComplexBufferUtilsTest {
+    /** Number of complex values. */
+    private static final int SIZE = 10;
+
+    /**
+     * Create complex numbers with distinct real and imaginary parts.
+     *
+     * @return the numbers
+     */
+    private static Complex[] createComplex() {
+        final Complex[] c = new Complex[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            c[i] = Complex.ofCartesian(i * 2 + 0.5, -i * 2 - 1.25);
+        }
+        return c;
+    }
+
+    @Test
+    void testDoubleBuffer() {
+        final Complex[] c = createComplex();
+        // Offset the data from the start of the buffer
+        final DoubleBuffer interleaved = DoubleBuffer.allocate(SIZE * 2 + 3);
+        interleaved.position(3);
+        Assertions.assertSame(interleaved, ComplexBufferUtils.complex2Interleaved(c, interleaved));
+        Assertions.assertEquals(3, interleaved.position());
+        Assertions.assertArrayEquals(ComplexUtils.complex2Interleaved(c),
+            Arrays.copyOfRange(interleaved.array(), 3, SIZE * 2 + 3));
+        TestUtils.assertSame("interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved));
+        TestUtils.assertSame("stream", c,
+            ComplexBufferUtils.interleaved2ComplexStream(interleaved).toArray(Complex[]::new));
+        for (int i = 0; i < SIZE; i++) {
+            TestUtils.assertSame(c[i], ComplexBufferUtils.extractComplexFromInterleavedBuffer(interleaved, i));
+        }
+
+        final DoubleBuffer real = DoubleBuffer.allocate(SIZE + 1);
+        final DoubleBuffer imag = DoubleBuffer.allocate(SIZE + 2);
+        real.position(1);
+        imag.position(2);
+        ComplexBufferUtils.complex2Split(c, real, imag);
+        Assertions.assertEquals(1, real.position());
+        Assertions.assertEquals(2, imag.position());
+        TestUtils.assertSame("split", c, ComplexBufferUtils.split2Complex(real, imag));
+        TestUtils.assertSame("split stream", c,
+            ComplexBufferUtils.split2ComplexStream(real, imag).toArray(Complex[]::new));
+    }
+
+    @Test
+    void testFloatBuffer() {
+        final Complex[] c = createComplex();
+        final FloatBuffer interleaved = FloatBuffer.allocate(SIZE * 2 + 1);
+        interleaved.position(1);
+        Assertions.assertSame(interleaved, ComplexBufferUtils.complex2Interleaved(c, interleaved));
+        Assertions.assertEquals(1, interleaved.position());
+        TestUtils.assertSame("interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved));
+        TestUtils.assertSame("stream", c,
+            ComplexBufferUtils.interleaved2ComplexStream(interleaved).toArray(Complex[]::new));
+        for (int i = 0; i < SIZE; i++) {
+            TestUtils.assertSame(c[i], ComplexBufferUtils.extractComplexFromInterleavedBuffer(interleaved, i));
+        }
+
+        final FloatBuffer real = FloatBuffer.allocate(SIZE);
+        final FloatBuffer imag = FloatBuffer.allocate(SIZE);
+        ComplexBufferUtils.complex2Split(c, real, imag);
+        TestUtils.assertSame("split", c, ComplexBufferUtils.split2Complex(real, imag));
+        TestUtils.assertSame("split stream", c,
+            ComplexBufferUtils.split2ComplexStream(real, imag).toArray(Complex[]::new));
+    }
+
+    @Test
+    void testDoubleBufferSplitArrays() {
+        final Complex[] c = createComplex();
+        final ComplexArray a = ComplexArray.of(c);
+        final DoubleBuffer interleaved = DoubleBuffer.allocate(SIZE * 2 + 3);
+        interleaved.position(3);
+        Assertions.assertSame(interleaved,
+            ComplexBufferUtils.split2Interleaved(a.getReal(), a.getImaginary(), interleaved));
+        Assertions.assertEquals(3, interleaved.position());
+        Assertions.assertArrayEquals(ComplexUtils.complex2Interleaved(c),
+            Arrays.copyOfRange(interleaved.array(), 3, SIZE * 2 + 3));
+
+        // Destination arrays may be larger than required
+        final double[] real = new double[SIZE + 1];
+        final double[] imag = new double[SIZE + 2];
+        ComplexBufferUtils.interleaved2Split(interleaved, real, imag);
+        Assertions.assertArrayEquals(a.getReal(), Arrays.copyOf(real, SIZE));
+        Assertions.assertArrayEquals(a.getImaginary(), Arrays.copyOf(imag, SIZE));
+
+        final ComplexArray b = ComplexBufferUtils.interleaved2ComplexArray(interleaved);
+        TestUtils.assertSame("complex array", c, b.toArray());
+
+        final DoubleBuffer interleaved2 = DoubleBuffer.allocate(SIZE * 2);
+        Assertions.assertSame(interleaved2, ComplexBufferUtils.complexArray2Interleaved(b, interleaved2));
+        TestUtils.assertSame("complex array interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved2));
+    }
+
+    @Test
+    void testFloatBufferSplitArrays() {
+        final Complex[] c = createComplex();
+        final ComplexArray a = ComplexArray.of(c);
+        final FloatBuffer interleaved = FloatBuffer.allocate(SIZE * 2 + 3);
+        interleaved.position(3);
+        Assertions.assertSame(interleaved,
+            ComplexBufferUtils.split2Interleaved(a.getReal(), a.getImaginary(), interleaved));
+        Assertions.assertEquals(3, interleaved.position());
+        TestUtils.assertSame("interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved));
+
+        // Destination arrays may be larger than required
+        final double[] real = new double[SIZE + 1];
+        final double[] imag = new double[SIZE + 2];
+        ComplexBufferUtils.interleaved2Split(interleaved, real, imag);
+        Assertions.assertArrayEquals(a.getReal(), Arrays.copyOf(real, SIZE));
+        Assertions.assertArrayEquals(a.getImaginary(), Arrays.copyOf(imag, SIZE));
+
+        final ComplexArray b = ComplexBufferUtils.interleaved2ComplexArray(interleaved);
+        TestUtils.assertSame("complex array", c, b.toArray());
+
+        final FloatBuffer interleaved2 = FloatBuffer.allocate(SIZE * 2);
+        Assertions.assertSame(interleaved2, ComplexBufferUtils.complexArray2Interleaved(b, interleaved2));
+        TestUtils.assertSame("complex array interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved2));
+    }
+
+    @Test
+    void testDoubleBufferInterleavedSplit() {
+        final Complex[] c = createComplex();
+        final DoubleBuffer interleaved = DoubleBuffer.allocate(SIZE * 2 + 1);
+        interleaved.position(1);
+        ComplexBufferUtils.complex2Interleaved(c, interleaved);
+        final DoubleBuffer real = DoubleBuffer.allocate(SIZE + 1);
+        final DoubleBuffer imag = DoubleBuffer.allocate(SIZE + 2);
+        real.position(1);
+        imag.position(2);
+        ComplexBufferUtils.interleaved2Split(interleaved, real, imag);
+        Assertions.assertEquals(1, real.position());
+        Assertions.assertEquals(2, imag.position());
+        TestUtils.assertSame("split", c, ComplexBufferUtils.split2Complex(real, imag));
+
+        final DoubleBuffer interleaved2 = DoubleBuffer.allocate(SIZE * 2);
+        Assertions.assertSame(interleaved2, ComplexBufferUtils.split2Interleaved(real, imag, interleaved2));
+        TestUtils.assertSame("interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved2));
+    }
+
+    @Test
+    void testFloatBufferInterleavedSplit() {
+        final Complex[] c = createComplex();
+        final FloatBuffer interleaved = FloatBuffer.allocate(SIZE * 2 + 1);
+        interleaved.position(1);
+        ComplexBufferUtils.complex2Interleaved(c, interleaved);
+        final FloatBuffer real = FloatBuffer.allocate(SIZE);
+        final FloatBuffer imag = FloatBuffer.allocate(SIZE + 1);
+        imag.position(1);
+        ComplexBufferUtils.interleaved2Split(interleaved, real, imag);
+        Assertions.assertEquals(0, real.position());
+        Assertions.assertEquals(1, imag.position());
+        TestUtils.assertSame("split", c, ComplexBufferUtils.split2Complex(real, imag));
+
+        final FloatBuffer interleaved2 = FloatBuffer.allocate(SIZE * 2);
+        Assertions.assertSame(interleaved2, ComplexBufferUtils.split2Interleaved(real, imag, interleaved2));
+        TestUtils.assertSame("interleaved", c, ComplexBufferUtils.interleaved2Complex(interleaved2));
+    }
+
+    @Test
+    void testByteBufferView() {
+        final Complex[] c = createComplex();
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(SIZE * 2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (final Complex z : c) {
+            bytes.putDouble(z.getReal()).putDouble(z.getImaginary());
+        }
+        bytes.flip();
+        final DoubleBuffer view = bytes.asDoubleBuffer();
+        TestUtils.assertSame("view", c, ComplexBufferUtils.interleaved2Complex(view));
+        // Read-only view
+        final DoubleBuffer readOnly = view.asReadOnlyBuffer();
+        TestUtils.assertSame("read-only", c, ComplexBufferUtils.interleaved2Complex(readOnly));
+        TestUtils.assertSame("complex array", c, ComplexBufferUtils.interleaved2ComplexArray(readOnly).toArray());
+        Assertions.assertThrows(ReadOnlyBufferException.class,
+            () -> ComplexBufferUtils.complex2Interleaved(c, readOnly));
+    }
+
+    @Test
+    void testMappedByteBuffer(@TempDir Path dir) throws IOException {
+        final Complex[] c = createComplex();
+        final Path file = dir.resolve("data.bin");
+        final long size = SIZE * 2L * Float.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, size);
+            ComplexBufferUtils.complex2Interleaved(c, mapped.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer());
+            mapped.force();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final FloatBuffer data = channel.map(MapMode.READ_ONLY, 0, channel.size())
+                .order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            TestUtils.assertSame("mapped", c,
+                ComplexBufferUtils.interleaved2ComplexStream(data).toArray(Complex[]::new));
+        }
+    }
+
+    @Test
+    void testInvalidSize() {
+        final Complex[] c = createComplex();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Complex(DoubleBuffer.allocate(3), DoubleBuffer.allocate(4)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Complex(FloatBuffer.allocate(3), FloatBuffer.allocate(4)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2ComplexStream(DoubleBuffer.allocate(3), DoubleBuffer.allocate(4)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2ComplexStream(FloatBuffer.allocate(3), FloatBuffer.allocate(4)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.complex2Interleaved(c, DoubleBuffer.allocate(SIZE * 2 - 1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.complex2Interleaved(c, FloatBuffer.allocate(SIZE * 2 - 1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.complex2Split(c, DoubleBuffer.allocate(SIZE), DoubleBuffer.allocate(SIZE - 1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.complex2Split(c, FloatBuffer.allocate(SIZE - 1), FloatBuffer.allocate(SIZE)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBufferUtils.extractComplexFromInterleavedBuffer(DoubleBuffer.allocate(4), 2));
+
+        final DoubleBuffer d = DoubleBuffer.allocate(SIZE * 2);
+        final FloatBuffer f = FloatBuffer.allocate(SIZE * 2);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.interleaved2Split(d, new double[SIZE], new double[SIZE - 1]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.interleaved2Split(d, new double[SIZE - 1], new double[SIZE]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(new double[SIZE], new double[SIZE + 1], d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(new double[SIZE + 1], new double[SIZE + 1], d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.complexArray2Interleaved(ComplexArray.ofSize(SIZE + 1), d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.interleaved2Split(f, new double[SIZE], new double[SIZE - 1]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(new double[SIZE], new double[SIZE + 1], f));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.complexArray2Interleaved(ComplexArray.ofSize(SIZE + 1), f));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.interleaved2Split(d, DoubleBuffer.allocate(SIZE), DoubleBuffer.allocate(SIZE - 1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.interleaved2Split(f, FloatBuffer.allocate(SIZE - 1), FloatBuffer.allocate(SIZE)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(DoubleBuffer.allocate(3), DoubleBuffer.allocate(4), d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(FloatBuffer.allocate(3), FloatBuffer.allocate(4), f));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(DoubleBuffer.allocate(SIZE + 1),
+                DoubleBuffer.allocate(SIZE + 1), d));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBufferUtils.split2Interleaved(FloatBuffer.allocate(SIZE + 1),
+                FloatBuffer.allocate(SIZE + 1), f));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.commons.numbers.complex.streams;
 
+import java.util.Arrays;
 import org.apache.commons.numbers.complex.Complex;
 
 import org.junit.jupiter.api.Assertions;
@@ -769,4 +770,52 @@ class ComplexUtilsTest {
             Assertions.assertEquals(c[i].arg(), observed[i]);
         }
     }
+
+    @Test
+    void testInterleaved2ComplexStream() {
+        setArrays();
+        TestUtils.assertSame(msg, c, ComplexUtils.interleaved2ComplexStream(di).toArray(Complex[]::new));
+        final Complex[] expected2d = Arrays.stream(ComplexUtils.interleaved2Complex(di2d1, 1))
+            .flatMap(Arrays::stream).toArray(Complex[]::new);
+        TestUtils.assertSame(msg, expected2d, ComplexUtils.interleaved2ComplexStream(di2d1).toArray(Complex[]::new));
+        final Complex[] expected3d = Arrays.stream(ComplexUtils.interleaved2Complex(di3d2, 2))
+            .flatMap(Arrays::stream).flatMap(Arrays::stream).toArray(Complex[]::new);
+        TestUtils.assertSame(msg, expected3d, ComplexUtils.interleaved2ComplexStream(di3d2).toArray(Complex[]::new));
+        final Complex[] expected4d = Arrays.stream(ComplexUtils.interleaved2Complex(di4d3, 3))
+            .flatMap(Arrays::stream).flatMap(Arrays::stream).flatMap(Arrays::stream).toArray(Complex[]::new);
+        TestUtils.assertSame(msg, expected4d, ComplexUtils.interleaved2ComplexStream(di4d3).toArray(Complex[]::new));
+        // Lazy evaluation
+        TestUtils.assertSame(expected4d[1], ComplexUtils.interleaved2ComplexStream(di4d3).skip(1).findFirst().get());
+    }
+
+    @Test
+    void testSplit2ComplexStream() {
+        setArrays();
+        TestUtils.assertSame(msg, c, ComplexUtils.split2ComplexStream(sr, si).toArray(Complex[]::new));
+        final Complex[] expected2d = Arrays.stream(ComplexUtils.split2Complex(sr2d, si2d))
+            .flatMap(Arrays::stream).toArray(Complex[]::new);
+        TestUtils.assertSame(msg, expected2d, ComplexUtils.split2ComplexStream(sr2d, si2d).toArray(Complex[]::new));
+        final Complex[] expected3d = Arrays.stream(ComplexUtils.split2Complex(sr3d, si3d))
+            .flatMap(Arrays::stream).flatMap(Arrays::stream).toArray(Complex[]::new);
+        TestUtils.assertSame(msg, expected3d, ComplexUtils.split2ComplexStream(sr3d, si3d).toArray(Complex[]::new));
+        final Complex[] expected4d = Arrays.stream(ComplexUtils.split2Complex(sr4d, si4d))
+            .flatMap(Arrays::stream).flatMap(Arrays::stream).flatMap(Arrays::stream).toArray(Complex[]::new);
+        TestUtils.assertSame(msg, expected4d, ComplexUtils.split2ComplexStream(sr4d, si4d).toArray(Complex[]::new));
+    }
+
+    @Test
+    void testComplex2InterleavedStream() {
+        setArrays();
+        Assertions.assertArrayEquals(ComplexUtils.complex2Interleaved(c),
+            ComplexUtils.complex2InterleavedStream(c).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(ComplexUtils.complex2Interleaved(c2d, 1))
+            .flatMapToDouble(Arrays::stream).toArray(),
+            ComplexUtils.complex2InterleavedStream(c2d).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(ComplexUtils.complex2Interleaved(c3d, 2))
+            .flatMap(Arrays::stream).flatMapToDouble(Arrays::stream).toArray(),
+            ComplexUtils.complex2InterleavedStream(c3d).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(ComplexUtils.complex2Interleaved(c4d, 3))
+            .flatMap(Arrays::stream).flatMap(Arrays::stream).flatMapToDouble(Arrays::stream).toArray(),
+            ComplexUtils.complex2InterleavedStream(c4d).toArray());
+    }
 }
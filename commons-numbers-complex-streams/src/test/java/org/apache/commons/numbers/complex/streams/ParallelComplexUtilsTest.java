@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.numbers.complex.Complex;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link ParallelComplexUtils}.
+ */
+class ParallelComplexUtilsTest {
+    /** Pool for the tests. */
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setup() {
+        pool = new ForkJoinPool(3);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Create a 3D array of values.
+     *
+     * @param w Width.
+     * @param h Height.
+     * @param d Depth.
+     * @param offset Offset added to each value.
+     * @return the array
+     */
+    private static double[][][] create(int w, int h, int d, double offset) {
+        final double[][][] a = new double[w][h][d];
+        int n = 0;
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                for (int z = 0; z < d; z++) {
+                    a[x][y][z] = offset + n++;
+                }
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Create a 4D array of values.
+     *
+     * @param w Width.
+     * @param h Height.
+     * @param d Depth.
+     * @param v Fourth dimension length.
+     * @param offset Offset added to each value.
+     * @return the array
+     */
+    private static double[][][][] create(int w, int h, int d, int v, double offset) {
+        final double[][][][] a = new double[w][][][];
+        for (int x = 0; x < w; x++) {
+            a[x] = create(h, d, v, offset + x * h * d * v);
+        }
+        return a;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 100, 1 << 20})
+    void testInterleaved2Complex(int threshold) {
+        final double[][][] i3 = create(10, 8, 6, 0.5);
+        for (int dim = 0; dim < 3; dim++) {
+            TestUtils.assertSame("3D", ComplexUtils.interleaved2Complex(i3, dim),
+                ParallelComplexUtils.interleaved2Complex(i3, dim, pool, threshold));
+        }
+        final double[][][][] i4 = create(6, 4, 8, 10, -0.25);
+        for (int dim = 0; dim < 4; dim++) {
+            TestUtils.assertSame("4D", ComplexUtils.interleaved2Complex(i4, dim),
+                ParallelComplexUtils.interleaved2Complex(i4, dim, pool, threshold));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 100, 1 << 20})
+    void testComplex2Interleaved(int threshold) {
+        final Complex[][][] c3 = ComplexUtils.split2Complex(create(10, 8, 6, 0.5), create(10, 8, 6, 1000));
+        for (int dim = 0; dim < 3; dim++) {
+            TestUtils.assertEquals("3D", ComplexUtils.complex2Interleaved(c3, dim),
+                ParallelComplexUtils.complex2Interleaved(c3, dim, pool, threshold), 0);
+        }
+        final Complex[][][][] c4 = ComplexUtils.split2Complex(create(6, 4, 8, 10, 0.5), create(6, 4, 8, 10, -1000));
+        for (int dim = 0; dim < 4; dim++) {
+            TestUtils.assertEquals("4D", ComplexUtils.complex2Interleaved(c4, dim),
+                ParallelComplexUtils.complex2Interleaved(c4, dim, pool, threshold), 0);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 100, 1 << 20})
+    void testSplit2Complex(int threshold) {
+        final double[][][] r3 = create(10, 8, 6, 0.5);
+        final double[][][] i3 = create(10, 8, 6, 1000);
+        TestUtils.assertSame("3D", ComplexUtils.split2Complex(r3, i3),
+            ParallelComplexUtils.split2Complex(r3, i3, pool, threshold));
+        final double[][][][] r4 = create(6, 4, 8, 10, 0.5);
+        final double[][][][] i4 = create(6, 4, 8, 10, -1000);
+        TestUtils.assertSame("4D", ComplexUtils.split2Complex(r4, i4),
+            ParallelComplexUtils.split2Complex(r4, i4, pool, threshold));
+        Assertions.assertEquals(0, ParallelComplexUtils.split2Complex(new double[0][][], new double[0][][]).length);
+        Assertions.assertEquals(0, ParallelComplexUtils.split2Complex(new double[0][][][], new double[0][][][]).length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testInvalidThreshold(int threshold) {
+        final double[][][] d3 = new double[2][2][2];
+        final double[][][][] d4 = new double[2][2][2][2];
+        final Complex[][][] c3 = ComplexUtils.split2Complex(d3, d3);
+        final Complex[][][][] c4 = ComplexUtils.split2Complex(d4, d4);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ParallelComplexUtils.interleaved2Complex(d3, 0, pool, threshold));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ParallelComplexUtils.interleaved2Complex(d4, 0, pool, threshold));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ParallelComplexUtils.complex2Interleaved(c3, 0, pool, threshold));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ParallelComplexUtils.complex2Interleaved(c4, 0, pool, threshold));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ParallelComplexUtils.split2Complex(d3, d3, pool, threshold));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ParallelComplexUtils.split2Complex(d4, d4, pool, threshold));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 4})
+    void testInvalidDimension(int dim) {
+        final double[][][] d3 = new double[2][2][2];
+        final double[][][][] d4 = new double[2][2][2][2];
+        final Complex[][][] c3 = ComplexUtils.split2Complex(d3, d3);
+        final Complex[][][][] c4 = ComplexUtils.split2Complex(d4, d4);
+        // Same exception as the sequential conversion
+        final Class<? extends IllegalArgumentException> type = Assertions.assertThrows(
+            IllegalArgumentException.class, () -> ComplexUtils.interleaved2Complex(d3, dim)).getClass();
+        Assertions.assertThrows(type,
+            () -> ParallelComplexUtils.interleaved2Complex(d3, dim));
+        Assertions.assertThrows(type,
+            () -> ParallelComplexUtils.interleaved2Complex(d4, dim));
+        Assertions.assertThrows(type,
+            () -> ParallelComplexUtils.complex2Interleaved(c3, dim));
+        Assertions.assertThrows(type,
+            () -> ParallelComplexUtils.complex2Interleaved(c4, dim));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2})
+    void testEmpty(int dim) {
+        Assertions.assertEquals(0, ParallelComplexUtils.interleaved2Complex(new double[0][][], dim).length);
+        Assertions.assertEquals(0, ParallelComplexUtils.interleaved2Complex(new double[0][][][], dim).length);
+        Assertions.assertEquals(0, ParallelComplexUtils.complex2Interleaved(new Complex[0][][], dim).length);
+        Assertions.assertEquals(0, ParallelComplexUtils.complex2Interleaved(new Complex[0][][][], dim).length);
+        // Empty inner dimension
+        Assertions.assertEquals(2, ParallelComplexUtils.split2Complex(new double[2][0][], new double[2][0][]).length);
+        Assertions.assertEquals(2,
+            ParallelComplexUtils.split2Complex(new double[2][0][][], new double[2][0][][]).length);
+    }
+
+    @Test
+    void testCommonPool() {
+        final int dim = 2;
+        final double[][][] i3 = create(10, 8, 6, 0.5);
+        TestUtils.assertSame("3D", ComplexUtils.interleaved2Complex(i3, dim),
+            ParallelComplexUtils.interleaved2Complex(i3, dim));
+        final double[][][][] i4 = create(6, 4, 8, 10, -0.25);
+        TestUtils.assertSame("4D", ComplexUtils.interleaved2Complex(i4, dim),
+            ParallelComplexUtils.interleaved2Complex(i4, dim));
+        final Complex[][][] c3 = ComplexUtils.split2Complex(i3, i3);
+        TestUtils.assertEquals("3D", ComplexUtils.complex2Interleaved(c3, dim),
+            ParallelComplexUtils.complex2Interleaved(c3, dim), 0);
+        final Complex[][][][] c4 = ComplexUtils.split2Complex(i4, i4);
+        TestUtils.assertEquals("4D", ComplexUtils.complex2Interleaved(c4, dim),
+            ParallelComplexUtils.complex2Interleaved(c4, dim), 0);
+        TestUtils.assertSame("3D", c3, ParallelComplexUtils.split2Complex(i3, i3));
+        TestUtils.assertSame("4D", c4, ParallelComplexUtils.split2Complex(i4, i4));
+    }
+}
@@ -0,0 +1,1461 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * A fixed size array of complex numbers. The real and imaginary parts are stored
+ * in separate {@code double[]} arrays.
+ *
+ * <p>This class is mutable. Each operation is provided in two forms: an in-place
+ * operation that updates the values in this array; and an operation that writes the
+ * result to a provided array of the same size. The result array may be this instance.
+ *
+ * <p>Complex functions are computed using the same implementation as the
+ * corresponding method in {@link Complex} and conform to the C99 standard for
+ * complex numbers. For example:
+ *
+ * <pre>
+ *  ComplexArray.of(z).exp().get(0).equals(z.exp())</pre>
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @see Complex
+ * @since 1.2
+ */
+public final class ComplexArray {
+    /** The real parts. */
+    private final double[] real;
+    /** The imaginary parts. */
+    private final double[] imaginary;
+
+    /**
+     * Define a function of a complex number.
+     */
+    @FunctionalInterface
+    private interface ComplexFunction {
+        /**
+         * Apply the function to the complex number and write the result to the sink.
+         *
+         * @param real Real part.
+         * @param imaginary Imaginary part.
+         * @param sink Sink for the result.
+         */
+        void apply(double real, double imaginary, ArraySink sink);
+    }
+
+    /**
+     * Define a function of two complex numbers.
+     */
+    @FunctionalInterface
+    private interface ComplexBinaryFunction {
+        /**
+         * Apply the function to the complex numbers and write the result to the sink.
+         *
+         * @param re1 Real part of the first number.
+         * @param im1 Imaginary part of the first number.
+         * @param re2 Real part of the second number.
+         * @param im2 Imaginary part of the second number.
+         * @param sink Sink for the result.
+         */
+        void apply(double re1, double im1, double re2, double im2, ArraySink sink);
+    }
+
+    /**
+     * Write a complex number to a position in the parts arrays.
+     */
+    private static final class ArraySink implements ComplexSink<Void> {
+        /** The real parts. */
+        private final double[] real;
+        /** The imaginary parts. */
+        private final double[] imaginary;
+        /** The current index. */
+        private int index;
+
+        /**
+         * @param array Destination array.
+         */
+        ArraySink(ComplexArray array) {
+            real = array.real;
+            imaginary = array.imaginary;
+        }
+
+        @Override
+        public Void apply(double re, double im) {
+            real[index] = re;
+            imaginary[index] = im;
+            return null;
+        }
+    }
+
+    /**
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     */
+    private ComplexArray(double[] real, double[] imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Create an array of the specified size. All elements are initialised to zero.
+     *
+     * @param size Size of the array.
+     * @return the array
+     * @throws IllegalArgumentException if {@code size} is negative.
+     */
+    public static ComplexArray ofSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        return new ComplexArray(new double[size], new double[size]);
+    }
+
+    /**
+     * Create an array using the specified real and imaginary parts.
+     *
+     * <p>The arrays are not copied. Changes to the provided arrays will be reflected
+     * in the complex array and vice versa.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the array
+     * @throws IllegalArgumentException if the arrays are not the same length.
+     */
+    public static ComplexArray of(double[] real, double[] imaginary) {
+        checkSize(real.length, imaginary.length);
+        return new ComplexArray(real, imaginary);
+    }
+
+    /**
+     * Create an array containing the specified complex numbers.
+     *
+     * @param values Complex numbers.
+     * @return the array
+     */
+    public static ComplexArray of(Complex... values) {
+        final int size = values.length;
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        for (int i = 0; i < size; i++) {
+            re[i] = values[i].getReal();
+            im[i] = values[i].getImaginary();
+        }
+        return new ComplexArray(re, im);
+    }
+
+    /**
+     * Gets the number of complex numbers in the array.
+     *
+     * @return the size
+     */
+    public int size() {
+        return real.length;
+    }
+
+    /**
+     * Gets the real part of the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the real part
+     */
+    public double real(int index) {
+        return real[index];
+    }
+
+    /**
+     * Gets the imaginary part of the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the imaginary part
+     */
+    public double imag(int index) {
+        return imaginary[index];
+    }
+
+    /**
+     * Gets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @return the complex number
+     */
+    public Complex get(int index) {
+        return Complex.ofCartesian(real[index], imaginary[index]);
+    }
+
+    /**
+     * Sets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @param re Real part.
+     * @param im Imaginary part.
+     */
+    public void set(int index, double re, double im) {
+        real[index] = re;
+        imaginary[index] = im;
+    }
+
+    /**
+     * Sets the complex number at the specified index.
+     *
+     * @param index Index.
+     * @param z Complex number.
+     */
+    public void set(int index, Complex z) {
+        set(index, z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Gets the real parts of the array.
+     *
+     * <p>The array is not copied. Changes to the returned array will be reflected
+     * in the complex array and vice versa.
+     *
+     * @return the real parts
+     */
+    public double[] getReal() {
+        return real;
+    }
+
+    /**
+     * Gets the imaginary parts of the array.
+     *
+     * <p>The array is not copied. Changes to the returned array will be reflected
+     * in the complex array and vice versa.
+     *
+     * @return the imaginary parts
+     */
+    public double[] getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Create a copy of the array.
+     *
+     * @return the copy
+     */
+    public ComplexArray copy() {
+        return new ComplexArray(real.clone(), imaginary.clone());
+    }
+
+    /**
+     * Create an array of {@link Complex} numbers from the values in this array.
+     *
+     * @return the complex numbers
+     */
+    public Complex[] toArray() {
+        final Complex[] values = new Complex[real.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Complex.ofCartesian(real[i], imaginary[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Compute the absolute value of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#abs()
+     */
+    public double[] abs(double[] result) {
+        checkSize(real.length, result.length);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ComplexFunctions.abs(real[i], imaginary[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Compute the argument of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#arg()
+     */
+    public double[] arg(double[] result) {
+        checkSize(real.length, result.length);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ComplexFunctions.arg(real[i], imaginary[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Compute the squared norm value of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#norm()
+     */
+    public double[] norm(double[] result) {
+        checkSize(real.length, result.length);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ComplexFunctions.norm(real[i], imaginary[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Compute the conjugate of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#conj()
+     */
+    public ComplexArray conj() {
+        return conj(this);
+    }
+
+    /**
+     * Compute the conjugate of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#conj()
+     */
+    public ComplexArray conj(ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i];
+            im[i] = -imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Compute the negation of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#negate()
+     */
+    public ComplexArray negate() {
+        return negate(this);
+    }
+
+    /**
+     * Compute the negation of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#negate()
+     */
+    public ComplexArray negate(ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = -real[i];
+            im[i] = -imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Compute the projection of each complex number onto the Riemann sphere in-place.
+     *
+     * @return this array
+     * @see Complex#proj()
+     */
+    public ComplexArray proj() {
+        return proj(this);
+    }
+
+    /**
+     * Compute the projection of each complex number onto the Riemann sphere.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#proj()
+     */
+    public ComplexArray proj(ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            final double x = real[i];
+            final double y = imaginary[i];
+            if (ComplexFunctions.isInfinite(x, y)) {
+                re[i] = Double.POSITIVE_INFINITY;
+                im[i] = Math.copySign(0.0, y);
+            } else {
+                re[i] = x;
+                im[i] = y;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add the complex numbers in the array to this array in-place.
+     *
+     * @param addend Values to be added.
+     * @return this array
+     * @throws IllegalArgumentException if the addend is not the same size.
+     * @see Complex#add(Complex)
+     */
+    public ComplexArray add(ComplexArray addend) {
+        return add(addend, this);
+    }
+
+    /**
+     * Add the complex numbers in the array to this array.
+     *
+     * @param addend Values to be added.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the addend or result is not the same size.
+     * @see Complex#add(Complex)
+     */
+    public ComplexArray add(ComplexArray addend, ComplexArray result) {
+        checkSize(addend);
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] + addend.real[i];
+            im[i] = imaginary[i] + addend.imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Add the complex number to each complex number in this array in-place.
+     *
+     * @param addend Value to be added.
+     * @return this array
+     * @see Complex#add(Complex)
+     */
+    public ComplexArray add(Complex addend) {
+        return add(addend, this);
+    }
+
+    /**
+     * Add the complex number to each complex number in this array.
+     *
+     * @param addend Value to be added.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#add(Complex)
+     */
+    public ComplexArray add(Complex addend, ComplexArray result) {
+        checkSize(result);
+        final double a = addend.getReal();
+        final double b = addend.getImaginary();
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] + a;
+            im[i] = imaginary[i] + b;
+        }
+        return result;
+    }
+
+    /**
+     * Add the real number to each complex number in this array in-place.
+     *
+     * @param addend Value to be added.
+     * @return this array
+     * @see Complex#add(double)
+     */
+    public ComplexArray add(double addend) {
+        return add(addend, this);
+    }
+
+    /**
+     * Add the real number to each complex number in this array.
+     *
+     * @param addend Value to be added.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#add(double)
+     */
+    public ComplexArray add(double addend, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] + addend;
+        }
+        System.arraycopy(imaginary, 0, result.imaginary, 0, re.length);
+        return result;
+    }
+
+    /**
+     * Add the imaginary number to each complex number in this array in-place.
+     *
+     * @param addend Value to be added.
+     * @return this array
+     * @see Complex#addImaginary(double)
+     */
+    public ComplexArray addImaginary(double addend) {
+        return addImaginary(addend, this);
+    }
+
+    /**
+     * Add the imaginary number to each complex number in this array.
+     *
+     * @param addend Value to be added.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#addImaginary(double)
+     */
+    public ComplexArray addImaginary(double addend, ComplexArray result) {
+        checkSize(result);
+        final double[] im = result.imaginary;
+        for (int i = 0; i < im.length; i++) {
+            im[i] = imaginary[i] + addend;
+        }
+        System.arraycopy(real, 0, result.real, 0, im.length);
+        return result;
+    }
+
+    /**
+     * Subtract the complex numbers in the array from this array in-place.
+     *
+     * @param subtrahend Values to be subtracted.
+     * @return this array
+     * @throws IllegalArgumentException if the subtrahend is not the same size.
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexArray subtract(ComplexArray subtrahend) {
+        return subtract(subtrahend, this);
+    }
+
+    /**
+     * Subtract the complex numbers in the array from this array.
+     *
+     * @param subtrahend Values to be subtracted.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the subtrahend or result is not the same size.
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexArray subtract(ComplexArray subtrahend, ComplexArray result) {
+        checkSize(subtrahend);
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] - subtrahend.real[i];
+            im[i] = imaginary[i] - subtrahend.imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Subtract the complex number from each complex number in this array in-place.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @return this array
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexArray subtract(Complex subtrahend) {
+        return subtract(subtrahend, this);
+    }
+
+    /**
+     * Subtract the complex number from each complex number in this array.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexArray subtract(Complex subtrahend, ComplexArray result) {
+        checkSize(result);
+        final double a = subtrahend.getReal();
+        final double b = subtrahend.getImaginary();
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] - a;
+            im[i] = imaginary[i] - b;
+        }
+        return result;
+    }
+
+    /**
+     * Subtract the real number from each complex number in this array in-place.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @return this array
+     * @see Complex#subtract(double)
+     */
+    public ComplexArray subtract(double subtrahend) {
+        return subtract(subtrahend, this);
+    }
+
+    /**
+     * Subtract the real number from each complex number in this array.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#subtract(double)
+     */
+    public ComplexArray subtract(double subtrahend, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] - subtrahend;
+        }
+        System.arraycopy(imaginary, 0, result.imaginary, 0, re.length);
+        return result;
+    }
+
+    /**
+     * Subtract the imaginary number from each complex number in this array in-place.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @return this array
+     * @see Complex#subtractImaginary(double)
+     */
+    public ComplexArray subtractImaginary(double subtrahend) {
+        return subtractImaginary(subtrahend, this);
+    }
+
+    /**
+     * Subtract the imaginary number from each complex number in this array.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#subtractImaginary(double)
+     */
+    public ComplexArray subtractImaginary(double subtrahend, ComplexArray result) {
+        checkSize(result);
+        final double[] im = result.imaginary;
+        for (int i = 0; i < im.length; i++) {
+            im[i] = imaginary[i] - subtrahend;
+        }
+        System.arraycopy(real, 0, result.real, 0, im.length);
+        return result;
+    }
+
+    /**
+     * Subtract each complex number in this array from the real number in-place.
+     *
+     * @param minuend Value to be subtracted from.
+     * @return this array
+     * @see Complex#subtractFrom(double)
+     */
+    public ComplexArray subtractFrom(double minuend) {
+        return subtractFrom(minuend, this);
+    }
+
+    /**
+     * Subtract each complex number in this array from the real number.
+     *
+     * @param minuend Value to be subtracted from.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#subtractFrom(double)
+     */
+    public ComplexArray subtractFrom(double minuend, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = minuend - real[i];
+            im[i] = -imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Subtract each complex number in this array from the imaginary number in-place.
+     *
+     * @param minuend Value to be subtracted from.
+     * @return this array
+     * @see Complex#subtractFromImaginary(double)
+     */
+    public ComplexArray subtractFromImaginary(double minuend) {
+        return subtractFromImaginary(minuend, this);
+    }
+
+    /**
+     * Subtract each complex number in this array from the imaginary number.
+     *
+     * @param minuend Value to be subtracted from.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#subtractFromImaginary(double)
+     */
+    public ComplexArray subtractFromImaginary(double minuend, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = -real[i];
+            im[i] = minuend - imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Multiply this array by the complex numbers in the array in-place.
+     *
+     * @param factor Values to be multiplied.
+     * @return this array
+     * @throws IllegalArgumentException if the factor is not the same size.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexArray multiply(ComplexArray factor) {
+        return multiply(factor, this);
+    }
+
+    /**
+     * Multiply this array by the complex numbers in the array.
+     *
+     * @param factor Values to be multiplied.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the factor or result is not the same size.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexArray multiply(ComplexArray factor, ComplexArray result) {
+        return apply(ComplexFunctions::multiply, factor, result);
+    }
+
+    /**
+     * Multiply each complex number in this array by the complex number in-place.
+     *
+     * @param factor Value to be multiplied.
+     * @return this array
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexArray multiply(Complex factor) {
+        return multiply(factor, this);
+    }
+
+    /**
+     * Multiply each complex number in this array by the complex number.
+     *
+     * @param factor Value to be multiplied.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexArray multiply(Complex factor, ComplexArray result) {
+        return apply(ComplexFunctions::multiply, factor, result);
+    }
+
+    /**
+     * Multiply each complex number in this array by the real number in-place.
+     *
+     * @param factor Value to be multiplied.
+     * @return this array
+     * @see Complex#multiply(double)
+     */
+    public ComplexArray multiply(double factor) {
+        return multiply(factor, this);
+    }
+
+    /**
+     * Multiply each complex number in this array by the real number.
+     *
+     * @param factor Value to be multiplied.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#multiply(double)
+     */
+    public ComplexArray multiply(double factor, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] * factor;
+            im[i] = imaginary[i] * factor;
+        }
+        return result;
+    }
+
+    /**
+     * Multiply each complex number in this array by the imaginary number in-place.
+     *
+     * @param factor Value to be multiplied.
+     * @return this array
+     * @see Complex#multiplyImaginary(double)
+     */
+    public ComplexArray multiplyImaginary(double factor) {
+        return multiplyImaginary(factor, this);
+    }
+
+    /**
+     * Multiply each complex number in this array by the imaginary number.
+     *
+     * @param factor Value to be multiplied.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#multiplyImaginary(double)
+     */
+    public ComplexArray multiplyImaginary(double factor, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            // Read both parts before writing to support in-place operation
+            final double a = real[i];
+            final double b = imaginary[i];
+            re[i] = -b * factor;
+            im[i] = a * factor;
+        }
+        return result;
+    }
+
+    /**
+     * Divide this array by the complex numbers in the array in-place.
+     *
+     * @param divisor Values to divide by.
+     * @return this array
+     * @throws IllegalArgumentException if the divisor is not the same size.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexArray divide(ComplexArray divisor) {
+        return divide(divisor, this);
+    }
+
+    /**
+     * Divide this array by the complex numbers in the array.
+     *
+     * @param divisor Values to divide by.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the divisor or result is not the same size.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexArray divide(ComplexArray divisor, ComplexArray result) {
+        return apply(ComplexFunctions::divide, divisor, result);
+    }
+
+    /**
+     * Divide each complex number in this array by the complex number in-place.
+     *
+     * @param divisor Value to divide by.
+     * @return this array
+     * @see Complex#divide(Complex)
+     */
+    public ComplexArray divide(Complex divisor) {
+        return divide(divisor, this);
+    }
+
+    /**
+     * Divide each complex number in this array by the complex number.
+     *
+     * @param divisor Value to divide by.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexArray divide(Complex divisor, ComplexArray result) {
+        return apply(ComplexFunctions::divide, divisor, result);
+    }
+
+    /**
+     * Divide each complex number in this array by the real number in-place.
+     *
+     * @param divisor Value to divide by.
+     * @return this array
+     * @see Complex#divide(double)
+     */
+    public ComplexArray divide(double divisor) {
+        return divide(divisor, this);
+    }
+
+    /**
+     * Divide each complex number in this array by the real number.
+     *
+     * @param divisor Value to divide by.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#divide(double)
+     */
+    public ComplexArray divide(double divisor, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            re[i] = real[i] / divisor;
+            im[i] = imaginary[i] / divisor;
+        }
+        return result;
+    }
+
+    /**
+     * Divide each complex number in this array by the imaginary number in-place.
+     *
+     * @param divisor Value to divide by.
+     * @return this array
+     * @see Complex#divideImaginary(double)
+     */
+    public ComplexArray divideImaginary(double divisor) {
+        return divideImaginary(divisor, this);
+    }
+
+    /**
+     * Divide each complex number in this array by the imaginary number.
+     *
+     * @param divisor Value to divide by.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#divideImaginary(double)
+     */
+    public ComplexArray divideImaginary(double divisor, ComplexArray result) {
+        checkSize(result);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            // Read both parts before writing to support in-place operation
+            final double a = real[i];
+            final double b = imaginary[i];
+            re[i] = b / divisor;
+            im[i] = -a / divisor;
+        }
+        return result;
+    }
+
+    /**
+     * Compute the exponential function of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#exp()
+     */
+    public ComplexArray exp() {
+        return exp(this);
+    }
+
+    /**
+     * Compute the exponential function of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#exp()
+     */
+    public ComplexArray exp(ComplexArray result) {
+        return apply(ComplexFunctions::exp, result);
+    }
+
+    /**
+     * Compute the natural logarithm of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#log()
+     */
+    public ComplexArray log() {
+        return log(this);
+    }
+
+    /**
+     * Compute the natural logarithm of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#log()
+     */
+    public ComplexArray log(ComplexArray result) {
+        return apply(ComplexFunctions::log, result);
+    }
+
+    /**
+     * Compute the base 10 common logarithm of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#log10()
+     */
+    public ComplexArray log10() {
+        return log10(this);
+    }
+
+    /**
+     * Compute the base 10 common logarithm of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#log10()
+     */
+    public ComplexArray log10(ComplexArray result) {
+        return apply(ComplexFunctions::log10, result);
+    }
+
+    /**
+     * Raise this array to the power of the complex numbers in the array in-place.
+     *
+     * @param exponent Values of the exponent.
+     * @return this array
+     * @throws IllegalArgumentException if the exponent is not the same size.
+     * @see Complex#pow(Complex)
+     */
+    public ComplexArray pow(ComplexArray exponent) {
+        return pow(exponent, this);
+    }
+
+    /**
+     * Raise this array to the power of the complex numbers in the array.
+     *
+     * @param exponent Values of the exponent.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the exponent or result is not the same size.
+     * @see Complex#pow(Complex)
+     */
+    public ComplexArray pow(ComplexArray exponent, ComplexArray result) {
+        return apply(ComplexFunctions::pow, exponent, result);
+    }
+
+    /**
+     * Raise each complex number in this array to the power of the complex number in-place.
+     *
+     * @param exponent Value of the exponent.
+     * @return this array
+     * @see Complex#pow(Complex)
+     */
+    public ComplexArray pow(Complex exponent) {
+        return pow(exponent, this);
+    }
+
+    /**
+     * Raise each complex number in this array to the power of the complex number.
+     *
+     * @param exponent Value of the exponent.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#pow(Complex)
+     */
+    public ComplexArray pow(Complex exponent, ComplexArray result) {
+        return apply(ComplexFunctions::pow, exponent, result);
+    }
+
+    /**
+     * Raise each complex number in this array to the power of the real number in-place.
+     *
+     * @param exponent Value of the exponent.
+     * @return this array
+     * @see Complex#pow(double)
+     */
+    public ComplexArray pow(double exponent) {
+        return pow(exponent, this);
+    }
+
+    /**
+     * Raise each complex number in this array to the power of the real number.
+     *
+     * @param exponent Value of the exponent.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#pow(double)
+     */
+    public ComplexArray pow(double exponent, ComplexArray result) {
+        return apply((re, im, sink) -> ComplexFunctions.pow(re, im, exponent, sink), result);
+    }
+
+    /**
+     * Compute the square root of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#sqrt()
+     */
+    public ComplexArray sqrt() {
+        return sqrt(this);
+    }
+
+    /**
+     * Compute the square root of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#sqrt()
+     */
+    public ComplexArray sqrt(ComplexArray result) {
+        return apply(ComplexFunctions::sqrt, result);
+    }
+
+    /**
+     * Compute the sine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#sin()
+     */
+    public ComplexArray sin() {
+        return sin(this);
+    }
+
+    /**
+     * Compute the sine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#sin()
+     */
+    public ComplexArray sin(ComplexArray result) {
+        return apply(ComplexFunctions::sin, result);
+    }
+
+    /**
+     * Compute the cosine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#cos()
+     */
+    public ComplexArray cos() {
+        return cos(this);
+    }
+
+    /**
+     * Compute the cosine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#cos()
+     */
+    public ComplexArray cos(ComplexArray result) {
+        return apply(ComplexFunctions::cos, result);
+    }
+
+    /**
+     * Compute the tangent of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#tan()
+     */
+    public ComplexArray tan() {
+        return tan(this);
+    }
+
+    /**
+     * Compute the tangent of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#tan()
+     */
+    public ComplexArray tan(ComplexArray result) {
+        return apply(ComplexFunctions::tan, result);
+    }
+
+    /**
+     * Compute the inverse sine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#asin()
+     */
+    public ComplexArray asin() {
+        return asin(this);
+    }
+
+    /**
+     * Compute the inverse sine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#asin()
+     */
+    public ComplexArray asin(ComplexArray result) {
+        return apply(ComplexFunctions::asin, result);
+    }
+
+    /**
+     * Compute the inverse cosine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#acos()
+     */
+    public ComplexArray acos() {
+        return acos(this);
+    }
+
+    /**
+     * Compute the inverse cosine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#acos()
+     */
+    public ComplexArray acos(ComplexArray result) {
+        return apply(ComplexFunctions::acos, result);
+    }
+
+    /**
+     * Compute the inverse tangent of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#atan()
+     */
+    public ComplexArray atan() {
+        return atan(this);
+    }
+
+    /**
+     * Compute the inverse tangent of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#atan()
+     */
+    public ComplexArray atan(ComplexArray result) {
+        return apply(ComplexFunctions::atan, result);
+    }
+
+    /**
+     * Compute the hyperbolic sine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#sinh()
+     */
+    public ComplexArray sinh() {
+        return sinh(this);
+    }
+
+    /**
+     * Compute the hyperbolic sine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#sinh()
+     */
+    public ComplexArray sinh(ComplexArray result) {
+        return apply(ComplexFunctions::sinh, result);
+    }
+
+    /**
+     * Compute the hyperbolic cosine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#cosh()
+     */
+    public ComplexArray cosh() {
+        return cosh(this);
+    }
+
+    /**
+     * Compute the hyperbolic cosine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#cosh()
+     */
+    public ComplexArray cosh(ComplexArray result) {
+        return apply(ComplexFunctions::cosh, result);
+    }
+
+    /**
+     * Compute the hyperbolic tangent of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#tanh()
+     */
+    public ComplexArray tanh() {
+        return tanh(this);
+    }
+
+    /**
+     * Compute the hyperbolic tangent of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#tanh()
+     */
+    public ComplexArray tanh(ComplexArray result) {
+        return apply(ComplexFunctions::tanh, result);
+    }
+
+    /**
+     * Compute the inverse hyperbolic sine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#asinh()
+     */
+    public ComplexArray asinh() {
+        return asinh(this);
+    }
+
+    /**
+     * Compute the inverse hyperbolic sine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#asinh()
+     */
+    public ComplexArray asinh(ComplexArray result) {
+        return apply(ComplexFunctions::asinh, result);
+    }
+
+    /**
+     * Compute the inverse hyperbolic cosine of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#acosh()
+     */
+    public ComplexArray acosh() {
+        return acosh(this);
+    }
+
+    /**
+     * Compute the inverse hyperbolic cosine of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#acosh()
+     */
+    public ComplexArray acosh(ComplexArray result) {
+        return apply(ComplexFunctions::acosh, result);
+    }
+
+    /**
+     * Compute the inverse hyperbolic tangent of each complex number in-place.
+     *
+     * @return this array
+     * @see Complex#atanh()
+     */
+    public ComplexArray atanh() {
+        return atanh(this);
+    }
+
+    /**
+     * Compute the inverse hyperbolic tangent of each complex number.
+     *
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     * @see Complex#atanh()
+     */
+    public ComplexArray atanh(ComplexArray result) {
+        return apply(ComplexFunctions::atanh, result);
+    }
+
+    /**
+     * Apply the function to each complex number in this array.
+     *
+     * @param function Function.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     */
+    private ComplexArray apply(ComplexFunction function, ComplexArray result) {
+        checkSize(result);
+        final ArraySink sink = new ArraySink(result);
+        for (int i = 0; i < real.length; i++) {
+            sink.index = i;
+            function.apply(real[i], imaginary[i], sink);
+        }
+        return result;
+    }
+
+    /**
+     * Apply the function to each complex number in this array and the corresponding
+     * complex number in the other array.
+     *
+     * @param function Function.
+     * @param other Other array.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the other or result array is not the same size.
+     */
+    private ComplexArray apply(ComplexBinaryFunction function, ComplexArray other, ComplexArray result) {
+        checkSize(other);
+        checkSize(result);
+        final ArraySink sink = new ArraySink(result);
+        final double[] re = other.real;
+        final double[] im = other.imaginary;
+        for (int i = 0; i < real.length; i++) {
+            sink.index = i;
+            function.apply(real[i], imaginary[i], re[i], im[i], sink);
+        }
+        return result;
+    }
+
+    /**
+     * Apply the function to each complex number in this array and the complex number.
+     *
+     * @param function Function.
+     * @param z Complex number.
+     * @param result Array for the result.
+     * @return the result
+     * @throws IllegalArgumentException if the result is not the same size.
+     */
+    private ComplexArray apply(ComplexBinaryFunction function, Complex z, ComplexArray result) {
+        checkSize(result);
+        final ArraySink sink = new ArraySink(result);
+        final double re = z.getReal();
+        final double im = z.getImaginary();
+        for (int i = 0; i < real.length; i++) {
+            sink.index = i;
+            function.apply(real[i], imaginary[i], re, im, sink);
+        }
+        return result;
+    }
+
+    /**
+     * Check the array is the same size as this array.
+     *
+     * @param array Array.
+     * @throws IllegalArgumentException if the array is not the same size.
+     */
+    private void checkSize(ComplexArray array) {
+        checkSize(real.length, array.real.length);
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static void checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Size mismatch: " + size1 + " != " + size2);
+        }
+    }
+}
@@ -0,0 +1,776 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Computes the discrete Fourier transform (DFT) of complex data of a fixed size
+ * using a fast Fourier transform (FFT).
+ *
+ * <p>The forward transform of the sequence \( x_n \) of length \( N \) is:
+ *
+ * <p>\[ X_k = \sum_{n=0}^{N-1} x_n e^{-2 \pi i k n / N} \]
+ *
+ * <p>The inverse transform uses the opposite sign in the exponent and is
+ * scaled by \( 1/N \) so that the inverse of the forward transform returns
+ * the original data.
+ *
+ * <p>Complex data may be provided in split form as separate arrays of the
+ * real and imaginary parts (for example using {@link ComplexArray#getReal()}
+ * and {@link ComplexArray#getImaginary()}), or in interleaved form as a
+ * single array of {@code [real0, imag0, real1, imag1, ...]}. The interleaved
+ * form matches the layout of the arrays created by {@code ComplexUtils.complex2Interleaved}.
+ * Transforms of real data compute the non-redundant half of the conjugate
+ * symmetric spectrum.
+ *
+ * <p>The transform is computed using a self-sorting mixed-radix algorithm when the
+ * size factors into small primes, with specialised radix-2, radix-3 and radix-4
+ * stages. Sizes with a large prime factor use Bluestein's algorithm which expresses
+ * the transform as a convolution computed using FFTs of a power of 2 size.
+ *
+ * <p>An instance holds the precomputed twiddle factors for the transform size.
+ * Instances are immutable and thread-safe; transforms may be run concurrently
+ * using the same instance. Instances of a power of 2 size obtained using
+ * {@link #of(int)} are cached; instances of other sizes should be retained
+ * by the caller for reuse.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Fast_Fourier_transform">Fast Fourier transform</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Chirp_Z-transform#Bluestein.27s_algorithm">
+ * Bluestein's algorithm</a>
+ * @since 1.2
+ */
+public final class FastFourierTransform {
+    /** The largest prime factor computed directly by the mixed-radix algorithm.
+     * Sizes with a larger prime factor use Bluestein's algorithm. */
+    private static final int MAX_PRIME_FACTOR = 31;
+    /** The largest size computed using Bluestein's algorithm. The convolution uses a
+     * power of 2 size of at least {@code 2 * size - 1} which must not overflow an int. */
+    private static final int MAX_BLUESTEIN_SIZE = 1 << 29;
+    /** sqrt(3) / 2. */
+    private static final double ROOT3_OVER_2 = 0.8660254037844386;
+    /** Cache of transforms of a power of 2 size. This is bounded to 31 sizes and contains
+     * the transforms used by Bluestein's algorithm. */
+    private static final ConcurrentMap<Integer, FastFourierTransform> CACHE = new ConcurrentHashMap<>();
+
+    /** The size. */
+    private final int size;
+    /** Cosine of the twiddle factors: {@code cos(2 pi k / size)}. */
+    private final double[] cos;
+    /** Sine of the twiddle factors: {@code -sin(2 pi k / size)}. */
+    private final double[] sin;
+    /** The engine to compute the forward transform. */
+    private final Engine engine;
+    /** The transform of half the size used for real data. Created when required. */
+    private FastFourierTransform half;
+
+    /**
+     * Compute an in-place forward transform of split complex data.
+     */
+    private interface Engine {
+        /**
+         * Compute the forward transform.
+         *
+         * @param re Real parts.
+         * @param im Imaginary parts.
+         */
+        void forward(double[] re, double[] im);
+    }
+
+    /**
+     * Self-sorting mixed-radix (Stockham) decimation-in-time transform.
+     *
+     * <p>At each stage with radix {@code p} the data contains {@code N / l} transforms
+     * of length {@code l}. These are combined in groups of {@code p} to create
+     * {@code N / (l p)} transforms of length {@code l p}. The combination reads from
+     * one buffer and writes to the other so no bit-reversal permutation is required.
+     */
+    private static final class MixedRadix implements Engine {
+        /** The radix of each stage. */
+        private final int[] factors;
+        /** Cosine of the twiddle factors. */
+        private final double[] cos;
+        /** Sine of the twiddle factors. */
+        private final double[] sin;
+
+        /**
+         * @param factors Radix of each stage.
+         * @param cos Cosine of the twiddle factors.
+         * @param sin Sine of the twiddle factors.
+         */
+        MixedRadix(int[] factors, double[] cos, double[] sin) {
+            this.factors = factors;
+            this.cos = cos;
+            this.sin = sin;
+        }
+
+        @Override
+        public void forward(double[] re, double[] im) {
+            final int n = re.length;
+            double[] xr = re;
+            double[] xi = im;
+            double[] yr = new double[n];
+            double[] yi = new double[n];
+            int l = 1;
+            for (final int p : factors) {
+                final int m = n / (l * p);
+                switch (p) {
+                case 2:
+                    radix2(xr, xi, yr, yi, l, m);
+                    break;
+                case 3:
+                    radix3(xr, xi, yr, yi, l, m);
+                    break;
+                case 4:
+                    radix4(xr, xi, yr, yi, l, m);
+                    break;
+                default:
+                    radixP(xr, xi, yr, yi, l, m, p);
+                    break;
+                }
+                l *= p;
+                // Swap buffers
+                double[] tmp = xr;
+                xr = yr;
+                yr = tmp;
+                tmp = xi;
+                xi = yi;
+                yi = tmp;
+            }
+            if (xr != re) {
+                System.arraycopy(xr, 0, re, 0, n);
+                System.arraycopy(xi, 0, im, 0, n);
+            }
+        }
+
+        /**
+         * Radix-2 stage.
+         *
+         * @param xr Input real parts.
+         * @param xi Input imaginary parts.
+         * @param yr Output real parts.
+         * @param yi Output imaginary parts.
+         * @param l Length of the input transforms.
+         * @param m Number of output transforms.
+         */
+        private void radix2(double[] xr, double[] xi, double[] yr, double[] yi, int l, int m) {
+            final int len = 2 * l;
+            for (int k = 0; k < m; k++) {
+                final int i0 = k * l;
+                final int i1 = i0 + m * l;
+                final int o = k * len;
+                for (int j = 0; j < l; j++) {
+                    final double ar = xr[i0 + j];
+                    final double ai = xi[i0 + j];
+                    final int w = j * m;
+                    final double wr = cos[w];
+                    final double wi = sin[w];
+                    final double xr1 = xr[i1 + j];
+                    final double xi1 = xi[i1 + j];
+                    final double br = xr1 * wr - xi1 * wi;
+                    final double bi = xr1 * wi + xi1 * wr;
+                    yr[o + j] = ar + br;
+                    yi[o + j] = ai + bi;
+                    yr[o + j + l] = ar - br;
+                    yi[o + j + l] = ai - bi;
+                }
+            }
+        }
+
+        /**
+         * Radix-3 stage.
+         *
+         * @param xr Input real parts.
+         * @param xi Input imaginary parts.
+         * @param yr Output real parts.
+         * @param yi Output imaginary parts.
+         * @param l Length of the input transforms.
+         * @param m Number of output transforms.
+         */
+        private void radix3(double[] xr, double[] xi, double[] yr, double[] yi, int l, int m) {
+            final int len = 3 * l;
+            final int stride = m * l;
+            for (int k = 0; k < m; k++) {
+                final int i0 = k * l;
+                final int i1 = i0 + stride;
+                final int i2 = i1 + stride;
+                final int o = k * len;
+                for (int j = 0; j < l; j++) {
+                    final int w1 = j * m;
+                    final int w2 = 2 * w1;
+                    final double ar = xr[i0 + j];
+                    final double ai = xi[i0 + j];
+                    double r = xr[i1 + j];
+                    double i = xi[i1 + j];
+                    final double br = r * cos[w1] - i * sin[w1];
+                    final double bi = r * sin[w1] + i * cos[w1];
+                    r = xr[i2 + j];
+                    i = xi[i2 + j];
+                    final double cr = r * cos[w2] - i * sin[w2];
+                    final double ci = r * sin[w2] + i * cos[w2];
+                    // y0 = a + b + c
+                    // y1 = a - (b + c) / 2 - i sqrt(3)/2 (b - c)
+                    // y2 = a - (b + c) / 2 + i sqrt(3)/2 (b - c)
+                    final double sr = br + cr;
+                    final double si = bi + ci;
+                    final double tr = ar - 0.5 * sr;
+                    final double ti = ai - 0.5 * si;
+                    final double dr = ROOT3_OVER_2 * (br - cr);
+                    final double di = ROOT3_OVER_2 * (bi - ci);
+                    yr[o + j] = ar + sr;
+                    yi[o + j] = ai + si;
+                    yr[o + j + l] = tr + di;
+                    yi[o + j + l] = ti - dr;
+                    yr[o + j + 2 * l] = tr - di;
+                    yi[o + j + 2 * l] = ti + dr;
+                }
+            }
+        }
+
+        /**
+         * Radix-4 stage.
+         *
+         * @param xr Input real parts.
+         * @param xi Input imaginary parts.
+         * @param yr Output real parts.
+         * @param yi Output imaginary parts.
+         * @param l Length of the input transforms.
+         * @param m Number of output transforms.
+         */
+        private void radix4(double[] xr, double[] xi, double[] yr, double[] yi, int l, int m) {
+            final int len = 4 * l;
+            final int stride = m * l;
+            for (int k = 0; k < m; k++) {
+                final int i0 = k * l;
+                final int i1 = i0 + stride;
+                final int i2 = i1 + stride;
+                final int i3 = i2 + stride;
+                final int o = k * len;
+                for (int j = 0; j < l; j++) {
+                    final int w1 = j * m;
+                    final int w2 = 2 * w1;
+                    final int w3 = w1 + w2;
+                    final double u0r = xr[i0 + j];
+                    final double u0i = xi[i0 + j];
+                    double r = xr[i1 + j];
+                    double i = xi[i1 + j];
+                    final double u1r = r * cos[w1] - i * sin[w1];
+                    final double u1i = r * sin[w1] + i * cos[w1];
+                    r = xr[i2 + j];
+                    i = xi[i2 + j];
+                    final double u2r = r * cos[w2] - i * sin[w2];
+                    final double u2i = r * sin[w2] + i * cos[w2];
+                    r = xr[i3 + j];
+                    i = xi[i3 + j];
+                    final double u3r = r * cos[w3] - i * sin[w3];
+                    final double u3i = r * sin[w3] + i * cos[w3];
+                    // y0 = (u0 + u2) + (u1 + u3)
+                    // y1 = (u0 - u2) - i (u1 - u3)
+                    // y2 = (u0 + u2) - (u1 + u3)
+                    // y3 = (u0 - u2) + i (u1 - u3)
+                    final double ar = u0r + u2r;
+                    final double ai = u0i + u2i;
+                    final double br = u0r - u2r;
+                    final double bi = u0i - u2i;
+                    final double cr = u1r + u3r;
+                    final double ci = u1i + u3i;
+                    final double dr = u1r - u3r;
+                    final double di = u1i - u3i;
+                    yr[o + j] = ar + cr;
+                    yi[o + j] = ai + ci;
+                    yr[o + j + l] = br + di;
+                    yi[o + j + l] = bi - dr;
+                    yr[o + j + 2 * l] = ar - cr;
+                    yi[o + j + 2 * l] = ai - ci;
+                    yr[o + j + 3 * l] = br - di;
+                    yi[o + j + 3 * l] = bi + dr;
+                }
+            }
+        }
+
+        /**
+         * Generic radix stage. This computes the DFT of length {@code p}
+         * directly using {@code p^2} multiplications.
+         *
+         * @param xr Input real parts.
+         * @param xi Input imaginary parts.
+         * @param yr Output real parts.
+         * @param yi Output imaginary parts.
+         * @param l Length of the input transforms.
+         * @param m Number of output transforms.
+         * @param p Radix.
+         */
+        private void radixP(double[] xr, double[] xi, double[] yr, double[] yi, int l, int m, int p) {
+            final int len = p * l;
+            final int stride = m * l;
+            // Twiddle index of the p-th root of unity
+            final int root = m * l;
+            final double[] ur = new double[p];
+            final double[] ui = new double[p];
+            for (int k = 0; k < m; k++) {
+                final int o = k * len;
+                for (int j = 0; j < l; j++) {
+                    final int w1 = j * m;
+                    for (int t = 0; t < p; t++) {
+                        final int index = k * l + t * stride + j;
+                        final int w = t * w1;
+                        final double r = xr[index];
+                        final double i = xi[index];
+                        ur[t] = r * cos[w] - i * sin[w];
+                        ui[t] = r * sin[w] + i * cos[w];
+                    }
+                    for (int q = 0; q < p; q++) {
+                        double sr = ur[0];
+                        double si = ui[0];
+                        int tq = 0;
+                        for (int t = 1; t < p; t++) {
+                            tq += q;
+                            if (tq >= p) {
+                                tq -= p;
+                            }
+                            final int w = tq * root;
+                            sr += ur[t] * cos[w] - ui[t] * sin[w];
+                            si += ur[t] * sin[w] + ui[t] * cos[w];
+                        }
+                        yr[o + j + q * l] = sr;
+                        yi[o + j + q * l] = si;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Bluestein's algorithm. The transform is expressed as a convolution of the
+     * data with a chirp sequence {@code exp(-pi i k^2 / N)}. The convolution
+     * is computed using a power of 2 transform.
+     */
+    private static final class Bluestein implements Engine {
+        /** The transform used for the convolution. */
+        private final FastFourierTransform fft;
+        /** Real part of the chirp. */
+        private final double[] chirpRe;
+        /** Imaginary part of the chirp. */
+        private final double[] chirpIm;
+        /** Real part of the transform of the conjugate chirp filter. */
+        private final double[] filterRe;
+        /** Imaginary part of the transform of the conjugate chirp filter. */
+        private final double[] filterIm;
+
+        /**
+         * @param n Size of the transform.
+         */
+        Bluestein(int n) {
+            final int m = Integer.highestOneBit(2 * n - 1) << 1;
+            fft = of(m);
+            chirpRe = new double[n];
+            chirpIm = new double[n];
+            final long twoN = 2L * n;
+            for (int k = 0; k < n; k++) {
+                // k^2 mod 2n for an accurate angle
+                final double angle = Math.PI * ((long) k * k % twoN) / n;
+                chirpRe[k] = Math.cos(angle);
+                chirpIm[k] = -Math.sin(angle);
+            }
+            filterRe = new double[m];
+            filterIm = new double[m];
+            filterRe[0] = chirpRe[0];
+            filterIm[0] = -chirpIm[0];
+            for (int k = 1; k < n; k++) {
+                filterRe[k] = filterRe[m - k] = chirpRe[k];
+                filterIm[k] = filterIm[m - k] = -chirpIm[k];
+            }
+            fft.forward(filterRe, filterIm);
+        }
+
+        @Override
+        public void forward(double[] re, double[] im) {
+            final int n = re.length;
+            final int m = filterRe.length;
+            final double[] ar = new double[m];
+            final double[] ai = new double[m];
+            for (int k = 0; k < n; k++) {
+                ar[k] = re[k] * chirpRe[k] - im[k] * chirpIm[k];
+                ai[k] = re[k] * chirpIm[k] + im[k] * chirpRe[k];
+            }
+            fft.forward(ar, ai);
+            for (int k = 0; k < m; k++) {
+                final double r = ar[k];
+                final double i = ai[k];
+                ar[k] = r * filterRe[k] - i * filterIm[k];
+                ai[k] = r * filterIm[k] + i * filterRe[k];
+            }
+            fft.inverse(ar, ai);
+            for (int k = 0; k < n; k++) {
+                re[k] = ar[k] * chirpRe[k] - ai[k] * chirpIm[k];
+                im[k] = ar[k] * chirpIm[k] + ai[k] * chirpRe[k];
+            }
+        }
+    }
+
+    /**
+     * @param size Size of the transform.
+     */
+    private FastFourierTransform(int size) {
+        final int[] factors = factor(size);
+        if (factors == null && size > MAX_BLUESTEIN_SIZE) {
+            throw new IllegalArgumentException("Size is too large for Bluestein's algorithm: " + size);
+        }
+        this.size = size;
+        cos = new double[size];
+        sin = new double[size];
+        for (int k = 0; k < size; k++) {
+            final double angle = 2 * Math.PI * k / size;
+            cos[k] = Math.cos(angle);
+            sin[k] = -Math.sin(angle);
+        }
+        engine = factors == null ?
+            new Bluestein(size) :
+            new MixedRadix(factors, cos, sin);
+    }
+
+    /**
+     * Obtain a transform of the specified size.
+     *
+     * <p>Instances of a power of 2 size are cached and reused. Instances of other
+     * sizes are created on each call and should be retained by the caller.
+     *
+     * @param size Size of the transform.
+     * @return the transform
+     * @throws IllegalArgumentException if {@code size < 1}, or if {@code size} has a prime
+     * factor above 31 and is larger than 2<sup>29</sup>
+     */
+    public static FastFourierTransform of(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be strictly positive: " + size);
+        }
+        if ((size & (size - 1)) != 0) {
+            return new FastFourierTransform(size);
+        }
+        final FastFourierTransform fft = CACHE.get(size);
+        if (fft != null) {
+            return fft;
+        }
+        // Note: Do not use computeIfAbsent as construction of a transform
+        // may recursively obtain transforms of other sizes.
+        final FastFourierTransform created = new FastFourierTransform(size);
+        final FastFourierTransform previous = CACHE.putIfAbsent(size, created);
+        return previous == null ? created : previous;
+    }
+
+    /**
+     * Gets the size of the transform.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Compute the forward transform of the split complex data in-place.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @throws IllegalArgumentException if the array lengths do not match the transform size.
+     */
+    public void forward(double[] real, double[] imaginary) {
+        checkSize(real.length, size);
+        checkSize(imaginary.length, size);
+        if (size != 1) {
+            engine.forward(real, imaginary);
+        }
+    }
+
+    /**
+     * Compute the inverse transform of the split complex data in-place.
+     * The result is scaled by {@code 1 / size}.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @throws IllegalArgumentException if the array lengths do not match the transform size.
+     */
+    public void inverse(double[] real, double[] imaginary) {
+        // The inverse is computed using the forward transform with the
+        // real and imaginary parts swapped:
+        // inverse(x) = swap(forward(swap(x))) / n
+        forward(imaginary, real);
+        scale(real, imaginary, 1.0 / size);
+    }
+
+    /**
+     * Compute the forward transform of the interleaved complex data in-place.
+     * The data is {@code [real0, imag0, real1, imag1, ...]}.
+     *
+     * @param data Interleaved complex data.
+     * @throws IllegalArgumentException if the array length is not {@code 2 * size}.
+     */
+    public void forwardInterleaved(double[] data) {
+        checkSize(data.length, 2 * size);
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        deinterleave(data, re, im);
+        forward(re, im);
+        interleave(re, im, data);
+    }
+
+    /**
+     * Compute the inverse transform of the interleaved complex data in-place.
+     * The data is {@code [real0, imag0, real1, imag1, ...]}.
+     * The result is scaled by {@code 1 / size}.
+     *
+     * @param data Interleaved complex data.
+     * @throws IllegalArgumentException if the array length is not {@code 2 * size}.
+     */
+    public void inverseInterleaved(double[] data) {
+        checkSize(data.length, 2 * size);
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        deinterleave(data, re, im);
+        inverse(re, im);
+        interleave(re, im, data);
+    }
+
+    /**
+     * Compute the forward transform of the real data. The transform of real data is
+     * conjugate symmetric: {@code X[size - k] = conj(X[k])}. Only the non-redundant
+     * half of the spectrum, {@code X[k]} for {@code 0 <= k <= size / 2}, is computed.
+     * The imaginary parts of {@code X[0]}, and {@code X[size / 2]} when the size is
+     * even, are zero.
+     *
+     * <p>When the size is even this uses a complex transform of half the size.
+     *
+     * @param data Real data.
+     * @param real Real parts of the spectrum (length {@code size / 2 + 1}).
+     * @param imaginary Imaginary parts of the spectrum (length {@code size / 2 + 1}).
+     * @throws IllegalArgumentException if the array lengths do not match the transform size.
+     */
+    public void forwardReal(double[] data, double[] real, double[] imaginary) {
+        checkSize(data.length, size);
+        final int h = size >>> 1;
+        checkSize(real.length, h + 1);
+        checkSize(imaginary.length, h + 1);
+        if ((size & 1) != 0) {
+            // Odd size
+            final double[] re = data.clone();
+            final double[] im = new double[size];
+            engine.forward(re, im);
+            System.arraycopy(re, 0, real, 0, h + 1);
+            System.arraycopy(im, 0, imaginary, 0, h + 1);
+            // Exact for real data
+            imaginary[0] = 0;
+            return;
+        }
+        // Transform the even and odd samples as a complex sequence of half the size:
+        // z[n] = x[2n] + i x[2n+1]
+        final double[] zr = new double[h];
+        final double[] zi = new double[h];
+        deinterleave(data, zr, zi);
+        half().forward(zr, zi);
+        // Separate the transforms of the even (E) and odd (O) samples:
+        // E[k] = (Z[k] + conj(Z[h-k])) / 2
+        // O[k] = (Z[k] - conj(Z[h-k])) / 2i
+        // X[k] = E[k] + exp(-2 pi i k / n) O[k]
+        for (int k = 0; k <= h; k++) {
+            final int k1 = k == h ? 0 : k;
+            final int k2 = k == 0 ? 0 : h - k;
+            final double ar = zr[k1];
+            final double ai = zi[k1];
+            final double br = zr[k2];
+            final double bi = -zi[k2];
+            final double er = 0.5 * (ar + br);
+            final double ei = 0.5 * (ai + bi);
+            final double or = 0.5 * (ai - bi);
+            final double oi = -0.5 * (ar - br);
+            final double wr = cos[k];
+            final double wi = sin[k];
+            real[k] = er + or * wr - oi * wi;
+            imaginary[k] = ei + or * wi + oi * wr;
+        }
+        // Exact for real data
+        imaginary[0] = 0;
+        imaginary[h] = 0;
+    }
+
+    /**
+     * Compute the inverse transform of the non-redundant half of a conjugate symmetric
+     * spectrum to create real data. This is the inverse of
+     * {@link #forwardReal(double[], double[], double[])}.
+     * The result is scaled by {@code 1 / size}.
+     *
+     * <p>The imaginary parts of {@code X[0]}, and {@code X[size / 2]} when the size is
+     * even, are assumed to be zero.
+     *
+     * @param real Real parts of the spectrum (length {@code size / 2 + 1}).
+     * @param imaginary Imaginary parts of the spectrum (length {@code size / 2 + 1}).
+     * @param data Real data.
+     * @throws IllegalArgumentException if the array lengths do not match the transform size.
+     */
+    public void inverseReal(double[] real, double[] imaginary, double[] data) {
+        checkSize(data.length, size);
+        final int h = size >>> 1;
+        checkSize(real.length, h + 1);
+        checkSize(imaginary.length, h + 1);
+        if ((size & 1) != 0) {
+            // Odd size. Create the full spectrum using the conjugate symmetry.
+            final double[] re = new double[size];
+            final double[] im = new double[size];
+            re[0] = real[0];
+            for (int k = 1; k <= h; k++) {
+                re[k] = re[size - k] = real[k];
+                im[k] = imaginary[k];
+                im[size - k] = -imaginary[k];
+            }
+            inverse(re, im);
+            System.arraycopy(re, 0, data, 0, size);
+            return;
+        }
+        // Recombine the transforms of the even (E) and odd (O) samples:
+        // E[k] = (X[k] + conj(X[h-k])) / 2
+        // O[k] = (X[k] - conj(X[h-k])) exp(2 pi i k / n) / 2
+        // Z[k] = E[k] + i O[k]
+        final double[] zr = new double[h];
+        final double[] zi = new double[h];
+        for (int k = 0; k < h; k++) {
+            final double ar = real[k];
+            final double ai = k == 0 ? 0 : imaginary[k];
+            final double br = real[h - k];
+            final double bi = k == 0 ? 0 : -imaginary[h - k];
+            final double er = 0.5 * (ar + br);
+            final double ei = 0.5 * (ai + bi);
+            final double dr = 0.5 * (ar - br);
+            final double di = 0.5 * (ai - bi);
+            // Multiply by the conjugate of the twiddle factor
+            final double wr = cos[k];
+            final double wi = -sin[k];
+            final double or = dr * wr - di * wi;
+            final double oi = dr * wi + di * wr;
+            zr[k] = er - oi;
+            zi[k] = ei + or;
+        }
+        half().inverse(zr, zi);
+        interleave(zr, zi, data);
+    }
+
+    /**
+     * Gets the transform of half the size.
+     *
+     * <p>The transform is immutable. Creation by concurrent threads is benign and
+     * creates a transform of the same size.
+     *
+     * @return the transform
+     */
+    private FastFourierTransform half() {
+        FastFourierTransform h = half;
+        if (h == null) {
+            h = of(size >>> 1);
+            half = h;
+        }
+        return h;
+    }
+
+    /**
+     * Factor the size into the radix of each stage of the mixed-radix algorithm.
+     * Factors of 4 are used in preference to factors of 2.
+     *
+     * @param n Size.
+     * @return the factors, or null if the size has a prime factor above
+     * {@link #MAX_PRIME_FACTOR}
+     */
+    private static int[] factor(int n) {
+        final int[] factors = new int[32];
+        int count = 0;
+        int m = n;
+        while ((m & 3) == 0) {
+            factors[count++] = 4;
+            m >>>= 2;
+        }
+        if ((m & 1) == 0) {
+            factors[count++] = 2;
+            m >>>= 1;
+        }
+        for (int p = 3; p <= MAX_PRIME_FACTOR && m > 1; p += 2) {
+            while (m % p == 0) {
+                factors[count++] = p;
+                m /= p;
+            }
+        }
+        if (m != 1) {
+            return null;
+        }
+        final int[] result = new int[count];
+        System.arraycopy(factors, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Multiply the values by the scale factor.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param scale Scale factor.
+     */
+    private static void scale(double[] re, double[] im, double scale) {
+        for (int i = 0; i < re.length; i++) {
+            re[i] *= scale;
+            im[i] *= scale;
+        }
+    }
+
+    /**
+     * Copy the interleaved data to the split arrays.
+     *
+     * @param data Interleaved data.
+     * @param re Even indexed values.
+     * @param im Odd indexed values.
+     */
+    private static void deinterleave(double[] data, double[] re, double[] im) {
+        for (int i = 0; i < re.length; i++) {
+            re[i] = data[2 * i];
+            im[i] = data[2 * i + 1];
+        }
+    }
+
+    /**
+     * Copy the split arrays to the interleaved data.
+     *
+     * @param re Even indexed values.
+     * @param im Odd indexed values.
+     * @param data Interleaved data.
+     */
+    private static void interleave(double[] re, double[] im, double[] data) {
+        for (int i = 0; i < re.length; i++) {
+            data[2 * i] = re[i];
+            data[2 * i + 1] = im[i];
+        }
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static void checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Size mismatch: " + size1 + " != " + size2);
+        }
+    }
+}
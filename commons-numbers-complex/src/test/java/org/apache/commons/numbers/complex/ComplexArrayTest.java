@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link ComplexArray}.
+ */
+class ComplexArrayTest {
+    /** Edge case values for the real and imaginary parts. */
+    private static final double[] EDGE_VALUES = {
+        0.0, -0.0, 0.5, -1.0, 1.0, 2.5, 1e-310, -1e300, Double.MAX_VALUE,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+    };
+
+    /**
+     * Create an array containing all combinations of the edge values and random values.
+     *
+     * @return the array
+     */
+    private static ComplexArray createValues() {
+        final UniformRandomProvider rng = RandomSource.SPLIT_MIX_64.create(4568979841L);
+        final int n = EDGE_VALUES.length;
+        final int size = n * n + 50;
+        final ComplexArray a = ComplexArray.ofSize(size);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                a.set(i * n + j, EDGE_VALUES[i], EDGE_VALUES[j]);
+            }
+        }
+        for (int i = n * n; i < size; i++) {
+            a.set(i, rng.nextDouble() * 8 - 4, rng.nextDouble() * 8 - 4);
+        }
+        return a;
+    }
+
+    @Test
+    void testFactoryMethods() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArray.ofSize(-1));
+        Assertions.assertEquals(0, ComplexArray.ofSize(0).size());
+        final ComplexArray a = ComplexArray.ofSize(3);
+        Assertions.assertEquals(3, a.size());
+        for (int i = 0; i < a.size(); i++) {
+            TestUtils.assertSame(Complex.ZERO, a.get(i));
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexArray.of(new double[2], new double[3]));
+        final double[] re = {1, 2, 3};
+        final double[] im = {4, 5, 6};
+        final ComplexArray b = ComplexArray.of(re, im);
+        Assertions.assertSame(re, b.getReal());
+        Assertions.assertSame(im, b.getImaginary());
+        re[1] = 42;
+        Assertions.assertEquals(42, b.real(1));
+        b.set(2, 7, 8);
+        Assertions.assertEquals(7, re[2]);
+        Assertions.assertEquals(8, im[2]);
+        b.set(0, Complex.ofCartesian(9, 10));
+        Assertions.assertEquals(9, b.real(0));
+        Assertions.assertEquals(10, b.imag(0));
+
+        final Complex[] values = {Complex.I, Complex.ONE, Complex.ofCartesian(-1, 3)};
+        final ComplexArray c = ComplexArray.of(values);
+        Assertions.assertArrayEquals(values, c.toArray());
+        final ComplexArray d = c.copy();
+        Assertions.assertNotSame(c.getReal(), d.getReal());
+        Assertions.assertNotSame(c.getImaginary(), d.getImaginary());
+        Assertions.assertArrayEquals(values, d.toArray());
+    }
+
+    @Test
+    void testSizeMismatch() {
+        final ComplexArray a = ComplexArray.ofSize(3);
+        final ComplexArray b = ComplexArray.ofSize(4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.exp(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.conj(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.add(a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiply(Complex.I, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.pow(b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.pow(2, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.multiplyImaginary(2, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> a.abs(new double[4]));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testScalarFunction(ToDoubleFunction<Complex> expected,
+                            BiFunction<ComplexArray, double[], double[]> actual) {
+        final ComplexArray a = createValues();
+        final double[] result = new double[a.size()];
+        Assertions.assertSame(result, actual.apply(a, result));
+        for (int i = 0; i < a.size(); i++) {
+            Assertions.assertEquals(expected.applyAsDouble(a.get(i)), result[i]);
+        }
+    }
+
+    static Stream<Arguments> testScalarFunction() {
+        return Stream.of(
+            Arguments.of((ToDoubleFunction<Complex>) Complex::abs,
+                         (BiFunction<ComplexArray, double[], double[]>) ComplexArray::abs),
+            Arguments.of((ToDoubleFunction<Complex>) Complex::arg,
+                         (BiFunction<ComplexArray, double[], double[]>) ComplexArray::arg),
+            Arguments.of((ToDoubleFunction<Complex>) Complex::norm,
+                         (BiFunction<ComplexArray, double[], double[]>) ComplexArray::norm)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testUnaryFunction(UnaryOperator<Complex> expected,
+                           UnaryOperator<ComplexArray> inPlace,
+                           BiFunction<ComplexArray, ComplexArray, ComplexArray> operation) {
+        final ComplexArray a = createValues();
+        final ComplexArray b = a.copy();
+        final ComplexArray result = ComplexArray.ofSize(a.size());
+        Assertions.assertSame(result, operation.apply(a, result));
+        Assertions.assertSame(b, inPlace.apply(b));
+        for (int i = 0; i < a.size(); i++) {
+            final Complex z = expected.apply(a.get(i));
+            TestUtils.assertSame(z, result.get(i));
+            TestUtils.assertSame(z, b.get(i));
+        }
+    }
+
+    static Stream<Arguments> testUnaryFunction() {
+        final Stream.Builder<Arguments> builder = Stream.builder();
+        add(builder, Complex::conj, ComplexArray::conj, ComplexArray::conj);
+        add(builder, Complex::negate, ComplexArray::negate, ComplexArray::negate);
+        add(builder, Complex::proj, ComplexArray::proj, ComplexArray::proj);
+        add(builder, Complex::exp, ComplexArray::exp, ComplexArray::exp);
+        add(builder, Complex::log, ComplexArray::log, ComplexArray::log);
+        add(builder, Complex::log10, ComplexArray::log10, ComplexArray::log10);
+        add(builder, Complex::sqrt, ComplexArray::sqrt, ComplexArray::sqrt);
+        add(builder, Complex::sin, ComplexArray::sin, ComplexArray::sin);
+        add(builder, Complex::cos, ComplexArray::cos, ComplexArray::cos);
+        add(builder, Complex::tan, ComplexArray::tan, ComplexArray::tan);
+        add(builder, Complex::asin, ComplexArray::asin, ComplexArray::asin);
+        add(builder, Complex::acos, ComplexArray::acos, ComplexArray::acos);
+        add(builder, Complex::atan, ComplexArray::atan, ComplexArray::atan);
+        add(builder, Complex::sinh, ComplexArray::sinh, ComplexArray::sinh);
+        add(builder, Complex::cosh, ComplexArray::cosh, ComplexArray::cosh);
+        add(builder, Complex::tanh, ComplexArray::tanh, ComplexArray::tanh);
+        add(builder, Complex::asinh, ComplexArray::asinh, ComplexArray::asinh);
+        add(builder, Complex::acosh, ComplexArray::acosh, ComplexArray::acosh);
+        add(builder, Complex::atanh, ComplexArray::atanh, ComplexArray::atanh);
+        // Scalar operations
+        final Complex c = Complex.ofCartesian(1.5, -0.75);
+        final double x = 3.25;
+        add(builder, z -> z.add(c), a -> a.add(c), (a, r) -> a.add(c, r));
+        add(builder, z -> z.add(x), a -> a.add(x), (a, r) -> a.add(x, r));
+        add(builder, z -> z.subtract(c), a -> a.subtract(c), (a, r) -> a.subtract(c, r));
+        add(builder, z -> z.subtract(x), a -> a.subtract(x), (a, r) -> a.subtract(x, r));
+        add(builder, z -> z.multiply(c), a -> a.multiply(c), (a, r) -> a.multiply(c, r));
+        add(builder, z -> z.multiply(x), a -> a.multiply(x), (a, r) -> a.multiply(x, r));
+        add(builder, z -> z.divide(c), a -> a.divide(c), (a, r) -> a.divide(c, r));
+        add(builder, z -> z.divide(x), a -> a.divide(x), (a, r) -> a.divide(x, r));
+        add(builder, z -> z.addImaginary(x), a -> a.addImaginary(x), (a, r) -> a.addImaginary(x, r));
+        add(builder, z -> z.subtractImaginary(x), a -> a.subtractImaginary(x), (a, r) -> a.subtractImaginary(x, r));
+        add(builder, z -> z.subtractFrom(x), a -> a.subtractFrom(x), (a, r) -> a.subtractFrom(x, r));
+        add(builder, z -> z.subtractFromImaginary(x), a -> a.subtractFromImaginary(x),
+            (a, r) -> a.subtractFromImaginary(x, r));
+        add(builder, z -> z.multiplyImaginary(x), a -> a.multiplyImaginary(x), (a, r) -> a.multiplyImaginary(x, r));
+        add(builder, z -> z.divideImaginary(x), a -> a.divideImaginary(x), (a, r) -> a.divideImaginary(x, r));
+        add(builder, z -> z.pow(c), a -> a.pow(c), (a, r) -> a.pow(c, r));
+        add(builder, z -> z.pow(x), a -> a.pow(x), (a, r) -> a.pow(x, r));
+        return builder.build();
+    }
+
+    private static void add(Stream.Builder<Arguments> builder,
+                            UnaryOperator<Complex> expected,
+                            UnaryOperator<ComplexArray> inPlace,
+                            BiFunction<ComplexArray, ComplexArray, ComplexArray> operation) {
+        builder.add(Arguments.of(expected, inPlace, operation));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testBinaryFunction(BiFunction<Complex, Complex, Complex> expected,
+                            BiFunction<ComplexArray, ComplexArray, ComplexArray> inPlace,
+                            Function<ComplexArray[], ComplexArray> operation) {
+        final ComplexArray a = createValues();
+        // Reverse the values to create pairs of different numbers
+        final ComplexArray b = ComplexArray.ofSize(a.size());
+        for (int i = 0; i < a.size(); i++) {
+            b.set(i, a.get(a.size() - 1 - i));
+        }
+        final ComplexArray c = a.copy();
+        final ComplexArray result = ComplexArray.ofSize(a.size());
+        Assertions.assertSame(result, operation.apply(new ComplexArray[] {a, b, result}));
+        Assertions.assertSame(c, inPlace.apply(c, b));
+        for (int i = 0; i < a.size(); i++) {
+            final Complex z = expected.apply(a.get(i), b.get(i));
+            TestUtils.assertSame(z, result.get(i));
+            TestUtils.assertSame(z, c.get(i));
+        }
+    }
+
+    static Stream<Arguments> testBinaryFunction() {
+        return Stream.of(
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::add,
+                         (BiFunction<ComplexArray, ComplexArray, ComplexArray>) ComplexArray::add,
+                         (Function<ComplexArray[], ComplexArray>) x -> x[0].add(x[1], x[2])),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::subtract,
+                         (BiFunction<ComplexArray, ComplexArray, ComplexArray>) ComplexArray::subtract,
+                         (Function<ComplexArray[], ComplexArray>) x -> x[0].subtract(x[1], x[2])),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::multiply,
+                         (BiFunction<ComplexArray, ComplexArray, ComplexArray>) ComplexArray::multiply,
+                         (Function<ComplexArray[], ComplexArray>) x -> x[0].multiply(x[1], x[2])),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::divide,
+                         (BiFunction<ComplexArray, ComplexArray, ComplexArray>) ComplexArray::divide,
+                         (Function<ComplexArray[], ComplexArray>) x -> x[0].divide(x[1], x[2])),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::pow,
+                         (BiFunction<ComplexArray, ComplexArray, ComplexArray>) ComplexArray::pow,
+                         (Function<ComplexArray[], ComplexArray>) x -> x[0].pow(x[1], x[2]))
+        );
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link ComplexFunctions}.
+ *
+ * <p>The functions shared with {@link Complex} are tested by the
+ * {@link Complex} test suite. This tests the functions only available
+ * in {@link ComplexFunctions} and the use of a reusable {@link ComplexSink}.
+ */
+class ComplexFunctionsTest {
+    /** Edge case values for the real and imaginary parts. */
+    private static final double[] VALUES = {
+        0.0, -0.0, 0.5, -1.0, 1.0, 2.5, -3.75, 1e-310, -1e300, Double.MAX_VALUE,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+    };
+
+    /**
+     * Define a unary function on the real and imaginary parts.
+     */
+    private interface UnaryFunction {
+        <R> R apply(double real, double imaginary, ComplexSink<R> action);
+    }
+
+    /**
+     * Define a binary function on the real and imaginary parts.
+     */
+    private interface BinaryFunction {
+        <R> R apply(double re1, double im1, double re2, double im2, ComplexSink<R> action);
+    }
+
+    /**
+     * Define a function on the real and imaginary parts and a real argument.
+     */
+    private interface RealFunction {
+        <R> R apply(double real, double imaginary, double x, ComplexSink<R> action);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testUnaryFunction(UnaryOperator<Complex> expected, UnaryFunction actual) {
+        for (final double re : VALUES) {
+            for (final double im : VALUES) {
+                final Complex z = Complex.ofCartesian(re, im);
+                TestUtils.assertSame(expected.apply(z), actual.apply(re, im, Complex::ofCartesian));
+            }
+        }
+    }
+
+    static Stream<Arguments> testUnaryFunction() {
+        return Stream.of(
+            Arguments.of((UnaryOperator<Complex>) Complex::conj, (UnaryFunction) ComplexFunctions::conj),
+            Arguments.of((UnaryOperator<Complex>) Complex::negate, (UnaryFunction) ComplexFunctions::negate),
+            Arguments.of((UnaryOperator<Complex>) Complex::proj, (UnaryFunction) ComplexFunctions::proj),
+            Arguments.of((UnaryOperator<Complex>) Complex::exp, (UnaryFunction) ComplexFunctions::exp),
+            Arguments.of((UnaryOperator<Complex>) Complex::log, (UnaryFunction) ComplexFunctions::log),
+            Arguments.of((UnaryOperator<Complex>) Complex::sqrt, (UnaryFunction) ComplexFunctions::sqrt),
+            Arguments.of((UnaryOperator<Complex>) Complex::atanh, (UnaryFunction) ComplexFunctions::atanh)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testBinaryFunction(BiFunction<Complex, Complex, Complex> expected, BinaryFunction actual) {
+        for (final double re1 : VALUES) {
+            for (final double im1 : VALUES) {
+                final Complex z1 = Complex.ofCartesian(re1, im1);
+                for (final double re2 : VALUES) {
+                    for (final double im2 : VALUES) {
+                        final Complex z2 = Complex.ofCartesian(re2, im2);
+                        TestUtils.assertSame(expected.apply(z1, z2),
+                            actual.apply(re1, im1, re2, im2, Complex::ofCartesian));
+                    }
+                }
+            }
+        }
+    }
+
+    static Stream<Arguments> testBinaryFunction() {
+        return Stream.of(
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::add,
+                         (BinaryFunction) ComplexFunctions::add),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::subtract,
+                         (BinaryFunction) ComplexFunctions::subtract),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::multiply,
+                         (BinaryFunction) ComplexFunctions::multiply),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::divide,
+                         (BinaryFunction) ComplexFunctions::divide),
+            Arguments.of((BiFunction<Complex, Complex, Complex>) Complex::pow,
+                         (BinaryFunction) ComplexFunctions::pow)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testRealFunction(BiFunction<Complex, Double, Complex> expected, RealFunction actual) {
+        for (final double re : VALUES) {
+            for (final double im : VALUES) {
+                final Complex z = Complex.ofCartesian(re, im);
+                for (final double x : VALUES) {
+                    TestUtils.assertSame(expected.apply(z, x),
+                        actual.apply(re, im, x, Complex::ofCartesian));
+                }
+            }
+        }
+    }
+
+    static Stream<Arguments> testRealFunction() {
+        return Stream.of(
+            Arguments.of((BiFunction<Complex, Double, Complex>) Complex::multiply,
+                         (RealFunction) ComplexFunctions::multiply),
+            Arguments.of((BiFunction<Complex, Double, Complex>) Complex::divide,
+                         (RealFunction) ComplexFunctions::divide),
+            Arguments.of((BiFunction<Complex, Double, Complex>) Complex::pow,
+                         (RealFunction) ComplexFunctions::pow)
+        );
+    }
+
+    @Test
+    void testReusableSink() {
+        // Interleaved data computed in-place with a single sink
+        final double[] data = {1.5, -0.5, 0.0, 0.0, -2.25, 3.0, Double.NaN, 1.0};
+        final double[] expected = data.clone();
+        final int[] index = {0};
+        final ComplexSink<Void> sink = (re, im) -> {
+            data[index[0]] = re;
+            data[index[0] + 1] = im;
+            return null;
+        };
+        for (; index[0] < data.length; index[0] += 2) {
+            Assertions.assertNull(ComplexFunctions.sqrt(data[index[0]], data[index[0] + 1], sink));
+        }
+        for (int i = 0; i < data.length; i += 2) {
+            final Complex z = Complex.ofCartesian(expected[i], expected[i + 1]).sqrt();
+            Assertions.assertEquals(z.getReal(), data[i]);
+            Assertions.assertEquals(z.getImaginary(), data[i + 1]);
+        }
+    }
+
+    @Test
+    void testScalarFunctions() {
+        for (final double re : VALUES) {
+            for (final double im : VALUES) {
+                final Complex z = Complex.ofCartesian(re, im);
+                Assertions.assertEquals(z.abs(), ComplexFunctions.abs(re, im));
+                Assertions.assertEquals(z.arg(), ComplexFunctions.arg(re, im));
+                Assertions.assertEquals(z.norm(), ComplexFunctions.norm(re, im));
+                Assertions.assertEquals(z.isNaN(), ComplexFunctions.isNaN(re, im));
+                Assertions.assertEquals(z.isInfinite(), ComplexFunctions.isInfinite(re, im));
+                Assertions.assertEquals(z.isFinite(), ComplexFunctions.isFinite(re, im));
+            }
+        }
+    }
+}
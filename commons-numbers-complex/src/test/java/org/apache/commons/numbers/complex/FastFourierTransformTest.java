@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link FastFourierTransform}.
+ */
+class FastFourierTransformTest {
+    /** Relative tolerance for the transform. This is relative to the norm of the data. */
+    private static final double EPS = 1e-13;
+
+    /**
+     * Sizes to test. This covers the radix-2, radix-3, radix-4 and generic radix stages,
+     * mixed radix sizes and Bluestein's algorithm for large prime factors.
+     *
+     * @return the sizes
+     */
+    static IntStream sizes() {
+        return IntStream.concat(IntStream.rangeClosed(1, 70),
+            IntStream.of(96, 100, 127, 128, 243, 256, 331, 625, 1000, 1024, 1031, 2 * 37 * 37, 4096));
+    }
+
+    /**
+     * Create random data.
+     *
+     * @param rng Source of randomness.
+     * @param n Length.
+     * @return the data
+     */
+    private static double[] createData(UniformRandomProvider rng, int n) {
+        return rng.doubles(n, -1, 1).toArray();
+    }
+
+    /**
+     * Compute the DFT directly.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @return the transform {@code {re, im}}
+     */
+    private static double[][] dft(double[] re, double[] im) {
+        final int n = re.length;
+        final double[] xr = new double[n];
+        final double[] xi = new double[n];
+        for (int k = 0; k < n; k++) {
+            double sr = 0;
+            double si = 0;
+            for (int j = 0; j < n; j++) {
+                // Reduce the angle for accuracy
+                final double angle = -2 * Math.PI * (((long) k * j) % n) / n;
+                final double c = Math.cos(angle);
+                final double s = Math.sin(angle);
+                sr += re[j] * c - im[j] * s;
+                si += re[j] * s + im[j] * c;
+            }
+            xr[k] = sr;
+            xi[k] = si;
+        }
+        return new double[][] {xr, xi};
+    }
+
+    /**
+     * Assert the arrays are equal within a tolerance relative to the norm of the expected values.
+     *
+     * @param expected Expected values.
+     * @param actual Actual values.
+     * @param scale Scale of the values.
+     * @param msg Message.
+     */
+    private static void assertArrayEquals(double[] expected, double[] actual, double scale, String msg) {
+        Assertions.assertEquals(expected.length, actual.length, msg);
+        final double delta = EPS * Math.max(1, scale);
+        for (int i = 0; i < expected.length; i++) {
+            final int index = i;
+            Assertions.assertEquals(expected[i], actual[i], delta, () -> msg + " [" + index + "]");
+        }
+    }
+
+    /**
+     * Compute the norm of the complex data.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @return the norm
+     */
+    private static double norm(double[] re, double[] im) {
+        double s = 0;
+        for (int i = 0; i < re.length; i++) {
+            s += re[i] * re[i] + im[i] * im[i];
+        }
+        return Math.sqrt(s);
+    }
+
+    @Test
+    void testInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(-1));
+        // Bluestein's algorithm for sizes above 2^29 requires a convolution size above 2^30
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(Integer.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of((1 << 29) + 11));
+        final FastFourierTransform fft = FastFourierTransform.of(8);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[7], new double[8]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[8], new double[7]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.inverse(new double[8], new double[9]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forwardInterleaved(new double[8]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.inverseInterleaved(new double[17]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> fft.forwardReal(new double[7], new double[5], new double[5]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> fft.forwardReal(new double[8], new double[4], new double[5]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> fft.inverseReal(new double[5], new double[6], new double[8]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> fft.inverseReal(new double[5], new double[5], new double[9]));
+    }
+
+    @Test
+    void testCache() {
+        final FastFourierTransform fft = FastFourierTransform.of(64);
+        Assertions.assertEquals(64, fft.size());
+        Assertions.assertSame(fft, FastFourierTransform.of(64));
+        // Only power of 2 sizes are cached
+        final FastFourierTransform fft2 = FastFourierTransform.of(60);
+        Assertions.assertEquals(60, fft2.size());
+        Assertions.assertNotSame(fft2, FastFourierTransform.of(60));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizes")
+    void testForwardInverse(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(12345L + n);
+        final double[] re = createData(rng, n);
+        final double[] im = createData(rng, n);
+        final double[][] expected = dft(re, im);
+        final double scale = norm(re, im) * Math.sqrt(n);
+
+        final FastFourierTransform fft = FastFourierTransform.of(n);
+        final double[] xr = re.clone();
+        final double[] xi = im.clone();
+        fft.forward(xr, xi);
+        assertArrayEquals(expected[0], xr, scale, "forward real");
+        assertArrayEquals(expected[1], xi, scale, "forward imaginary");
+
+        fft.inverse(xr, xi);
+        final double s = norm(re, im);
+        assertArrayEquals(re, xr, s, "inverse real");
+        assertArrayEquals(im, xi, s, "inverse imaginary");
+
+        // Interleaved
+        final double[] data = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            data[2 * i] = re[i];
+            data[2 * i + 1] = im[i];
+        }
+        final double[] original = data.clone();
+        fft.forwardInterleaved(data);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(expected[0][i], data[2 * i], EPS * scale);
+            Assertions.assertEquals(expected[1][i], data[2 * i + 1], EPS * scale);
+        }
+        fft.inverseInterleaved(data);
+        assertArrayEquals(original, data, s, "inverse interleaved");
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizes")
+    void testForwardInverseReal(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(678L + n);
+        final double[] x = createData(rng, n);
+        final double[][] expected = dft(x, new double[n]);
+        final double scale = norm(x, new double[n]) * Math.sqrt(n);
+
+        final FastFourierTransform fft = FastFourierTransform.of(n);
+        final int h = n / 2 + 1;
+        final double[] re = new double[h];
+        final double[] im = new double[h];
+        fft.forwardReal(x.clone(), re, im);
+        assertArrayEquals(Arrays.copyOf(expected[0], h), re, scale, "forward real");
+        assertArrayEquals(Arrays.copyOf(expected[1], h), im, scale, "forward imaginary");
+        Assertions.assertEquals(0.0, im[0]);
+        if ((n & 1) == 0) {
+            Assertions.assertEquals(0.0, im[h - 1]);
+        }
+
+        final double[] y = new double[n];
+        fft.inverseReal(re, im, y);
+        assertArrayEquals(x, y, norm(x, new double[n]), "inverse");
+    }
+
+    @Test
+    void testComplexArray() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(999L);
+        final int n = 48;
+        final ComplexArray a = ComplexArray.of(createData(rng, n), createData(rng, n));
+        final double[][] expected = dft(a.getReal(), a.getImaginary());
+        FastFourierTransform.of(n).forward(a.getReal(), a.getImaginary());
+        final double scale = norm(expected[0], expected[1]);
+        assertArrayEquals(expected[0], a.getReal(), scale, "real");
+        assertArrayEquals(expected[1], a.getImaginary(), scale, "imaginary");
+    }
+
+    @Test
+    void testConcurrentTransforms() throws Exception {
+        final int n = 3 * 256;
+        final FastFourierTransform fft = FastFourierTransform.of(n);
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(42L);
+        final double[][] data = Stream.generate(() -> createData(rng, 2 * n)).limit(16).toArray(double[][]::new);
+        final double[][] expected = Arrays.stream(data).map(d -> {
+            final double[] x = d.clone();
+            fft.forwardInterleaved(x);
+            return x;
+        }).toArray(double[][]::new);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<double[]>> futures = new ArrayList<>(data.length);
+            for (final double[] d : data) {
+                final double[] x = d.clone();
+                futures.add(executor.submit(() -> {
+                    fft.forwardInterleaved(x);
+                    return x;
+                }));
+            }
+            for (int i = 0; i < data.length; i++) {
+                Assertions.assertArrayEquals(expected[i], futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package org.apache.commons.numbers.core;
 
 import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Some useful, arithmetics related, additions to the built-in functions in
@@ -27,6 +29,14 @@ public final class ArithmeticUtils {
 
     /** Overflow gcd exception message for 2^63. */
     private static final String OVERFLOW_GCD_MESSAGE_2_POWER_63 = "overflow: gcd(%d, %d) is 2^63";
+    /** Overflow gcd exception message for 2^63 for an array of values. */
+    private static final String OVERFLOW_GCD_ARRAY_MESSAGE_2_POWER_63 = "overflow: gcd of values is 2^63";
+    /** Default number of values below which a parallel gcd is computed sequentially. */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    /** Largest modulus where the product of two residues cannot overflow a {@code long}: floor(sqrt(2^63)). */
+    private static final long MAX_SAFE_MODULUS = 3037000499L;
+    /** Mask to extract the low 32-bits from a long. */
+    private static final long LO_MASK = 0xffffffffL;
 
     /** Negative exponent exception message part 1. */
     private static final String NEGATIVE_EXPONENT_1 = "negative exponent ({";
@@ -265,6 +275,276 @@ public final class ArithmeticUtils {
         return lcm;
     }
 
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers.
+     *
+     * <p>The result is computed using a reduction of the binary gcd method on the
+     * unsigned magnitude of the values. The computation stops early when the
+     * running gcd is 1. Special cases:
+     * <ul>
+     *  <li>The result for an empty array, or an array of zeros, is {@code 0L}.</li>
+     *  <li>An {@code ArithmeticException} is thrown if the result would be 2^63,
+     *   for example if all the values are {@code Long.MIN_VALUE} or zero.</li>
+     * </ul>
+     *
+     * @param values Numbers.
+     * @return the greatest common divisor, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     * @see #gcd(long, long)
+     * @since 1.2
+     */
+    public static long gcd(long[] values) {
+        return gcd(values, 0, values.length);
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers
+     * in the range {@code [from, to)} of the array.
+     *
+     * @param values Numbers.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the greatest common divisor, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @see #gcd(long[])
+     * @since 1.2
+     */
+    public static long gcd(long[] values, int from, int to) {
+        Ranges.checkFromToIndex(from, to, values.length);
+        return checkGcd(gcdUnsigned(values, from, to));
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers
+     * computed in parallel using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * <p>The array is recursively divided and the gcd of each part is computed
+     * separately. The result is the same as {@link #gcd(long[])}.
+     *
+     * @param values Numbers.
+     * @return the greatest common divisor, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     * @see #gcd(long[])
+     * @since 1.2
+     */
+    public static long parallelGcd(long[] values) {
+        return parallelGcd(values, 0, values.length);
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers in the
+     * range {@code [from, to)} of the array computed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param values Numbers.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the greatest common divisor, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @see #parallelGcd(long[])
+     * @since 1.2
+     */
+    public static long parallelGcd(long[] values, int from, int to) {
+        return parallelGcd(values, from, to, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Computes the greatest common divisor of the absolute value of the numbers in the
+     * range {@code [from, to)} of the array computed in parallel using the specified
+     * pool. Ranges containing fewer than {@code threshold} values are not split.
+     *
+     * @param values Numbers.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param pool Pool used to execute the computation.
+     * @param threshold Number of values below which a range is computed sequentially.
+     * @return the greatest common divisor, never negative.
+     * @throws ArithmeticException if the result cannot be represented as
+     * a non-negative {@code long} value.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @throws IllegalArgumentException if {@code threshold < 1}.
+     * @see #gcd(long[])
+     * @since 1.2
+     */
+    public static long parallelGcd(long[] values, int from, int to, ForkJoinPool pool, int threshold) {
+        Ranges.checkFromToIndex(from, to, values.length);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be strictly positive: " + threshold);
+        }
+        if (to - from <= threshold) {
+            return checkGcd(gcdUnsigned(values, from, to));
+        }
+        return checkGcd(pool.invoke(new GcdTask(values, from, to, threshold)));
+    }
+
+    /**
+     * Computes the least common multiple of the absolute value of the numbers
+     * using a reduction with {@link #lcm(long, long)}. The computation stops early
+     * when the running lcm is 0.
+     *
+     * <p>The result for an empty array is {@code 1L}. The result is {@code 0L} if
+     * any value is zero.
+     *
+     * @param values Numbers.
+     * @return the least common multiple, never negative.
+     * @throws ArithmeticException if the result cannot be represented
+     * as a non-negative {@code long} value.
+     * @see #lcm(long, long)
+     * @since 1.2
+     */
+    public static long lcm(long[] values) {
+        return lcm(values, 0, values.length);
+    }
+
+    /**
+     * Computes the least common multiple of the absolute value of the numbers
+     * in the range {@code [from, to)} of the array.
+     *
+     * @param values Numbers.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the least common multiple, never negative.
+     * @throws ArithmeticException if the result cannot be represented
+     * as a non-negative {@code long} value.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @see #lcm(long[])
+     * @since 1.2
+     */
+    public static long lcm(long[] values, int from, int to) {
+        Ranges.checkFromToIndex(from, to, values.length);
+        long lcm = 1;
+        for (int i = from; i < to && lcm != 0; i++) {
+            lcm = lcm(lcm, values[i]);
+        }
+        return lcm;
+    }
+
+    /**
+     * Computes the greatest common divisor {@code g} of the two numbers and the
+     * B&eacute;zout coefficients {@code x} and {@code y} such that:
+     * <pre>
+     * a * x + b * y = g
+     * </pre>
+     *
+     * <p>The result is computed using the extended Euclidean algorithm. The
+     * coefficients are minimal: {@code |x| <= max(1, |b / g|)} and
+     * {@code |y| <= max(1, |a / g|)}.
+     * If {@code g == 1} then {@code x} is the inverse of {@code a} modulo {@code b}.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>The result for {@code (0, 0)} is {@code [0, 0, 0]}.</li>
+     *  <li>An {@code ArithmeticException} is thrown if the gcd would be 2^63.</li>
+     * </ul>
+     *
+     * @param a Number.
+     * @param b Number.
+     * @return the array {@code [g, x, y]}, where {@code g} is never negative.
+     * @throws ArithmeticException if the gcd cannot be represented as
+     * a non-negative {@code long} value.
+     * @since 1.2
+     */
+    public static long[] gcdExtended(long a, long b) {
+        long r0 = a;
+        long r1 = b;
+        long x0 = 1;
+        long x1 = 0;
+        long y0 = 0;
+        long y1 = 1;
+        while (r1 != 0) {
+            final long q = r0 / r1;
+            long t = r0 - q * r1;
+            r0 = r1;
+            r1 = t;
+            // Coefficients are bounded by |b / g| and |a / g|.
+            // Only the coefficients of the final zero remainder may overflow; these are discarded.
+            t = x0 - q * x1;
+            x0 = x1;
+            x1 = t;
+            t = y0 - q * y1;
+            y0 = y1;
+            y1 = t;
+        }
+        if (r0 < 0) {
+            if (r0 == Long.MIN_VALUE) {
+                throw new NumbersArithmeticException(OVERFLOW_GCD_MESSAGE_2_POWER_63, a, b);
+            }
+            return new long[] {-r0, -x0, -y0};
+        }
+        return new long[] {r0, x0, y0};
+    }
+
+    /**
+     * Computes the greatest common divisor of the unsigned magnitude of the numbers
+     * in the range {@code [from, to)} of the array. The result is unsigned: 2^63 is
+     * returned as {@code Long.MIN_VALUE}.
+     *
+     * @param values Numbers.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the greatest common divisor (unsigned)
+     */
+    private static long gcdUnsigned(long[] values, int from, int to) {
+        long g = 0;
+        for (int i = from; i < to && g != 1; i++) {
+            // Math.abs(Long.MIN_VALUE) is 2^63 as an unsigned long
+            g = gcdUnsigned(g, Math.abs(values[i]));
+        }
+        return g;
+    }
+
+    /**
+     * Computes the greatest common divisor of two unsigned numbers using the binary
+     * gcd method.
+     *
+     * @param p Number (unsigned).
+     * @param q Number (unsigned).
+     * @return the greatest common divisor (unsigned)
+     */
+    private static long gcdUnsigned(long p, long q) {
+        if (p == 0) {
+            return q;
+        }
+        if (q == 0) {
+            return p;
+        }
+        // Common power of 2
+        final int shift = Long.numberOfTrailingZeros(p | q);
+        long a = p >>> Long.numberOfTrailingZeros(p);
+        long b = q >>> Long.numberOfTrailingZeros(q);
+        // "a" and "b" are odd. Replace the larger with the odd part of the difference.
+        while (a != b) {
+            if (Long.compareUnsigned(a, b) > 0) {
+                a -= b;
+                a >>>= Long.numberOfTrailingZeros(a);
+            } else {
+                b -= a;
+                b >>>= Long.numberOfTrailingZeros(b);
+            }
+        }
+        return a << shift;
+    }
+
+    /**
+     * Check the unsigned gcd can be represented as a non-negative {@code long}.
+     *
+     * @param g Greatest common divisor (unsigned).
+     * @return the greatest common divisor
+     * @throws ArithmeticException if the gcd is 2^63.
+     */
+    private static long checkGcd(long g) {
+        if (g < 0) {
+            throw new NumbersArithmeticException(OVERFLOW_GCD_ARRAY_MESSAGE_2_POWER_63);
+        }
+        return g;
+    }
+
     /**
      * Raise an int to an int power.
      *
@@ -588,6 +868,257 @@ public final class ArithmeticUtils {
         return dividend >= 0L || dividend < divisor ? 0L : 1L;
     }
 
+    /**
+     * Computes the modular product {@code (a * b) mod m} without overflow.
+     *
+     * <p>The result is the non-negative residue in {@code [0, m)} using floored
+     * division, e.g. the result for {@code (-1 * 1) mod 3} is 2.
+     *
+     * <p>The full 128-bit product of the reduced arguments is computed and reduced by
+     * the modulus.
+     *
+     * @param a Value.
+     * @param b Value.
+     * @param m Modulus.
+     * @return {@code (a * b) mod m}
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     * @see Montgomery
+     * @since 1.2
+     */
+    public static long mulMod(long a, long b, long m) {
+        checkModulus(m);
+        return mulModUnchecked(Math.floorMod(a, m), Math.floorMod(b, m), m);
+    }
+
+    /**
+     * Computes the modular exponentiation {@code (a^e) mod m}.
+     *
+     * <p>The result is the non-negative residue in {@code [0, m)} using floored
+     * division. The result for {@code e == 0} is {@code 1 mod m}.
+     *
+     * <p>A large odd modulus uses {@link Montgomery} multiplication. When computing
+     * many powers for the same odd modulus it is more efficient to use a
+     * {@link Montgomery} instance directly.
+     *
+     * @param a Value.
+     * @param e Exponent.
+     * @param m Modulus.
+     * @return {@code (a^e) mod m}
+     * @throws IllegalArgumentException if {@code e < 0} or {@code m <= 0}.
+     * @since 1.2
+     */
+    public static long powMod(long a, long e, long m) {
+        if (e < 0) {
+            throw new IllegalArgumentException(NEGATIVE_EXPONENT_1 + e + NEGATIVE_EXPONENT_2);
+        }
+        checkModulus(m);
+        if (m == 1) {
+            return 0;
+        }
+        long b = Math.floorMod(a, m);
+        if ((m & 1) != 0 && m > MAX_SAFE_MODULUS) {
+            final Montgomery mont = Montgomery.of(m);
+            return mont.fromMontgomery(mont.pow(mont.toMontgomery(b), e));
+        }
+        long result = 1;
+        for (long k = e; k != 0; k >>>= 1) {
+            if ((k & 1) != 0) {
+                result = mulModUnchecked(result, b, m);
+            }
+            b = mulModUnchecked(b, b, m);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the modular multiplicative inverse {@code x} such that
+     * {@code (a * x) mod m == 1 mod m}.
+     *
+     * <p>The result is in {@code [0, m)}. The inverse exists if and only if
+     * {@code gcd(a, m) == 1}.
+     *
+     * @param a Value.
+     * @param m Modulus.
+     * @return the inverse of {@code a} modulo {@code m}
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     * @throws ArithmeticException if {@code a} is not invertible modulo {@code m}.
+     * @see #gcdExtended(long, long)
+     * @since 1.2
+     */
+    public static long modInverse(long a, long m) {
+        checkModulus(m);
+        final long[] r = gcdExtended(Math.floorMod(a, m), m);
+        if (r[0] != 1) {
+            throw new NumbersArithmeticException("not invertible: gcd(%d, %d) = %d", a, m, r[0]);
+        }
+        return Math.floorMod(r[1], m);
+    }
+
+    /**
+     * Check the modulus is strictly positive.
+     *
+     * @param m Modulus.
+     * @throws IllegalArgumentException if {@code m <= 0}.
+     */
+    private static void checkModulus(long m) {
+        if (m <= 0) {
+            throw new IllegalArgumentException("Modulus must be strictly positive: " + m);
+        }
+    }
+
+    /**
+     * Computes the modular product {@code (a * b) mod m} for residues in {@code [0, m)}.
+     *
+     * @param a Value in {@code [0, m)}.
+     * @param b Value in {@code [0, m)}.
+     * @param m Modulus.
+     * @return {@code (a * b) mod m}
+     */
+    static long mulModUnchecked(long a, long b, long m) {
+        if (m <= MAX_SAFE_MODULUS) {
+            return a * b % m;
+        }
+        final long hi = multiplyHigh(a, b);
+        final long lo = a * b;
+        if (hi == 0 && lo >= 0) {
+            return lo % m;
+        }
+        return remainderUnsigned(hi, lo, m);
+    }
+
+    /**
+     * Returns the high 64-bits of the signed 128-bit product of the arguments.
+     *
+     * <p>This is a port of {@code Math.multiplyHigh} which requires Java 9.
+     *
+     * @param x Value.
+     * @param y Value.
+     * @return the high 64-bits of the product
+     */
+    static long multiplyHigh(long x, long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & LO_MASK;
+        final long y1 = y >> 32;
+        final long y2 = y & LO_MASK;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & LO_MASK;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * Returns the high 64-bits of the unsigned 128-bit product of the arguments.
+     *
+     * <p>This is a port of {@code Math.unsignedMultiplyHigh} which requires Java 18.
+     *
+     * @param x Value (unsigned).
+     * @param y Value (unsigned).
+     * @return the high 64-bits of the product (unsigned)
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        // Correct the signed product for the sign bits
+        return multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Computes the remainder of the unsigned 128-bit value {@code (hi, lo)}
+     * divided by the positive divisor {@code m}. Requires {@code hi < m}.
+     *
+     * <p>This is a port of the 128-by-64 bit unsigned division algorithm of
+     * Knuth (Algorithm D) described in the book "Hacker's Delight" (section
+     * "Unsigned doubleword division").
+     *
+     * @param hi High 64-bits of the dividend (unsigned).
+     * @param lo Low 64-bits of the dividend (unsigned).
+     * @param m Divisor.
+     * @return the remainder
+     */
+    static long remainderUnsigned(long hi, long lo, long m) {
+        // Normalise the divisor so the most significant bit is set
+        final int s = Long.numberOfLeadingZeros(m);
+        final long v = m << s;
+        final long vn1 = v >>> 32;
+        final long vn0 = v & LO_MASK;
+        // s > 0 as m is positive
+        final long un32 = (hi << s) | (lo >>> (64 - s));
+        final long un10 = lo << s;
+        final long un1 = un10 >>> 32;
+        final long un0 = un10 & LO_MASK;
+
+        // First quotient digit
+        long q1 = divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while ((q1 >>> 32) != 0 || Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if ((rhat >>> 32) != 0) {
+                break;
+            }
+        }
+        final long un21 = (un32 << 32) + un1 - q1 * v;
+
+        // Second quotient digit
+        long q0 = divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while ((q0 >>> 32) != 0 || Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if ((rhat >>> 32) != 0) {
+                break;
+            }
+        }
+        return ((un21 << 32) + un0 - q0 * v) >>> s;
+    }
+
+    /**
+     * Task to compute the unsigned greatest common divisor of a range of an array.
+     */
+    private static final class GcdTask extends RecursiveTask<Long> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Values. */
+        private final long[] values;
+        /** Index of the first element (inclusive). */
+        private final int from;
+        /** Index of the last element (exclusive). */
+        private final int to;
+        /** Number of values below which the range is computed sequentially. */
+        private final int threshold;
+
+        /**
+         * @param values Values.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param threshold Number of values below which the range is computed sequentially.
+         */
+        GcdTask(long[] values, int from, int to, int threshold) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                return gcdUnsigned(values, from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final GcdTask right = new GcdTask(values, mid, to, threshold);
+            right.fork();
+            final long left = new GcdTask(values, from, mid, threshold).compute();
+            if (left == 1) {
+                // Result is known; the right task is not required
+                right.cancel(false);
+                return left;
+            }
+            return gcdUnsigned(left, right.join());
+        }
+    }
+
     /**
      * Exception.
      */
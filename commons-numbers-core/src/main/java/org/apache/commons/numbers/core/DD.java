@@ -386,6 +386,43 @@ public final class DD
         return new DD(z, zz);
     }
 
+    /**
+     * Parses the string representation of a double-double number.
+     *
+     * <p>The string may use the format of {@link #toString()} ({@code "(x,xx)"}); the parts are
+     * parsed using {@link Double#parseDouble(String)} and the result is the exact (non-normalized)
+     * representation of the parts.
+     *
+     * <p>Otherwise the string must be a decimal number using the grammar:
+     * <pre>
+     * [sign] digits [. digits] [(e|E) [sign] digits]
+     * [sign] . digits [(e|E) [sign] digits]
+     * [sign] NaN
+     * [sign] Infinity
+     * </pre>
+     *
+     * <p>Leading and trailing white space is ignored. At most 40 significant digits are used;
+     * any further digits are truncated. The decimal number is converted using a table of
+     * powers of ten stored to triple-double precision and the result is typically the
+     * closest double-double to the decimal value, i.e. the same as
+     * {@code DD.from(new BigDecimal(s))}. A low part that is below the precision of the high
+     * part (magnitude below 2<sup>-54</sup> ulp(x)) is set to zero; numbers that are
+     * sub-normal as a {@code double} are computed to {@code double} precision. This is
+     * faster than conversion using {@link #from(BigDecimal)}.
+     *
+     * <p>The representation created by {@link #toDecimalString()} is parsed to the same number.
+     *
+     * @param s String representation.
+     * @return the double-double
+     * @throws NullPointerException if the string is null.
+     * @throws NumberFormatException if the string is not a parsable number.
+     * @see #toDecimalString()
+     * @see #toString()
+     */
+    public static DD parse(CharSequence s) {
+        return DDDecimal.parse(s);
+    }
+
     // Arithmetic constructors:
 
     /**
@@ -2285,6 +2322,37 @@ public final class DD
             .toString();
     }
 
+    /**
+     * Returns a decimal string representation of the double-double number.
+     *
+     * <p>The result is the shortest decimal number that is {@link #parse(CharSequence) parsed}
+     * to the same double-double number, as defined by {@link #equals(Object)}. The decimal
+     * number has at most 39 significant digits and uses the same format as
+     * {@link Double#toString(double)}: the number is formatted without an exponent if
+     * the magnitude is in {@code [1e-3, 1e7)}; otherwise computerized scientific notation is
+     * used. For example:
+     * <pre>
+     * DD.of(1.5)                   : "1.5"
+     * DD.of(0.1)                   : "0.100000000000000005551115123125783"
+     * DD.ONE.divide(DD.of(3))      : "0.333333333333333333333333333333332"
+     * DD.of(1e100)                 : "1.00000000000000001590289110975992E100"
+     * </pre>
+     *
+     * <p>Numbers that cannot be represented using a decimal of 39 significant digits, for
+     * example a non-normalized number or a low part that is below the precision of the
+     * high part, use the format of {@link #toString()} which can also be parsed.
+     *
+     * <p>Non-finite and zero values use the representation of the high part as per
+     * {@link Double#toString(double)}, e.g. {@code "NaN"}, {@code "-Infinity"} or
+     * {@code "0.0"}.
+     *
+     * @return A decimal string representation of the double-double number.
+     * @see #parse(CharSequence)
+     */
+    public String toDecimalString() {
+        return DDDecimal.format(this);
+    }
+
     /**
      * {@inheritDoc}
      *
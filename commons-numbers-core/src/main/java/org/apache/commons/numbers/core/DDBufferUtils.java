@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary serialization of {@link DD} numbers to a {@link ByteBuffer}.
+ *
+ * <p>Each double-double number {@code (x, xx)} is stored using {@value #BYTES} bytes as
+ * the raw {@code long} bits of the high part followed by the raw {@code long} bits of the
+ * low part (see {@link Double#doubleToRawLongBits(double)}). The byte order is the order of
+ * the buffer. The conversion is exact: the parts are not normalized and any {@code NaN}
+ * payload is preserved.
+ *
+ * <p>Numbers stored as a {@code DD[]} array or as separate arrays of the high and low parts
+ * use the same binary format. For example to write numbers to a file:
+ *
+ * <pre>
+ * ByteBuffer buffer = ByteBuffer.allocate(x.length * DDBufferUtils.BYTES);
+ * DDBufferUtils.write(x, buffer);
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE)) {
+ *     channel.write(buffer);
+ * }</pre>
+ *
+ * <p>Data is read from, or written to, the remaining elements of a buffer: the
+ * elements between the current position and the limit. The position, limit and
+ * mark of the buffers are not modified.
+ *
+ * @since 1.2
+ */
+public final class DDBufferUtils {
+    /** The number of bytes used to represent a double-double number. */
+    public static final int BYTES = 2 * Double.BYTES;
+
+    /**
+     * Utility class.
+     */
+    private DDBufferUtils() {}
+
+    /**
+     * Writes the numbers to the buffer.
+     *
+     * @param x Numbers.
+     * @param buffer Destination.
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static ByteBuffer write(DD[] x, ByteBuffer buffer) {
+        checkSpace(buffer.remaining(), (long) x.length * BYTES);
+        int i = buffer.position();
+        for (final DD v : x) {
+            buffer.putLong(i, Double.doubleToRawLongBits(v.hi()));
+            buffer.putLong(i + Double.BYTES, Double.doubleToRawLongBits(v.lo()));
+            i += BYTES;
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes the numbers to the buffer. The numbers are specified using the high and low parts.
+     *
+     * @param hi High parts.
+     * @param lo Low parts.
+     * @param buffer Destination.
+     * @return the destination buffer
+     * @throws IllegalArgumentException if the sizes of the parts are not equal, or the buffer
+     * has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static ByteBuffer write(double[] hi, double[] lo, ByteBuffer buffer) {
+        final int length = checkSize(hi.length, lo.length);
+        checkSpace(buffer.remaining(), (long) length * BYTES);
+        int i = buffer.position();
+        for (int n = 0; n < length; n++) {
+            buffer.putLong(i, Double.doubleToRawLongBits(hi[n]));
+            buffer.putLong(i + Double.BYTES, Double.doubleToRawLongBits(lo[n]));
+            i += BYTES;
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads all the numbers in the buffer. Any remaining bytes that are less than
+     * the size of a number are ignored.
+     *
+     * @param buffer Source.
+     * @return the numbers
+     */
+    public static DD[] read(ByteBuffer buffer) {
+        final DD[] x = new DD[buffer.remaining() / BYTES];
+        int i = buffer.position();
+        for (int n = 0; n < x.length; n++) {
+            x[n] = DD.of(Double.longBitsToDouble(buffer.getLong(i)),
+                         Double.longBitsToDouble(buffer.getLong(i + Double.BYTES)));
+            i += BYTES;
+        }
+        return x;
+    }
+
+    /**
+     * Reads numbers from the buffer into the high and low parts. The number read is
+     * the length of the parts.
+     *
+     * @param buffer Source.
+     * @param hi High parts.
+     * @param lo Low parts.
+     * @throws IllegalArgumentException if the sizes of the parts are not equal, or the buffer
+     * has insufficient data remaining
+     */
+    public static void read(ByteBuffer buffer, double[] hi, double[] lo) {
+        final int length = checkSize(hi.length, lo.length);
+        checkSpace(buffer.remaining(), (long) length * BYTES);
+        int i = buffer.position();
+        for (int n = 0; n < length; n++) {
+            hi[n] = Double.longBitsToDouble(buffer.getLong(i));
+            lo[n] = Double.longBitsToDouble(buffer.getLong(i + Double.BYTES));
+            i += BYTES;
+        }
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @return the size
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static int checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Size mismatch: " + size1 + " != " + size2);
+        }
+        return size1;
+    }
+
+    /**
+     * Check the remaining space is at least the required size.
+     *
+     * @param remaining Remaining space.
+     * @param required Required space.
+     * @throws IllegalArgumentException if the remaining space is too small.
+     */
+    private static void checkSpace(int remaining, long required) {
+        if (remaining < required) {
+            throw new IllegalArgumentException("Insufficient space: " + remaining + " < " + required);
+        }
+    }
+}
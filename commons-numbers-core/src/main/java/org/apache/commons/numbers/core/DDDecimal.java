@@ -0,0 +1,827 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Conversion of a {@link DD} to and from a decimal string.
+ *
+ * <p>A decimal number is represented using a significand of at most {@value #MAX_DIGITS}
+ * digits and a power of ten exponent. The value is computed by multiplication of the
+ * significand with a tabulated power of ten stored to triple-double precision (approximately
+ * 160 bits). The exact partial products are summed using an error-free transformation and
+ * rounded to a double-double. The result is typically the closest double-double to the
+ * decimal value. {@link BigInteger} is only used once to create the table of powers.
+ *
+ * <p>The decimal value is canonicalised by removing trailing zeros from the significand
+ * before evaluation. The computed {@code DD} thus depends only on the decimal value and
+ * not on the string representation. This allows the formatter to generate a decimal
+ * representation that is verified to be parsed to the original number.
+ */
+final class DDDecimal {
+    /** Maximum number of significant digits in the decimal significand. */
+    private static final int MAX_DIGITS = 40;
+    /** Number of decimal digits in a chunk of the significand used in multiplication.
+     * 10^15 < 2^50 is exactly representable as a double. */
+    private static final int CHUNK_DIGITS = 15;
+    /** Maximum number of terms in the sum of partial products:
+     * 3 chunks multiplied by a triple-double create 5 terms each. */
+    private static final int MAX_TERMS = 15;
+    /** Number of terms in the product of a double-double and a triple-double. */
+    private static final int PRODUCT_TERMS = 8;
+    /** Number of decimal digits in a block of the significand used for integer arithmetic. */
+    private static final int BLOCK_DIGITS = 18;
+    /** Base of a block of the significand (10^18). */
+    private static final long BLOCK = 1_000_000_000_000_000_000L;
+    /** Base of a block of the significand (10^18). */
+    private static final double BLOCK_D = 1e18;
+    /** Number of blocks in the significand used for integer arithmetic. */
+    private static final int BLOCKS = 3;
+    /** Limit on the magnitude of the power of ten in the table of powers. */
+    private static final int POW10_LIMIT = 364;
+    /** Number of bits used to compute the table of powers. */
+    private static final int POW10_BITS = 180;
+    /** Maximum decimal exponent of a finite value. */
+    private static final int MAX_EXP10 = 308;
+    /** Minimum decimal exponent of a non-zero value. */
+    private static final int MIN_EXP10 = -324;
+    /** Decimal exponent of the significand used for formatting. The significand will have
+     * 39 digits which allows almost all double-double numbers to be distinguished. */
+    private static final int FORMAT_EXP10 = 38;
+    /** Lower limit of the significand used for formatting. */
+    private static final double FORMAT_MIN = 1e38;
+    /** Upper limit of the significand used for formatting. */
+    private static final double FORMAT_MAX = 1e39;
+    /** Scale factor applied to the unit in the last place of the high part to create the limit
+     * for a low part that is zero. This is below 1 eps where eps is 2^-106. */
+    private static final double LOW_PART_LIMIT = 0x1.0p-54;
+    /** Maximum number of corrections to the formatted significand. */
+    private static final int MAX_CORRECTIONS = 64;
+    /** Threshold above which a double is an integer. */
+    private static final double INTEGER_LIMIT = 0x1.0p52;
+    /** Minimum decimal exponent for formatting without an exponent (same as Double). */
+    private static final int PLAIN_MIN_EXP10 = -3;
+    /** Maximum decimal exponent for formatting without an exponent (same as Double). */
+    private static final int PLAIN_MAX_EXP10 = 6;
+    /** Mask to extract the 52-bit mantissa from a long representation of a double. */
+    private static final long MANTISSA_MASK = 0x000f_ffff_ffff_ffffL;
+    /** The implicit leading bit of the mantissa of a normal double. */
+    private static final long IMPLICIT_BIT = 0x0010_0000_0000_0000L;
+    /** Number of bits in the mantissa of a double (excluding the implicit bit). */
+    private static final int MANTISSA_BITS = 52;
+    /** Maximum shift of a block that cannot overflow a long: 10^18 * 2^3 < 2^63. */
+    private static final int MAX_BLOCK_SHIFT = 3;
+    /** The start of the {@link DD#toString()} representation. */
+    private static final char FORMAT_START = '(';
+    /** The end of the {@link DD#toString()} representation. */
+    private static final char FORMAT_END = ')';
+    /** The separator of the {@link DD#toString()} representation. */
+    private static final char FORMAT_SEP = ',';
+    /** Representation of a not-a-number value. */
+    private static final String NAN = "NaN";
+    /** Representation of an infinite value. */
+    private static final String INFINITY = "Infinity";
+
+    /** High part of the fraction f of the powers of ten 10^k = f * 2^e with f in [1, 2). */
+    private static final double[] POW10_0;
+    /** Middle part of the fraction f of the powers of ten 10^k = f * 2^e. */
+    private static final double[] POW10_1;
+    /** Low part of the fraction f of the powers of ten 10^k = f * 2^e. */
+    private static final double[] POW10_2;
+    /** Exponent e of the powers of ten 10^k = f * 2^e. */
+    private static final int[] POW10_EXP;
+
+    static {
+        final int size = 2 * POW10_LIMIT + 1;
+        POW10_0 = new double[size];
+        POW10_1 = new double[size];
+        POW10_2 = new double[size];
+        POW10_EXP = new int[size];
+        BigInteger p = BigInteger.ONE;
+        for (int k = 0; k <= POW10_LIMIT; k++) {
+            // 10^k = b * 2^s, with b truncated to the table precision
+            final int shift = Math.max(0, p.bitLength() - POW10_BITS);
+            setPower(POW10_LIMIT + k, p.shiftRight(shift), shift);
+            if (k != 0) {
+                // 10^-k = (2^m / 10^k) * 2^-m
+                final int m = POW10_BITS + p.bitLength();
+                setPower(POW10_LIMIT - k, BigInteger.ONE.shiftLeft(m).divide(p), -m);
+            }
+            p = p.multiply(BigInteger.TEN);
+        }
+    }
+
+    /** No instances. */
+    private DDDecimal() {}
+
+    /**
+     * Sets the power of ten {@code b * 2^shift} in the table of powers.
+     *
+     * @param index Index.
+     * @param b Integer significand.
+     * @param shift Power of two scale.
+     */
+    private static void setPower(int index, BigInteger b, int shift) {
+        // Split into three non-overlapping parts
+        final double x0 = b.doubleValue();
+        BigInteger r = b.subtract(new BigDecimal(x0).toBigInteger());
+        final double x1 = r.doubleValue();
+        r = r.subtract(new BigDecimal(x1).toBigInteger());
+        final double x2 = r.doubleValue();
+        // Scale the high part to [1, 2)
+        final int e = Math.getExponent(x0);
+        POW10_0[index] = Math.scalb(x0, -e);
+        POW10_1[index] = Math.scalb(x1, -e);
+        POW10_2[index] = Math.scalb(x2, -e);
+        POW10_EXP[index] = e + shift;
+    }
+
+    /**
+     * Parses the string to a double-double number.
+     *
+     * @param s String representation.
+     * @return the double-double
+     * @throws NumberFormatException if the string is not a parsable number.
+     * @see DD#parse(CharSequence)
+     */
+    static DD parse(CharSequence s) {
+        // Trim white space (as per String.trim)
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw invalidNumber(s);
+        }
+        if (s.charAt(start) == FORMAT_START) {
+            return parseParts(s, start, end);
+        }
+
+        int i = start;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        if (matches(s, i, end, NAN)) {
+            return DD.of(Double.NaN);
+        }
+        if (matches(s, i, end, INFINITY)) {
+            return DD.of(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+
+        // Significand. Leading zeros are ignored and digits beyond the
+        // maximum precision are truncated.
+        final byte[] digits = new byte[MAX_DIGITS];
+        int count = 0;
+        long exp = 0;
+        boolean point = false;
+        boolean any = false;
+        for (; i < end; i++) {
+            c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (count < MAX_DIGITS) {
+                    if (count != 0 || c != '0') {
+                        digits[count++] = (byte) (c - '0');
+                    }
+                } else {
+                    // Truncated digit
+                    exp++;
+                }
+                if (point) {
+                    exp--;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!any) {
+            throw invalidNumber(s);
+        }
+
+        // Exponent
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                negativeExp = s.charAt(i) == '-';
+                i++;
+            }
+            if (i == end) {
+                throw invalidNumber(s);
+            }
+            long e = 0;
+            for (; i < end; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw invalidNumber(s);
+                }
+                // Saturate: any exponent above the limit creates zero or infinity
+                e = Math.min(e * 10 + c - '0', Integer.MAX_VALUE);
+            }
+            exp += negativeExp ? -e : e;
+        }
+        if (i != end) {
+            throw invalidNumber(s);
+        }
+
+        final DD v = count == 0 ?
+            DD.ZERO :
+            value(digits, count, (int) Math.max(Math.min(exp, Integer.MAX_VALUE), Integer.MIN_VALUE));
+        return negative ? v.negate() : v;
+    }
+
+    /**
+     * Parses the string using the {@link DD#toString()} format {@code "(x,xx)"}.
+     * The parts are not normalized.
+     *
+     * @param s String representation.
+     * @param start Start index of the representation (inclusive).
+     * @param end End index of the representation (exclusive).
+     * @return the double-double
+     * @throws NumberFormatException if the string is not a parsable number.
+     */
+    private static DD parseParts(CharSequence s, int start, int end) {
+        if (s.charAt(end - 1) != FORMAT_END) {
+            throw invalidNumber(s);
+        }
+        int sep = start + 1;
+        while (sep < end && s.charAt(sep) != FORMAT_SEP) {
+            sep++;
+        }
+        if (sep == end) {
+            throw invalidNumber(s);
+        }
+        try {
+            final double x = Double.parseDouble(s.subSequence(start + 1, sep).toString());
+            final double xx = Double.parseDouble(s.subSequence(sep + 1, end - 1).toString());
+            return DD.of(x, xx);
+        } catch (final NumberFormatException ex) {
+            throw invalidNumber(s);
+        }
+    }
+
+    /**
+     * Test if the characters from the start index to the end index match the token.
+     *
+     * @param s String representation.
+     * @param start Start index (inclusive).
+     * @param end End index (exclusive).
+     * @param token Token.
+     * @return true if a match
+     */
+    private static boolean matches(CharSequence s, int start, int end, String token) {
+        if (end - start != token.length()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (s.charAt(start + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create an exception for an invalid number.
+     *
+     * @param s String representation.
+     * @return the exception
+     */
+    private static NumberFormatException invalidNumber(CharSequence s) {
+        return new NumberFormatException("Invalid double-double number: \"" + s + '"');
+    }
+
+    /**
+     * Formats the number as the shortest decimal string that is parsed to the same number.
+     *
+     * @param x Number.
+     * @return the string
+     * @see DD#toDecimalString()
+     */
+    static String format(DD x) {
+        final double hi = x.hi();
+        if (hi == 0 || !Double.isFinite(hi)) {
+            return DD.of(hi).equals(x) ? Double.toString(hi) : x.toString();
+        }
+        final DD v = hi < 0 ? x.negate() : x;
+
+        // Scale the number to an integer significand with 39 digits: v ~ n * 10^exp
+        int exp = (int) Math.floor(Math.log10(v.hi())) - FORMAT_EXP10;
+        final double[] p = new double[PRODUCT_TERMS];
+        final double top = scale(v, -exp, p);
+        if (top < FORMAT_MIN) {
+            exp--;
+            scale(v, -exp, p);
+        } else if (top >= FORMAT_MAX) {
+            exp++;
+            scale(v, -exp, p);
+        }
+        final long[] n = new long[BLOCKS];
+        // Add the integer parts and round the sum of the fractional parts.
+        // Terms are in increasing order of magnitude.
+        double fraction = 0;
+        for (final double t : p) {
+            if (Math.abs(t) >= INTEGER_LIMIT) {
+                add(n, t);
+            } else {
+                fraction += t;
+            }
+        }
+        add(n, Math.rint(fraction));
+
+        // Correct the significand so that it is evaluated to the number. This is
+        // typically not required as the significand is computed to sufficient precision.
+        // Newton steps are used until the number is bracketed by significands that
+        // evaluate below and above; the bracket is then reduced by bisection.
+        final byte[] digits = new byte[MAX_DIGITS];
+        int count = toDigits(n, digits);
+        final long[] below = new long[BLOCKS];
+        final long[] above = new long[BLOCKS];
+        boolean hasBelow = false;
+        boolean hasAbove = false;
+        int corrections = 0;
+        for (;;) {
+            final DD y = value(digits, count, exp);
+            if (y.equals(v)) {
+                break;
+            }
+            if (corrections++ == MAX_CORRECTIONS) {
+                // The number cannot be represented with the maximum significand digits,
+                // e.g. a non-normalized number or a low part below the precision.
+                return x.toString();
+            }
+            final DD d = v.subtract(y);
+            if (d.hi() > 0) {
+                System.arraycopy(n, 0, below, 0, BLOCKS);
+                hasBelow = true;
+            } else {
+                System.arraycopy(n, 0, above, 0, BLOCKS);
+                hasAbove = true;
+            }
+            if (hasBelow && hasAbove) {
+                final double gap = ((above[0] - below[0]) * BLOCK_D + (above[1] - below[1])) * BLOCK_D +
+                    (above[2] - below[2]);
+                if (gap <= 1) {
+                    // No significand between the bracket
+                    return x.toString();
+                }
+                System.arraycopy(below, 0, n, 0, BLOCKS);
+                add(n, Math.floor(gap * 0.5));
+            } else {
+                final double step = Math.rint(toDouble(n) * (d.hi() / y.hi()));
+                add(n, step == 0 ? Math.signum(d.hi()) : step);
+            }
+            count = toDigits(n, digits);
+        }
+
+        // Find the shortest significand that evaluates to the same number.
+        // The numbers that evaluate to v are within the half-width of the interval
+        // around v. Estimate the minimum length of a significand in the interval;
+        // candidates from this length are verified to evaluate to v.
+        final double lo = v.lo();
+        // Power of two exponent of the half-width
+        int w;
+        if (v.hi() < Double.MIN_NORMAL) {
+            // Sub-normal result only has double precision
+            w = Double.MIN_EXPONENT - MANTISSA_BITS - 1;
+        } else if (lo == 0) {
+            // Limited by the smallest low part
+            w = Math.max(ulpExponent(v.hi()) + Math.getExponent(LOW_PART_LIMIT),
+                         Double.MIN_EXPONENT - MANTISSA_BITS - 1);
+        } else {
+            w = ulpExponent(lo) - 1;
+            if ((Double.doubleToRawLongBits(lo) & MANTISSA_MASK) == 0) {
+                // Power of 2: the interval towards zero is half the size
+                w--;
+            }
+        }
+        // Half-width in units of the last digit
+        final int k = POW10_LIMIT - exp;
+        final double width = Math.scalb(POW10_0[k], POW10_EXP[k] + w);
+        int length = count;
+        double tail = 0;
+        double unit = 1;
+        for (int i = count - 1; i > 0; i--) {
+            tail += digits[i] * unit;
+            unit *= 10;
+            if (Math.min(tail, unit - tail) > width) {
+                break;
+            }
+            length = i;
+        }
+        final byte[] candidate = new byte[MAX_DIGITS];
+        for (; length < count; length++) {
+            final int r = shorten(digits, count, exp, length, v, candidate);
+            if (r != 0) {
+                if (r > 1) {
+                    // Rounded up with carry into a new leading digit
+                    return toString(hi < 0, candidate, 1, exp + count);
+                }
+                return toString(hi < 0, candidate, length, exp + count - length);
+            }
+        }
+        return toString(hi < 0, digits, count, exp);
+    }
+
+    /**
+     * Gets the power of two exponent of the unit in the last place of the value.
+     *
+     * @param x Value.
+     * @return the exponent
+     */
+    private static int ulpExponent(double x) {
+        return Math.max(Math.getExponent(x), Double.MIN_EXPONENT) - MANTISSA_BITS;
+    }
+
+    /**
+     * Compute the number multiplied by a power of ten. The result is an expansion
+     * of non-overlapping terms in increasing order of magnitude.
+     *
+     * @param v Number (must be positive and finite).
+     * @param exp Power of ten.
+     * @param p Terms of the expansion.
+     * @return the largest term of the expansion
+     */
+    private static double scale(DD v, int exp, double[] p) {
+        // Remove the exponent of v to avoid overflow
+        final int e = Math.getExponent(v.hi());
+        final double a0 = Math.scalb(v.hi(), -e);
+        final double a1 = Math.scalb(v.lo(), -e);
+        final int k = POW10_LIMIT + exp;
+        final double b0 = POW10_0[k];
+        final double b1 = POW10_1[k];
+        // (a0, a1) * (b0, b1, b2) to O(eps^3)
+        p[0] = a1 * b1;
+        p[1] = a0 * POW10_2[k];
+        p[2] = a1 * b0;
+        p[3] = DD.twoProductLow(a1, b0, p[2]);
+        p[4] = a0 * b1;
+        p[5] = DD.twoProductLow(a0, b1, p[4]);
+        p[6] = a0 * b0;
+        p[7] = DD.twoProductLow(a0, b0, p[6]);
+        distill(p, PRODUCT_TERMS);
+        final int scale = POW10_EXP[k] + e;
+        for (int i = 0; i < PRODUCT_TERMS; i++) {
+            p[i] = Math.scalb(p[i], scale);
+        }
+        return p[PRODUCT_TERMS - 1];
+    }
+
+    /**
+     * Create a significand of the specified length from the digits and test if it
+     * evaluates to the expected number. The truncated and rounded up significands are
+     * tested in order of proximity to the digits.
+     *
+     * <p>The candidate significand is written to the output array. If rounding up generates
+     * a carry into a new leading digit (i.e. 999 to 1000) then the result indicates the
+     * significand is "1" with an additional exponent.
+     *
+     * @param digits Digits.
+     * @param count Number of digits.
+     * @param exp Exponent of the last digit.
+     * @param length Length of the candidate significand (less than count).
+     * @param expected Expected number.
+     * @param candidate Candidate significand.
+     * @return 0 if no match; 1 if a match; or 2 if a match with a carry to a new leading digit
+     */
+    private static int shorten(byte[] digits, int count, int exp, int length, DD expected,
+                               byte[] candidate) {
+        final int e = exp + count - length;
+        final boolean roundUpFirst = digits[length] >= 5;
+        for (int i = 0; i < 2; i++) {
+            System.arraycopy(digits, 0, candidate, 0, length);
+            if (roundUpFirst == (i == 0)) {
+                // Increment the last digit with carry
+                int j = length - 1;
+                while (j >= 0 && candidate[j] == 9) {
+                    candidate[j--] = 0;
+                }
+                if (j < 0) {
+                    candidate[0] = 1;
+                    if (value(candidate, 1, e + length).equals(expected)) {
+                        return 2;
+                    }
+                    continue;
+                }
+                candidate[j]++;
+            }
+            if (value(candidate, length, e).equals(expected)) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Create the string representation of the decimal number. This uses the same format as
+     * {@link Double#toString(double)}: plain notation if the value is in [1e-3, 1e7);
+     * otherwise computerized scientific notation.
+     *
+     * @param negative Set to true if the number is negative.
+     * @param digits Digits.
+     * @param count Number of digits.
+     * @param exp Exponent of the last digit.
+     * @return the string
+     */
+    private static String toString(boolean negative, byte[] digits, int count, int exp) {
+        // Remove trailing zeros
+        int n = count;
+        int e = exp;
+        while (n > 1 && digits[n - 1] == 0) {
+            n--;
+            e++;
+        }
+        // Exponent of the leading digit
+        final int exp10 = e + n - 1;
+        final StringBuilder sb = new StringBuilder(n + 8);
+        if (negative) {
+            sb.append('-');
+        }
+        if (exp10 >= PLAIN_MIN_EXP10 && exp10 <= PLAIN_MAX_EXP10) {
+            if (exp10 < 0) {
+                sb.append("0.");
+                for (int i = -1; i > exp10; i--) {
+                    sb.append('0');
+                }
+                appendDigits(sb, digits, 0, n);
+            } else {
+                // Integer part
+                final int m = Math.min(n, exp10 + 1);
+                appendDigits(sb, digits, 0, m);
+                for (int i = m; i <= exp10; i++) {
+                    sb.append('0');
+                }
+                sb.append('.');
+                if (m == n) {
+                    sb.append('0');
+                } else {
+                    appendDigits(sb, digits, m, n);
+                }
+            }
+        } else {
+            sb.append((char) ('0' + digits[0])).append('.');
+            if (n == 1) {
+                sb.append('0');
+            } else {
+                appendDigits(sb, digits, 1, n);
+            }
+            sb.append('E').append(exp10);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Append the digits to the builder.
+     *
+     * @param sb Builder.
+     * @param digits Digits.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void appendDigits(StringBuilder sb, byte[] digits, int from, int to) {
+        for (int i = from; i < to; i++) {
+            sb.append((char) ('0' + digits[i]));
+        }
+    }
+
+    /**
+     * Compute the value of the decimal number. The significand must not have leading zeros.
+     *
+     * @param digits Significand digits.
+     * @param count Number of digits (must be positive).
+     * @param exp Exponent of the last digit.
+     * @return the value
+     */
+    private static DD value(byte[] digits, int count, int exp) {
+        // Canonical representation without trailing zeros
+        int n = count;
+        int e = exp;
+        while (n > 1 && digits[n - 1] == 0) {
+            n--;
+            e++;
+        }
+        // Exponent of the leading digit
+        final long exp10 = (long) e + n - 1;
+        if (exp10 > MAX_EXP10) {
+            return DD.of(Double.POSITIVE_INFINITY);
+        }
+        if (exp10 < MIN_EXP10 - 1) {
+            return DD.ZERO;
+        }
+        // Significand = sum c_i * 10^(15i).
+        // Multiply each chunk by the triple-double power of ten 10^(e + 15i).
+        // Terms are scaled relative to the power of two of 10^e.
+        final double[] p = new double[MAX_TERMS];
+        int m = 0;
+        final int k0 = POW10_LIMIT + e;
+        final int scale = POW10_EXP[k0];
+        for (int end = n, k = k0; end > 0; end -= CHUNK_DIGITS, k += CHUNK_DIGITS) {
+            final double c = toLong(digits, Math.max(0, end - CHUNK_DIGITS), end);
+            if (c != 0) {
+                final double f = DD.twoPow(POW10_EXP[k] - scale);
+                final double b0 = POW10_0[k] * f;
+                final double b1 = POW10_1[k] * f;
+                p[m] = c * POW10_2[k] * f;
+                p[m + 1] = c * b1;
+                p[m + 2] = DD.twoProductLow(c, b1, p[m + 1]);
+                p[m + 3] = c * b0;
+                p[m + 4] = DD.twoProductLow(c, b0, p[m + 3]);
+                m += 5;
+            }
+        }
+        distill(p, m);
+        // Round the expansion to a double-double
+        double r = 0;
+        for (int i = 0; i < m - 1; i++) {
+            r += p[i];
+        }
+        final DD v = DD.fastTwoSum(p[m - 1], r).scalb(scale);
+        final double hi = v.hi();
+        if (Double.isInfinite(hi)) {
+            return DD.of(hi);
+        }
+        if (Math.abs(hi) < Double.MIN_NORMAL) {
+            // Sub-normal result only has double precision
+            return DD.of(hi + v.lo());
+        }
+        if (Math.abs(v.lo()) < Math.ulp(hi) * LOW_PART_LIMIT) {
+            // Low part below the precision of a double-double.
+            // This allows any double to be represented in decimal.
+            return DD.of(hi);
+        }
+        return v;
+    }
+
+    /**
+     * Transform the terms to a non-overlapping expansion with the same sum. The terms are
+     * ordered by increasing magnitude with the largest term in the last position. This
+     * uses repeated application of the error-free vector transformation of the sum
+     * (VecSum) until the largest term is unchanged.
+     *
+     * @param p Terms.
+     * @param n Number of terms.
+     */
+    private static void distill(double[] p, int n) {
+        for (int pass = 0; pass < n; pass++) {
+            boolean changed = false;
+            for (int i = 1; i < n; i++) {
+                final double a = p[i - 1];
+                final double b = p[i];
+                final double s = a + b;
+                changed |= s != b;
+                p[i - 1] = DD.twoSumLow(a, b, s);
+                p[i] = s;
+            }
+            if (!changed) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Convert the digits to a long.
+     *
+     * @param digits Digits.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the value
+     */
+    private static long toLong(byte[] digits, int from, int to) {
+        long v = 0;
+        for (int i = from; i < to; i++) {
+            v = v * 10 + digits[i];
+        }
+        return v;
+    }
+
+    /**
+     * Convert the significand {@code n[0] * 10^36 + n[1] * 10^18 + n[2]} to a double.
+     *
+     * @param n Significand.
+     * @return the value
+     */
+    private static double toDouble(long[] n) {
+        return (n[0] * BLOCK_D + n[1]) * BLOCK_D + n[2];
+    }
+
+    /**
+     * Add the integer value to the significand {@code n} represented using three
+     * blocks of 18 digits: {@code n[0] * 10^36 + n[1] * 10^18 + n[2]}. The lower
+     * blocks are maintained in [0, 10^18).
+     *
+     * @param n Significand.
+     * @param x Integer value (magnitude below 10^54).
+     */
+    private static void add(long[] n, double x) {
+        if (x == 0) {
+            return;
+        }
+        final double a = Math.abs(x);
+        // Convert |x| = m * 2^shift to blocks
+        final long bits = Double.doubleToRawLongBits(a);
+        final long m = (bits & MANTISSA_MASK) | IMPLICIT_BIT;
+        int shift = Math.getExponent(a) - MANTISSA_BITS;
+        long b0 = 0;
+        long b1 = 0;
+        long b2;
+        if (shift <= 0) {
+            b2 = m >>> -shift;
+        } else {
+            b2 = m;
+            while (shift > 0) {
+                final int k = Math.min(shift, MAX_BLOCK_SHIFT);
+                b2 <<= k;
+                b1 = (b1 << k) + b2 / BLOCK;
+                b2 %= BLOCK;
+                b0 = (b0 << k) + b1 / BLOCK;
+                b1 %= BLOCK;
+                shift -= k;
+            }
+        }
+        if (x < 0) {
+            b0 = -b0;
+            b1 = -b1;
+            b2 = -b2;
+        }
+        n[2] += b2;
+        n[1] += b1;
+        n[0] += b0;
+        for (int i = BLOCKS - 1; i > 0; i--) {
+            if (n[i] >= BLOCK) {
+                n[i] -= BLOCK;
+                n[i - 1]++;
+            } else if (n[i] < 0) {
+                n[i] += BLOCK;
+                n[i - 1]--;
+            }
+        }
+    }
+
+    /**
+     * Convert the significand {@code n[0] * 10^36 + n[1] * 10^18 + n[2]} to digits.
+     *
+     * @param n Significand.
+     * @param digits Digits.
+     * @return the number of digits
+     */
+    private static int toDigits(long[] n, byte[] digits) {
+        int count = 0;
+        for (int i = 0; i < BLOCKS; i++) {
+            if (count != 0) {
+                count = toDigits(n[i], digits, count, BLOCK_DIGITS);
+            } else if (n[i] != 0 || i == BLOCKS - 1) {
+                count = toDigits(n[i], digits, 0, 0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write the digits of the value. The number of digits is padded to the minimum length
+     * using leading zeros.
+     *
+     * @param value Value.
+     * @param digits Digits.
+     * @param from Start index.
+     * @param minLength Minimum number of digits.
+     * @return the index after the last digit
+     */
+    private static int toDigits(long value, byte[] digits, int from, int minLength) {
+        int length = 1;
+        for (long v = value / 10; v != 0; v /= 10) {
+            length++;
+        }
+        length = Math.max(length, minLength);
+        long v = value;
+        for (int i = from + length - 1; i >= from; i--) {
+            digits[i] = (byte) (v % 10);
+            v /= 10;
+        }
+        return from + length;
+    }
+}
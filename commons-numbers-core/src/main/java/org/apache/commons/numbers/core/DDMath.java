@@ -16,6 +16,10 @@
  */
 package org.apache.commons.numbers.core;
 
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Computes extended precision floating-point operations.
  *
@@ -30,6 +34,53 @@ public final class DDMath {
     /** The limit for safe multiplication of {@code x*y}, assuming values above 1.
      * Used to maintain positive values during the power computation. */
     private static final double SAFE_MULTIPLY = 0x1.0p500;
+    /** The relative size of the last term of a series; 2^-107. */
+    private static final double SERIES_EPS = 0x1.0p-107;
+    /** High part of ln(2). */
+    private static final double LN2_HI = 0x1.62e42fefa39efp-1;
+    /** Middle part of ln(2). */
+    private static final double LN2_LO = 0x1.abc9e3b39803fp-56;
+    /** Low part of ln(2). */
+    private static final double LN2_LO2 = 0x1.7b57a079a1934p-111;
+    /** High part of pi/2. */
+    private static final double PI_2_HI = 0x1.921fb54442d18p+0;
+    /** Middle part of pi/2. */
+    private static final double PI_2_LO = 0x1.1a62633145c07p-54;
+    /** Low part of pi/2. */
+    private static final double PI_2_LO2 = -0x1.f1976b7ed8fbcp-110;
+    /** pi/4. Used as the threshold for argument reduction in the trigonometric functions. */
+    private static final double PI_4 = 0x1.921fb54442d18p-1;
+    /** 2/pi. */
+    private static final double TWO_OVER_PI = 0x1.45f306dc9c883p-1;
+    /** Limit on the magnitude of a trigonometric argument for reduction using the
+     * 159-bit representation of pi/2. */
+    private static final double REDUCTION_LIMIT = 0x1.0p30;
+    /** Smallest size of the reduced trigonometric argument relative to the argument for
+     * reduction using the 159-bit representation of pi/2; 2^-40. */
+    private static final double REDUCTION_CANCELLATION = 0x1.0p-40;
+    /** Number of bits to convert from the exact fraction of a reduced argument. */
+    private static final int REDUCTION_BITS = 124;
+    /** The number of bits in the mantissa of a double (excluding the implicit leading bit). */
+    private static final int MANTISSA_BITS = 52;
+    /** Mask for the low 62 bits of a long. */
+    private static final long MASK_62 = (1L << 62) - 1;
+    /** sqrt(0.5). Used as the lower bound of the reduced argument for the logarithm. */
+    private static final double SQRT_HALF = 0x1.6a09e667f3bcdp-1;
+    /** The number of squaring steps used to reconstruct exp(r) from exp(r / 2^n). */
+    private static final int EXP_SQUARINGS = 4;
+    /** Threshold above which exp(x) overflows. */
+    private static final double EXP_OVERFLOW = 709.79;
+    /** Threshold below which exp(x) underflows to zero. */
+    private static final double EXP_UNDERFLOW = -745.14;
+    /** Threshold below which expm1(x) is evaluated without the use of exp(x). */
+    private static final double EXPM1_THRESHOLD = 0.5;
+    /** pi/2 as a double-double number. */
+    private static final DD PI_2 = DD.of(PI_2_HI, PI_2_LO);
+    /** Number of values below which a range of a parallel computation is computed
+     * sequentially. */
+    private static final int PARALLEL_THRESHOLD = 1 << 10;
+    /** The inverse factorials 1/n! for n in [0, 31]. */
+    private static final DD[] INV_FACTORIAL = createInverseFactorials(32);
 
     /**
      * Mutable double-double number used for working.
@@ -42,6 +93,262 @@ public final class DDMath {
         private double xx;
     }
 
+    /**
+     * Holder of the bits of 2/pi used for the exact reduction of large trigonometric arguments.
+     * The table is created on first use.
+     */
+    private static final class TwoOverPi {
+        /** Number of fraction bits in the table. */
+        private static final int BITS = 2400;
+        /** The table: {@code floor(2/pi * 2^2400)}. */
+        private static final BigInteger VALUE = new BigInteger(
+            "a2f9836e4e441529fc2757d1f534ddc0db6295993c439041fe5163abdebbc561b7246e3a" +
+            "424dd2e006492eea09d1921cfe1deb1cb129a73ee88235f52ebb4484e99c7026b45f7e41" +
+            "3991d639835339f49c845f8bbdf9283b1ff897ffde05980fef2f118b5a0a6d1f6d367ecf" +
+            "27cb09b74f463f669e5fea2d7527bac7ebe5f17b3d0739f78a5292ea6bfb5fb11f8d5d08" +
+            "56033046fc7b6babf0cfbc209af4361da9e391615ee61b086599855f14a068408dffd880" +
+            "4d73273106061556ca73a8c960e27bc08c6b47c419c367cddce8092a8359c4768b961ca6" +
+            "ddaf44d15719053ea5ff07053f7e33e832c2de4f98327dbbc33d26ef6b1e5ef89f3a1f35" +
+            "caf27f1d87f121907c7c246afa6ed5772d30433b15c614b59d19c3c2c4ad414d2c5d000c" +
+            "467d862d71e39ac69b006233", 16);
+
+        /** No instances. */
+        private TwoOverPi() {}
+    }
+
+    /**
+     * Mutable triple-double number scaled by a power of 2: {@code (x, xx, xxx) * 2^e}.
+     * This structure is used for the intermediate result of the power computation.
+     */
+    private static final class TD {
+        /** The power of 2 scale factor. */
+        private long e;
+        /** The high part of the triple-double number. */
+        private double x;
+        /** The middle part of the triple-double number. */
+        private double xx;
+        /** The low part of the triple-double number. */
+        private double xxx;
+
+        /**
+         * Create an instance.
+         *
+         * @param e Power of 2 scale factor.
+         * @param x High part.
+         * @param xx Middle part.
+         * @param xxx Low part.
+         */
+        TD(long e, double x, double xx, double xxx) {
+            this.e = e;
+            this.x = x;
+            this.xx = xx;
+            this.xxx = xxx;
+        }
+
+        /**
+         * Create a copy.
+         *
+         * @return the copy
+         */
+        TD copy() {
+            return new TD(e, x, xx, xxx);
+        }
+    }
+
+    /**
+     * The base of the power computation: a double-double number {@code (b0, b1) * 2^be}
+     * with {@code b0} in {@code [1, 2)}. The parts are stored with their split
+     * high and low parts for use in exact multiplication.
+     */
+    private static final class PowBase {
+        /** The power of 2 scale factor. */
+        private final long be;
+        /** The high part. */
+        private final double b0;
+        /** The low part. */
+        private final double b1;
+        /** The high part of the split of b0. */
+        private final double b0h;
+        /** The low part of the split of b0. */
+        private final double b0l;
+        /** The high part of the split of b1. */
+        private final double b1h;
+        /** The low part of the split of b1. */
+        private final double b1l;
+
+        /**
+         * Create an instance.
+         *
+         * @param b Integral component 2^b of x.
+         * @param x Fractional high part of x.
+         * @param xx Fractional low part of x.
+         */
+        PowBase(long b, double x, double xx) {
+            // Scale the input in [0.5, 1) to be above 1. Represented as 2^be * b.
+            be = b - 1;
+            b0 = x * 2;
+            b1 = xx * 2;
+            // Split b
+            b0h = DD.highPart(b0);
+            b0l = b0 - b0h;
+            b1h = DD.highPart(b1);
+            b1l = b1 - b1h;
+        }
+
+        /**
+         * Create the number {@code x^1}.
+         *
+         * @return x
+         */
+        TD one() {
+            return new TD(be, b0, b1, 0);
+        }
+    }
+
+    /**
+     * Cache of the intermediate results of the power computation keyed by the power.
+     * Uses open addressing with linear probing on a primitive {@code int} key to
+     * avoid boxing. Powers are non-zero; zero marks an empty slot.
+     */
+    private static final class PowCache {
+        /** Initial capacity. Must be a power of 2. */
+        private static final int INITIAL_CAPACITY = 64;
+
+        /** The powers. */
+        private int[] keys = new int[INITIAL_CAPACITY];
+        /** The results. */
+        private TD[] values = new TD[INITIAL_CAPACITY];
+        /** The number of results. */
+        private int size;
+
+        /**
+         * Gets the result for the power.
+         *
+         * @param n Power (non-zero).
+         * @return the result, or null
+         */
+        TD get(int n) {
+            final int mask = keys.length - 1;
+            for (int i = index(n, mask);; i = (i + 1) & mask) {
+                final int k = keys[i];
+                if (k == n) {
+                    return values[i];
+                }
+                if (k == 0) {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * Sets the result for the power. The power must not be present.
+         *
+         * @param n Power (non-zero).
+         * @param f Result.
+         */
+        void put(int n, TD f) {
+            if (2 * (size + 1) > keys.length) {
+                final int[] k = keys;
+                final TD[] v = values;
+                keys = new int[k.length * 2];
+                values = new TD[k.length * 2];
+                for (int i = 0; i < k.length; i++) {
+                    if (k[i] != 0) {
+                        insert(k[i], v[i]);
+                    }
+                }
+            }
+            insert(n, f);
+            size++;
+        }
+
+        /**
+         * Insert the result for the power into the first empty slot.
+         *
+         * @param n Power (non-zero).
+         * @param f Result.
+         */
+        private void insert(int n, TD f) {
+            final int mask = keys.length - 1;
+            int i = index(n, mask);
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = n;
+            values[i] = f;
+        }
+
+        /**
+         * Gets the initial slot for the power.
+         *
+         * @param n Power.
+         * @param mask Mask for the table size.
+         * @return the index
+         */
+        private static int index(int n, int mask) {
+            // Fibonacci hashing spreads consecutive powers
+            final int h = n * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+
+    /**
+     * Computation on a range of an array.
+     */
+    @FunctionalInterface
+    private interface RangeAction {
+        /**
+         * Compute the range {@code [from, to)}.
+         *
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Task to compute a range of an array.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Action. */
+        private final transient RangeAction action;
+        /** Index of the first element (inclusive). */
+        private final int from;
+        /** Index of the last element (exclusive). */
+        private final int to;
+        /** Number of values below which the range is computed sequentially. */
+        private final int threshold;
+
+        /**
+         * @param action Action.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param threshold Number of values below which the range is computed sequentially.
+         */
+        RangeTask(RangeAction action, int from, int to, int threshold) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.apply(from, to);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            final RangeTask right = new RangeTask(action, mid, to, threshold);
+            right.fork();
+            new RangeTask(action, from, mid, threshold).compute();
+            right.join();
+        }
+    }
+
     /** No instances. */
     private DDMath() {}
 
@@ -110,6 +417,907 @@ public final class DDMath {
         return computePowScaled(b, f.hi(), f.lo(), n, exp);
     }
 
+    /**
+     * Compute the numbers {@code x[i]} raised to the power {@code n}.
+     *
+     * <p>The values are returned as fractional {@code f} and integral
+     * {@code 2^exp} components. The result is identical to calling
+     * {@link #pow(DD, int, long[])} for each number.
+     *
+     * @param x Numbers.
+     * @param n Power.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @return Fraction parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see #pow(DD, int, long[])
+     */
+    public static DD[] pow(DD[] x, int n, long[] exp) {
+        checkDimension(x.length, exp.length);
+        final DD[] y = new DD[x.length];
+        powRange(x, n, exp, y, 0, x.length);
+        return y;
+    }
+
+    /**
+     * Compute the number {@code x} raised to the powers {@code n[i]}.
+     *
+     * <p>The values are returned as fractional {@code f} and integral
+     * {@code 2^exp} components. The result is identical to calling
+     * {@link #pow(DD, int, long[])} for each power.
+     *
+     * <p>The powers are computed using the left-to-right binary method where
+     * the result for {@code n} is computed from the result for {@code n / 2}.
+     * The intermediate results are shared between the powers. This is efficient
+     * when the powers share the same leading bits, for example a range of
+     * consecutive powers.
+     *
+     * @param x Number.
+     * @param n Powers.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @return Fraction parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see #pow(DD, int, long[])
+     */
+    public static DD[] pow(DD x, int[] n, long[] exp) {
+        checkDimension(n.length, exp.length);
+        final DD[] y = new DD[n.length];
+        powRange(x, n, exp, y, 0, n.length);
+        return y;
+    }
+
+    /**
+     * Compute the numbers {@code x[i]} raised to the power {@code n} using
+     * parallel computation in the {@link java.util.concurrent.ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * <p>The result is identical to {@link #pow(DD[], int, long[])}.
+     *
+     * @param x Numbers.
+     * @param n Power.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @return Fraction parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see #pow(DD[], int, long[])
+     */
+    public static DD[] parallelPow(DD[] x, int n, long[] exp) {
+        return parallelPow(x, n, exp, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Compute the numbers {@code x[i]} raised to the power {@code n} using
+     * parallel computation in the specified pool. Ranges containing fewer than
+     * {@code threshold} values are not split.
+     *
+     * <p>The result is identical to {@link #pow(DD[], int, long[])}.
+     *
+     * @param x Numbers.
+     * @param n Power.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @param pool Pool used to execute the computation.
+     * @param threshold Number of values below which a range is computed sequentially.
+     * @return Fraction parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length;
+     * or {@code threshold < 1}.
+     * @see #pow(DD[], int, long[])
+     * @since 1.2
+     */
+    public static DD[] parallelPow(DD[] x, int n, long[] exp, ForkJoinPool pool, int threshold) {
+        checkDimension(x.length, exp.length);
+        final DD[] y = new DD[x.length];
+        parallelApply((from, to) -> powRange(x, n, exp, y, from, to), x.length, pool, threshold);
+        return y;
+    }
+
+    /**
+     * Compute the number {@code x} raised to the powers {@code n[i]} using
+     * parallel computation in the {@link java.util.concurrent.ForkJoinPool#commonPool()
+     * common pool}.
+     *
+     * <p>The result is identical to {@link #pow(DD, int[], long[])}. Intermediate
+     * results are shared between powers within the same range.
+     *
+     * @param x Number.
+     * @param n Powers.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @return Fraction parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see #pow(DD, int[], long[])
+     */
+    public static DD[] parallelPow(DD x, int[] n, long[] exp) {
+        return parallelPow(x, n, exp, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Compute the number {@code x} raised to the powers {@code n[i]} using
+     * parallel computation in the specified pool. Ranges containing fewer than
+     * {@code threshold} values are not split.
+     *
+     * <p>The result is identical to {@link #pow(DD, int[], long[])}. Intermediate
+     * results are shared between powers within the same range.
+     *
+     * @param x Number.
+     * @param n Powers.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @param pool Pool used to execute the computation.
+     * @param threshold Number of values below which a range is computed sequentially.
+     * @return Fraction parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length;
+     * or {@code threshold < 1}.
+     * @see #pow(DD, int[], long[])
+     * @since 1.2
+     */
+    public static DD[] parallelPow(DD x, int[] n, long[] exp, ForkJoinPool pool, int threshold) {
+        checkDimension(n.length, exp.length);
+        final DD[] y = new DD[n.length];
+        parallelApply((from, to) -> powRange(x, n, exp, y, from, to), n.length, pool, threshold);
+        return y;
+    }
+
+    /**
+     * Compute the dot product of the two arrays.
+     * <pre>
+     * sum_i a[i] * b[i]
+     * </pre>
+     *
+     * <p>Each product is computed exactly and added to a double-double sum. This
+     * computes the same result as accumulating {@link DD#ofProduct(double, double)}
+     * using {@link DD#add(DD)} without creating intermediate objects. An empty
+     * array returns zero.
+     *
+     * @param a First array.
+     * @param b Second array.
+     * @return the dot product
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static DD dot(double[] a, double[] b) {
+        checkDimension(a.length, b.length);
+        return dot(a, 0, b, b.length);
+    }
+
+    /**
+     * Evaluate the polynomial using Horner's method.
+     * The coefficients are used in descending order, for example a polynomial of order
+     * 3 requires 4 coefficients:
+     * <pre>
+     * f(x) = c[3] * x^3 + c[2] * x^2 + c[1] * x + c[0]
+     * </pre>
+     *
+     * <p>This computes the same result as the evaluation using
+     * {@link DD#multiply(double)} and {@link DD#add(double)} without creating
+     * intermediate objects. An empty array returns zero.
+     *
+     * @param c Polynomial coefficients.
+     * @param x Argument x.
+     * @return polynomial value
+     */
+    public static DD evaluatePolynomial(double[] c, double x) {
+        int i = c.length - 1;
+        if (i < 0) {
+            return DD.ZERO;
+        }
+        double s = c[i];
+        double ss = 0;
+        while (--i >= 0) {
+            // (s, ss) * x
+            double hi = s * x;
+            double lo = DD.twoProductLow(s, x, hi);
+            lo += ss * x;
+            s = hi + lo;
+            ss = DD.fastTwoSumLow(hi, lo, s);
+            // (s, ss) + c
+            hi = s + c[i];
+            lo = DD.twoSumLow(s, c[i], hi) + ss;
+            s = hi + lo;
+            ss = DD.fastTwoSumLow(hi, lo, s);
+        }
+        return DD.of(s, ss);
+    }
+
+    /**
+     * Evaluate the polynomial using Horner's method.
+     * The coefficients are used in descending order, for example a polynomial of order
+     * 3 requires 4 coefficients:
+     * <pre>
+     * f(x) = c[3] * x^3 + c[2] * x^2 + c[1] * x + c[0]
+     * </pre>
+     *
+     * <p>This computes the same result as the evaluation using
+     * {@link DD#multiply(DD)} and {@link DD#add(double)} without creating
+     * intermediate objects. An empty array returns zero.
+     *
+     * @param c Polynomial coefficients.
+     * @param x Argument x.
+     * @return polynomial value
+     */
+    public static DD evaluatePolynomial(double[] c, DD x) {
+        int i = c.length - 1;
+        if (i < 0) {
+            return DD.ZERO;
+        }
+        final double y = x.hi();
+        final double yy = x.lo();
+        double s = c[i];
+        double ss = 0;
+        while (--i >= 0) {
+            // (s, ss) * (y, yy)
+            double hi = s * y;
+            double lo = DD.twoProductLow(s, y, hi);
+            lo += s * yy + ss * y;
+            s = hi + lo;
+            ss = DD.fastTwoSumLow(hi, lo, s);
+            // (s, ss) + c
+            hi = s + c[i];
+            lo = DD.twoSumLow(s, c[i], hi) + ss;
+            s = hi + lo;
+            ss = DD.fastTwoSumLow(hi, lo, s);
+        }
+        return DD.of(s, ss);
+    }
+
+    /**
+     * Compute the product of the matrix {@code a} and the column vector {@code x}.
+     * The matrix is stored in row-major order, i.e. row {@code i} is stored
+     * in {@code a[i * x.length]} to {@code a[(i + 1) * x.length - 1]}.
+     *
+     * <p>Each element of the result is the {@link #dot(double[], double[]) dot product}
+     * of a row of the matrix and the vector.
+     *
+     * @param a Matrix (row-major).
+     * @param rows Number of rows in the matrix.
+     * @param x Vector.
+     * @return the product vector (length {@code rows})
+     * @throws IllegalArgumentException if the number of rows is negative, or the
+     * matrix length is not {@code rows * x.length}.
+     */
+    public static DD[] matrixVectorProduct(double[] a, int rows, double[] x) {
+        final int cols = x.length;
+        if (rows < 0) {
+            throw new IllegalArgumentException("Negative rows: " + rows);
+        }
+        checkDimension(a.length, (long) rows * cols);
+        final DD[] y = new DD[rows];
+        for (int i = 0; i < rows; i++) {
+            y[i] = dot(a, i * cols, x, cols);
+        }
+        return y;
+    }
+
+    /**
+     * Returns Euler's number <i>e</i> raised to the power of {@code x}.
+     *
+     * <p>The argument is reduced to {@code r = x - k ln(2)} with {@code |r| <= ln(2)/2};
+     * {@code exp(r)} is evaluated using a Taylor series of {@code r / 2^4} which is then
+     * squared 4 times; and the result is scaled by {@code 2^k}.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN, then the result is NaN.
+     *  <li>If the argument is positive infinity or the result overflows, then the
+     *      result is positive infinity.
+     *  <li>If the argument is negative infinity or the result underflows, then the
+     *      result is positive zero.
+     * </ul>
+     *
+     * <p>The computed result is within 4 eps of the exact result where eps is 2<sup>-106</sup>.
+     * Precision is lost if the result is sub-normal.
+     *
+     * @param x Number.
+     * @return e<sup>x</sup>
+     * @see Math#exp(double)
+     */
+    public static DD exp(DD x) {
+        final double hi = x.hi();
+        if (hi > EXP_OVERFLOW || hi < EXP_UNDERFLOW || Double.isNaN(hi)) {
+            return DD.of(Math.exp(hi));
+        }
+        // Reduce: r = x - k ln(2)
+        final double k = Math.rint(hi / LN2_HI);
+        final MutableDD r = reduce(x, k, LN2_HI, LN2_LO, LN2_LO2);
+        // exp(x) = (1 + expm1(r)) * 2^k
+        return expm1(r).add(1).toDD().scalb((int) k);
+    }
+
+    /**
+     * Returns <i>e</i><sup>x</sup>-1.
+     *
+     * <p>This is accurate for {@code x} near zero where the result is close to zero.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN, then the result is NaN.
+     *  <li>If the argument is positive infinity, then the result is positive infinity.
+     *  <li>If the argument is negative infinity, then the result is -1.0.
+     *  <li>If the argument is zero, then the result is a zero with the same sign as the argument.
+     * </ul>
+     *
+     * <p>The computed result is within 8 eps of the exact result where eps is 2<sup>-106</sup>.
+     *
+     * @param x Number.
+     * @return e<sup>x</sup>-1
+     * @see Math#expm1(double)
+     */
+    public static DD expm1(DD x) {
+        final double hi = x.hi();
+        if (Math.abs(hi) < EXPM1_THRESHOLD) {
+            if (hi == 0) {
+                return x;
+            }
+            return expm1(MutableDD.of(x)).toDD();
+        }
+        if (hi > EXP_OVERFLOW || Double.isNaN(hi)) {
+            return DD.of(Math.expm1(hi));
+        }
+        // No significant cancellation: exp(x) - 1
+        return exp(x).subtract(1);
+    }
+
+    /**
+     * Returns the natural logarithm (base <i>e</i>) of {@code x}.
+     *
+     * <p>The argument is reduced to {@code x = f 2^k} with {@code sqrt(1/2) <= f < sqrt(2)}.
+     * The result {@code log(f)} is computed using a Newton iteration of
+     * {@link #expm1(DD) expm1} from the {@code double} precision estimate
+     * {@link Math#log1p(double) log1p(f - 1)}.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN or less than zero, then the result is NaN.
+     *  <li>If the argument is positive infinity, then the result is positive infinity.
+     *  <li>If the argument is zero, then the result is negative infinity.
+     * </ul>
+     *
+     * <p>The computed result is within 8 eps of the exact result where eps is 2<sup>-106</sup>.
+     *
+     * @param x Number.
+     * @return log(x)
+     * @see Math#log(double)
+     */
+    public static DD log(DD x) {
+        final double hi = x.hi();
+        if (!(hi > 0) || hi == Double.POSITIVE_INFINITY) {
+            return DD.of(Math.log(hi));
+        }
+        // x = f * 2^k : sqrt(1/2) <= f < sqrt(2)
+        final int[] e = {0};
+        DD f = x.frexp(e);
+        int k = e[0];
+        if (f.hi() < SQRT_HALF) {
+            f = f.scalb(1);
+            k--;
+        }
+        // log(x) = log1p(f - 1) + k ln(2)
+        final DD y = log1pNewton(f.subtract(1));
+        if (k == 0) {
+            return y;
+        }
+        return MutableDD.of(y).addProduct(k, LN2_HI).addProduct(k, LN2_LO).toDD();
+    }
+
+    /**
+     * Returns the natural logarithm of the sum of the argument and 1.
+     *
+     * <p>This is accurate for {@code x} near zero where the result is close to zero.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN or less than -1, then the result is NaN.
+     *  <li>If the argument is positive infinity, then the result is positive infinity.
+     *  <li>If the argument is -1, then the result is negative infinity.
+     *  <li>If the argument is zero, then the result is a zero with the same sign as the argument.
+     * </ul>
+     *
+     * <p>The computed result is within 8 eps of the exact result where eps is 2<sup>-106</sup>.
+     *
+     * @param x Number.
+     * @return log(1 + x)
+     * @see Math#log1p(double)
+     */
+    public static DD log1p(DD x) {
+        final double hi = x.hi();
+        // Use log1p directly for sqrt(1/2) <= 1 + x < 1 + sqrt(1/2)
+        if (hi >= SQRT_HALF - 1 && hi < SQRT_HALF) {
+            return log1pNewton(x);
+        }
+        if (hi == Double.POSITIVE_INFINITY) {
+            return x;
+        }
+        // Handles NaN, x < -1 and x == -1
+        return log(x.add(1));
+    }
+
+    /**
+     * Returns the trigonometric sine of an angle {@code x} in radians.
+     *
+     * <p>The argument is reduced to {@code r = x - k pi/2} with {@code |r| <= pi/4}
+     * using a 159-bit representation of {@code pi/2}. Large arguments, and arguments
+     * close to a multiple of {@code pi/2}, are reduced exactly using a 2400-bit
+     * representation of {@code 2/pi}. The sine or cosine of {@code r}
+     * is computed using a Taylor series.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN or infinite, then the result is NaN.
+     *  <li>If the argument is zero, then the result is a zero with the same sign as the argument.
+     * </ul>
+     *
+     * <p>The computed result is within 8 eps of the exact result where eps is 2<sup>-106</sup>.
+     *
+     * @param x Angle (in radians).
+     * @return sin(x)
+     * @see Math#sin(double)
+     */
+    public static DD sin(DD x) {
+        final double hi = x.hi();
+        if (Math.abs(hi) <= PI_4) {
+            return sinSeries(MutableDD.of(x));
+        }
+        if (!Double.isFinite(hi)) {
+            return DD.of(Double.NaN);
+        }
+        final int[] quadrant = {0};
+        final MutableDD r = reducePi2(x, quadrant);
+        switch (quadrant[0]) {
+        case 0:
+            return sinSeries(r);
+        case 1:
+            return cosSeries(r);
+        case 2:
+            return sinSeries(r).negate();
+        default:
+            return cosSeries(r).negate();
+        }
+    }
+
+    /**
+     * Returns the trigonometric cosine of an angle {@code x} in radians.
+     *
+     * <p>The argument is reduced to {@code r = x - k pi/2} with {@code |r| <= pi/4}
+     * using a 159-bit representation of {@code pi/2}. Large arguments, and arguments
+     * close to a multiple of {@code pi/2}, are reduced exactly using a 2400-bit
+     * representation of {@code 2/pi}. The sine or cosine of {@code r}
+     * is computed using a Taylor series.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN or infinite, then the result is NaN.
+     * </ul>
+     *
+     * <p>The computed result is within 8 eps of the exact result where eps is 2<sup>-106</sup>.
+     *
+     * @param x Angle (in radians).
+     * @return cos(x)
+     * @see Math#cos(double)
+     */
+    public static DD cos(DD x) {
+        final double hi = x.hi();
+        if (Math.abs(hi) <= PI_4) {
+            return cosSeries(MutableDD.of(x));
+        }
+        if (!Double.isFinite(hi)) {
+            return DD.of(Double.NaN);
+        }
+        final int[] quadrant = {0};
+        final MutableDD r = reducePi2(x, quadrant);
+        switch (quadrant[0]) {
+        case 0:
+            return cosSeries(r);
+        case 1:
+            return sinSeries(r).negate();
+        case 2:
+            return cosSeries(r).negate();
+        default:
+            return sinSeries(r);
+        }
+    }
+
+    /**
+     * Returns the arc tangent of {@code x}; the returned angle is in the
+     * range {@code [-pi/2, pi/2]}.
+     *
+     * <p>The result is computed using a Newton iteration of {@code tan(z) - x} from
+     * the {@code double} precision estimate {@link Math#atan(double) atan(x)}.
+     * Arguments with magnitude above 1 use the identity
+     * {@code atan(x) = sign(x) pi/2 - atan(1/x)}.
+     *
+     * <p>Special cases:
+     * <ul>
+     *  <li>If the argument is NaN, then the result is NaN.
+     *  <li>If the argument is infinite, then the result is {@code pi/2} with the same sign
+     *      as the argument.
+     *  <li>If the argument is zero, then the result is a zero with the same sign as the argument.
+     * </ul>
+     *
+     * <p>The computed result is within 6 eps of the exact result where eps is 2<sup>-106</sup>.
+     *
+     * @param x Number.
+     * @return atan(x)
+     * @see Math#atan(double)
+     */
+    public static DD atan(DD x) {
+        final double hi = x.hi();
+        if (Math.abs(hi) <= 1) {
+            return atanNewton(x);
+        }
+        if (Double.isNaN(hi)) {
+            return x;
+        }
+        final DD z = PI_2.subtract(hi == Double.POSITIVE_INFINITY || hi == Double.NEGATIVE_INFINITY ?
+            DD.ZERO :
+            atanNewton(x.abs().reciprocal()));
+        return hi < 0 ? z.negate() : z;
+    }
+
+    /**
+     * Compute the dot product of {@code n} elements of {@code a} starting from
+     * {@code offset} and the first {@code n} elements of {@code b}.
+     *
+     * @param a First array.
+     * @param offset Offset into the first array.
+     * @param b Second array.
+     * @param n Number of elements.
+     * @return the dot product
+     */
+    private static DD dot(double[] a, int offset, double[] b, int n) {
+        double s = 0;
+        double ss = 0;
+        for (int i = 0; i < n; i++) {
+            final double x = a[offset + i];
+            final double y = b[i];
+            // Exact product (p, pp)
+            final double p = x * y;
+            final double pp = DD.twoProductLow(x, y, p);
+            // (s, ss) + (p, pp)
+            final double s0 = s + p;
+            final double s1 = DD.twoSumLow(s, p, s0);
+            final double t0 = ss + pp;
+            final double t1 = DD.twoSumLow(ss, pp, t0);
+            double u = s1 + t0;
+            final double z = s0 + u;
+            u = DD.fastTwoSumLow(s0, u, z) + t1;
+            s = z + u;
+            ss = DD.fastTwoSumLow(z, u, s);
+        }
+        return DD.of(s, ss);
+    }
+
+    /**
+     * Reduce the argument {@code x} by {@code k} multiples of the constant {@code c}.
+     * The constant is represented by the unevaluated sum of three parts.
+     * <pre>
+     * r = x - k * (c0 + c1 + c2)
+     * </pre>
+     *
+     * @param x Argument.
+     * @param k Multiple.
+     * @param c0 High part of the constant.
+     * @param c1 Middle part of the constant.
+     * @param c2 Low part of the constant.
+     * @return the reduced argument
+     */
+    private static MutableDD reduce(DD x, double k, double c0, double c1, double c2) {
+        // The products k * c0 and k * c1 are exact. Each subtraction of a
+        // double-double is accurate relative to the result.
+        return MutableDD.of(x).addProduct(-k, c0).addProduct(-k, c1).add(-k * c2);
+    }
+
+    /**
+     * Reduce the finite argument {@code x} to {@code r = x - k pi/2} with {@code |r| <= pi/4}.
+     *
+     * <p>Arguments below 2<sup>30</sup> are reduced using a 159-bit representation of pi/2.
+     * The absolute error of this reduction is approximately {@code |x| 2^-160}. If the
+     * result has cancelled to below {@code |x| 2^-40}, or the argument is larger, the
+     * reduction is performed exactly.
+     *
+     * @param x Argument.
+     * @param quadrant Quadrant {@code k mod 4} in [0, 3] (output).
+     * @return the reduced argument
+     */
+    private static MutableDD reducePi2(DD x, int[] quadrant) {
+        final double hi = x.hi();
+        if (Math.abs(hi) < REDUCTION_LIMIT) {
+            final double k = Math.rint(hi * TWO_OVER_PI);
+            final MutableDD r = reduce(x, k, PI_2_HI, PI_2_LO, PI_2_LO2);
+            if (Math.abs(r.hi()) >= Math.abs(hi) * REDUCTION_CANCELLATION) {
+                // k is an integer below 2^30; the low bits of the int are k mod 4
+                quadrant[0] = (int) k & 0x3;
+                return r;
+            }
+        }
+        return reduceExact(x, quadrant);
+    }
+
+    /**
+     * Reduce the finite argument {@code x} to {@code r = x - k pi/2} with {@code |r| <= pi/4}
+     * using the exact product of the argument with a 2400-bit representation of 2/pi.
+     *
+     * <p>The truncation error of the table is below {@code |x| 2^-2400}. This allows
+     * for over 1200 bits of cancellation in {@code x 2/pi - k} for the largest finite
+     * arguments before the accuracy of the reduced argument is affected.
+     *
+     * @param x Argument.
+     * @param quadrant Quadrant {@code k mod 4} in [0, 3] (output).
+     * @return the reduced argument
+     */
+    private static MutableDD reduceExact(DD x, int[] quadrant) {
+        // Exact representation: x = m * 2^e
+        final double hi = x.hi();
+        final double lo = x.lo();
+        final int e = lo == 0 ? ulpExponent(hi) : Math.min(ulpExponent(hi), ulpExponent(lo));
+        final BigInteger m = significand(hi, e).add(significand(lo, e));
+        // x * 2/pi = p * 2^-s (s is positive as e <= 971)
+        final BigInteger p = m.multiply(TwoOverPi.VALUE);
+        final int s = TwoOverPi.BITS - e;
+        // Round to the nearest integer k; the fraction f = p - k * 2^s is in [-2^(s-1), 2^(s-1)].
+        // Note: The low bits of the two's complement int value are k mod 4.
+        final BigInteger k = p.add(BigInteger.ONE.shiftLeft(s - 1)).shiftRight(s);
+        quadrant[0] = k.intValue() & 0x3;
+        BigInteger f = p.subtract(k.shiftLeft(s));
+        // Convert the leading bits of the fraction to a double-double: (f1 * 2^62 + f0) * 2^shift
+        final int shift = Math.max(0, f.bitLength() - REDUCTION_BITS);
+        f = f.shiftRight(shift);
+        final DD f1 = DD.of(f.shiftRight(62).longValue());
+        final DD f0 = DD.of(f.longValue() & MASK_62);
+        return MutableDD.of(f1.scalb(62).add(f0).multiply(PI_2).scalb(shift - s));
+    }
+
+    /**
+     * Gets the exponent of the unit in the last place of the finite value {@code x}.
+     *
+     * @param x Value.
+     * @return the exponent of ulp(x)
+     */
+    private static int ulpExponent(double x) {
+        // Sub-normal numbers use the minimum exponent
+        return Math.max(Math.getExponent(x), Double.MIN_EXPONENT) - MANTISSA_BITS;
+    }
+
+    /**
+     * Gets the finite value {@code x} as an integer multiple of {@code 2^e}.
+     * The exponent must be no larger than that of the unit in the last place of {@code x}.
+     *
+     * @param x Value.
+     * @param e Power of 2 scale factor.
+     * @return the integer {@code x * 2^-e}
+     */
+    private static BigInteger significand(double x, int e) {
+        final int ex = ulpExponent(x);
+        return BigInteger.valueOf((long) Math.scalb(x, -ex)).shiftLeft(ex - e);
+    }
+
+    /**
+     * Compute {@code exp(r) - 1} for a small argument {@code |r| < 0.5}.
+     * The argument is modified in place and returned.
+     *
+     * @param r Argument.
+     * @return exp(r) - 1
+     */
+    private static MutableDD expm1(MutableDD r) {
+        // Scale r to s = r / 2^n and compute expm1(s) using the Taylor series:
+        // s + s^2/2! + s^3/3! + ...
+        final MutableDD s = r.multiply(1.0 / (1 << EXP_SQUARINGS));
+        final double shi = s.hi();
+        final MutableDD t = MutableDD.create().set(s);
+        final MutableDD term = MutableDD.create();
+        final MutableDD sum = MutableDD.create().set(s);
+        for (int n = 2; n < INV_FACTORIAL.length; n++) {
+            t.multiply(s);
+            term.set(t).multiply(INV_FACTORIAL[n]);
+            sum.add(term);
+            if (Math.abs(term.hi()) <= Math.abs(shi) * SERIES_EPS) {
+                break;
+            }
+        }
+        // Square: (1 + p)^2 - 1 = p * (p + 2)
+        for (int i = 0; i < EXP_SQUARINGS; i++) {
+            t.set(sum).add(2);
+            sum.multiply(t);
+        }
+        return r.set(sum);
+    }
+
+    /**
+     * Compute {@code log(1 + u)} for a small argument {@code |u| < 0.5}.
+     *
+     * <p>Uses a single Newton iteration for the root of {@code expm1(y) - u} from
+     * the initial estimate {@code y = log1p(u)}:
+     * <pre>
+     * y1 = y - (expm1(y) - u) / (expm1(y) + 1)
+     * </pre>
+     *
+     * @param u Argument.
+     * @return log(1 + u)
+     */
+    private static DD log1pNewton(DD u) {
+        final double y = Math.log1p(u.hi());
+        if (y == 0) {
+            // u == +/-0
+            return u;
+        }
+        final DD e = expm1(MutableDD.of(y)).toDD();
+        return DD.of(y).subtract(e.subtract(u).divide(e.add(1)));
+    }
+
+    /**
+     * Compute {@code atan(x)} for an argument {@code |x| <= 1}.
+     *
+     * <p>Uses a single Newton iteration for the root of {@code tan(z) - x} from
+     * the initial estimate {@code z = atan(x)}:
+     * <pre>
+     * z1 = z + cos(z) * (x * cos(z) - sin(z))
+     * </pre>
+     *
+     * @param x Argument.
+     * @return atan(x)
+     */
+    private static DD atanNewton(DD x) {
+        final double z = Math.atan(x.hi());
+        if (z == 0) {
+            // x == +/-0
+            return x;
+        }
+        final DD s = sinSeries(MutableDD.of(z));
+        final DD c = cosSeries(MutableDD.of(z));
+        return MutableDD.of(x).multiply(c).subtract(s).multiply(c).add(z).toDD();
+    }
+
+    /**
+     * Compute {@code sin(x)} using the Taylor series for an argument {@code |x| <= pi/4}.
+     * <pre>
+     * x - x^3/3! + x^5/5! - ...
+     * </pre>
+     *
+     * @param x Argument.
+     * @return sin(x)
+     */
+    private static DD sinSeries(MutableDD x) {
+        final double hi = x.hi();
+        if (hi == 0) {
+            return x.toDD();
+        }
+        final MutableDD x2 = MutableDD.create().set(x).square().negate();
+        final MutableDD t = MutableDD.create().set(x);
+        final MutableDD term = MutableDD.create();
+        for (int n = 3; n < INV_FACTORIAL.length; n += 2) {
+            t.multiply(x2);
+            term.set(t).multiply(INV_FACTORIAL[n]);
+            x.add(term);
+            if (Math.abs(term.hi()) <= Math.abs(hi) * SERIES_EPS) {
+                break;
+            }
+        }
+        return x.toDD();
+    }
+
+    /**
+     * Compute {@code cos(x)} using the Taylor series for an argument {@code |x| <= pi/4}.
+     * <pre>
+     * 1 - x^2/2! + x^4/4! - ...
+     * </pre>
+     *
+     * @param x Argument.
+     * @return cos(x)
+     */
+    private static DD cosSeries(MutableDD x) {
+        final MutableDD x2 = x.square().negate();
+        final MutableDD t = MutableDD.create().set(1);
+        final MutableDD term = MutableDD.create();
+        final MutableDD sum = MutableDD.create().set(1);
+        for (int n = 2; n < INV_FACTORIAL.length; n += 2) {
+            t.multiply(x2);
+            term.set(t).multiply(INV_FACTORIAL[n]);
+            sum.add(term);
+            if (Math.abs(term.hi()) <= SERIES_EPS) {
+                break;
+            }
+        }
+        return sum.toDD();
+    }
+
+    /**
+     * Creates the inverse factorials {@code 1/n!}.
+     *
+     * @param n Number of values.
+     * @return the inverse factorials
+     */
+    private static DD[] createInverseFactorials(int n) {
+        final DD[] f = new DD[n];
+        f[0] = DD.ONE;
+        for (int i = 1; i < n; i++) {
+            f[i] = f[i - 1].divide(i);
+        }
+        return f;
+    }
+
+    /**
+     * Compute the numbers {@code x[i]} raised to the power {@code n} for
+     * {@code i} in {@code [from, to)}.
+     *
+     * @param x Numbers.
+     * @param n Power.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @param y Result fraction parts.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void powRange(DD[] x, int n, long[] exp, DD[] y, int from, int to) {
+        final long[] e = {0};
+        for (int i = from; i < to; i++) {
+            y[i] = pow(x[i], n, e);
+            exp[i] = e[0];
+        }
+    }
+
+    /**
+     * Compute the number {@code x} raised to the powers {@code n[i]} for
+     * {@code i} in {@code [from, to)}.
+     *
+     * @param x Number.
+     * @param n Powers.
+     * @param exp Result power of two scale factors (integral exponents).
+     * @param y Result fraction parts.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     */
+    private static void powRange(DD x, int[] n, long[] exp, DD[] y, int from, int to) {
+        final long[] e = {0};
+        final int[] ie = {0};
+        final DD f = x.frexp(ie);
+        // Edge cases as per pow(DD, int, long[]): non-finite, zero or exact power of 2
+        if (!Double.isFinite(x.hi()) || x.hi() == 0 || Math.abs(f.hi()) == HALF && f.lo() == 0) {
+            for (int i = from; i < to; i++) {
+                y[i] = pow(x, n[i], e);
+                exp[i] = e[0];
+            }
+            return;
+        }
+        final PowBase base = new PowBase(ie[0], f.hi(), f.lo());
+        final PowCache cache = new PowCache();
+        final MDD m = new MDD();
+        for (int i = from; i < to; i++) {
+            final int ni = n[i];
+            if (ni == 0) {
+                y[i] = pow(x, 0, e);
+            } else {
+                y[i] = powResult(computePow(base, Math.abs(ni), cache, m), ni, e);
+            }
+            exp[i] = e[0];
+        }
+    }
+
+    /**
+     * Apply the action to the range {@code [0, length)} using parallel computation
+     * in the specified pool.
+     *
+     * @param action Action.
+     * @param length Length.
+     * @param pool Pool used to execute the computation.
+     * @param threshold Number of values below which a range is computed sequentially.
+     * @throws IllegalArgumentException if {@code threshold < 1}.
+     */
+    private static void parallelApply(RangeAction action, int length, ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be strictly positive: " + threshold);
+        }
+        if (length <= threshold) {
+            action.apply(0, length);
+        } else {
+            pool.invoke(new RangeTask(action, 0, length, threshold));
+        }
+    }
+
+    /**
+     * Check the dimensions are equal.
+     *
+     * @param a First dimension.
+     * @param b Second dimension.
+     * @throws IllegalArgumentException if the dimensions are not equal.
+     */
+    private static void checkDimension(long a, long b) {
+        if (a != b) {
+            throw new IllegalArgumentException("Dimension mismatch: " + a + " != " + b);
+        }
+    }
+
     /**
      * Compute the number {@code x} (non-zero finite) raised to the power {@code n}.
      *
@@ -126,7 +1334,63 @@ public final class DDMath {
      */
     private static DD computePowScaled(long b, double x, double xx, int n, long[] exp) {
         // Same as DD.computePowScaled using a triple-double intermediate.
+        final PowBase base = new PowBase(b, x, xx);
+        // Initialise the result as x^1.
+        final TD f = base.one();
+
+        // Shift the highest set bit off the top.
+        // Any remaining bits are detected in the sign bit.
+        final int an = Math.abs(n);
+        final int shift = Integer.numberOfLeadingZeros(an) + 1;
+        int bits = an << shift;
+        final MDD m = new MDD();
+
+        // Process remaining bits below highest set bit.
+        for (int i = 32 - shift; i != 0; i--, bits <<= 1) {
+            square(f, m);
+            if (bits < 0) {
+                multiply(f, base, m);
+            }
+        }
+        return powResult(f, n, exp);
+    }
+
+    /**
+     * Compute the number {@code x} (non-zero finite) raised to the power {@code |n|}
+     * using the left-to-right binary method. The result for {@code |n|} is computed from
+     * the result for {@code |n| / 2}; results are shared using the {@code cache} and
+     * are identical to those computed by
+     * {@link #computePowScaled(long, double, double, int, long[])}.
+     *
+     * @param base Base x.
+     * @param n Power (as an unsigned integer, non-zero).
+     * @param cache Cache of results.
+     * @param m Working space.
+     * @return x^|n|
+     */
+    private static TD computePow(PowBase base, int n, PowCache cache, MDD m) {
+        if (n == 1) {
+            return base.one();
+        }
+        TD f = cache.get(n);
+        if (f == null) {
+            f = computePow(base, n >>> 1, cache, m).copy();
+            square(f, m);
+            if ((n & 1) != 0) {
+                multiply(f, base, m);
+            }
+            cache.put(n, f);
+        }
+        return f;
+    }
 
+    /**
+     * Square the triple-double number {@code f} in-place.
+     *
+     * @param f Number.
+     * @param m Working space.
+     */
+    private static void square(TD f, MDD m) {
         // triple-double multiplication:
         // (a0, a1, a2) * (b0, b1, b2)
         // a x b ~ a0b0                 O(1) term
@@ -156,144 +1420,140 @@ public final class DDMath {
         // Sum (2 * p02, 2 * q01, p11, r2) -> (s2, r3b)    Order(eps^2)
         // Sum (2 * p12, 2 * q02, q11, r3b) -> s3          Order(eps^3)
 
-        // Scale the input in [0.5, 1) to be above 1. Represented as 2^be * b.
-        final long be = b - 1;
-        final double b0 = x * 2;
-        final double b1 = xx * 2;
-        // Split b
-        final double b0h = DD.highPart(b0);
-        final double b0l = b0 - b0h;
-        final double b1h = DD.highPart(b1);
-        final double b1l = b1 - b1h;
-
-        // Initialise the result as x^1. Represented as 2^fe * f.
-        long fe = be;
-        double f0 = b0;
-        double f1 = b1;
-        double f2 = 0;
-
-        // Shift the highest set bit off the top.
-        // Any remaining bits are detected in the sign bit.
-        final int an = Math.abs(n);
-        final int shift = Integer.numberOfLeadingZeros(an) + 1;
-        int bits = an << shift;
-        DD t;
-        final MDD m = new MDD();
-
-        // Multiplication is done inline with some triple precision helper routines.
-        // Process remaining bits below highest set bit.
-        for (int i = 32 - shift; i != 0; i--, bits <<= 1) {
-            // Square the result
-            fe <<= 1;
-            double a0h = DD.highPart(f0);
-            double a0l = f0 - a0h;
-            double a1h = DD.highPart(f1);
-            double a1l = f1 - a1h;
-            double a2h = DD.highPart(f2);
-            double a2l = f2 - a2h;
-            double p00 = f0 * f0;
-            double q00 = DD.twoSquareLow(a0h, a0l, p00);
-            double p01 = f0 * f1;
-            double q01 = DD.twoProductLow(a0h, a0l, a1h, a1l, p01);
-            final double p02 = f0 * f2;
-            final double q02 = DD.twoProductLow(a0h, a0l, a2h, a2l, p02);
-            double p11 = f1 * f1;
-            double q11 = DD.twoSquareLow(a1h, a1l, p11);
-            final double p12 = f1 * f2;
-            double s0 = p00;
-            // Sum (2 * p01, q00) -> (s1, r2)                  Order(eps)
-            double s1 = 2 * p01 + q00;
-            double r2 = DD.twoSumLow(2 * p01, q00, s1);
-            // Sum (2 * p02, 2 * q01, p11, r2) -> (s2, r3b)    Order(eps^2)
-            double s2 = p02 + q01;
-            double r3b = DD.twoSumLow(p02, q01, s2);
-            double u = p11 + r2;
-            double v = DD.twoSumLow(p11, r2, u);
-            t = DD.add(2 * s2, 2 * r3b, u, v);
-            s2 = t.hi();
-            r3b = t.lo();
-            // Sum (2 * p12, 2 * q02, q11, r3b) -> s3          Order(eps^3)
-            double s3 = 2 * (p12 + q02) + q11 + r3b;
-            f0 = norm3(s0, s1, s2, s3, m);
-            f1 = m.x;
-            f2 = m.xx;
-
-            // Rescale
-            if (Math.abs(f0) > SAFE_MULTIPLY) {
-                // Scale back to the [1, 2) range. As safe multiply is 2^500
-                // the exponent should be < 1001 so the twoPow scaling factor is supported.
-                final int e = Math.getExponent(f0);
-                final double s = DD.twoPow(-e);
-                fe += e;
-                f0 *= s;
-                f1 *= s;
-                f2 *= s;
-            }
+        // Square the result
+        final double f0 = f.x;
+        final double f1 = f.xx;
+        final double f2 = f.xxx;
+        final double a0h = DD.highPart(f0);
+        final double a0l = f0 - a0h;
+        final double a1h = DD.highPart(f1);
+        final double a1l = f1 - a1h;
+        final double a2h = DD.highPart(f2);
+        final double a2l = f2 - a2h;
+        final double p00 = f0 * f0;
+        final double q00 = DD.twoSquareLow(a0h, a0l, p00);
+        final double p01 = f0 * f1;
+        final double q01 = DD.twoProductLow(a0h, a0l, a1h, a1l, p01);
+        final double p02 = f0 * f2;
+        final double q02 = DD.twoProductLow(a0h, a0l, a2h, a2l, p02);
+        final double p11 = f1 * f1;
+        final double q11 = DD.twoSquareLow(a1h, a1l, p11);
+        final double p12 = f1 * f2;
+        final double s0 = p00;
+        // Sum (2 * p01, q00) -> (s1, r2)                  Order(eps)
+        final double s1 = 2 * p01 + q00;
+        final double r2 = DD.twoSumLow(2 * p01, q00, s1);
+        // Sum (2 * p02, 2 * q01, p11, r2) -> (s2, r3b)    Order(eps^2)
+        double s2 = p02 + q01;
+        double r3b = DD.twoSumLow(p02, q01, s2);
+        final double u = p11 + r2;
+        final double v = DD.twoSumLow(p11, r2, u);
+        final DD t = DD.add(2 * s2, 2 * r3b, u, v);
+        s2 = t.hi();
+        r3b = t.lo();
+        // Sum (2 * p12, 2 * q02, q11, r3b) -> s3          Order(eps^3)
+        final double s3 = 2 * (p12 + q02) + q11 + r3b;
+        f.e <<= 1;
+        f.x = norm3(s0, s1, s2, s3, m);
+        f.xx = m.x;
+        f.xxx = m.xx;
 
-            if (bits < 0) {
-                // Multiply by b
-                fe += be;
-                a0h = DD.highPart(f0);
-                a0l = f0 - a0h;
-                a1h = DD.highPart(f1);
-                a1l = f1 - a1h;
-                a2h = DD.highPart(f2);
-                a2l = f2 - a2h;
-                p00 = f0 * b0;
-                q00 = DD.twoProductLow(a0h, a0l, b0h, b0l, p00);
-                p01 = f0 * b1;
-                q01 = DD.twoProductLow(a0h, a0l, b1h, b1l, p01);
-                final double p10 = f1 * b0;
-                final double q10 = DD.twoProductLow(a1h, a1l, b0h, b0l, p10);
-                p11 = f1 * b1;
-                q11 = DD.twoProductLow(a1h, a1l, b1h, b1l, p11);
-                final double p20 = f2 * b0;
-                final double q20 = DD.twoProductLow(a2h, a2l, b0h, b0l, p20);
-                final double p21 = f2 * b1;
-                s0 = p00;
-                // Sum (p01, p10, q00) -> (s1, r2, r3a)            Order(eps)
-                u = p01 + p10;
-                v = DD.twoSumLow(p01, p10, u);
-                s1 = q00 + u;
-                final double w = DD.twoSumLow(q00, u, s1);
-                r2 = v + w;
-                final double r3a = DD.twoSumLow(v, w, r2);
-                // Sum (p11, p20, q01, q10, r2) -> (s2, r3b)       Order(eps^2)
-                s2 = p11 + p20;
-                r3b = DD.twoSumLow(p11, p20, s2);
-                u = q01 + q10;
-                v = DD.twoSumLow(q01, q10, u);
-                t = DD.add(s2, r3b, u, v);
-                s2 = t.hi() + r2;
-                r3b = DD.twoSumLow(t.hi(), r2, s2);
-                // Sum (p21, q11, q20, r3a, r3b) -> s3             Order(eps^3)
-                s3 = p21 + q11 + q20 + r3a + r3b;
-                f0 = norm3(s0, s1, s2, s3, m);
-                f1 = m.x;
-                f2 = m.xx;
-                // Avoid rescale as x2 is in [1, 2)
-            }
+        // Rescale
+        if (Math.abs(f.x) > SAFE_MULTIPLY) {
+            // Scale back to the [1, 2) range. As safe multiply is 2^500
+            // the exponent should be < 1001 so the twoPow scaling factor is supported.
+            final int e = Math.getExponent(f.x);
+            final double s = DD.twoPow(-e);
+            f.e += e;
+            f.x *= s;
+            f.xx *= s;
+            f.xxx *= s;
         }
+    }
 
+    /**
+     * Multiply the triple-double number {@code f} in-place by the base.
+     *
+     * @param f Number.
+     * @param b Base.
+     * @param m Working space.
+     */
+    private static void multiply(TD f, PowBase b, MDD m) {
+        // Multiply by b
+        final double f0 = f.x;
+        final double f1 = f.xx;
+        final double f2 = f.xxx;
+        final double a0h = DD.highPart(f0);
+        final double a0l = f0 - a0h;
+        final double a1h = DD.highPart(f1);
+        final double a1l = f1 - a1h;
+        final double a2h = DD.highPart(f2);
+        final double a2l = f2 - a2h;
+        final double p00 = f0 * b.b0;
+        final double q00 = DD.twoProductLow(a0h, a0l, b.b0h, b.b0l, p00);
+        final double p01 = f0 * b.b1;
+        final double q01 = DD.twoProductLow(a0h, a0l, b.b1h, b.b1l, p01);
+        final double p10 = f1 * b.b0;
+        final double q10 = DD.twoProductLow(a1h, a1l, b.b0h, b.b0l, p10);
+        final double p11 = f1 * b.b1;
+        final double q11 = DD.twoProductLow(a1h, a1l, b.b1h, b.b1l, p11);
+        final double p20 = f2 * b.b0;
+        final double q20 = DD.twoProductLow(a2h, a2l, b.b0h, b.b0l, p20);
+        final double p21 = f2 * b.b1;
+        final double s0 = p00;
+        // Sum (p01, p10, q00) -> (s1, r2, r3a)            Order(eps)
+        double u = p01 + p10;
+        double v = DD.twoSumLow(p01, p10, u);
+        final double s1 = q00 + u;
+        final double w = DD.twoSumLow(q00, u, s1);
+        final double r2 = v + w;
+        final double r3a = DD.twoSumLow(v, w, r2);
+        // Sum (p11, p20, q01, q10, r2) -> (s2, r3b)       Order(eps^2)
+        double s2 = p11 + p20;
+        double r3b = DD.twoSumLow(p11, p20, s2);
+        u = q01 + q10;
+        v = DD.twoSumLow(q01, q10, u);
+        final DD t = DD.add(s2, r3b, u, v);
+        s2 = t.hi() + r2;
+        r3b = DD.twoSumLow(t.hi(), r2, s2);
+        // Sum (p21, q11, q20, r3a, r3b) -> s3             Order(eps^3)
+        final double s3 = p21 + q11 + q20 + r3a + r3b;
+        f.e += b.be;
+        f.x = norm3(s0, s1, s2, s3, m);
+        f.xx = m.x;
+        f.xxx = m.xx;
+        // Avoid rescale as x2 is in [1, 2)
+    }
+
+    /**
+     * Convert the triple-double number {@code x^|n|} to the result of the
+     * power function {@code x^n}.
+     *
+     * @param f x^|n|.
+     * @param n Power.
+     * @param exp Result power of two scale factor (integral exponent).
+     * @return Fraction part.
+     */
+    private static DD powResult(TD f, int n, long[] exp) {
         // Ensure (f0, f1) are 1 ulp exact
-        final double u = f1 + f2;
-        t = DD.fastTwoSum(f0, u);
+        final double u = f.xx + f.xxx;
+        DD t = DD.fastTwoSum(f.x, u);
         final int[] e = {0};
 
         // If the power is negative, invert in triple precision
         if (n < 0) {
             // Require the round-off
-            final double v = DD.fastTwoSumLow(f1, f2, u);
+            final double v = DD.fastTwoSumLow(f.xx, f.xxx, u);
             // Result is in approximately [1, 2^501] so inversion is safe.
             t = inverse3(t.hi(), t.lo(), v);
             // Rescale to [0.5, 1.0]
             t = t.frexp(e);
-            exp[0] = e[0] - fe;
+            exp[0] = e[0] - f.e;
             return t;
         }
 
         t = t.frexp(e);
-        exp[0] = fe + e[0];
+        exp[0] = f.e + e[0];
         return t;
     }
 
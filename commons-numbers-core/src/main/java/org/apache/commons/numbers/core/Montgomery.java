@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Modular arithmetic for a fixed odd modulus using Montgomery multiplication.
+ *
+ * <p>Values are converted to the Montgomery form {@code x * R mod m}, with
+ * {@code R = 2^64}, using {@link #toMontgomery(long)}. Multiplication in this form
+ * requires no division and is efficient for repeated operations such as modular
+ * exponentiation. Results are converted back to the standard residue using
+ * {@link #fromMontgomery(long)}.
+ *
+ * <p>All arguments to the arithmetic methods must be in Montgomery form, i.e. in the
+ * range {@code [0, m)}; this is not checked.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Montgomery_modular_multiplication">
+ * Montgomery modular multiplication</a>
+ * @since 1.2
+ */
+public final class Montgomery {
+    /** Modulus. */
+    private final long m;
+    /** Inverse of the modulus: {@code m^-1 mod 2^64}. */
+    private final long mInv;
+    /** Montgomery form of 1: {@code R mod m}. */
+    private final long one;
+    /** Montgomery form of R: {@code R^2 mod m}. */
+    private final long r2;
+
+    /**
+     * @param m Modulus.
+     */
+    private Montgomery(long m) {
+        this.m = m;
+        // Newton iteration doubles the number of correct bits.
+        // Start with m^-1 == m mod 2^3 for any odd m.
+        long x = m;
+        for (int i = 0; i < 5; i++) {
+            x *= 2 - m * x;
+        }
+        mInv = x;
+        // R mod m == (R - m) mod m
+        one = ArithmeticUtils.remainderUnsigned(-m, m);
+        r2 = ArithmeticUtils.mulModUnchecked(one, one, m);
+    }
+
+    /**
+     * Create an instance for the specified modulus.
+     *
+     * @param modulus Modulus.
+     * @return the instance
+     * @throws IllegalArgumentException if the modulus is not odd and strictly positive.
+     */
+    public static Montgomery of(long modulus) {
+        if (modulus <= 0 || (modulus & 1) == 0) {
+            throw new IllegalArgumentException("Modulus must be odd and strictly positive: " + modulus);
+        }
+        return new Montgomery(modulus);
+    }
+
+    /**
+     * Gets the modulus.
+     *
+     * @return the modulus
+     */
+    public long getModulus() {
+        return m;
+    }
+
+    /**
+     * Gets the Montgomery form of 1.
+     *
+     * @return {@code R mod m}
+     */
+    public long one() {
+        return one;
+    }
+
+    /**
+     * Convert the value to Montgomery form. The value is first reduced to the
+     * non-negative residue modulo {@code m}.
+     *
+     * @param x Value.
+     * @return {@code x * R mod m}
+     */
+    public long toMontgomery(long x) {
+        final long a = Math.floorMod(x, m);
+        return reduce(ArithmeticUtils.multiplyHigh(a, r2), a * r2);
+    }
+
+    /**
+     * Convert the value from Montgomery form.
+     *
+     * @param x Value in Montgomery form.
+     * @return {@code x * R^-1 mod m}
+     */
+    public long fromMontgomery(long x) {
+        return reduce(0, x);
+    }
+
+    /**
+     * Computes the modular sum.
+     *
+     * @param x Value in Montgomery form.
+     * @param y Value in Montgomery form.
+     * @return {@code (x + y) mod m}
+     */
+    public long add(long x, long y) {
+        // Avoid overflow of x + y
+        final long z = x - (m - y);
+        return z < 0 ? z + m : z;
+    }
+
+    /**
+     * Computes the modular difference.
+     *
+     * @param x Value in Montgomery form.
+     * @param y Value in Montgomery form.
+     * @return {@code (x - y) mod m}
+     */
+    public long subtract(long x, long y) {
+        final long z = x - y;
+        return z < 0 ? z + m : z;
+    }
+
+    /**
+     * Computes the modular product in Montgomery form.
+     *
+     * @param x Value in Montgomery form.
+     * @param y Value in Montgomery form.
+     * @return {@code x * y * R^-1 mod m}
+     */
+    public long multiply(long x, long y) {
+        // x, y < m < 2^63: the signed high part is the unsigned high part
+        return reduce(ArithmeticUtils.multiplyHigh(x, y), x * y);
+    }
+
+    /**
+     * Computes the modular exponentiation in Montgomery form.
+     *
+     * @param x Value in Montgomery form.
+     * @param e Exponent.
+     * @return {@code x^e} in Montgomery form
+     * @throws IllegalArgumentException if {@code e < 0}.
+     */
+    public long pow(long x, long e) {
+        if (e < 0) {
+            throw new IllegalArgumentException("Exponent must be non-negative: " + e);
+        }
+        long result = one;
+        long b = x;
+        for (long k = e; k != 0; k >>>= 1) {
+            if ((k & 1) != 0) {
+                result = multiply(result, b);
+            }
+            b = multiply(b, b);
+        }
+        return result;
+    }
+
+    /**
+     * Montgomery reduction of the 128-bit value {@code T = (hi, lo)} with
+     * {@code T < m * 2^64}.
+     *
+     * @param hi High 64-bits of the value (unsigned).
+     * @param lo Low 64-bits of the value (unsigned).
+     * @return {@code T * R^-1 mod m}
+     */
+    private long reduce(long hi, long lo) {
+        // q = T * m^-1 mod R; T - q * m is divisible by R with an equal low part
+        final long q = lo * mInv;
+        final long h = ArithmeticUtils.unsignedMultiplyHigh(q, m);
+        // hi < m and h < m
+        final long z = hi - h;
+        return z < 0 ? z + m : z;
+    }
+}
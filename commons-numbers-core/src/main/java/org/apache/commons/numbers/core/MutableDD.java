@@ -0,0 +1,722 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Computes double-double floating-point operations in place.
+ *
+ * <p>This is a mutable version of the {@link DD} class. The arithmetic
+ * operations update the value of this instance and return {@code this} to
+ * allow method chaining. This avoids creating a new object for each operation
+ * in long computations, for example summation in a loop:
+ * <pre>
+ * MutableDD sum = MutableDD.create();
+ * for (int i = 0; i &lt; a.length; i++) {
+ *     sum.addProduct(a[i], b[i]);
+ * }
+ * DD result = sum.toDD();
+ * </pre>
+ *
+ * <p>The operations use the same algorithms as the corresponding {@link DD}
+ * operations and compute identical results; the accuracy and the limitations
+ * on the supported range of values are described in {@link DD}.
+ *
+ * <p>Operands may be this instance, e.g. {@code x.multiply(x)}.
+ *
+ * <p>Instances of this class are mutable and not safe for use by multiple
+ * threads.
+ *
+ * @see DD
+ * @since 1.2
+ */
+public final class MutableDD {
+    /** The high part of the double-double number. */
+    private double x;
+    /** The low part of the double-double number. */
+    private double xx;
+
+    /**
+     * Create an instance with the value zero.
+     */
+    private MutableDD() {}
+
+    /**
+     * Create a new instance with the value zero.
+     *
+     * @return the number
+     */
+    public static MutableDD create() {
+        return new MutableDD();
+    }
+
+    /**
+     * Create a new instance with the value {@code x}.
+     *
+     * @param x Value.
+     * @return the number
+     * @see DD#of(double)
+     */
+    public static MutableDD of(double x) {
+        return new MutableDD().set(x);
+    }
+
+    /**
+     * Create a new instance with the value {@code x}.
+     *
+     * @param x Value.
+     * @return the number
+     */
+    public static MutableDD of(DD x) {
+        return new MutableDD().set(x);
+    }
+
+    /**
+     * Sets the value of this number to the {@code value}.
+     *
+     * @param value Value.
+     * @return {@code this}
+     */
+    public MutableDD set(double value) {
+        return set(value, 0);
+    }
+
+    /**
+     * Sets the value of this number to the {@code value}.
+     *
+     * @param value Value.
+     * @return {@code this}
+     */
+    public MutableDD set(DD value) {
+        return set(value.hi(), value.lo());
+    }
+
+    /**
+     * Sets the value of this number to the {@code value}.
+     *
+     * @param value Value.
+     * @return {@code this}
+     */
+    public MutableDD set(MutableDD value) {
+        return set(value.x, value.xx);
+    }
+
+    /**
+     * Sets the value of this number to the exact sum of {@code a} and {@code b}.
+     *
+     * @param a Value.
+     * @param b Value.
+     * @return {@code this}
+     * @see DD#ofSum(double, double)
+     */
+    public MutableDD setSum(double a, double b) {
+        return setTwoSum(a, b);
+    }
+
+    /**
+     * Sets the value of this number to the exact product of {@code a} and {@code b}.
+     *
+     * @param a Factor.
+     * @param b Factor.
+     * @return {@code this}
+     * @see DD#ofProduct(double, double)
+     */
+    public MutableDD setProduct(double a, double b) {
+        return setTwoProduct(a, b);
+    }
+
+    /**
+     * Gets the first part {@code x} of the double-double number {@code (x, xx)}.
+     *
+     * @return the high part
+     * @see DD#hi()
+     */
+    public double hi() {
+        return x;
+    }
+
+    /**
+     * Gets the second part {@code xx} of the double-double number {@code (x, xx)}.
+     *
+     * @return the low part
+     * @see DD#lo()
+     */
+    public double lo() {
+        return xx;
+    }
+
+    /**
+     * Returns {@code true} if the evaluated sum of the parts is finite.
+     *
+     * @return true if this instance represents a finite {@code double} value.
+     * @see DD#isFinite()
+     */
+    public boolean isFinite() {
+        return Double.isFinite(x + xx);
+    }
+
+    /**
+     * Get the value as a {@code double}. This is the evaluated sum of the parts.
+     *
+     * @return the value converted to a {@code double}
+     * @see DD#doubleValue()
+     */
+    public double doubleValue() {
+        return x + xx;
+    }
+
+    /**
+     * Get the value as a {@code DD}.
+     *
+     * @return the value
+     */
+    public DD toDD() {
+        return DD.of(x, xx);
+    }
+
+    /**
+     * Sets this number to {@code -this}.
+     *
+     * @return {@code this}
+     * @see DD#negate()
+     */
+    public MutableDD negate() {
+        return set(-x, -xx);
+    }
+
+    /**
+     * Sets this number to the absolute value of {@code this}.
+     *
+     * @return {@code this}
+     * @see DD#abs()
+     */
+    public MutableDD abs() {
+        // Assume |hi| > |lo|, i.e. the low part is the round-off
+        if (x < 0) {
+            return negate();
+        }
+        // NaN, positive or zero
+        // return a canonical absolute of zero
+        return x == 0 ? set(0, 0) : this;
+    }
+
+    /**
+     * Sets this number to {@code (this + y)}.
+     *
+     * @param y Value to be added to this number.
+     * @return {@code this}
+     * @see DD#add(double)
+     */
+    public MutableDD add(double y) {
+        // (s0, s1) = x + y
+        final double s0 = x + y;
+        final double s1 = DD.twoSumLow(x, y, s0);
+        return setFastTwoSum(s0, s1 + xx);
+    }
+
+    /**
+     * Sets this number to {@code (this + y)}.
+     *
+     * @param y Value to be added to this number.
+     * @return {@code this}
+     * @see DD#add(DD)
+     */
+    public MutableDD add(DD y) {
+        return add(x, xx, y.hi(), y.lo());
+    }
+
+    /**
+     * Sets this number to {@code (this + y)}.
+     *
+     * @param y Value to be added to this number.
+     * @return {@code this}
+     * @see DD#add(DD)
+     */
+    public MutableDD add(MutableDD y) {
+        return add(x, xx, y.x, y.xx);
+    }
+
+    /**
+     * Sets this number to {@code (this - y)}.
+     *
+     * @param y Value to be subtracted from this number.
+     * @return {@code this}
+     * @see DD#subtract(double)
+     */
+    public MutableDD subtract(double y) {
+        return add(-y);
+    }
+
+    /**
+     * Sets this number to {@code (this - y)}.
+     *
+     * @param y Value to be subtracted from this number.
+     * @return {@code this}
+     * @see DD#subtract(DD)
+     */
+    public MutableDD subtract(DD y) {
+        return add(x, xx, -y.hi(), -y.lo());
+    }
+
+    /**
+     * Sets this number to {@code (this - y)}.
+     *
+     * @param y Value to be subtracted from this number.
+     * @return {@code this}
+     * @see DD#subtract(DD)
+     */
+    public MutableDD subtract(MutableDD y) {
+        return add(x, xx, -y.x, -y.xx);
+    }
+
+    /**
+     * Sets this number to {@code (this + a * b)}.
+     *
+     * <p>The product is computed exactly and added to this number. This computes the
+     * same result as {@code add(DD.ofProduct(a, b))}.
+     *
+     * @param a Factor.
+     * @param b Factor.
+     * @return {@code this}
+     */
+    public MutableDD addProduct(double a, double b) {
+        final double p = a * b;
+        return add(x, xx, p, DD.twoProductLow(a, b, p));
+    }
+
+    /**
+     * Sets this number to {@code (this + a * b)}.
+     *
+     * <p>This computes the same result as {@code add(a.multiply(b))}.
+     *
+     * @param a Factor.
+     * @param b Factor.
+     * @return {@code this}
+     */
+    public MutableDD addProduct(DD a, DD b) {
+        final double s = x;
+        final double ss = xx;
+        setMultiply(a.hi(), a.lo(), b.hi(), b.lo());
+        return add(s, ss, x, xx);
+    }
+
+    /**
+     * Sets this number to {@code (this + a * b)}.
+     *
+     * <p>This computes the same result as {@code add(a.multiply(b))}.
+     *
+     * @param a Factor.
+     * @param b Factor.
+     * @return {@code this}
+     */
+    public MutableDD addProduct(MutableDD a, MutableDD b) {
+        final double s = x;
+        final double ss = xx;
+        setMultiply(a.x, a.xx, b.x, b.xx);
+        return add(s, ss, x, xx);
+    }
+
+    /**
+     * Sets this number to {@code this * y}.
+     *
+     * @param y Factor.
+     * @return {@code this}
+     * @see DD#multiply(double)
+     */
+    public MutableDD multiply(double y) {
+        // Dekker mul2 with yy=0
+        final double hi = x * y;
+        final double lo = DD.twoProductLow(x, y, hi);
+        return setFastTwoSum(hi, lo + xx * y);
+    }
+
+    /**
+     * Sets this number to {@code this * y}.
+     *
+     * @param y Factor.
+     * @return {@code this}
+     * @see DD#multiply(DD)
+     */
+    public MutableDD multiply(DD y) {
+        return setMultiply(x, xx, y.hi(), y.lo());
+    }
+
+    /**
+     * Sets this number to {@code this * y}.
+     *
+     * @param y Factor.
+     * @return {@code this}
+     * @see DD#multiply(DD)
+     */
+    public MutableDD multiply(MutableDD y) {
+        return setMultiply(x, xx, y.x, y.xx);
+    }
+
+    /**
+     * Sets this number to {@code this * this}.
+     *
+     * @return {@code this}
+     * @see DD#square()
+     */
+    public MutableDD square() {
+        // Dekker mul2
+        final double hi = x * x;
+        final double lo = DD.twoSquareLow(x, hi);
+        return setFastTwoSum(hi, lo + (2 * x * xx));
+    }
+
+    /**
+     * Sets this number to {@code (this / y)}.
+     * If {@code y = 0} the result is undefined.
+     *
+     * @param y Divisor.
+     * @return {@code this}
+     * @see DD#divide(double)
+     */
+    public MutableDD divide(double y) {
+        final double a = x;
+        final double aa = xx;
+        // Long division
+        // quotient q0 = x / y
+        final double q0 = a / y;
+        // remainder r0 = x - q0 * y
+        setTwoProduct(y, q0);
+        // High accuracy add required
+        setAccurateAdd(a, aa, -x, -xx);
+        // next quotient q1 = r0 / y
+        final double q1 = x / y;
+        // remainder r1 = r0 - q1 * y
+        final double r = x;
+        final double rr = xx;
+        setTwoProduct(y, q1);
+        // accurateAdd not used as we do not need r1.xx
+        add(r, rr, -x, -xx);
+        // next quotient q2 = r1 / y
+        final double q2 = x / y;
+        // Collect (q0, q1, q2)
+        return collect(q0, q1, q2);
+    }
+
+    /**
+     * Sets this number to {@code (this / y)}.
+     * If {@code y = 0} the result is undefined.
+     *
+     * @param y Divisor.
+     * @return {@code this}
+     * @see DD#divide(DD)
+     */
+    public MutableDD divide(DD y) {
+        return divide(y.hi(), y.lo());
+    }
+
+    /**
+     * Sets this number to {@code (this / y)}.
+     * If {@code y = 0} the result is undefined.
+     *
+     * @param y Divisor.
+     * @return {@code this}
+     * @see DD#divide(DD)
+     */
+    public MutableDD divide(MutableDD y) {
+        return divide(y.x, y.xx);
+    }
+
+    /**
+     * Sets this number to {@code this}<sup>-1</sup>.
+     * If {@code this} value is zero the result is undefined.
+     *
+     * @return {@code this}
+     * @see DD#reciprocal()
+     */
+    public MutableDD reciprocal() {
+        final double y = x;
+        final double yy = xx;
+        // As per divide using (x, xx) = (1, 0)
+        // quotient q0 = x / y
+        final double q0 = 1 / y;
+        // remainder r0 = x - q0 * y
+        setMultiply(y, yy, q0);
+        // High accuracy add required
+        setAccurateAdd(-x, -xx, 1);
+        // next quotient q1 = r0 / y
+        final double q1 = x / y;
+        // remainder r1 = r0 - q1 * y
+        final double r = x;
+        final double rr = xx;
+        setMultiply(y, yy, q1);
+        // accurateAdd not used as we do not need r1.xx
+        add(r, rr, -x, -xx);
+        // next quotient q2 = r1 / y
+        final double q2 = x / y;
+        // Collect (q0, q1, q2)
+        return collect(q0, q1, q2);
+    }
+
+    /**
+     * Sets this number to the square root of {@code this}.
+     *
+     * <p>Special cases are the same as {@link DD#sqrt()}.
+     *
+     * @return {@code this}
+     * @see DD#sqrt()
+     */
+    public MutableDD sqrt() {
+        // Standard sqrt
+        final double c = Math.sqrt(x);
+
+        // Here we support {negative, +infinity, nan and zero} edge cases.
+        if (DD.isNotNormal(c)) {
+            return set(c, 0);
+        }
+
+        // Dekker's double precision sqrt2 algorithm.
+        final double hc = DD.highPart(c);
+        final double lc = c - hc;
+        final double u = c * c;
+        final double uu = DD.twoSquareLow(hc, lc, u);
+        final double cc = (x - u - uu + xx) * 0.5 / c;
+
+        return setFastTwoSum(c, cc);
+    }
+
+    /**
+     * Returns a string representation of the double-double number. This uses the same
+     * format as {@link DD#toString()}.
+     *
+     * @return A string representation of the double-double number.
+     */
+    @Override
+    public String toString() {
+        return toDD().toString();
+    }
+
+    /**
+     * Sets the parts of this number.
+     *
+     * @param hi High part.
+     * @param lo Low part.
+     * @return {@code this}
+     */
+    private MutableDD set(double hi, double lo) {
+        x = hi;
+        xx = lo;
+        return this;
+    }
+
+    /**
+     * Sets this number to the sum of {@code a} and {@code b} using Dekker's
+     * fast-two-sum algorithm. The values are required to be ordered by magnitude:
+     * {@code |a| >= |b|}.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @return {@code this}
+     * @see DD#fastTwoSum(double, double)
+     */
+    private MutableDD setFastTwoSum(double a, double b) {
+        final double s = a + b;
+        return set(s, DD.fastTwoSumLow(a, b, s));
+    }
+
+    /**
+     * Sets this number to the sum of {@code a} and {@code b} using Knuth's
+     * two-sum algorithm.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @return {@code this}
+     * @see DD#twoSum(double, double)
+     */
+    private MutableDD setTwoSum(double a, double b) {
+        final double s = a + b;
+        return set(s, DD.twoSumLow(a, b, s));
+    }
+
+    /**
+     * Sets this number to the exact product of {@code a} and {@code b}.
+     *
+     * @param a First factor.
+     * @param b Second factor.
+     * @return {@code this}
+     * @see DD#twoProd(double, double)
+     */
+    private MutableDD setTwoProduct(double a, double b) {
+        final double p = a * b;
+        return set(p, DD.twoProductLow(a, b, p));
+    }
+
+    /**
+     * Sets this number to the sum of {@code (a, aa)} and {@code (b, bb)}.
+     *
+     * @param a High part of a.
+     * @param aa Low part of a.
+     * @param b High part of b.
+     * @param bb Low part of b.
+     * @return {@code this}
+     * @see DD#add(double, double, double, double)
+     */
+    private MutableDD add(double a, double aa, double b, double bb) {
+        // Sum parts and save
+        // (s0, s1) = a + b
+        final double s0 = a + b;
+        final double s1 = DD.twoSumLow(a, b, s0);
+        // (t0, t1) = aa + bb
+        final double t0 = aa + bb;
+        final double t1 = DD.twoSumLow(aa, bb, t0);
+        // result = s + t
+        final double u = s1 + t0;
+        final double z = s0 + u;
+        final double zz = DD.fastTwoSumLow(s0, u, z);
+        return setFastTwoSum(z, zz + t1);
+    }
+
+    /**
+     * Sets this number to the accurate sum of {@code (a, aa)} and {@code b}.
+     *
+     * @param a High part of a.
+     * @param aa Low part of a.
+     * @param b b.
+     * @return {@code this}
+     * @see DD#accurateAdd(double, double, double)
+     */
+    private MutableDD setAccurateAdd(double a, double aa, double b) {
+        // Grow expansion (Schewchuk): (a, aa) + b -> (s0, s1, s2)
+        double s = aa + b;
+        double s2 = DD.twoSumLow(aa, b, s);
+        final double s0 = a + s;
+        double s1 = DD.twoSumLow(a, s, s0);
+        // Compress (Schewchuk Fig. 15): (s0, s1, s2) -> (s0, s1)
+        s = s1 + s2;
+        s2 = DD.fastTwoSumLow(s1, s2, s);
+        final double t = s0 + s;
+        s1 = DD.fastTwoSumLow(s0, s, t);
+        return setFastTwoSum(t, s2 + s1);
+    }
+
+    /**
+     * Sets this number to the accurate sum of {@code (a, aa)} and {@code (b, bb)}.
+     *
+     * @param a High part of a.
+     * @param aa Low part of a.
+     * @param b High part of b.
+     * @param bb Low part of b.
+     * @return {@code this}
+     * @see DD#accurateAdd(double, double, double, double)
+     */
+    private MutableDD setAccurateAdd(double a, double aa, double b, double bb) {
+        // Expansion sum (Schewchuk Fig 7): (a, aa) + (b, bb) -> (s0, s1, s2, s3)
+        double s = aa + bb;
+        double s3 = DD.twoSumLow(aa, bb, s);
+        double s0 = a + s;
+        double u = DD.twoSumLow(a, s, s0);
+        s = u + b;
+        double s2 = DD.twoSumLow(u, b, s);
+        u = s0 + s;
+        final double s1a = DD.twoSumLow(s0, s, u);
+        s0 = u;
+        // Compress (Schewchuk Fig. 15) (s0, s1, s2, s3) -> (s0, s1)
+        s = s1a + s2;
+        final double s1 = s;
+        u = DD.fastTwoSumLow(s1a, s2, s);
+        s = u + s3;
+        s3 = DD.fastTwoSumLow(u, s3, s);
+        u = s1 + s;
+        s2 = DD.fastTwoSumLow(s1, s, u);
+        s = s0 + u;
+        final double ss = DD.fastTwoSumLow(s0, u, s);
+        return setFastTwoSum(s, s3 + s2 + ss);
+    }
+
+    /**
+     * Sets this number to the product of {@code (a, aa)} and {@code (b, bb)}.
+     *
+     * @param a High part of a.
+     * @param aa Low part of a.
+     * @param b High part of b.
+     * @param bb Low part of b.
+     * @return {@code this}
+     * @see DD#multiply(DD)
+     */
+    private MutableDD setMultiply(double a, double aa, double b, double bb) {
+        // Dekker mul2
+        final double hi = a * b;
+        final double lo = DD.twoProductLow(a, b, hi);
+        return setFastTwoSum(hi, lo + (a * bb + aa * b));
+    }
+
+    /**
+     * Sets this number to the product of {@code (a, aa)} and {@code b}.
+     *
+     * @param a High part of a.
+     * @param aa Low part of a.
+     * @param b b.
+     * @return {@code this}
+     * @see DD#multiply(double)
+     */
+    private MutableDD setMultiply(double a, double aa, double b) {
+        // Dekker mul2 with bb=0
+        final double hi = a * b;
+        final double lo = DD.twoProductLow(a, b, hi);
+        return setFastTwoSum(hi, lo + aa * b);
+    }
+
+    /**
+     * Sets this number to {@code (this / (y, yy))}.
+     *
+     * @param y High part of y.
+     * @param yy Low part of y.
+     * @return {@code this}
+     * @see DD#divide(DD)
+     */
+    private MutableDD divide(double y, double yy) {
+        final double a = x;
+        final double aa = xx;
+        // Long division
+        // quotient q0 = x / y
+        final double q0 = a / y;
+        // remainder r0 = x - q0 * y
+        setMultiply(y, yy, q0);
+        // High accuracy add required
+        setAccurateAdd(a, aa, -x, -xx);
+        // next quotient q1 = r0 / y
+        final double q1 = x / y;
+        // remainder r1 = r0 - q1 * y
+        final double r = x;
+        final double rr = xx;
+        setMultiply(y, yy, q1);
+        // accurateAdd not used as we do not need r1.xx
+        add(r, rr, -x, -xx);
+        // next quotient q2 = r1 / y
+        final double q2 = x / y;
+        // Collect (q0, q1, q2)
+        return collect(q0, q1, q2);
+    }
+
+    /**
+     * Sets this number to the sum of the quotient parts {@code (q0, q1, q2)} computed
+     * by long division.
+     *
+     * @param q0 First quotient.
+     * @param q1 Second quotient.
+     * @param q2 Third quotient.
+     * @return {@code this}
+     */
+    private MutableDD collect(double q0, double q1, double q2) {
+        final double q = q0 + q1;
+        final double qq = DD.fastTwoSumLow(q0, q1, q);
+        return setTwoSum(q, qq + q2);
+    }
+}
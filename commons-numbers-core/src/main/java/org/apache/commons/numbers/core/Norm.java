@@ -16,6 +16,10 @@
  */
 package org.apache.commons.numbers.core;
 
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
 /**
  * <a href="https://en.wikipedia.org/wiki/Norm_(mathematics)">Norm</a> functions.
  *
@@ -30,18 +34,18 @@ public enum Norm {
      * <a href="https://en.wikipedia.org/wiki/Norm_(mathematics)#Taxicab_norm_or_Manhattan_norm">
      *  Manhattan norm</a> (sum of the absolute values of the arguments).
      */
-    L1(Norm::manhattan, Norm::manhattan, Norm::manhattan),
+    L1(Norm::manhattan, Norm::manhattan, Norm::manhattan, ManhattanAccumulator::new),
     /** Alias for {@link #L1}. */
     MANHATTAN(L1),
     /** <a href="https://en.wikipedia.org/wiki/Norm_(mathematics)#Euclidean_norm">Euclidean norm</a>. */
-    L2(Norm::euclidean, Norm::euclidean, Norm::euclidean),
+    L2(Norm::euclidean, Norm::euclidean, Norm::euclidean, EuclideanAccumulator::new),
     /** Alias for {@link #L2}. */
     EUCLIDEAN(L2),
     /**
      * <a href="https://en.wikipedia.org/wiki/Norm_(mathematics)#Maximum_norm_(special_case_of:_infinity_norm,_uniform_norm,_or_supremum_norm)">
      *  Maximum norm</a> (maximum of the absolute values of the arguments).
      */
-    LINF(Norm::maximum, Norm::maximum, Norm::maximum),
+    LINF(Norm::maximum, Norm::maximum, Norm::maximum, MaximumAccumulator::new),
     /** Alias for {@link #LINF}. */
     MAXIMUM(LINF);
 
@@ -78,6 +82,8 @@ public enum Norm {
     private final Three three;
     /** Function of array argument. */
     private final Array array;
+    /** Factory for the accumulator. */
+    private final Supplier<Accumulator> accumulator;
 
     /** Function of 2 arguments. */
     @FunctionalInterface
@@ -105,22 +111,263 @@ public enum Norm {
     private interface Array {
         /**
          * @param v Array of arguments.
+         * @param offset Index of the first argument.
+         * @param stride Spacing between arguments.
+         * @param count Number of arguments.
+         * @return the norm.
+         */
+        double of(double[] v, int offset, int stride, int count);
+    }
+
+    /**
+     * Accumulator of the norm of a sequence of values.
+     *
+     * <p>Values are added using {@link #accept(double)} and the norm of all values
+     * added is obtained using {@link #getAsDouble()}. An accumulator can be used
+     * to compute the norm of values that are not stored in a single array, for
+     * example data processed in chunks. Accumulators of the same norm computed on
+     * separate partitions of the data can be combined, for example in a parallel
+     * stream:
+     *
+     * <pre>
+     * double norm = stream.collect(Norm.L2::accumulator,
+     *                              Norm.Accumulator::accept,
+     *                              Norm.Accumulator::combine)
+     *                     .getAsDouble();
+     * </pre>
+     *
+     * <p>The norm of an accumulator with no values is zero. The result of
+     * adding all the values of an array to an accumulator is the same as
+     * the array norm function {@link Norm#of(double[])}. The result of combining
+     * accumulators is subject to the same error bounds but may differ in the
+     * final bits.
+     *
+     * <p>Instances are mutable and not safe for use by multiple threads.
+     *
+     * @since 1.2
+     */
+    public interface Accumulator extends DoubleConsumer, DoubleSupplier {
+        /**
+         * Adds the values from the other accumulator to this accumulator.
+         * The other accumulator is not modified.
+         *
+         * @param other Accumulator.
+         * @return this instance.
+         * @throws IllegalArgumentException if the other accumulator is for
+         * a different norm.
+         */
+        Accumulator combine(Accumulator other);
+
+        /**
+         * Gets the norm of the values.
+         *
          * @return the norm.
          */
-        double of(double[] v);
+        @Override
+        double getAsDouble();
+    }
+
+    /**
+     * Accumulator for the Manhattan norm.
+     */
+    private static final class ManhattanAccumulator implements Accumulator {
+        /** Sum of the absolute values. */
+        private final Sum sum = Sum.create();
+
+        @Override
+        public void accept(double value) {
+            sum.add(Math.abs(value));
+        }
+
+        @Override
+        public Accumulator combine(Accumulator other) {
+            sum.add(cast(other, ManhattanAccumulator.class).sum);
+            return this;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return sum.getAsDouble();
+        }
+    }
+
+    /**
+     * Accumulator for the Euclidean norm.
+     *
+     * <p>The squares of the values are summed in 3 compensated sums for large,
+     * normal and small magnitude values using appropriate scaling to avoid
+     * overflow and underflow.
+     */
+    private static final class EuclideanAccumulator implements Accumulator {
+        /** Sum of big numbers. */
+        private double s1;
+        /** Sum of normal numbers. */
+        private double s2;
+        /** Sum of small numbers. */
+        private double s3;
+        /** Compensation of the sum of big numbers. */
+        private double c1;
+        /** Compensation of the sum of normal numbers. */
+        private double c2;
+        /** Compensation of the sum of small numbers. */
+        private double c3;
+        /** Non-finite result: NaN if any value is NaN; otherwise infinity if any
+         * value is infinite; otherwise zero. */
+        private double special;
+
+        @Override
+        public void accept(double value) {
+            final double x = Math.abs(value);
+            if (!Double.isFinite(x)) {
+                // NaN takes precedence over infinity
+                special = Math.max(special, x);
+            } else {
+                add(x);
+            }
+        }
+
+        /**
+         * Adds the square of the finite absolute value to the appropriate sum.
+         *
+         * @param x Value (must be finite and positive).
+         */
+        void add(double x) {
+            if (x > LARGE_THRESH) {
+                // scale down
+                final double sx = x * SCALE_DOWN;
+
+                // compute the product and product compensation
+                final double p = sx * sx;
+                final double cp = DD.twoSquareLow(sx, p);
+
+                // compute the running sum and sum compensation
+                final double s = s1 + p;
+                final double cs = DD.twoSumLow(s1, p, s);
+
+                // update running totals
+                c1 += cp + cs;
+                s1 = s;
+            } else if (x < SMALL_THRESH) {
+                // scale up
+                final double sx = x * SCALE_UP;
+
+                // compute the product and product compensation
+                final double p = sx * sx;
+                final double cp = DD.twoSquareLow(sx, p);
+
+                // compute the running sum and sum compensation
+                final double s = s3 + p;
+                final double cs = DD.twoSumLow(s3, p, s);
+
+                // update running totals
+                c3 += cp + cs;
+                s3 = s;
+            } else {
+                // no scaling
+                // compute the product and product compensation
+                final double p = x * x;
+                final double cp = DD.twoSquareLow(x, p);
+
+                // compute the running sum and sum compensation
+                final double s = s2 + p;
+                final double cs = DD.twoSumLow(s2, p, s);
+
+                // update running totals
+                c2 += cp + cs;
+                s2 = s;
+            }
+        }
+
+        @Override
+        public Accumulator combine(Accumulator other) {
+            final EuclideanAccumulator o = cast(other, EuclideanAccumulator.class);
+            // Extract all values before updating to support combining with this
+            final double os1 = o.s1;
+            final double os2 = o.s2;
+            final double os3 = o.s3;
+            final double oc1 = o.c1;
+            final double oc2 = o.c2;
+            final double oc3 = o.c3;
+            double s = s1 + os1;
+            c1 += DD.twoSumLow(s1, os1, s) + oc1;
+            s1 = s;
+            s = s2 + os2;
+            c2 += DD.twoSumLow(s2, os2, s) + oc2;
+            s2 = s;
+            s = s3 + os3;
+            c3 += DD.twoSumLow(s3, os3, s) + oc3;
+            s3 = s;
+            special = Math.max(special, o.special);
+            return this;
+        }
+
+        @Override
+        public double getAsDouble() {
+            if (special != 0) {
+                return special;
+            }
+            // The highest sum is the significant component. Add the next significant.
+            // Note that the "x * SCALE_DOWN * SCALE_DOWN" expressions must be executed
+            // in the order given. If the two scale factors are multiplied together first,
+            // they will underflow to zero.
+            if (s1 != 0) {
+                // add s1, s2, c1, c2
+                final double s2Adj = s2 * SCALE_DOWN * SCALE_DOWN;
+                final double sum = s1 + s2Adj;
+                final double comp = DD.twoSumLow(s1, s2Adj, sum) +
+                    c1 + (c2 * SCALE_DOWN * SCALE_DOWN);
+                return Math.sqrt(sum + comp) * SCALE_UP;
+            } else if (s2 != 0) {
+                // add s2, s3, c2, c3
+                final double s3Adj = s3 * SCALE_DOWN * SCALE_DOWN;
+                final double sum = s2 + s3Adj;
+                final double comp = DD.twoSumLow(s2, s3Adj, sum) +
+                    c2 + (c3 * SCALE_DOWN * SCALE_DOWN);
+                return Math.sqrt(sum + comp);
+            }
+            // add s3, c3
+            return Math.sqrt(s3 + c3) * SCALE_DOWN;
+        }
+    }
+
+    /**
+     * Accumulator for the maximum norm.
+     */
+    private static final class MaximumAccumulator implements Accumulator {
+        /** Maximum absolute value. */
+        private double max;
+
+        @Override
+        public void accept(double value) {
+            max = Math.max(max, Math.abs(value));
+        }
+
+        @Override
+        public Accumulator combine(Accumulator other) {
+            max = Math.max(max, cast(other, MaximumAccumulator.class).max);
+            return this;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return max;
+        }
     }
 
     /**
      * @param two Function of 2 arguments.
      * @param three Function of 3 arguments.
      * @param array Function of array argument.
+     * @param accumulator Factory for the accumulator.
      */
     Norm(Two two,
          Three three,
-         Array array) {
+         Array array,
+         Supplier<Accumulator> accumulator) {
         this.two = two;
         this.three = three;
         this.array = array;
+        this.accumulator = accumulator;
     }
 
     /**
@@ -130,6 +377,7 @@ public enum Norm {
         this.two = alias.two;
         this.three = alias.three;
         this.array = alias.array;
+        this.accumulator = alias.accumulator;
     }
 
     /**
@@ -187,8 +435,63 @@ public enum Norm {
      * @throws IllegalArgumentException if the array is empty.
      */
     public final double of(double[] v) {
-        ensureNonEmpty(v);
-        return array.of(v);
+        ensureNonEmpty(v.length);
+        return array.of(v, 0, 1, v.length);
+    }
+
+    /**
+     * Computes the norm of the elements in the range {@code [from, to)} of the array.
+     *
+     * <p>Special cases are the same as {@link #of(double[])}.
+     *
+     * @param v Argument.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return the norm.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @throws IllegalArgumentException if the range is empty.
+     * @since 1.2
+     */
+    public final double of(double[] v, int from, int to) {
+        Ranges.checkFromToIndex(from, to, v.length);
+        ensureNonEmpty(to - from);
+        return array.of(v, from, 1, to - from);
+    }
+
+    /**
+     * Computes the norm of {@code count} elements of the array starting from
+     * index {@code offset} with a spacing of {@code stride}. This uses the elements
+     * at indices {@code offset}, {@code offset + stride}, ...,
+     * {@code offset + (count - 1) * stride}.
+     *
+     * <p>For example the norm of column {@code j} of an {@code m x n} matrix stored
+     * in a row-major array is {@code of(matrix, j, n, m)}.
+     *
+     * <p>Special cases are the same as {@link #of(double[])}.
+     *
+     * @param v Argument.
+     * @param offset Index of the first element.
+     * @param stride Spacing between elements.
+     * @param count Number of elements.
+     * @return the norm.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @throws IllegalArgumentException if {@code stride < 1} or {@code count < 1}.
+     * @since 1.2
+     */
+    public final double of(double[] v, int offset, int stride, int count) {
+        Ranges.checkStridedIndex(offset, stride, count, v.length);
+        ensureNonEmpty(count);
+        return array.of(v, offset, stride, count);
+    }
+
+    /**
+     * Creates a new accumulator for the norm. The accumulator has no values.
+     *
+     * @return the accumulator.
+     * @since 1.2
+     */
+    public final Accumulator accumulator() {
+        return accumulator.get();
     }
 
     /** Computes the Manhattan norm.
@@ -229,17 +532,23 @@ public enum Norm {
     /** Computes the Manhattan norm.
      *
      * @param v input values
+     * @param offset index of the first value
+     * @param stride spacing between values
+     * @param count number of values
      * @return \(|v_0| + ... + |v_i|\)
      *
      * @see #L1
      * @see #MANHATTAN
      * @see #of(double[])
      */
-    private static double manhattan(final double[] v) {
+    private static double manhattan(final double[] v,
+                                    final int offset,
+                                    final int stride,
+                                    final int count) {
         final Sum sum = Sum.create();
 
-        for (final double d : v) {
-            sum.add(Math.abs(d));
+        for (int i = 0, j = offset; i < count; ++i, j += stride) {
+            sum.add(Math.abs(v[j]));
         }
 
         return sum.getAsDouble();
@@ -390,107 +699,46 @@ public enum Norm {
      * This implementation handles possible overflow or underflow.
      *
      * @param v input values
+     * @param offset index of the first value
+     * @param stride spacing between values
+     * @param count number of values
      * @return \(\sqrt{v_0^2 + ... + v_{n-1}^2}\).
      *
      * @see #L2
      * @see #EUCLIDEAN
      * @see #of(double[])
      */
-    private static double euclidean(final double[] v) {
+    private static double euclidean(final double[] v,
+                                    final int offset,
+                                    final int stride,
+                                    final int count) {
         // sum of big, normal and small numbers
-        double s1 = 0;
-        double s2 = 0;
-        double s3 = 0;
-
-        // sum compensation values
-        double c1 = 0;
-        double c2 = 0;
-        double c3 = 0;
-
-        for (int i = 0; i < v.length; ++i) {
-            final double x = Math.abs(v[i]);
+        final EuclideanAccumulator acc = new EuclideanAccumulator();
+        for (int i = 0, j = offset; i < count; ++i, j += stride) {
+            final double x = Math.abs(v[j]);
             if (!Double.isFinite(x)) {
                 // not finite; determine whether to return NaN or positive infinity
-                return euclideanNormSpecial(v, i);
-            } else if (x > LARGE_THRESH) {
-                // scale down
-                final double sx = x * SCALE_DOWN;
-
-                // compute the product and product compensation
-                final double p = sx * sx;
-                final double cp = DD.twoSquareLow(sx, p);
-
-                // compute the running sum and sum compensation
-                final double s = s1 + p;
-                final double cs = DD.twoSumLow(s1, p, s);
-
-                // update running totals
-                c1 += cp + cs;
-                s1 = s;
-            } else if (x < SMALL_THRESH) {
-                // scale up
-                final double sx = x * SCALE_UP;
-
-                // compute the product and product compensation
-                final double p = sx * sx;
-                final double cp = DD.twoSquareLow(sx, p);
-
-                // compute the running sum and sum compensation
-                final double s = s3 + p;
-                final double cs = DD.twoSumLow(s3, p, s);
-
-                // update running totals
-                c3 += cp + cs;
-                s3 = s;
-            } else {
-                // no scaling
-                // compute the product and product compensation
-                final double p = x * x;
-                final double cp = DD.twoSquareLow(x, p);
-
-                // compute the running sum and sum compensation
-                final double s = s2 + p;
-                final double cs = DD.twoSumLow(s2, p, s);
-
-                // update running totals
-                c2 += cp + cs;
-                s2 = s;
+                return euclideanNormSpecial(v, j, stride, count - i);
             }
+            acc.add(x);
         }
-
-        // The highest sum is the significant component. Add the next significant.
-        // Note that the "x * SCALE_DOWN * SCALE_DOWN" expressions must be executed
-        // in the order given. If the two scale factors are multiplied together first,
-        // they will underflow to zero.
-        if (s1 != 0) {
-            // add s1, s2, c1, c2
-            final double s2Adj = s2 * SCALE_DOWN * SCALE_DOWN;
-            final double sum = s1 + s2Adj;
-            final double comp = DD.twoSumLow(s1, s2Adj, sum) +
-                c1 + (c2 * SCALE_DOWN * SCALE_DOWN);
-            return Math.sqrt(sum + comp) * SCALE_UP;
-        } else if (s2 != 0) {
-            // add s2, s3, c2, c3
-            final double s3Adj = s3 * SCALE_DOWN * SCALE_DOWN;
-            final double sum = s2 + s3Adj;
-            final double comp = DD.twoSumLow(s2, s3Adj, sum) +
-                c2 + (c3 * SCALE_DOWN * SCALE_DOWN);
-            return Math.sqrt(sum + comp);
-        }
-        // add s3, c3
-        return Math.sqrt(s3 + c3) * SCALE_DOWN;
+        return acc.getAsDouble();
     }
 
     /** Special cases of non-finite input.
      *
      * @param v input vector
      * @param start index to start examining the input vector from
+     * @param stride spacing between values
+     * @param count number of values to examine
      * @return Euclidean norm special value
      */
     private static double euclideanNormSpecial(final double[] v,
-                                               final int start) {
-        for (int i = start; i < v.length; ++i) {
-            if (Double.isNaN(v[i])) {
+                                               final int start,
+                                               final int stride,
+                                               final int count) {
+        for (int i = 0, j = start; i < count; ++i, j += stride) {
+            if (Double.isNaN(v[j])) {
                 return Double.NaN;
             }
         }
@@ -534,26 +782,48 @@ public enum Norm {
     /** Computes the maximum norm.
      *
      * @param v input values
+     * @param offset index of the first value
+     * @param stride spacing between values
+     * @param count number of values
      * @return \(\max{(|v_0|, \ldots, |v_{n-1}|)}\)
      *
      * @see #LINF
      * @see #MAXIMUM
      * @see #of(double[])
      */
-    private static double maximum(final double[] v) {
+    private static double maximum(final double[] v,
+                                  final int offset,
+                                  final int stride,
+                                  final int count) {
         double max = 0d;
-        for (final double d : v) {
-            max = Math.max(max, Math.abs(d));
+        for (int i = 0, j = offset; i < count; ++i, j += stride) {
+            max = Math.max(max, Math.abs(v[j]));
         }
         return max;
     }
 
     /**
-     * @param a Array.
+     * Cast the accumulator to the specified type.
+     *
+     * @param <T> Accumulator type.
+     * @param accumulator Accumulator.
+     * @param type Accumulator type.
+     * @return the accumulator
+     * @throws IllegalArgumentException if the accumulator is not the specified type.
+     */
+    private static <T extends Accumulator> T cast(Accumulator accumulator, Class<T> type) {
+        if (type.isInstance(accumulator)) {
+            return type.cast(accumulator);
+        }
+        throw new IllegalArgumentException("Incompatible accumulator: " + accumulator);
+    }
+
+    /**
+     * @param length Array length.
      * @throws IllegalArgumentException for zero-size array.
      */
-    private static void ensureNonEmpty(double[] a) {
-        if (a.length == 0) {
+    private static void ensureNonEmpty(int length) {
+        if (length == 0) {
             throw new IllegalArgumentException("Empty array");
         }
     }
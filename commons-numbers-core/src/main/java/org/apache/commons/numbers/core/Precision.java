@@ -54,6 +54,34 @@ public final class Precision {
     /** Positive zero. */
     private static final double POSITIVE_ZERO = 0d;
 
+    /** Raw long bits of positive infinity. Any larger unsigned value is NaN. */
+    private static final long POSITIVE_INFINITY_BITS = 0x7ff0000000000000L;
+
+    /** Powers of ten that are exactly representable as a double. */
+    private static final double[] POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    /** Upper limit (exclusive) on the magnitude of the scaled value for fast rounding.
+     * Integers below this limit are exact and the fraction has a precision of at least 1 ulp. */
+    private static final double ROUND_LIMIT = 0x1.0p52;
+
+    /** Upper limit (exclusive) on a rounding boundary of a scaled value that can be
+     * identified as the decimal string representation. Decimals with at most 15 significant
+     * digits are uniquely represented by a double. */
+    private static final double ROUND_EXACT_LIMIT = 1e14;
+
+    /** Upper limit (exclusive) on a value where the decimal string representation
+     * is known to be the shortest decimal that converts to the value. */
+    private static final double ROUND_SHORTEST_LIMIT = 0x1.0p53;
+
+    /** Upper limit (exclusive) on the tolerance of the scaled value for fast rounding. */
+    private static final double ROUND_TOLERANCE_LIMIT = 0.25;
+
+    /** Fractional part of a rounding boundary for the half rounding modes. */
+    private static final double HALF = 0.5;
+
     static {
         /*
          *  This was previously expressed as = 0x1.0p-53
@@ -408,6 +436,116 @@ public final class Precision {
             equals(x, y, maxUlps);
     }
 
+    /**
+     * Returns the number of floating point values from {@code x} to {@code y}
+     * (the distance in units in the last place). This is zero for equal values,
+     * including {@code 0.0} and {@code -0.0}; and one for adjacent floating
+     * point values.
+     *
+     * <p>If either value is NaN then the distance is {@link Long#MAX_VALUE}.
+     * The distance between values with opposite signs is saturated at
+     * {@link Long#MAX_VALUE}.
+     *
+     * <p>Two values are {@link #equals(double,double,int) equal} using
+     * {@code maxUlps} if {@code ulpDistance(x, y) <= maxUlps}.
+     *
+     * @param x First value.
+     * @param y Second value.
+     * @return the distance
+     * @see #equals(double, double, int)
+     * @since 1.2
+     */
+    public static long ulpDistance(double x, double y) {
+        final long xInt = Double.doubleToRawLongBits(x);
+        final long yInt = Double.doubleToRawLongBits(y);
+        final long xAbs = xInt & Long.MAX_VALUE;
+        final long yAbs = yInt & Long.MAX_VALUE;
+        if (xAbs > POSITIVE_INFINITY_BITS || yAbs > POSITIVE_INFINITY_BITS) {
+            // NaN
+            return Long.MAX_VALUE;
+        }
+        if ((xInt ^ yInt) < 0) {
+            // Opposite signs: distance is the sum of the ULPs above zero.
+            // This may overflow for large magnitudes.
+            final long d = xAbs + yAbs;
+            return d < 0 ? Long.MAX_VALUE : d;
+        }
+        // Same sign: no risk of overflow
+        return Math.abs(xInt - yInt);
+    }
+
+    /**
+     * Returns {@code true} if the arrays have the same length and each pair of elements
+     * is equal as defined by {@link #equals(double,double,int) equals(a[i], b[i], maxUlps)}.
+     * Returns {@code false} if any element is NaN.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between {@code a[i]} and {@code b[i]}.
+     * @return {@code true} if the arrays are equal.
+     * @see #mismatch(double[], double[], int)
+     * @since 1.2
+     */
+    public static boolean equals(double[] a, double[] b, int maxUlps) {
+        return a.length == b.length && mismatch(a, b, maxUlps) < 0;
+    }
+
+    /**
+     * Finds the index of the first mismatch between the two arrays. Elements are
+     * equal as defined by {@link #equals(double,double,int) equals(a[i], b[i], maxUlps)};
+     * NaN elements are never equal.
+     *
+     * <p>The result follows the convention of {@code java.util.Arrays.mismatch}
+     * introduced in JDK 9:
+     * <ul>
+     *  <li>{@code -1} if the arrays have the same length and no mismatch is found;
+     *  <li>the index of the first mismatch in the common prefix of the arrays; or
+     *  <li>the length of the shorter array if it is a prefix of the longer array.
+     * </ul>
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @param maxUlps {@code (maxUlps - 1)} is the number of floating point
+     * values between {@code a[i]} and {@code b[i]}.
+     * @return the index of the first mismatch, otherwise -1
+     * @since 1.2
+     */
+    public static int mismatch(double[] a, double[] b, int maxUlps) {
+        final int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            if (ulpDistance(a[i], b[i]) > maxUlps) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : length;
+    }
+
+    /**
+     * Returns the maximum of the {@link #ulpDistance(double, double) distance} in units in
+     * the last place between each pair of elements of the arrays. This is
+     * {@link Long#MAX_VALUE} if any element is NaN. Returns zero for empty arrays.
+     *
+     * <p>The arrays are {@link #equals(double[],double[],int) equal} using {@code maxUlps}
+     * if {@code maxUlpDistance(a, b) <= maxUlps}.
+     *
+     * @param a First values.
+     * @param b Second values.
+     * @return the maximum distance
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @since 1.2
+     */
+    public static long maxUlpDistance(double[] a, double[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Size mismatch: " + a.length + " != " + b.length);
+        }
+        long max = 0;
+        for (int i = 0; i < a.length; i++) {
+            max = Math.max(max, ulpDistance(a[i], b[i]));
+        }
+        return max;
+    }
+
     /**
      * Rounds the given value to the specified number of decimal places.
      * The value is rounded using {@link RoundingMode#HALF_UP}.
@@ -465,6 +603,11 @@ public final class Precision {
      * Precision.round(30.645, 2) == 30.65
      * </pre>
      *
+     * <p>For a scale in {@code [-22, 22]} the rounding is performed using double-double
+     * arithmetic when the result can be proven to be the same as rounding the
+     * String representation; otherwise the String representation is rounded
+     * using {@link BigDecimal}.
+     *
      * @param x Value to round.
      * @param scale Number of digits to the right of the decimal point.
      * @param roundingMode Rounding mode as defined in {@link BigDecimal}.
@@ -477,6 +620,10 @@ public final class Precision {
     public static double round(double x,
                                int scale,
                                RoundingMode roundingMode) {
+        final double r = roundFast(x, scale, roundingMode);
+        if (!Double.isNaN(r)) {
+            return r;
+        }
         try {
             final double rounded = (new BigDecimal(Double.toString(x))
                    .setScale(scale, roundingMode))
@@ -491,6 +638,101 @@ public final class Precision {
         }
     }
 
+    /**
+     * Rounds the given value to the specified number of decimal places using the
+     * specified rounding mode.
+     *
+     * <p>The value is scaled by {@code 10^scale} using exact double-double arithmetic
+     * (approximately exact for a negative scale) and rounded to an integer {@code k}.
+     * The String representation of {@code x} is within 0.5 ulp of {@code x}. The
+     * result is the same as rounding the String representation if the scaled value is
+     * not within a tolerance of a rounding boundary; or if the rounding boundary is a
+     * short decimal that converts to {@code x}. The result {@code k / 10^scale} is then
+     * computed using a single correctly rounded operation as per
+     * {@link BigDecimal#doubleValue()}.
+     *
+     * <p>Returns NaN if the result cannot be proven to match rounding of the String
+     * representation, or the scale is not supported.
+     *
+     * @param x Value to round.
+     * @param scale Number of digits to the right of the decimal point.
+     * @param roundingMode Rounding mode.
+     * @return the rounded value (or NaN)
+     */
+    private static double roundFast(double x, int scale, RoundingMode roundingMode) {
+        final double a = Math.abs(x);
+        final int s = Math.abs(scale);
+        if (s >= POW10.length || !(a < Double.POSITIVE_INFINITY)) {
+            return Double.NaN;
+        }
+        if (a == 0) {
+            return x;
+        }
+        final double p = POW10[s];
+        final DD y = scale >= 0 ? DD.ofProduct(a, p) : DD.of(a).divide(p);
+        final double hi = y.hi();
+        if (!(hi < ROUND_LIMIT)) {
+            return Double.NaN;
+        }
+        // Integer n and fraction f in [0, 1)
+        double n = Math.floor(hi);
+        double f = (hi - n) + y.lo();
+        if (f < 0) {
+            n--;
+            f += 1;
+        } else if (f >= 1) {
+            n++;
+            f -= 1;
+        }
+        // Bound on the distance between x and its decimal representation after scaling.
+        // This is 4 times the maximum distance of 0.5 ulp to allow for rounding error in f.
+        final double t = 2 * (scale >= 0 ? Math.ulp(a) * p : Math.ulp(a) / p);
+        if (!(t < ROUND_TOLERANCE_LIMIT)) {
+            return Double.NaN;
+        }
+        final boolean half = roundingMode == RoundingMode.HALF_UP ||
+            roundingMode == RoundingMode.HALF_DOWN ||
+            roundingMode == RoundingMode.HALF_EVEN;
+        final double k;
+        if ((half ? Math.abs(f - HALF) : Math.min(f, 1 - f)) > t) {
+            // The decimal representation rounds to the same integer as the scaled value
+            if (half) {
+                k = f < HALF ? n : n + 1;
+            } else if (roundingMode == RoundingMode.UP ||
+                       roundingMode == RoundingMode.CEILING && x > 0 ||
+                       roundingMode == RoundingMode.FLOOR && x < 0) {
+                k = n + 1;
+            } else if (roundingMode == RoundingMode.UNNECESSARY) {
+                // Rounding is required
+                return Double.NaN;
+            } else {
+                k = n;
+            }
+        } else {
+            // Close to a rounding boundary c * 10^-scale. A decimal with at most 15
+            // significant digits is the only such decimal that converts to x; it is
+            // the shortest decimal representation of x if it converts to x.
+            // Note: Double.toString in JDK 18 and earlier may not create the shortest
+            // decimal for values above 2^53.
+            final double c = half ? n + HALF : f < HALF ? n : n + 1;
+            if (!(c < ROUND_EXACT_LIMIT) || !(a < ROUND_SHORTEST_LIMIT) ||
+                (scale >= 0 ? c / p : c * p) != a) {
+                return Double.NaN;
+            }
+            if (!half) {
+                k = c;
+            } else if (roundingMode == RoundingMode.HALF_UP ||
+                       roundingMode == RoundingMode.HALF_EVEN && n % 2 != 0) {
+                k = n + 1;
+            } else {
+                k = n;
+            }
+        }
+        final double r = scale >= 0 ? k / p : k * p;
+        // Negative values rounded to zero result in negative zero
+        return x < 0 ? -r : r;
+    }
+
     /**
      * Computes a number close to {@code delta} with the property that
      * {@code (x + delta - x)} is exactly machine-representable.
@@ -530,6 +772,20 @@ public final class Precision {
                                double b) {
                 return Precision.compareTo(a, b, epsilon);
             }
+
+            /** {@inheritDoc} */
+            @Override
+            public int mismatch(double[] a,
+                                double[] b) {
+                final int length = Math.min(a.length, b.length);
+                for (int i = 0; i < length; i++) {
+                    // Consistent with compare: NaN values are equal
+                    if (!Precision.equalsIncludingNaN(a[i], b[i], epsilon)) {
+                        return i;
+                    }
+                }
+                return a.length == b.length ? -1 : length;
+            }
         };
     }
 
@@ -551,6 +807,47 @@ public final class Precision {
             return compare(a, b) == 0;
         }
 
+        /**
+         * Indicates whether the given arrays have the same length and each pair of
+         * elements is {@link #eq(double, double) considered equal}.
+         *
+         * @param a Values.
+         * @param b Values.
+         * @return true if the given arrays are considered equal.
+         * @see #mismatch(double[], double[])
+         * @since 1.2
+         */
+        default boolean eq(double[] a, double[] b) {
+            return a.length == b.length && mismatch(a, b) < 0;
+        }
+
+        /**
+         * Finds the index of the first pair of elements of the arrays that are not
+         * {@link #eq(double, double) considered equal}.
+         *
+         * <p>The result follows the convention of {@code java.util.Arrays.mismatch}
+         * introduced in JDK 9:
+         * <ul>
+         *  <li>{@code -1} if the arrays have the same length and no mismatch is found;
+         *  <li>the index of the first mismatch in the common prefix of the arrays; or
+         *  <li>the length of the shorter array if it is a prefix of the longer array.
+         * </ul>
+         *
+         * @param a Values.
+         * @param b Values.
+         * @return the index of the first mismatch, otherwise -1
+         * @since 1.2
+         */
+        default int mismatch(double[] a, double[] b) {
+            final int length = Math.min(a.length, b.length);
+            for (int i = 0; i < length; i++) {
+                if (!eq(a[i], b[i])) {
+                    return i;
+                }
+            }
+            return a.length == b.length ? -1 : length;
+        }
+
         /**
          * Indicates whether the given value is considered equal to zero.
          * It is a shortcut for {@code eq(a, 0.0)}.
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * Utilities for validating ranges of an array.
+ */
+final class Ranges {
+    /** No instances. */
+    private Ranges() {}
+
+    /**
+     * Checks if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * within the bounds of range from 0 (inclusive) to length (exclusive).
+     *
+     * <p>This function provides the functionality of
+     * {@code java.utils.Objects.checkFromToIndex} introduced in JDK 9.
+     *
+     * @param fromIndex Lower-bound (inclusive) of the sub-range.
+     * @param toIndex Upper-bound (exclusive) of the sub-range.
+     * @param length Upper-bound (exclusive) of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    static void checkFromToIndex(int fromIndex, int toIndex, int length) {
+        // Checks as documented in JDK 9
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [%d, %d) out of bounds for length %d", fromIndex, toIndex, length));
+        }
+    }
+
+    /**
+     * Checks if the strided sub-range of {@code count} elements starting at
+     * {@code offset} with a spacing of {@code stride} is within the bounds of
+     * range from 0 (inclusive) to length (exclusive).
+     *
+     * @param offset Index of the first element.
+     * @param stride Spacing between elements.
+     * @param count Number of elements.
+     * @param length Upper-bound (exclusive) of the range.
+     * @throws IllegalArgumentException if {@code stride < 1} or {@code count < 0}.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    static void checkStridedIndex(int offset, int stride, int count, int length) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("Stride must be strictly positive: " + stride);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        // Index of the last element; or the offset for an empty range
+        final long last = count == 0 ? offset - 1L : offset + (count - 1L) * stride;
+        if (offset < 0 || last >= length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [offset=%d, stride=%d, count=%d] out of bounds for length %d",
+                              offset, stride, count, length));
+        }
+    }
+}
@@ -16,8 +16,12 @@
  */
 package org.apache.commons.numbers.core;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleSupplier;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
 
 /**
  * Class providing accurate floating-point sums and linear combinations.
@@ -76,15 +80,31 @@ import java.util.function.DoubleSupplier;
  * balance of precision and performance. Future releases may choose to use
  * different algorithms.
  *
+ * <p>The array methods such as {@link #add(double...)} and
+ * {@link #addProducts(double[], double[])} accumulate the terms using multiple
+ * independent compensated sums that are merged at the end. This has the same
+ * error bound as adding the terms individually but is faster for long arrays.
+ * The result may differ from adding the terms individually in the final bits.
+ *
  * <p>Results follow the IEEE 754 rules for addition: For example, if any
  * input value is {@link Double#NaN}, the result is {@link Double#NaN}.
  *
  * <p>Instances of this class are mutable and not safe for use by multiple
- * threads.
+ * threads. A sum can be computed in parallel by combining partial sums
+ * using {@link #add(Sum)}; this is provided by {@link #parallelOf(double[])},
+ * {@link #of(DoubleStream)} and the stream {@link #collector() collector}.
  */
 public final class Sum
     implements DoubleSupplier,
                DoubleConsumer {
+    /** Number of independent accumulators used for array terms. */
+    private static final int LANES = 4;
+    /** Default number of terms below which a parallel sum is computed sequentially. */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    /** Collector of values to a sum. */
+    private static final Collector<Double, Sum, Sum> COLLECTOR =
+        Collector.of(Sum::create, Sum::add, Sum::add, Collector.Characteristics.IDENTITY_FINISH);
+
     /** Standard sum. */
     private double sum;
     /** Compensation value. */
@@ -121,11 +141,49 @@ public final class Sum
      * @return this instance.
      */
     public Sum add(final double... terms) {
-        for (final double t : terms) {
-            add(t);
-        }
+        return addTerms(terms, 0, 1, terms.length);
+    }
 
-        return this;
+    /**
+     * Adds the values in the range {@code [from, to)} of the array to the sum.
+     *
+     * @param terms Terms to add.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return this instance.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @since 1.2
+     */
+    public Sum add(final double[] terms,
+                   final int from,
+                   final int to) {
+        Ranges.checkFromToIndex(from, to, terms.length);
+        return addTerms(terms, from, 1, to - from);
+    }
+
+    /**
+     * Adds {@code count} values of the array starting from index {@code offset}
+     * with a spacing of {@code stride} to the sum. This adds the values at indices
+     * {@code offset}, {@code offset + stride}, ..., {@code offset + (count - 1) * stride}.
+     *
+     * <p>For example to add column {@code j} of an {@code m x n} matrix stored
+     * in a row-major array use {@code add(matrix, j, n, m)}.
+     *
+     * @param terms Terms to add.
+     * @param offset Index of the first element.
+     * @param stride Spacing between elements.
+     * @param count Number of elements.
+     * @return this instance.
+     * @throws IllegalArgumentException if {@code stride < 1} or {@code count < 0}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @since 1.2
+     */
+    public Sum add(final double[] terms,
+                   final int offset,
+                   final int stride,
+                   final int count) {
+        Ranges.checkStridedIndex(offset, stride, count, terms.length);
+        return addTerms(terms, offset, stride, count);
     }
 
     /**
@@ -157,19 +215,223 @@ public final class Sum
      */
     public Sum addProducts(final double[] a,
                            final double[] b) {
-        final int len = a.length;
-        if (len != b.length) {
-            throw new IllegalArgumentException("Dimension mismatch: " +
-                                               a.length + " != " + b.length);
-        }
+        checkDimension(a, b);
+        return addProductTerms(a, 0, 1, b, 0, 1, a.length);
+    }
+
+    /**
+     * Adds \( \sum_i a_i b_i \) to this sum using the elements in the range
+     * {@code [from, to)} of the arrays.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return this instance.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the arrays.
+     * @since 1.2
+     */
+    public Sum addProducts(final double[] a,
+                           final double[] b,
+                           final int from,
+                           final int to) {
+        checkDimension(a, b);
+        Ranges.checkFromToIndex(from, to, a.length);
+        return addProductTerms(a, from, 1, b, from, 1, to - from);
+    }
 
-        for (int i = 0; i < len; ++i) {
-            addProduct(a[i], b[i]);
+    /**
+     * Adds \( \sum_i a_i b_i \) to this sum using {@code count} elements of
+     * each array. The elements of each array start from the offset and have a
+     * spacing of the stride.
+     *
+     * <p>For example to add the product of row {@code i} and column {@code j}
+     * of {@code n x n} matrices stored in row-major arrays use
+     * {@code addProducts(a, i * n, 1, b, j, n, n)}.
+     *
+     * @param a Factors.
+     * @param aOffset Index of the first element of {@code a}.
+     * @param aStride Spacing between elements of {@code a}.
+     * @param b Factors.
+     * @param bOffset Index of the first element of {@code b}.
+     * @param bStride Spacing between elements of {@code b}.
+     * @param count Number of elements.
+     * @return this instance.
+     * @throws IllegalArgumentException if either stride is {@code < 1} or {@code count < 0}.
+     * @throws IndexOutOfBoundsException if either range is out of bounds of the array.
+     * @since 1.2
+     */
+    public Sum addProducts(final double[] a,
+                           final int aOffset,
+                           final int aStride,
+                           final double[] b,
+                           final int bOffset,
+                           final int bStride,
+                           final int count) {
+        Ranges.checkStridedIndex(aOffset, aStride, count, a.length);
+        Ranges.checkStridedIndex(bOffset, bStride, count, b.length);
+        return addProductTerms(a, aOffset, aStride, b, bOffset, bStride, count);
+    }
+
+    /**
+     * Adds {@code count} terms starting from {@code offset} with a spacing of
+     * {@code stride} to this sum.
+     *
+     * <p>The terms are accumulated in {@value #LANES} independent compensated
+     * lanes, each using the <em>Sum2S</em> algorithm on every {@value #LANES}-th term,
+     * which are merged into this sum at the end. This removes the serial dependency
+     * on the running sum and allows the processor to pipeline the additions. The
+     * error bound is the same as the sequential algorithm. If there are fewer than
+     * {@value #LANES} terms the result is identical to the sequential algorithm.
+     *
+     * @param terms Terms to add.
+     * @param offset Index of the first element.
+     * @param stride Spacing between elements.
+     * @param count Number of elements.
+     * @return this instance.
+     */
+    private Sum addTerms(final double[] terms, final int offset, final int stride, final int count) {
+        // Lane 0 continues this sum. The other lanes are initialized with -0.0
+        // which is the additive identity for all values including signed zeros.
+        double s0 = sum;
+        double c0 = comp;
+        double s1 = -0d;
+        double c1 = 0;
+        double s2 = -0d;
+        double c2 = 0;
+        double s3 = -0d;
+        double c3 = 0;
+        int i = 0;
+        int j = offset;
+        for (final int end = count - LANES; i <= end; i += LANES) {
+            final double t0 = terms[j];
+            final double t1 = terms[j += stride];
+            final double t2 = terms[j += stride];
+            final double t3 = terms[j += stride];
+            j += stride;
+            final double u0 = s0 + t0;
+            final double u1 = s1 + t1;
+            final double u2 = s2 + t2;
+            final double u3 = s3 + t3;
+            c0 += DD.twoSumLow(s0, t0, u0);
+            c1 += DD.twoSumLow(s1, t1, u1);
+            c2 += DD.twoSumLow(s2, t2, u2);
+            c3 += DD.twoSumLow(s3, t3, u3);
+            s0 = u0;
+            s1 = u1;
+            s2 = u2;
+            s3 = u3;
         }
+        // Remaining terms
+        for (; i < count; i++, j += stride) {
+            final double t = terms[j];
+            final double u = s0 + t;
+            c0 += DD.twoSumLow(s0, t, u);
+            s0 = u;
+        }
+        sum = s0;
+        comp = c0;
+        addLane(s1, c1);
+        addLane(s2, c2);
+        addLane(s3, c3);
+        return this;
+    }
 
+    /**
+     * Adds the products of {@code count} terms from the arrays to this sum.
+     * The terms of each array start from the offset and have a spacing of the
+     * stride.
+     *
+     * <p>The products are accumulated in {@value #LANES} independent compensated
+     * lanes, each using the <em>Dot2S</em> algorithm on every {@value #LANES}-th product,
+     * which are merged into this sum at the end. This removes the serial dependency
+     * on the running sum and allows the processor to pipeline the operations. The
+     * error bound is the same as the sequential algorithm. If there are fewer than
+     * {@value #LANES} products the result is identical to the sequential algorithm.
+     *
+     * @param a Factors.
+     * @param aOffset Index of the first element of {@code a}.
+     * @param aStride Spacing between elements of {@code a}.
+     * @param b Factors.
+     * @param bOffset Index of the first element of {@code b}.
+     * @param bStride Spacing between elements of {@code b}.
+     * @param count Number of elements.
+     * @return this instance.
+     */
+    private Sum addProductTerms(final double[] a, final int aOffset, final int aStride,
+                                final double[] b, final int bOffset, final int bStride,
+                                final int count) {
+        double s0 = sum;
+        double c0 = comp;
+        double s1 = -0d;
+        double c1 = 0;
+        double s2 = -0d;
+        double c2 = 0;
+        double s3 = -0d;
+        double c3 = 0;
+        int i = 0;
+        int ja = aOffset;
+        int jb = bOffset;
+        for (final int end = count - LANES; i <= end; i += LANES) {
+            final double a0 = a[ja];
+            final double a1 = a[ja += aStride];
+            final double a2 = a[ja += aStride];
+            final double a3 = a[ja += aStride];
+            ja += aStride;
+            final double b0 = b[jb];
+            final double b1 = b[jb += bStride];
+            final double b2 = b[jb += bStride];
+            final double b3 = b[jb += bStride];
+            jb += bStride;
+            final double p0 = a0 * b0;
+            final double p1 = a1 * b1;
+            final double p2 = a2 * b2;
+            final double p3 = a3 * b3;
+            final double u0 = s0 + p0;
+            final double u1 = s1 + p1;
+            final double u2 = s2 + p2;
+            final double u3 = s3 + p3;
+            c0 += DD.twoSumLow(s0, p0, u0) + ExtendedPrecision.productLow(a0, b0, p0);
+            c1 += DD.twoSumLow(s1, p1, u1) + ExtendedPrecision.productLow(a1, b1, p1);
+            c2 += DD.twoSumLow(s2, p2, u2) + ExtendedPrecision.productLow(a2, b2, p2);
+            c3 += DD.twoSumLow(s3, p3, u3) + ExtendedPrecision.productLow(a3, b3, p3);
+            s0 = u0;
+            s1 = u1;
+            s2 = u2;
+            s3 = u3;
+        }
+        // Remaining products
+        for (; i < count; i++, ja += aStride, jb += bStride) {
+            final double x = a[ja];
+            final double y = b[jb];
+            final double p = x * y;
+            final double u = s0 + p;
+            c0 += DD.twoSumLow(s0, p, u) + ExtendedPrecision.productLow(x, y, p);
+            s0 = u;
+        }
+        sum = s0;
+        comp = c0;
+        addLane(s1, c1);
+        addLane(s2, c2);
+        addLane(s3, c3);
         return this;
     }
 
+    /**
+     * Adds the sum and compensation of an accumulator lane to this sum.
+     * Unlike {@link #add(double, double)} the compensation terms are combined
+     * as in the sequential algorithm; a NaN compensation is retained.
+     *
+     * @param s Sum.
+     * @param c Compensation.
+     */
+    private void addLane(double s, double c) {
+        final double newSum = sum + s;
+        comp += DD.twoSumLow(sum, s, newSum) + c;
+        sum = newSum;
+    }
+
     /**
      * Adds another sum to this sum.
      *
@@ -267,6 +529,141 @@ public final class Sum
         return create().add(values);
     }
 
+    /**
+     * Creates an instance containing the sum of the values in the range
+     * {@code [from, to)} of the array.
+     *
+     * @param values Values to add.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return a new instance.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @since 1.2
+     */
+    public static Sum of(final double[] values,
+                         final int from,
+                         final int to) {
+        return create().add(values, from, to);
+    }
+
+    /**
+     * Creates an instance containing the sum of {@code count} values of the array
+     * starting from index {@code offset} with a spacing of {@code stride}.
+     *
+     * @param values Values to add.
+     * @param offset Index of the first element.
+     * @param stride Spacing between elements.
+     * @param count Number of elements.
+     * @return a new instance.
+     * @throws IllegalArgumentException if {@code stride < 1} or {@code count < 0}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @see #add(double[], int, int, int)
+     * @since 1.2
+     */
+    public static Sum of(final double[] values,
+                         final int offset,
+                         final int stride,
+                         final int count) {
+        return create().add(values, offset, stride, count);
+    }
+
+    /**
+     * Creates an instance containing the sum of the given values computed in
+     * parallel using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * <p>The array is recursively divided and the sum of each part is computed
+     * separately; the partial sums are combined using {@link #add(Sum)}. The
+     * error bound is the same as the sequential sum but the result may differ
+     * from {@link #of(double...)} in the final bits.
+     *
+     * @param values Values to add.
+     * @return a new instance.
+     * @since 1.2
+     */
+    public static Sum parallelOf(final double[] values) {
+        return parallelOf(values, 0, values.length);
+    }
+
+    /**
+     * Creates an instance containing the sum of the values in the range
+     * {@code [from, to)} of the array computed in parallel using the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param values Values to add.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return a new instance.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @see #parallelOf(double[])
+     * @since 1.2
+     */
+    public static Sum parallelOf(final double[] values,
+                                 final int from,
+                                 final int to) {
+        return parallelOf(values, from, to, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates an instance containing the sum of the values in the range
+     * {@code [from, to)} of the array computed in parallel using the specified
+     * pool. Ranges containing fewer than {@code threshold} values are not split.
+     *
+     * @param values Values to add.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param pool Pool used to execute the summation.
+     * @param threshold Number of values below which a range is summed sequentially.
+     * @return a new instance.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the array.
+     * @throws IllegalArgumentException if {@code threshold < 1}.
+     * @see #parallelOf(double[])
+     * @since 1.2
+     */
+    public static Sum parallelOf(final double[] values,
+                                 final int from,
+                                 final int to,
+                                 final ForkJoinPool pool,
+                                 final int threshold) {
+        Ranges.checkFromToIndex(from, to, values.length);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be strictly positive: " + threshold);
+        }
+        if (to - from <= threshold) {
+            return create().addTerms(values, from, 1, to - from);
+        }
+        return pool.invoke(new SumTask(values, from, to, threshold));
+    }
+
+    /**
+     * Creates a new instance containing the sum of the elements of the stream.
+     * Partial sums from a parallel stream are combined using {@link #add(Sum)}
+     * which retains the compensation of each partial sum.
+     *
+     * <p>This is a terminal operation on the stream.
+     *
+     * @param stream Stream of values.
+     * @return a new instance.
+     * @since 1.2
+     */
+    public static Sum of(final DoubleStream stream) {
+        return stream.collect(Sum::create, Sum::add, Sum::add);
+    }
+
+    /**
+     * Returns a {@link Collector} that computes the sum of the input elements.
+     * Partial sums from a parallel stream are combined using {@link #add(Sum)}
+     * which retains the compensation of each partial sum.
+     *
+     * <p>The collector operates on boxed values. For a primitive
+     * {@link DoubleStream} use {@link #of(DoubleStream)}.
+     *
+     * @return a collector
+     * @since 1.2
+     */
+    public static Collector<Double, Sum, Sum> collector() {
+        return COLLECTOR;
+    }
+
     /**
      * Creates a new instance containing \( \sum_i a_i b_i \).
      *
@@ -278,4 +675,108 @@ public final class Sum
                                  final double[] b) {
         return create().addProducts(a, b);
     }
+
+    /**
+     * Creates a new instance containing \( \sum_i a_i b_i \) using the elements
+     * in the range {@code [from, to)} of the arrays.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @return a new instance.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the arrays.
+     * @since 1.2
+     */
+    public static Sum ofProducts(final double[] a,
+                                 final double[] b,
+                                 final int from,
+                                 final int to) {
+        return create().addProducts(a, b, from, to);
+    }
+
+    /**
+     * Creates a new instance containing \( \sum_i a_i b_i \) using {@code count}
+     * elements of each array. The elements of each array start from the offset
+     * and have a spacing of the stride.
+     *
+     * @param a Factors.
+     * @param aOffset Index of the first element of {@code a}.
+     * @param aStride Spacing between elements of {@code a}.
+     * @param b Factors.
+     * @param bOffset Index of the first element of {@code b}.
+     * @param bStride Spacing between elements of {@code b}.
+     * @param count Number of elements.
+     * @return a new instance.
+     * @throws IllegalArgumentException if either stride is {@code < 1} or {@code count < 0}.
+     * @throws IndexOutOfBoundsException if either range is out of bounds of the array.
+     * @see #addProducts(double[], int, int, double[], int, int, int)
+     * @since 1.2
+     */
+    public static Sum ofProducts(final double[] a,
+                                 final int aOffset,
+                                 final int aStride,
+                                 final double[] b,
+                                 final int bOffset,
+                                 final int bStride,
+                                 final int count) {
+        return create().addProducts(a, aOffset, aStride, b, bOffset, bStride, count);
+    }
+
+    /**
+     * Checks the arrays have the same length.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    private static void checkDimension(double[] a, double[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Dimension mismatch: " +
+                                               a.length + " != " + b.length);
+        }
+    }
+
+    /**
+     * Task to compute the sum of a range of an array.
+     */
+    private static final class SumTask extends RecursiveTask<Sum> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261016L;
+
+        /** Values. */
+        private final double[] values;
+        /** Index of the first element (inclusive). */
+        private final int from;
+        /** Index of the last element (exclusive). */
+        private final int to;
+        /** Number of values below which the range is summed sequentially. */
+        private final int threshold;
+
+        /**
+         * @param values Values.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param threshold Number of values below which the range is summed sequentially.
+         */
+        SumTask(double[] values, int from, int to, int threshold) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Sum compute() {
+            if (to - from <= threshold) {
+                return create().addTerms(values, from, 1, to - from);
+            }
+            final int mid = (from + to) >>> 1;
+            final SumTask right = new SumTask(values, mid, to, threshold);
+            right.fork();
+            final Sum left = new SumTask(values, from, mid, threshold).compute();
+            return left.add(right.join());
+        }
+    }
 }
@@ -19,9 +19,13 @@ package org.apache.commons.numbers.core;
 import java.util.Arrays;
 import java.math.BigInteger;
 import java.util.Collections;
-
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 /**
  * Test cases for the {@link ArithmeticUtils} class.
@@ -252,6 +256,279 @@ class ArithmeticUtilsTest {
         }
     }
 
+    @Test
+    void testGcdLongArray() {
+        Assertions.assertEquals(0, ArithmeticUtils.gcd(new long[0]));
+        Assertions.assertEquals(0, ArithmeticUtils.gcd(new long[3]));
+        Assertions.assertEquals(7, ArithmeticUtils.gcd(new long[] {-7}));
+        Assertions.assertEquals(6, ArithmeticUtils.gcd(new long[] {12, -18, 0, 30}));
+        Assertions.assertEquals(1, ArithmeticUtils.gcd(new long[] {6, 10, 15}));
+        Assertions.assertEquals(1L << 62, ArithmeticUtils.gcd(new long[] {Long.MIN_VALUE, 1L << 62}));
+        Assertions.assertEquals(Long.MAX_VALUE, ArithmeticUtils.gcd(new long[] {Long.MAX_VALUE, -Long.MAX_VALUE}));
+        // Range
+        final long[] values = {1, 12, 18, 30, 1};
+        Assertions.assertEquals(6, ArithmeticUtils.gcd(values, 1, 4));
+        Assertions.assertEquals(1, ArithmeticUtils.gcd(values, 0, 4));
+        Assertions.assertEquals(0, ArithmeticUtils.gcd(values, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ArithmeticUtils.gcd(values, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ArithmeticUtils.gcd(values, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ArithmeticUtils.gcd(values, 0, 6));
+        // gcd == 2^63
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcd(new long[] {Long.MIN_VALUE}));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcd(new long[] {0, Long.MIN_VALUE, Long.MIN_VALUE}));
+    }
+
+    @Test
+    void testGcdLongArrayConsistency() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 200; i++) {
+            final long[] values = new long[rng.nextInt(1, 10)];
+            // Common factor with a random number of trailing zeros
+            final long factor = rng.nextLong(1, 1000) << rng.nextInt(20);
+            BigInteger expected = BigInteger.ZERO;
+            for (int j = 0; j < values.length; j++) {
+                values[j] = factor * rng.nextLong(-1000000, 1000000);
+                expected = expected.gcd(BigInteger.valueOf(values[j]));
+            }
+            long g = 0;
+            for (final long v : values) {
+                g = ArithmeticUtils.gcd(g, v);
+            }
+            Assertions.assertEquals(expected.longValue(), g);
+            Assertions.assertEquals(g, ArithmeticUtils.gcd(values));
+            Assertions.assertEquals(g, ArithmeticUtils.parallelGcd(values));
+        }
+    }
+
+    @Test
+    void testParallelGcd() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 24L * rng.nextLong(-(1L << 40), 1L << 40);
+        }
+        final long g = ArithmeticUtils.gcd(values);
+        Assertions.assertEquals(0, g % 24);
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (final int threshold : new int[] {1, 7, 100, 2000}) {
+            Assertions.assertEquals(g, ArithmeticUtils.parallelGcd(values, 0, values.length, pool, threshold));
+            Assertions.assertEquals(ArithmeticUtils.gcd(values, 3, 503),
+                ArithmeticUtils.parallelGcd(values, 3, 503, pool, threshold));
+        }
+        Assertions.assertEquals(ArithmeticUtils.gcd(values, 10, 20), ArithmeticUtils.parallelGcd(values, 10, 20));
+        // Short-circuit when gcd is 1
+        values[0] = 1;
+        Assertions.assertEquals(1, ArithmeticUtils.parallelGcd(values, 0, values.length, pool, 10));
+        Arrays.fill(values, Long.MIN_VALUE);
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.parallelGcd(values, 0, values.length, pool, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ArithmeticUtils.parallelGcd(values, 0, values.length, pool, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ArithmeticUtils.parallelGcd(values, 0, values.length + 1));
+    }
+
+    @Test
+    void testLcmLongArray() {
+        Assertions.assertEquals(1, ArithmeticUtils.lcm(new long[0]));
+        Assertions.assertEquals(7, ArithmeticUtils.lcm(new long[] {-7}));
+        Assertions.assertEquals(60, ArithmeticUtils.lcm(new long[] {4, -6, 10, 15}));
+        Assertions.assertEquals(0, ArithmeticUtils.lcm(new long[] {4, 0, 10}));
+        // Short-circuit at zero ignores later overflow
+        Assertions.assertEquals(0, ArithmeticUtils.lcm(new long[] {0, Long.MIN_VALUE}));
+        final long[] values = {Long.MIN_VALUE, 4, 6, 10, Long.MAX_VALUE};
+        Assertions.assertEquals(60, ArithmeticUtils.lcm(values, 1, 4));
+        Assertions.assertEquals(1, ArithmeticUtils.lcm(values, 2, 2));
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.lcm(values));
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.lcm(values, 1, 5));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ArithmeticUtils.lcm(values, 1, 6));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "0, 5, 5",
+        "-5, 0, 5",
+        "240, 46, 2",
+        "-240, 46, 2",
+        "240, -46, 2",
+        "17, 3120, 1",
+        "1, -1, 1",
+        "9223372036854775807, 9223372036854775806, 1",
+        "-9223372036854775808, 1, 1",
+        "-9223372036854775808, 3, 1",
+        "-9223372036854775808, 9223372036854775807, 1",
+        "-9223372036854775808, 4611686018427387904, 4611686018427387904",
+        "-9223372036854775808, -9223372036854775807, 1",
+    })
+    void testGcdExtended(long a, long b, long g) {
+        assertGcdExtended(a, b, g);
+        assertGcdExtended(b, a, g);
+    }
+
+    @Test
+    void testGcdExtendedRandom() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 1000; i++) {
+            final long a = rng.nextLong();
+            final long b = rng.nextLong() >> rng.nextInt(64);
+            assertGcdExtended(a, b, BigInteger.valueOf(a).gcd(BigInteger.valueOf(b)).longValue());
+        }
+    }
+
+    @Test
+    void testGcdExtendedOverflow() {
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcdExtended(Long.MIN_VALUE, 0));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcdExtended(0, Long.MIN_VALUE));
+        Assertions.assertThrows(ArithmeticException.class,
+            () -> ArithmeticUtils.gcdExtended(Long.MIN_VALUE, Long.MIN_VALUE));
+    }
+
+    /**
+     * Assert the result of the extended gcd satisfies {@code a * x + b * y = g} with
+     * minimal B&eacute;zout coefficients.
+     *
+     * @param a Number.
+     * @param b Number.
+     * @param g Expected gcd.
+     */
+    private static void assertGcdExtended(long a, long b, long g) {
+        final long[] r = ArithmeticUtils.gcdExtended(a, b);
+        Assertions.assertEquals(3, r.length);
+        Assertions.assertEquals(g, r[0], "gcd");
+        final BigInteger x = BigInteger.valueOf(r[1]);
+        final BigInteger y = BigInteger.valueOf(r[2]);
+        Assertions.assertEquals(BigInteger.valueOf(g),
+            BigInteger.valueOf(a).multiply(x).add(BigInteger.valueOf(b).multiply(y)),
+            () -> String.format("%d * %d + %d * %d", a, r[1], b, r[2]));
+        if (g != 0) {
+            final BigInteger bg = BigInteger.valueOf(g);
+            Assertions.assertTrue(x.abs().compareTo(BigInteger.valueOf(b).divide(bg).abs().max(BigInteger.ONE)) <= 0,
+                "x not minimal");
+            Assertions.assertTrue(y.abs().compareTo(BigInteger.valueOf(a).divide(bg).abs().max(BigInteger.ONE)) <= 0,
+                "y not minimal");
+        }
+    }
+
+    @Test
+    void testMultiplyHigh() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final long[] edge = {0, 1, -1, 2, Long.MAX_VALUE, Long.MIN_VALUE, 0xffffffffL, 1L << 32};
+        for (final long x : edge) {
+            for (final long y : edge) {
+                assertMultiplyHigh(x, y);
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertMultiplyHigh(rng.nextLong(), rng.nextLong());
+        }
+    }
+
+    private static void assertMultiplyHigh(long x, long y) {
+        final BigInteger p = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y));
+        Assertions.assertEquals(p.shiftRight(64).longValue(), ArithmeticUtils.multiplyHigh(x, y));
+        final BigInteger u = toUnsignedBigInteger(x).multiply(toUnsignedBigInteger(y));
+        Assertions.assertEquals(u.shiftRight(64).longValue(), ArithmeticUtils.unsignedMultiplyHigh(x, y));
+    }
+
+    @Test
+    void testRemainderUnsigned128() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 1000; i++) {
+            final long m = Math.max(1, rng.nextLong(Long.MAX_VALUE) >>> rng.nextInt(62));
+            final long hi = rng.nextLong(m);
+            final long lo = i < 10 ? -1L : rng.nextLong();
+            final BigInteger t = BigInteger.valueOf(hi).shiftLeft(64).add(toUnsignedBigInteger(lo));
+            Assertions.assertEquals(t.mod(BigInteger.valueOf(m)).longValue(),
+                ArithmeticUtils.remainderUnsigned(hi, lo, m), () -> hi + " " + lo + " " + m);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "3, 4, 5, 2",
+        "-1, 1, 3, 2",
+        "-7, -8, 5, 1",
+        "9223372036854775807, 9223372036854775807, 9223372036854775783, 576",
+        "-9223372036854775808, -9223372036854775808, 9223372036854775807, 1",
+        "123456789012345, 987654321098765, 1, 0",
+        "4611686018427387904, 4, 9223372036854775807, 2",
+    })
+    void testMulMod(long a, long b, long m, long expected) {
+        Assertions.assertEquals(expected, ArithmeticUtils.mulMod(a, b, m));
+        Assertions.assertEquals(expected, ArithmeticUtils.mulMod(b, a, m));
+    }
+
+    @Test
+    void testMulModRandom() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 1000; i++) {
+            final long a = rng.nextLong();
+            final long b = rng.nextLong();
+            final long m = Math.max(1, rng.nextLong(Long.MAX_VALUE) >>> rng.nextInt(63));
+            final long expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+                .mod(BigInteger.valueOf(m)).longValue();
+            Assertions.assertEquals(expected, ArithmeticUtils.mulMod(a, b, m));
+        }
+    }
+
+    @Test
+    void testPowModRandom() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 500; i++) {
+            final long a = rng.nextLong();
+            final long e = rng.nextLong(Long.MAX_VALUE) >>> rng.nextInt(63);
+            // Odd and even moduli
+            final long m = Math.max(1, rng.nextLong(Long.MAX_VALUE) >>> rng.nextInt(63));
+            final long expected = BigInteger.valueOf(a).modPow(BigInteger.valueOf(e), BigInteger.valueOf(m))
+                .longValue();
+            Assertions.assertEquals(expected, ArithmeticUtils.powMod(a, e, m), () -> a + "^" + e + " mod " + m);
+        }
+    }
+
+    @Test
+    void testPowMod() {
+        Assertions.assertEquals(1, ArithmeticUtils.powMod(0, 0, 7));
+        Assertions.assertEquals(0, ArithmeticUtils.powMod(0, 3, 7));
+        Assertions.assertEquals(0, ArithmeticUtils.powMod(5, 0, 1));
+        Assertions.assertEquals(4, ArithmeticUtils.powMod(-2, 2, 7));
+        Assertions.assertEquals(5, ArithmeticUtils.powMod(-2, 3, 13));
+        // Fermat's little theorem for the largest prime below 2^63
+        final long p = Long.MAX_VALUE - 24;
+        Assertions.assertEquals(1, ArithmeticUtils.powMod(3, p - 1, p));
+        Assertions.assertEquals(3, ArithmeticUtils.powMod(3, p, p));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.powMod(2, -1, 7));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.powMod(2, 1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.mulMod(2, 1, -3));
+    }
+
+    @Test
+    void testModInverse() {
+        Assertions.assertEquals(4, ArithmeticUtils.modInverse(3, 11));
+        Assertions.assertEquals(7, ArithmeticUtils.modInverse(-3, 11));
+        Assertions.assertEquals(0, ArithmeticUtils.modInverse(5, 1));
+        final long p = Long.MAX_VALUE - 24;
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 100; i++) {
+            final long a = rng.nextLong();
+            final long m = rng.nextBoolean() ? p : Math.max(1, rng.nextLong(Long.MAX_VALUE) >>> rng.nextInt(63));
+            if (ArithmeticUtils.gcd(Math.floorMod(a, m), m) == 1) {
+                final long x = ArithmeticUtils.modInverse(a, m);
+                Assertions.assertEquals(BigInteger.valueOf(a).modInverse(BigInteger.valueOf(m)).longValue(), x);
+                Assertions.assertEquals(1 % m, ArithmeticUtils.mulMod(a, x, m));
+            } else {
+                Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.modInverse(a, m));
+            }
+        }
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.modInverse(6, 9));
+        Assertions.assertThrows(ArithmeticException.class, () -> ArithmeticUtils.modInverse(0, 9));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ArithmeticUtils.modInverse(2, 0));
+    }
+
     @Test
     void testPow() {
 
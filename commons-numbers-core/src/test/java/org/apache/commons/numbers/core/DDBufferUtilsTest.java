@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DDBufferUtils}.
+ */
+class DDBufferUtilsTest {
+    /** Number of values. */
+    private static final int SIZE = 10;
+
+    /**
+     * Create double-double numbers with distinct parts.
+     *
+     * @return the numbers
+     */
+    private static DD[] createDD() {
+        final DD[] x = new DD[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            x[i] = DD.ONE.divide(DD.of(i + 3)).multiply(i - 4.5);
+        }
+        // Non-normalized and non-finite parts are preserved
+        x[0] = DD.of(1, 1);
+        x[1] = DD.of(Double.NaN, -0.0);
+        x[2] = DD.of(Double.NEGATIVE_INFINITY, Double.MIN_VALUE);
+        return x;
+    }
+
+    /**
+     * Assert the numbers have the same binary representation of the parts.
+     *
+     * @param expected Expected.
+     * @param hi High parts.
+     * @param lo Low parts.
+     */
+    private static void assertSame(DD[] expected, double[] hi, double[] lo) {
+        Assertions.assertEquals(expected.length, hi.length);
+        Assertions.assertEquals(expected.length, lo.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(Double.doubleToRawLongBits(expected[i].hi()), Double.doubleToRawLongBits(hi[i]));
+            Assertions.assertEquals(Double.doubleToRawLongBits(expected[i].lo()), Double.doubleToRawLongBits(lo[i]));
+        }
+    }
+
+    /**
+     * Assert the numbers have the same binary representation of the parts.
+     *
+     * @param expected Expected.
+     * @param actual Actual.
+     */
+    private static void assertSame(DD[] expected, DD[] actual) {
+        final double[] hi = new double[actual.length];
+        final double[] lo = new double[actual.length];
+        for (int i = 0; i < actual.length; i++) {
+            hi[i] = actual[i].hi();
+            lo[i] = actual[i].lo();
+        }
+        assertSame(expected, hi, lo);
+    }
+
+    @Test
+    void testWriteRead() {
+        final DD[] x = createDD();
+        for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            // Offset the data from the start of the buffer
+            final ByteBuffer buffer = ByteBuffer.allocate(SIZE * DDBufferUtils.BYTES + 3).order(order);
+            buffer.position(3);
+            Assertions.assertSame(buffer, DDBufferUtils.write(x, buffer));
+            Assertions.assertEquals(3, buffer.position());
+            // Raw long format
+            for (int i = 0; i < SIZE; i++) {
+                final int j = 3 + i * DDBufferUtils.BYTES;
+                Assertions.assertEquals(Double.doubleToRawLongBits(x[i].hi()), buffer.getLong(j));
+                Assertions.assertEquals(Double.doubleToRawLongBits(x[i].lo()), buffer.getLong(j + Double.BYTES));
+            }
+            assertSame(x, DDBufferUtils.read(buffer));
+            final double[] hi = new double[SIZE];
+            final double[] lo = new double[SIZE];
+            DDBufferUtils.read(buffer, hi, lo);
+            Assertions.assertEquals(3, buffer.position());
+            assertSame(x, hi, lo);
+
+            // Write the parts
+            final ByteBuffer buffer2 = ByteBuffer.allocateDirect(SIZE * DDBufferUtils.BYTES).order(order);
+            Assertions.assertSame(buffer2, DDBufferUtils.write(hi, lo, buffer2));
+            assertSame(x, DDBufferUtils.read(buffer2));
+            // Same binary format
+            buffer.position(3);
+            Assertions.assertEquals(buffer, buffer2);
+        }
+    }
+
+    @Test
+    void testReadIgnoresPartialNumber() {
+        final DD[] x = createDD();
+        final ByteBuffer buffer = ByteBuffer.allocate(SIZE * DDBufferUtils.BYTES + DDBufferUtils.BYTES - 1);
+        DDBufferUtils.write(x, buffer);
+        assertSame(x, DDBufferUtils.read(buffer));
+        Assertions.assertEquals(0, DDBufferUtils.read(ByteBuffer.allocate(DDBufferUtils.BYTES - 1)).length);
+    }
+
+    @Test
+    void testReadOnly() {
+        final DD[] x = createDD();
+        final ByteBuffer buffer = ByteBuffer.allocate(SIZE * DDBufferUtils.BYTES);
+        DDBufferUtils.write(x, buffer);
+        final ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+        assertSame(x, DDBufferUtils.read(readOnly));
+        Assertions.assertThrows(ReadOnlyBufferException.class, () -> DDBufferUtils.write(x, readOnly));
+        Assertions.assertThrows(ReadOnlyBufferException.class,
+            () -> DDBufferUtils.write(new double[1], new double[1], readOnly));
+    }
+
+    @Test
+    void testInvalidSize() {
+        final DD[] x = createDD();
+        final ByteBuffer small = ByteBuffer.allocate(SIZE * DDBufferUtils.BYTES - 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDBufferUtils.write(x, small));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DDBufferUtils.write(new double[SIZE], new double[SIZE], small));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DDBufferUtils.read(small, new double[SIZE], new double[SIZE]));
+        final ByteBuffer buffer = ByteBuffer.allocate(SIZE * DDBufferUtils.BYTES);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DDBufferUtils.write(new double[3], new double[4], buffer));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DDBufferUtils.read(buffer, new double[3], new double[4]));
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for the elementary functions in {@link DDMath}.
+ *
+ * <p>The reference values are computed using {@link BigDecimal} with 80 digits of precision.
+ */
+class DDMathTest {
+    /** The epsilon for relative error. Equivalent to 2^-106 for the precision of a double-double
+     * 106-bit mantissa. This value is used to report the accuracy of the functions in the DDMath javadoc. */
+    private static final double EPS = 0x1.0p-106;
+    /** MathContext for the reference computations. */
+    private static final MathContext MC = new MathContext(80);
+    /** The size of the last term of a reference series. */
+    private static final BigDecimal SERIES_EPS = new BigDecimal("1e-90");
+    /** pi to the precision of the reference computations. */
+    private static final BigDecimal PI = createPi(MC);
+    /** MathContext for the reduction of trigonometric arguments. Supports the reduction
+     * of the largest finite arguments with sufficient digits for the reference precision. */
+    private static final MathContext MC_REDUCTION = new MathContext(1000);
+    /** pi to the precision of the reduction of trigonometric arguments. */
+    private static final BigDecimal PI_REDUCTION = createPi(MC_REDUCTION);
+    /** Number of random samples. */
+    private static final int SAMPLES = 200;
+    /** Seed for the random samples. Fixed so a failure can be reproduced. */
+    private static final long SEED = 0x7d2c8e4b19f3a605L;
+
+    /**
+     * Test the special cases of each function.
+     *
+     * @param name Function name.
+     * @param fun Function.
+     * @param ref Equivalent double function.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testSpecialCases(String name, UnaryOperator<DD> fun, DoubleUnaryOperator ref) {
+        for (final double x : new double[] {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            0.0, -0.0, -1.0, -2.0}) {
+            final double expected = ref.applyAsDouble(x);
+            final DD y = fun.apply(DD.of(x));
+            Assertions.assertEquals(expected, y.hi(), () -> name + "(" + x + ")");
+            if (Double.isFinite(expected)) {
+                // Allow round-off of an exact result
+                Assertions.assertEquals(0.0, y.lo(), Math.ulp(expected), () -> name + "(" + x + ") lo");
+            }
+        }
+    }
+
+    static Stream<Arguments> testSpecialCases() {
+        return Stream.of(
+            Arguments.of("exp", (UnaryOperator<DD>) DDMath::exp, (DoubleUnaryOperator) Math::exp),
+            Arguments.of("expm1", (UnaryOperator<DD>) DDMath::expm1, (DoubleUnaryOperator) Math::expm1),
+            Arguments.of("log", (UnaryOperator<DD>) DDMath::log, (DoubleUnaryOperator) Math::log),
+            Arguments.of("log1p", (UnaryOperator<DD>) DDMath::log1p, (DoubleUnaryOperator) Math::log1p),
+            Arguments.of("sin", (UnaryOperator<DD>) DDMath::sin, (DoubleUnaryOperator) Math::sin),
+            Arguments.of("cos", (UnaryOperator<DD>) DDMath::cos, (DoubleUnaryOperator) Math::cos),
+            Arguments.of("atan", (UnaryOperator<DD>) DDMath::atan, (DoubleUnaryOperator) Math::atan)
+        );
+    }
+
+    @Test
+    void testExpLimits() {
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, DDMath.exp(DD.of(710)).hi());
+        Assertions.assertEquals(0.0, DDMath.exp(DD.of(-746)).hi());
+        final DD x = DD.of(709.75);
+        assertEquals(bdExp(bd(x)), DDMath.exp(x), 4 * EPS, () -> "exp(709.75)");
+        Assertions.assertEquals(-1.0, DDMath.expm1(DD.of(-800)).hi());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, DDMath.expm1(DD.of(710)).hi());
+    }
+
+    @Test
+    void testExpExact() {
+        Assertions.assertEquals(1.0, DDMath.exp(DD.ZERO).hi());
+        Assertions.assertEquals(0.0, DDMath.log(DD.ONE).hi());
+        Assertions.assertEquals(0.0, DDMath.log(DD.ONE).lo());
+    }
+
+    @Test
+    void testAtanLimits() {
+        final DD pi2 = DDMath.atan(DD.of(Double.POSITIVE_INFINITY));
+        assertEquals(PI.divide(BigDecimal.valueOf(2), MC), pi2, EPS, () -> "atan(inf)");
+        Assertions.assertEquals(pi2.negate(), DDMath.atan(DD.of(Double.NEGATIVE_INFINITY)));
+        // Large argument
+        final DD x = DD.of(0x1.0p100);
+        assertEquals(bdAtan(bd(x)), DDMath.atan(x), 2 * EPS, () -> "atan(2^100)");
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testExp(double min, double max) {
+        assertFunction("exp", DDMath::exp, DDMathTest::bdExp, min, max, 4 * EPS);
+    }
+
+    static Stream<Arguments> testExp() {
+        return Stream.of(
+            Arguments.of(-1e-10, 1e-10),
+            Arguments.of(-1, 1),
+            Arguments.of(-50, 50),
+            Arguments.of(-650, 700)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testExpm1(double min, double max) {
+        assertFunction("expm1", DDMath::expm1, x -> bdExp(x).subtract(BigDecimal.ONE), min, max, 8 * EPS);
+    }
+
+    static Stream<Arguments> testExpm1() {
+        return Stream.of(
+            Arguments.of(-1e-20, 1e-20),
+            Arguments.of(-1e-5, 1e-5),
+            Arguments.of(-0.5, 0.5),
+            Arguments.of(-2, 2),
+            Arguments.of(-50, 50)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testLog(double min, double max) {
+        assertFunction("log", DDMath::log, DDMathTest::bdLog, min, max, 8 * EPS);
+    }
+
+    static Stream<Arguments> testLog() {
+        return Stream.of(
+            Arguments.of(0.5, 2),
+            Arguments.of(0.999, 1.001),
+            Arguments.of(1e-300, 1e-290),
+            Arguments.of(1, 1e300)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testLog1p(double min, double max) {
+        assertFunction("log1p", DDMath::log1p, x -> bdLog(x.add(BigDecimal.ONE)), min, max, 8 * EPS);
+    }
+
+    static Stream<Arguments> testLog1p() {
+        return Stream.of(
+            Arguments.of(-1e-20, 1e-20),
+            Arguments.of(-1e-5, 1e-5),
+            Arguments.of(-0.5, 0.5),
+            Arguments.of(-0.9, 10),
+            Arguments.of(10, 1e10)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testSin(double min, double max) {
+        assertFunction("sin", DDMath::sin, DDMathTest::bdSin, min, max, 8 * EPS);
+    }
+
+    @ParameterizedTest
+    @MethodSource("testSin")
+    void testCos(double min, double max) {
+        assertFunction("cos", DDMath::cos, DDMathTest::bdCos, min, max, 8 * EPS);
+    }
+
+    static Stream<Arguments> testSin() {
+        return Stream.of(
+            Arguments.of(-1e-10, 1e-10),
+            Arguments.of(-0.75, 0.75),
+            Arguments.of(-4, 4),
+            Arguments.of(-100, 100),
+            Arguments.of(1e5, 1e6),
+            Arguments.of(0x1.0p53, 0x1.0p60),
+            Arguments.of(1e20, 1e30),
+            Arguments.of(-1e300, -1e299),
+            Arguments.of(1e300, Double.MAX_VALUE)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 4, 5, 17, 1L << 30, (1L << 40) + 1, 12345678901234567L})
+    void testSinCosMultiplesOfPi2(long k) {
+        // The reduced argument is approximately |x| 2^-106
+        for (final long m : new long[] {k, -k}) {
+            final DD x = DD.from(PI_REDUCTION.multiply(BigDecimal.valueOf(m)).divide(BigDecimal.valueOf(2)));
+            assertEquals(bdSin(bd(x)), DDMath.sin(x), 8 * EPS, () -> "sin" + x);
+            assertEquals(bdCos(bd(x)), DDMath.cos(x), 8 * EPS, () -> "cos" + x);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0x1.0p53, -0x1.0p53, 0x1.0p60 + 0x1.0p8, 1e20, 1e300, -1e300, 6381956970095103.0 * 0x1.0p797,
+        Double.MAX_VALUE, -Double.MAX_VALUE})
+    void testSinCosLargeArguments(double hi) {
+        for (final DD x : new DD[] {DD.of(hi), DD.ofSum(hi, Math.ulp(hi) * 0.25)}) {
+            final DD sin = DDMath.sin(x);
+            final DD cos = DDMath.cos(x);
+            Assertions.assertTrue(Math.abs(sin.hi()) <= 1, () -> "sin" + x + " = " + sin);
+            Assertions.assertTrue(Math.abs(cos.hi()) <= 1, () -> "cos" + x + " = " + cos);
+            assertEquals(bdSin(bd(x)), sin, 8 * EPS, () -> "sin" + x);
+            assertEquals(bdCos(bd(x)), cos, 8 * EPS, () -> "cos" + x);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testAtan(double min, double max) {
+        assertFunction("atan", DDMath::atan, DDMathTest::bdAtan, min, max, 6 * EPS);
+    }
+
+    static Stream<Arguments> testAtan() {
+        return Stream.of(
+            Arguments.of(-1e-10, 1e-10),
+            Arguments.of(-1, 1),
+            Arguments.of(-10, 10),
+            Arguments.of(1e10, 1e20)
+        );
+    }
+
+    /**
+     * Assert the function is accurate on random arguments in the range {@code [min, max)}.
+     *
+     * @param name Function name.
+     * @param fun Function.
+     * @param ref Reference function.
+     * @param min Minimum argument.
+     * @param max Maximum argument.
+     * @param eps Maximum relative error.
+     */
+    private static void assertFunction(String name, UnaryOperator<DD> fun, UnaryOperator<BigDecimal> ref,
+            double min, double max, double eps) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            final double hi = rng.nextDouble(min, max);
+            final DD x = DD.ofSum(hi, hi * rng.nextDouble(-1, 1) * 0x1.0p-53);
+            assertEquals(ref.apply(bd(x)), fun.apply(x), eps, () -> name + x);
+        }
+    }
+
+    /**
+     * Assert the two numbers are equal within the provided relative error.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     * @param eps Maximum relative error.
+     * @param msg Failure message.
+     */
+    private static void assertEquals(BigDecimal expected, DD actual, double eps, Supplier<String> msg) {
+        // Check the result is normalized
+        Assertions.assertEquals(actual.hi(), actual.doubleValue(), () -> msg.get() + " normalized");
+        TestUtils.assertEquals(expected, actual, eps, msg);
+    }
+
+    /**
+     * Convert the number to a BigDecimal.
+     *
+     * @param x Number.
+     * @return the BigDecimal
+     */
+    private static BigDecimal bd(DD x) {
+        return new BigDecimal(x.hi()).add(new BigDecimal(x.lo()));
+    }
+
+    /**
+     * Compute exp(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal bdExp(BigDecimal x) {
+        // Scale to |x / 2^m| < 2^-8 and square the result m times
+        final int m = Math.max(0, Math.getExponent(x.doubleValue()) + 9);
+        final BigDecimal y = x.divide(BigDecimal.valueOf(2).pow(m), MC);
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 1; term.abs().compareTo(SERIES_EPS) > 0; n++) {
+            term = term.multiply(y, MC).divide(BigDecimal.valueOf(n), MC);
+            sum = sum.add(term, MC);
+        }
+        for (int i = 0; i < m; i++) {
+            sum = sum.multiply(sum, MC);
+        }
+        return sum;
+    }
+
+    /**
+     * Compute log(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal bdLog(BigDecimal x) {
+        // Halley iteration: y = y + 2 * (x - exp(y)) / (x + exp(y))
+        BigDecimal y = new BigDecimal(Math.log(x.doubleValue()));
+        for (int i = 0; i < 3; i++) {
+            final BigDecimal e = bdExp(y);
+            y = y.add(x.subtract(e).multiply(BigDecimal.valueOf(2)).divide(x.add(e), MC), MC);
+        }
+        return y;
+    }
+
+    /**
+     * Compute sin(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal bdSin(BigDecimal x) {
+        final BigDecimal r = reduce(x);
+        final BigDecimal r2 = r.multiply(r, MC).negate();
+        BigDecimal sum = r;
+        BigDecimal term = r;
+        for (int n = 3; term.abs().compareTo(SERIES_EPS) > 0; n += 2) {
+            term = term.multiply(r2, MC).divide(BigDecimal.valueOf((long) n * (n - 1)), MC);
+            sum = sum.add(term, MC);
+        }
+        return sum;
+    }
+
+    /**
+     * Compute cos(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal bdCos(BigDecimal x) {
+        final BigDecimal r = reduce(x);
+        final BigDecimal r2 = r.multiply(r, MC).negate();
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 2; term.abs().compareTo(SERIES_EPS) > 0; n += 2) {
+            term = term.multiply(r2, MC).divide(BigDecimal.valueOf((long) n * (n - 1)), MC);
+            sum = sum.add(term, MC);
+        }
+        return sum;
+    }
+
+    /**
+     * Reduce x to the range [-pi, pi].
+     *
+     * @param x Argument.
+     * @return the reduced argument
+     */
+    private static BigDecimal reduce(BigDecimal x) {
+        final BigDecimal twoPi = PI_REDUCTION.multiply(BigDecimal.valueOf(2));
+        final BigDecimal k = x.divide(twoPi, MC_REDUCTION).setScale(0, RoundingMode.HALF_EVEN);
+        return x.subtract(k.multiply(twoPi), MC_REDUCTION);
+    }
+
+    /**
+     * Compute atan(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal bdAtan(BigDecimal x) {
+        // Reduce using: atan(x) = 2 atan(x / (1 + sqrt(1 + x^2)))
+        BigDecimal y = x;
+        final int halvings = 6;
+        for (int i = 0; i < halvings; i++) {
+            y = y.divide(BigDecimal.ONE.add(bdSqrt(BigDecimal.ONE.add(y.multiply(y, MC)))), MC);
+        }
+        return atanSeries(y).multiply(BigDecimal.valueOf(1 << halvings));
+    }
+
+    /**
+     * Compute atan(x) using the Taylor series for {@code |x| < 1}.
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal atanSeries(BigDecimal x) {
+        return atanSeries(x, MC, SERIES_EPS);
+    }
+
+    /**
+     * Compute atan(x) using the Taylor series for {@code |x| < 1}.
+     *
+     * @param x Argument.
+     * @param mc Context for the computation.
+     * @param eps Size of the last term of the series.
+     * @return the result
+     */
+    private static BigDecimal atanSeries(BigDecimal x, MathContext mc, BigDecimal eps) {
+        final BigDecimal x2 = x.multiply(x, mc).negate();
+        BigDecimal sum = x;
+        BigDecimal power = x;
+        for (int n = 3;; n += 2) {
+            power = power.multiply(x2, mc);
+            final BigDecimal term = power.divide(BigDecimal.valueOf(n), mc);
+            sum = sum.add(term, mc);
+            if (term.abs().compareTo(eps) <= 0) {
+                return sum;
+            }
+        }
+    }
+
+    /**
+     * Compute sqrt(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal bdSqrt(BigDecimal x) {
+        // Newton iteration: s = (s + x / s) / 2
+        BigDecimal s = new BigDecimal(Math.sqrt(x.doubleValue()));
+        final BigDecimal half = new BigDecimal(0.5);
+        for (int i = 0; i < 4; i++) {
+            s = s.add(x.divide(s, MC)).multiply(half, MC);
+        }
+        return s;
+    }
+
+    /**
+     * Create pi using Machin's formula: pi = 16 atan(1/5) - 4 atan(1/239).
+     *
+     * @param mc Context for the computation.
+     * @return pi
+     */
+    private static BigDecimal createPi(MathContext mc) {
+        // Sum the series beyond the precision of the context
+        final BigDecimal eps = BigDecimal.ONE.movePointLeft(mc.getPrecision() + 10);
+        return atanSeries(BigDecimal.ONE.divide(BigDecimal.valueOf(5), mc), mc, eps).multiply(BigDecimal.valueOf(16))
+            .subtract(atanSeries(BigDecimal.ONE.divide(BigDecimal.valueOf(239), mc), mc, eps)
+                .multiply(BigDecimal.valueOf(4)));
+    }
+}
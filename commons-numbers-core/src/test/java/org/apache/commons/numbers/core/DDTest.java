@@ -21,6 +21,7 @@ import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
@@ -2267,6 +2268,193 @@ class DDTest {
         TestUtils.assertEquals(expected, f, 0.5 * EPS, () -> msg.get());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 5, 17})
+    void testDot(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final double[] a = rng.doubles(n, -1, 1).toArray();
+        final double[] b = rng.doubles(n, -1, 1).toArray();
+        DD expected = DD.ZERO;
+        BigDecimal e = BigDecimal.ZERO;
+        for (int i = 0; i < n; i++) {
+            expected = expected.add(DD.ofProduct(a[i], b[i]));
+            e = e.add(bd(a[i]).multiply(bd(b[i])));
+        }
+        final DD actual = DDMath.dot(a, b);
+        Assertions.assertEquals(expected.hi(), actual.hi(), "hi");
+        Assertions.assertEquals(expected.lo(), actual.lo(), "lo");
+        Assertions.assertEquals(e.doubleValue(), actual.doubleValue());
+    }
+
+    @Test
+    void testDotIllConditioned() {
+        // Cancellation of large terms.
+        // (1 + 2^-52)^2 = 1 + 2^-51 + 2^-104
+        final double x = 1 + 0x1.0p-52;
+        final double[] a = {x, 0x1.0p-60, -1};
+        final double[] b = {x, 1, 1};
+        final DD actual = DDMath.dot(a, b);
+        Assertions.assertEquals(0x1.0p-51 + 0x1.0p-60, actual.hi());
+        Assertions.assertEquals(0x1.0p-104, actual.lo());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.dot(a, new double[4]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 5, 17})
+    void testEvaluatePolynomial(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final double[] c = rng.doubles(n, -1, 1).toArray();
+        final double x = rng.nextDouble(-2, 2);
+        final DD xx = signedNormalDoubleDouble(rng);
+        DD expected1 = DD.ZERO;
+        DD expected2 = DD.ZERO;
+        if (n != 0) {
+            expected1 = DD.of(c[n - 1]);
+            expected2 = expected1;
+            for (int i = n - 2; i >= 0; i--) {
+                expected1 = expected1.multiply(x).add(c[i]);
+                expected2 = expected2.multiply(xx).add(c[i]);
+            }
+        }
+        DD actual = DDMath.evaluatePolynomial(c, x);
+        Assertions.assertEquals(expected1.hi(), actual.hi(), "hi");
+        Assertions.assertEquals(expected1.lo(), actual.lo(), "lo");
+        actual = DDMath.evaluatePolynomial(c, xx);
+        Assertions.assertEquals(expected2.hi(), actual.hi(), "hi");
+        Assertions.assertEquals(expected2.lo(), actual.lo(), "lo");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 3", "3, 0", "1, 4", "3, 1", "4, 5"})
+    void testMatrixVectorProduct(int rows, int cols) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final double[] a = rng.doubles(rows * cols, -1, 1).toArray();
+        final double[] x = rng.doubles(cols, -1, 1).toArray();
+        final DD[] y = DDMath.matrixVectorProduct(a, rows, x);
+        Assertions.assertEquals(rows, y.length);
+        for (int i = 0; i < rows; i++) {
+            final DD expected = DDMath.dot(Arrays.copyOfRange(a, i * cols, (i + 1) * cols), x);
+            Assertions.assertEquals(expected.hi(), y[i].hi(), "hi");
+            Assertions.assertEquals(expected.lo(), y[i].lo(), "lo");
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DDMath.matrixVectorProduct(new double[a.length + 1], rows, x));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DDMath.matrixVectorProduct(a, -1, x));
+    }
+
+    @Test
+    void testAccuratePowBatch() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        // Powers with shared leading bits, random powers and edge cases
+        final int[] n = IntStream.concat(
+            IntStream.concat(IntStream.rangeClosed(-300, 700), rng.ints(100)),
+            IntStream.of(0, 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1)).toArray();
+        final DD[] bases = {
+            signedNormalDoubleDouble(rng), signedNormalDoubleDouble(rng).scalb(50),
+            DD.of(1.0000001), DD.ofSum(1, 0x1.0p-60), DD.of(0.5), DD.of(-2), DD.ZERO,
+            DD.of(Double.NaN), DD.of(Double.NEGATIVE_INFINITY),
+        };
+        final long[] e = {0};
+        for (final DD x : bases) {
+            final long[] exp1 = new long[n.length];
+            final long[] exp2 = new long[n.length];
+            final DD[] y1 = DDMath.pow(x, n, exp1);
+            final DD[] y2 = DDMath.parallelPow(x, n, exp2);
+            for (int i = 0; i < n.length; i++) {
+                final DD expected = DDMath.pow(x, n[i], e);
+                final int index = i;
+                final Supplier<String> msg = () -> x + "^" + n[index];
+                assertEqualsPow(expected, e[0], y1[i], exp1[i], msg);
+                assertEqualsPow(expected, e[0], y2[i], exp2[i], msg);
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.pow(DD.ONE, n, new long[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.parallelPow(DD.ONE, n, new long[1]));
+    }
+
+    @Test
+    void testAccuratePowBatchBases() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final DD[] x = Stream.generate(() -> signedNormalDoubleDouble(rng)).limit(1000).toArray(DD[]::new);
+        x[0] = DD.ZERO;
+        x[1] = DD.of(0.25);
+        x[2] = DD.of(Double.POSITIVE_INFINITY);
+        final long[] e = {0};
+        for (final int n : new int[] {0, 1, -1, 7, -13, 1234, Integer.MIN_VALUE}) {
+            final long[] exp1 = new long[x.length];
+            final long[] exp2 = new long[x.length];
+            final DD[] y1 = DDMath.pow(x, n, exp1);
+            final DD[] y2 = DDMath.parallelPow(x, n, exp2);
+            for (int i = 0; i < x.length; i++) {
+                final DD expected = DDMath.pow(x[i], n, e);
+                final int index = i;
+                final Supplier<String> msg = () -> x[index] + "^" + n;
+                assertEqualsPow(expected, e[0], y1[i], exp1[i], msg);
+                assertEqualsPow(expected, e[0], y2[i], exp2[i], msg);
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.pow(x, 2, new long[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.parallelPow(x, 2, new long[1]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 100, 5000})
+    void testAccuratePowBatchPool(int threshold) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(threshold);
+        final DD[] x = Stream.generate(() -> signedNormalDoubleDouble(rng)).limit(1000).toArray(DD[]::new);
+        final int[] n = IntStream.concat(IntStream.rangeClosed(-300, 500), rng.ints(200)).toArray();
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final long[] exp1 = new long[x.length];
+            final long[] exp2 = new long[x.length];
+            final DD[] y1 = DDMath.pow(x, 123, exp1);
+            final DD[] y2 = DDMath.parallelPow(x, 123, exp2, pool, threshold);
+            for (int i = 0; i < x.length; i++) {
+                final int index = i;
+                assertEqualsPow(y1[i], exp1[i], y2[i], exp2[i], () -> x[index] + "^123");
+            }
+            final long[] exp3 = new long[n.length];
+            final long[] exp4 = new long[n.length];
+            final DD y = x[0];
+            final DD[] y3 = DDMath.pow(y, n, exp3);
+            final DD[] y4 = DDMath.parallelPow(y, n, exp4, pool, threshold);
+            for (int i = 0; i < n.length; i++) {
+                final int index = i;
+                assertEqualsPow(y3[i], exp3[i], y4[i], exp4[i], () -> y + "^" + n[index]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testAccuratePowBatchInvalidThreshold() {
+        final DD[] x = {DD.ONE};
+        final int[] n = {1};
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.parallelPow(x, 2, new long[1], pool, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DDMath.parallelPow(DD.ONE, n, new long[1], pool, 0));
+    }
+
+    /**
+     * Assert the scaled power results are binary equal.
+     *
+     * @param expected Expected fraction.
+     * @param expectedExp Expected exponent.
+     * @param actual Actual fraction.
+     * @param actualExp Actual exponent.
+     * @param msg Failure message.
+     */
+    private static void assertEqualsPow(DD expected, long expectedExp, DD actual, long actualExp,
+            Supplier<String> msg) {
+        Assertions.assertEquals(expected.hi(), actual.hi(), () -> msg.get() + " hi");
+        Assertions.assertEquals(expected.lo(), actual.lo(), () -> msg.get() + " lo");
+        if (Double.isFinite(expected.hi())) {
+            Assertions.assertEquals(expectedExp, actualExp, () -> msg.get() + " exp");
+        }
+    }
+
     static Stream<Arguments> testPowScaledEdgeCases() {
         final Stream.Builder<Arguments> builder = Stream.builder();
         final double inf = Double.POSITIVE_INFINITY;
@@ -2781,6 +2969,142 @@ class DDTest {
         return builder.build();
     }
 
+    @ParameterizedTest
+    @MethodSource(value = {"testToString"})
+    void testParseToString(DD x) {
+        final DD y = DD.parse(x.toString());
+        Assertions.assertEquals(x.hi(), y.hi(), "hi");
+        Assertions.assertEquals(x.lo(), y.lo(), "lo");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0.0, 0.0",
+        "-0.0, -0.0, 0.0",
+        "+000.000e10, 0.0, 0.0",
+        "1.5, 1.5, 0.0",
+        "' \t-1.5e0 ', -1.5, 0.0",
+        "+.5, 0.5, 0.0",
+        "5., 5.0, 0.0",
+        "1e22, 1e22, 0.0",
+        "123456789012345678901234567890, 1.2345678901234568E29, 1.023514970834E12",
+        "1e400, Infinity, 0.0",
+        "-1e-400, -0.0, 0.0",
+        "1e99999999999, Infinity, 0.0",
+        "1e-99999999999, 0.0, 0.0",
+        "0e99999999999, 0.0, 0.0",
+        "NaN, NaN, 0.0",
+        "-Infinity, -Infinity, 0.0",
+        "+Infinity, Infinity, 0.0",
+        "4.9e-324, 4.9e-324, 0.0",
+        "1.7976931348623157e308, 1.7976931348623157e308, -8.145274237317043E290",
+    })
+    void testParse(String s, double x, double xx) {
+        final DD y = DD.parse(s);
+        Assertions.assertEquals(x, y.hi(), "hi");
+        Assertions.assertEquals(xx, y.lo(), Math.ulp(xx), "lo");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "abc", ".", "-", "1.2.3", "1e", "1e+", "--1", "1x", "1e5x", "Infinityx",
+        "(1,2", "(1)", "(1,x)", "(,1)"})
+    void testParseInvalid(String s) {
+        Assertions.assertThrows(NumberFormatException.class, () -> DD.parse(s));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 22, 31, 44, 45})
+    void testParseExactPowerOfTen(int n) {
+        final BigDecimal expected = BigDecimal.TEN.pow(n);
+        Assertions.assertEquals(DD.from(expected), DD.parse("1e" + n));
+    }
+
+    @Test
+    void testParseDecimal() {
+        final UniformRandomProvider rng = createRNG();
+        final MathContext mc = new MathContext(40);
+        final double eps = 0x1.0p-106;
+        // Avoid a sub-normal low part
+        for (int e = -960; e <= 1000; e += 25) {
+            for (int i = 0; i < 20; i++) {
+                // Random 40 digit decimal
+                final BigDecimal bd = signedNormalDoubleDouble(rng).scalb(e).bigDecimalValue()
+                    .add(BigDecimal.valueOf(signedNormalDouble(rng)).scaleByPowerOfTen(-40)
+                        .multiply(new BigDecimal(Math.scalb(1.0, e))))
+                    .round(mc);
+                final DD y = DD.parse(bd.toString());
+                // Closest double-double
+                final double error = y.bigDecimalValue().subtract(bd).divide(bd, MC_DIVIDE).abs().doubleValue();
+                Assertions.assertTrue(error <= eps, () -> bd + ": " + error / eps);
+                Assertions.assertEquals(DD.from(bd), y, () -> bd.toString());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1.5, 1.5",
+        "-1.5, -1.5",
+        "1e7, 1.0E7",
+        "1e-3, 0.00100000000000000002081668171172169",
+        "0.5e-3, 5.0000000000000001040834085586084E-4",
+        "0.5, 0.5",
+        "1e-310, 1.0E-310",
+        "100, 100.0",
+        "0.1, 0.100000000000000005551115123125783",
+        "1e100, 1.00000000000000001590289110975992E100",
+        "1.7976931348623157e308, 1.79769313486231570814527423731704E308",
+        "4.9e-324, 5.0E-324",
+        "0, 0.0",
+        "-0.0, -0.0",
+        "NaN, NaN",
+        "Infinity, Infinity",
+    })
+    void testToDecimalString(double x, String expected) {
+        Assertions.assertEquals(expected, DD.of(x).toDecimalString());
+        Assertions.assertEquals(DD.of(x), DD.parse(expected));
+    }
+
+    @Test
+    void testToDecimalStringRoundTrip() {
+        final UniformRandomProvider rng = createRNG();
+        final double eps = 0x1.0p-106;
+        // Avoid a sub-normal low part
+        for (int e = -960; e <= 1000; e += 25) {
+            for (int i = 0; i < 20; i++) {
+                final DD x = signedNormalDoubleDouble(rng).scalb(e);
+                final String s = x.toDecimalString();
+                Assertions.assertEquals(x, DD.parse(s), s);
+                // Decimal representation of at most 39 digits close to the value
+                final BigDecimal bd = new BigDecimal(s);
+                Assertions.assertTrue(bd.precision() <= 39, s);
+                final BigDecimal expected = x.bigDecimalValue();
+                final double error = bd.subtract(expected).divide(expected, MC_DIVIDE).abs().doubleValue();
+                Assertions.assertTrue(error <= 4 * eps, () -> s + ": " + error / eps);
+            }
+        }
+        // Third is not exact
+        final DD third = DD.ONE.divide(DD.of(3));
+        Assertions.assertEquals("0.333333333333333333333333333333332", third.toDecimalString());
+    }
+
+    @Test
+    void testToDecimalStringUsesPartsFormat() {
+        // Low part below the precision of a 39 digit decimal
+        final DD x = DD.of(1, 0x1.0p-200);
+        Assertions.assertEquals(x.toString(), x.toDecimalString());
+        // Non-normalized
+        final DD y = DD.of(1, 1);
+        Assertions.assertEquals(y.toString(), y.toDecimalString());
+        final DD z = DD.of(Double.NaN, 1);
+        Assertions.assertEquals(z.toString(), z.toDecimalString());
+        for (final DD v : new DD[] {x, y, z}) {
+            final DD w = DD.parse(v.toDecimalString());
+            Assertions.assertEquals(v.hi(), w.hi());
+            Assertions.assertEquals(v.lo(), w.lo());
+        }
+    }
+
     @Test
     void testIsNotNormal() {
         for (double a : new double[] {Double.MAX_VALUE, 1.0, Double.MIN_NORMAL}) {
@@ -185,6 +185,39 @@ class EpsilonDoubleEquivalenceTest {
         Assertions.assertFalse(cmp.eq(-1.0, -1.0 - twoEps));
     }
 
+    @Test
+    void testEqArray() {
+        // arrange
+        final double eps = 1e-3;
+        final Precision.DoubleEquivalence cmp = Precision.doubleEquivalenceOfEpsilon(eps);
+        // Default interface methods
+        final Precision.DoubleEquivalence cmp2 = (a, b) -> Precision.compareTo(a, b, eps);
+
+        final double[] a = {0, 1, 2, 3, Double.POSITIVE_INFINITY};
+        final double[] b = {eps, 1, 2 - eps, 3.5, Double.POSITIVE_INFINITY};
+        final double[] c = {0, 1, 2, 3};
+        final double[] d = {0, 1, Double.NaN, 3, Double.POSITIVE_INFINITY};
+
+        // act/assert
+        for (final Precision.DoubleEquivalence e : new Precision.DoubleEquivalence[] {cmp, cmp2}) {
+            Assertions.assertTrue(e.eq(a, a.clone()));
+            Assertions.assertTrue(e.eq(new double[0], new double[0]));
+            Assertions.assertFalse(e.eq(a, b));
+            Assertions.assertFalse(e.eq(a, c));
+            Assertions.assertFalse(e.eq(a, d));
+            // NaN values are considered equal by compare
+            Assertions.assertTrue(e.eq(d, d));
+
+            Assertions.assertEquals(-1, e.mismatch(a, a.clone()));
+            Assertions.assertEquals(3, e.mismatch(a, b));
+            Assertions.assertEquals(4, e.mismatch(a, c));
+            Assertions.assertEquals(4, e.mismatch(c, a));
+            Assertions.assertEquals(2, e.mismatch(a, d));
+            Assertions.assertEquals(-1, e.mismatch(d, d));
+            Assertions.assertEquals(0, e.mismatch(new double[0], a));
+        }
+    }
+
     @Test
     void testEqZero() {
         // arrange
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigInteger;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link Montgomery}.
+ */
+class MontgomeryTest {
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1, 2, -3, 1L << 40, Long.MIN_VALUE})
+    void testInvalidModulus(long m) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Montgomery.of(m));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 3, 5, 1000003, (1L << 32) + 15, Long.MAX_VALUE - 24, Long.MAX_VALUE})
+    void testArithmetic(long m) {
+        final Montgomery mont = Montgomery.of(m);
+        Assertions.assertEquals(m, mont.getModulus());
+        Assertions.assertEquals(BigInteger.ONE.shiftLeft(64).mod(BigInteger.valueOf(m)).longValue(), mont.one());
+        Assertions.assertEquals(1 % m, mont.fromMontgomery(mont.one()));
+        final BigInteger bm = BigInteger.valueOf(m);
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 200; i++) {
+            final long a = i == 0 ? -1 : rng.nextLong();
+            final long b = i == 0 ? m - 1 : rng.nextLong();
+            final long e = rng.nextLong(Long.MAX_VALUE) >>> rng.nextInt(63);
+            final BigInteger ba = BigInteger.valueOf(a);
+            final BigInteger bb = BigInteger.valueOf(b);
+            final long x = mont.toMontgomery(a);
+            final long y = mont.toMontgomery(b);
+            Assertions.assertTrue(x >= 0 && x < m);
+            Assertions.assertEquals(ba.mod(bm).longValue(), mont.fromMontgomery(x));
+            Assertions.assertEquals(ba.add(bb).mod(bm).longValue(), mont.fromMontgomery(mont.add(x, y)));
+            Assertions.assertEquals(ba.subtract(bb).mod(bm).longValue(), mont.fromMontgomery(mont.subtract(x, y)));
+            Assertions.assertEquals(ba.multiply(bb).mod(bm).longValue(), mont.fromMontgomery(mont.multiply(x, y)));
+            Assertions.assertEquals(ba.modPow(BigInteger.valueOf(e), bm).longValue(),
+                mont.fromMontgomery(mont.pow(x, e)));
+        }
+        Assertions.assertEquals(mont.one(), mont.pow(mont.toMontgomery(2), 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> mont.pow(mont.one(), -1));
+    }
+}
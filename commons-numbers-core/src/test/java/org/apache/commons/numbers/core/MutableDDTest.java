@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for {@link MutableDD} arithmetic.
+ * The results must be identical to the equivalent {@link DD} operations.
+ */
+class MutableDDTest {
+    /** Number of random samples. */
+    private static final int SAMPLES = 100;
+
+    @Test
+    void testCreate() {
+        final MutableDD x = MutableDD.create();
+        Assertions.assertEquals(0.0, x.hi());
+        Assertions.assertEquals(0.0, x.lo());
+        assertEquals(DD.ZERO, x);
+        assertEquals(DD.of(1.5), MutableDD.of(1.5));
+        final DD y = DD.ofSum(1, 0x1.0p-60);
+        assertEquals(y, MutableDD.of(y));
+        assertEquals(y, MutableDD.create().set(MutableDD.of(y)));
+        assertEquals(y, MutableDD.create().setSum(1, 0x1.0p-60));
+        assertEquals(DD.ofProduct(Math.PI, Math.E), MutableDD.create().setProduct(Math.PI, Math.E));
+        assertEquals(DD.of(-2.5), x.set(-2.5));
+        Assertions.assertEquals(y.doubleValue(), MutableDD.of(y).doubleValue());
+        Assertions.assertEquals(y.toString(), MutableDD.of(y).toString());
+    }
+
+    @Test
+    void testIsFinite() {
+        Assertions.assertTrue(MutableDD.of(1.5).isFinite());
+        Assertions.assertFalse(MutableDD.of(Double.NaN).isFinite());
+        Assertions.assertFalse(MutableDD.of(Double.POSITIVE_INFINITY).isFinite());
+    }
+
+    @Test
+    void testToDD() {
+        final MutableDD x = MutableDD.of(DD.ofSum(3, 0x1.0p-70));
+        final DD y = x.toDD();
+        // The result is a snapshot of the current value
+        x.add(1);
+        Assertions.assertEquals(3, y.hi());
+        Assertions.assertEquals(0x1.0p-70, y.lo());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1.5, -1.5, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void testNegateAbs(double x) {
+        final DD y = DD.of(x);
+        assertEquals(y.negate(), MutableDD.of(y).negate());
+        assertEquals(y.abs(), MutableDD.of(y).abs());
+        final DD z = DD.of(-0.0).add(DD.ofSum(0.0, -0.0));
+        assertEquals(z.abs(), MutableDD.of(z).abs());
+    }
+
+    @Test
+    void testUnaryOperations() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < SAMPLES; i++) {
+            final DD x = randomDD(rng);
+            assertUnary(x, DD::negate, MutableDD::negate);
+            assertUnary(x, DD::abs, MutableDD::abs);
+            assertUnary(x, DD::square, MutableDD::square);
+            assertUnary(x, DD::reciprocal, MutableDD::reciprocal);
+            assertUnary(x.abs(), DD::sqrt, MutableDD::sqrt);
+        }
+    }
+
+    @Test
+    void testSqrtEdgeCases() {
+        for (final double x : new double[] {0.0, -0.0, -1, Double.NaN, Double.POSITIVE_INFINITY}) {
+            final DD y = DD.of(x);
+            assertEquals(y.sqrt(), MutableDD.of(y).sqrt());
+        }
+    }
+
+    @Test
+    void testBinaryOperations() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < SAMPLES; i++) {
+            final DD x = randomDD(rng);
+            final DD y = randomDD(rng);
+            final double z = signedDouble(rng);
+            assertBinary(x, y, DD::add, MutableDD::add, MutableDD::add);
+            assertBinary(x, y, DD::subtract, MutableDD::subtract, MutableDD::subtract);
+            assertBinary(x, y, DD::multiply, MutableDD::multiply, MutableDD::multiply);
+            assertBinary(x, y, DD::divide, MutableDD::divide, MutableDD::divide);
+            assertEquals(x.add(z), MutableDD.of(x).add(z));
+            assertEquals(x.subtract(z), MutableDD.of(x).subtract(z));
+            assertEquals(x.multiply(z), MutableDD.of(x).multiply(z));
+            assertEquals(x.divide(z), MutableDD.of(x).divide(z));
+        }
+    }
+
+    @Test
+    void testAddProduct() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < SAMPLES; i++) {
+            final DD x = randomDD(rng);
+            final DD a = randomDD(rng);
+            final DD b = randomDD(rng);
+            final double c = signedDouble(rng);
+            final double d = signedDouble(rng);
+            assertEquals(x.add(DD.ofProduct(c, d)), MutableDD.of(x).addProduct(c, d));
+            assertEquals(x.add(a.multiply(b)), MutableDD.of(x).addProduct(a, b));
+            assertEquals(x.add(a.multiply(b)), MutableDD.of(x).addProduct(MutableDD.of(a), MutableDD.of(b)));
+            // Self operands
+            assertEquals(x.add(x.multiply(a)), MutableDD.of(x).addProduct(x, a));
+            final MutableDD y = MutableDD.of(x);
+            assertEquals(x.add(x.multiply(x)), y.addProduct(y, y));
+        }
+    }
+
+    @Test
+    void testChained() {
+        // Horner evaluation of a polynomial
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        final double[] c = rng.doubles(10, -1, 1).toArray();
+        final double x = rng.nextDouble();
+        DD expected = DD.ZERO;
+        final MutableDD actual = MutableDD.create();
+        for (int i = c.length - 1; i >= 0; i--) {
+            expected = expected.multiply(x).add(c[i]);
+            Assertions.assertSame(actual, actual.multiply(x).add(c[i]));
+        }
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Assert the unary operation computes the same result as the {@code DD} operation.
+     *
+     * @param x Argument.
+     * @param expected Expected operation.
+     * @param actual Actual operation.
+     */
+    private static void assertUnary(DD x, Function<DD, DD> expected,
+            Function<MutableDD, MutableDD> actual) {
+        final MutableDD y = MutableDD.of(x);
+        Assertions.assertSame(y, actual.apply(y));
+        assertEquals(expected.apply(x), y);
+    }
+
+    /**
+     * Assert the binary operation computes the same result as the {@code DD} operation,
+     * including when the argument is the same instance.
+     *
+     * @param x First argument.
+     * @param y Second argument.
+     * @param expected Expected operation.
+     * @param actual1 Actual operation using a {@code DD} argument.
+     * @param actual2 Actual operation using a {@code MutableDD} argument.
+     */
+    private static void assertBinary(DD x, DD y, BiFunction<DD, DD, DD> expected,
+            BiFunction<MutableDD, DD, MutableDD> actual1,
+            BiFunction<MutableDD, MutableDD, MutableDD> actual2) {
+        final DD z = expected.apply(x, y);
+        MutableDD m = MutableDD.of(x);
+        Assertions.assertSame(m, actual1.apply(m, y));
+        assertEquals(z, m);
+        m = MutableDD.of(x);
+        Assertions.assertSame(m, actual2.apply(m, MutableDD.of(y)));
+        assertEquals(z, m);
+        // Self argument
+        m = MutableDD.of(x);
+        Assertions.assertSame(m, actual2.apply(m, m));
+        assertEquals(expected.apply(x, x), m);
+    }
+
+    /**
+     * Assert the parts of the numbers are binary equal.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     */
+    private static void assertEquals(DD expected, MutableDD actual) {
+        Assertions.assertEquals(expected.hi(), actual.hi(), "hi");
+        Assertions.assertEquals(expected.lo(), actual.lo(), "lo");
+    }
+
+    /**
+     * Create a random double-double number with a non-zero low part.
+     *
+     * @param rng Source of randomness.
+     * @return the number
+     */
+    private static DD randomDD(UniformRandomProvider rng) {
+        return DD.ofSum(signedDouble(rng), signedDouble(rng) * 0x1.0p-53);
+    }
+
+    /**
+     * Create a random double with a random sign in the range {@code [-4, 4)}.
+     *
+     * @param rng Source of randomness.
+     * @return the number
+     */
+    private static double signedDouble(UniformRandomProvider rng) {
+        return rng.nextDouble(-4, 4);
+    }
+}
@@ -445,6 +445,157 @@ class NormTest {
                 Norm.LINF.of(new double[] {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY}));
     }
 
+    @Test
+    void testArrayRange() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(3L);
+        final double[] v = DoubleTestUtils.randomArray(40, -600, 600, rng);
+        for (final Norm norm : Norm.values()) {
+            for (int from = 0; from < v.length; from += 3) {
+                for (int to = from + 1; to <= v.length; to += 2) {
+                    Assertions.assertEquals(norm.of(Arrays.copyOfRange(v, from, to)), norm.of(v, from, to));
+                }
+            }
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(v, 3, 3));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(v, -1, 3));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(v, 4, 3));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(v, 0, v.length + 1));
+        }
+    }
+
+    @Test
+    void testArrayStrided() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(4L);
+        final double[] v = DoubleTestUtils.randomArray(40, -600, 600, rng);
+        for (final Norm norm : Norm.values()) {
+            for (final int stride : new int[] {1, 2, 5, 39}) {
+                for (int offset = 0; offset < 4; offset++) {
+                    final int max = (v.length - 1 - offset) / stride + 1;
+                    for (int count = 1; count <= max; count++) {
+                        final double[] x = new double[count];
+                        for (int i = 0; i < count; i++) {
+                            x[i] = v[offset + i * stride];
+                        }
+                        Assertions.assertEquals(norm.of(x), norm.of(v, offset, stride, count));
+                    }
+                }
+            }
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(v, 0, 1, 0));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(v, 0, 0, 1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(v, 0, 1, -1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(v, -1, 1, 1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(v, 1, 13, 4));
+        }
+    }
+
+    @Test
+    void testArrayStrided_special() {
+        // Non-finite values outside the strided range are ignored
+        final double[] v = {1, Double.NaN, Double.POSITIVE_INFINITY, Double.NaN, 3, Double.NaN, Double.NaN};
+        for (final Norm norm : Norm.values()) {
+            Assertions.assertEquals(Double.POSITIVE_INFINITY, norm.of(v, 0, 2, 3));
+            Assertions.assertEquals(Double.NaN, norm.of(v, 0, 2, 4));
+            Assertions.assertEquals(norm.of(1, 3), norm.of(v, 0, 4, 2));
+        }
+    }
+
+    @Test
+    void testAccumulator_empty() {
+        for (final Norm norm : Norm.values()) {
+            Assertions.assertEquals(0d, norm.accumulator().getAsDouble(), norm::name);
+            Assertions.assertNotSame(norm.accumulator(), norm.accumulator());
+        }
+    }
+
+    @Test
+    void testAccumulator_special() {
+        final double[][] values = {
+            {-2d, Double.NaN, 1d},
+            {Double.POSITIVE_INFINITY, Double.NaN},
+            {Double.NaN, Double.NEGATIVE_INFINITY},
+            {0d, Double.POSITIVE_INFINITY},
+            {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY},
+            {Double.MAX_VALUE, Double.MAX_VALUE},
+            {0d, -0d},
+        };
+        for (final Norm norm : Norm.values()) {
+            for (final double[] v : values) {
+                final Norm.Accumulator acc = norm.accumulator();
+                Arrays.stream(v).forEach(acc);
+                Assertions.assertEquals(norm.of(v), acc.getAsDouble(), () -> norm + " " + Arrays.toString(v));
+                // Partition
+                final Norm.Accumulator acc1 = norm.accumulator();
+                final Norm.Accumulator acc2 = norm.accumulator();
+                acc1.accept(v[0]);
+                Arrays.stream(v, 1, v.length).forEach(acc2);
+                Assertions.assertSame(acc1, acc1.combine(acc2));
+                Assertions.assertEquals(norm.of(v), acc1.getAsDouble(), () -> norm + " " + Arrays.toString(v));
+            }
+        }
+    }
+
+    @Test
+    void testAccumulator_random() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(2L);
+        final int[][] exponents = {
+            {-10, 10},
+            {-600, -500},
+            {450, 520},
+            {-600, 520},
+            {-1074, 1023},
+        };
+        for (final int[] exp : exponents) {
+            final double[] v = DoubleTestUtils.randomArray(1000, exp[0], exp[1], rng);
+            for (final Norm norm : Norm.values()) {
+                final double expected = norm.of(v);
+                final Norm.Accumulator acc = norm.accumulator();
+                Arrays.stream(v).forEach(acc);
+                // Same result as the array function
+                Assertions.assertEquals(expected, acc.getAsDouble(), () -> norm.name());
+
+                // Chunked and combined
+                final Norm.Accumulator acc1 = norm.accumulator();
+                final Norm.Accumulator acc2 = norm.accumulator();
+                final Norm.Accumulator acc3 = norm.accumulator();
+                Arrays.stream(v, 0, 123).forEach(acc1);
+                Arrays.stream(v, 123, 600).forEach(acc2);
+                Arrays.stream(v, 600, v.length).forEach(acc3);
+                acc1.combine(acc2).combine(acc3);
+                Assertions.assertEquals(expected, acc1.getAsDouble(), Math.ulp(expected) * 2, () -> norm.name());
+
+                // Parallel stream
+                final double actual = Arrays.stream(v).parallel()
+                    .collect(norm::accumulator, Norm.Accumulator::accept, Norm.Accumulator::combine)
+                    .getAsDouble();
+                Assertions.assertEquals(expected, actual, Math.ulp(expected) * 2, () -> norm.name());
+            }
+        }
+    }
+
+    @Test
+    void testAccumulator_combineSelf() {
+        final double[] v = {1e300, 3, 1e-300, 4};
+        for (final Norm norm : Norm.values()) {
+            final Norm.Accumulator acc = norm.accumulator();
+            Arrays.stream(v).forEach(acc);
+            acc.combine(acc);
+            final double[] v2 = Arrays.copyOf(v, v.length * 2);
+            System.arraycopy(v, 0, v2, v.length, v.length);
+            Assertions.assertEquals(norm.of(v2), acc.getAsDouble(), norm::name);
+        }
+    }
+
+    @Test
+    void testAccumulator_incompatible() {
+        final Norm.Accumulator acc = Norm.L1.accumulator();
+        Assertions.assertDoesNotThrow(() -> acc.combine(Norm.MANHATTAN.accumulator()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> acc.combine(Norm.L2.accumulator()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> acc.combine(Norm.LINF.accumulator()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Norm.L2.accumulator().combine(Norm.LINF.accumulator()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Norm.LINF.accumulator().combine(Norm.L1.accumulator()));
+    }
+
     /** Check a number of random vectors of length {@code len} with various exponent
      * ranges.
      * @param len vector array length
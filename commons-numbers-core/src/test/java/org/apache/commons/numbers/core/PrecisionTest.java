@@ -18,10 +18,15 @@ package org.apache.commons.numbers.core;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 /**
  * Test cases for the {@link Precision} class.
@@ -224,6 +229,67 @@ class PrecisionTest {
         assertEqualsWithAllowedUlps(Precision::equalsIncludingNaN, true, false);
     }
 
+    @Test
+    void testUlpDistanceWithAllowedUlps() {
+        assertEqualsWithAllowedUlps((a, b, ulp) -> Precision.ulpDistance(a, b) <= ulp, false, false);
+    }
+
+    @Test
+    void testArrayEqualsWithAllowedUlps() {
+        assertEqualsWithAllowedUlps((a, b, ulp) -> Precision.equals(new double[] {a}, new double[] {b}, ulp),
+            false, false);
+        assertEqualsWithAllowedUlps((a, b, ulp) -> Precision.mismatch(new double[] {a}, new double[] {b}, ulp) < 0,
+            false, false);
+        assertEqualsWithAllowedUlps((a, b, ulp) -> Precision.maxUlpDistance(new double[] {a}, new double[] {b}) <= ulp,
+            false, false);
+    }
+
+    @Test
+    void testUlpDistance() {
+        Assertions.assertEquals(0, Precision.ulpDistance(0.0, -0.0));
+        Assertions.assertEquals(0, Precision.ulpDistance(1.5, 1.5));
+        Assertions.assertEquals(1, Precision.ulpDistance(1.0, Math.nextDown(1.0)));
+        Assertions.assertEquals(2, Precision.ulpDistance(Double.MIN_VALUE, -Double.MIN_VALUE));
+        Assertions.assertEquals(1L << 52, Precision.ulpDistance(1.0, 2.0));
+        Assertions.assertEquals(1L << 52, Precision.ulpDistance(-2.0, -1.0));
+        Assertions.assertEquals(0x7ff0000000000000L, Precision.ulpDistance(0.0, Double.POSITIVE_INFINITY));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(Double.NaN, Double.NaN));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(0.0, Double.NaN));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(-Double.MAX_VALUE, Double.MAX_VALUE));
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.ulpDistance(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testArrayEquals() {
+        final double[] a = {1, 2, 3, 4};
+        final double[] b = {1, Math.nextUp(2.0), 3, Math.nextUp(Math.nextUp(Math.nextUp(4.0)))};
+        Assertions.assertTrue(Precision.equals(a, a.clone(), 0));
+        Assertions.assertTrue(Precision.equals(new double[0], new double[0], 0));
+        Assertions.assertFalse(Precision.equals(a, b, 0));
+        Assertions.assertFalse(Precision.equals(a, b, 2));
+        Assertions.assertTrue(Precision.equals(a, b, 3));
+        Assertions.assertFalse(Precision.equals(a, Arrays.copyOf(a, 3), 0));
+        Assertions.assertFalse(Precision.equals(new double[] {Double.NaN}, new double[] {Double.NaN}, 1));
+
+        Assertions.assertEquals(-1, Precision.mismatch(a, a.clone(), 0));
+        Assertions.assertEquals(1, Precision.mismatch(a, b, 0));
+        Assertions.assertEquals(3, Precision.mismatch(a, b, 1));
+        Assertions.assertEquals(-1, Precision.mismatch(a, b, 3));
+        Assertions.assertEquals(3, Precision.mismatch(a, Arrays.copyOf(a, 3), 0));
+        Assertions.assertEquals(3, Precision.mismatch(Arrays.copyOf(a, 3), a, 0));
+        Assertions.assertEquals(0, Precision.mismatch(new double[0], a, 0));
+        Assertions.assertEquals(-1, Precision.mismatch(new double[0], new double[0], 0));
+
+        Assertions.assertEquals(0, Precision.maxUlpDistance(a, a.clone()));
+        Assertions.assertEquals(3, Precision.maxUlpDistance(a, b));
+        Assertions.assertEquals(3, Precision.maxUlpDistance(b, a));
+        Assertions.assertEquals(0, Precision.maxUlpDistance(new double[0], new double[0]));
+        b[0] = Double.NaN;
+        Assertions.assertEquals(Long.MAX_VALUE, Precision.maxUlpDistance(a, b));
+        final double[] c = Arrays.copyOf(a, 3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Precision.maxUlpDistance(a, c));
+    }
+
     private static void assertEqualsWithAllowedUlps(EqualsWithUlps fun,
             boolean nanAreEqual, boolean fixed1Ulp) {
         Assertions.assertTrue(fun.equals(0.0, -0.0, 1));
@@ -611,6 +677,55 @@ class PrecisionTest {
         Assertions.assertEquals("-0.0", Double.toString(Precision.round(-1e-10, 0)));
     }
 
+    @ParameterizedTest
+    @EnumSource(RoundingMode.class)
+    void testRoundDoubleMatchesBigDecimal(RoundingMode mode) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int scale = -25; scale <= 25; scale++) {
+            final double p = Math.pow(10, scale);
+            for (int i = 0; i < 200; i++) {
+                // Decimal values with up to 2 more digits than the scale (e.g. prices)
+                final long m = rng.nextLong(100000000L) - 50000000L;
+                assertRound(Double.parseDouble(m + "e" + (-scale - rng.nextInt(3))), scale, mode);
+                // Exact rounding boundaries
+                assertRound(m / p, scale, mode);
+                assertRound((m + 0.5) / p, scale, mode);
+                // Random magnitude
+                final double x = (rng.nextDouble() - 0.5) * Math.scalb(1.0, rng.nextInt(200) - 100);
+                assertRound(x, scale, mode);
+                assertRound(Math.rint(x), scale, mode);
+            }
+        }
+        for (final double x : new double[] {0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, 0x1.0p52, 0x1.0p53,
+            Double.MAX_VALUE, -Double.MAX_VALUE, 1.005, 2.675, 0.285, 1.0E23, 2.0E23, 9.5e13, 9.5e14}) {
+            for (final int scale : new int[] {-22, -2, 0, 2, 22}) {
+                assertRound(x, scale, mode);
+            }
+        }
+    }
+
+    /**
+     * Assert the rounding of the value is the same as rounding of the String
+     * representation using BigDecimal.
+     *
+     * @param x Value.
+     * @param scale Scale.
+     * @param mode Rounding mode.
+     */
+    private static void assertRound(double x, int scale, RoundingMode mode) {
+        final BigDecimal bd = new BigDecimal(Double.toString(x));
+        final BigDecimal rounded;
+        try {
+            rounded = bd.setScale(scale, mode);
+        } catch (ArithmeticException ex) {
+            Assertions.assertThrows(ArithmeticException.class, () -> Precision.round(x, scale, mode));
+            return;
+        }
+        final double expected = rounded.doubleValue() == 0 ? 0.0 * x : rounded.doubleValue();
+        Assertions.assertEquals(expected, Precision.round(x, scale, mode),
+            () -> String.format("round(%s, %d, %s)", x, scale, mode));
+    }
+
     @Test
     void testRepresentableDelta() {
         int nonRepresentableCount = 0;
@@ -19,14 +19,18 @@ package org.apache.commons.numbers.core;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class SumTest {
 
@@ -171,6 +175,273 @@ class SumTest {
             () -> Sum.ofProducts(new double[1], new double[2]));
     }
 
+    @Test
+    void testSum_range() {
+        final double[] values = {1, 2e-17, 3, 4e17, -5, 6, -4e17, 8};
+        for (int from = 0; from <= values.length; from++) {
+            for (int to = from; to <= values.length; to++) {
+                final double[] v = Arrays.copyOfRange(values, from, to);
+                final double expected = Sum.of(v).getAsDouble();
+                Assertions.assertEquals(expected, Sum.of(values, from, to).getAsDouble());
+                Assertions.assertEquals(Sum.of(1).add(v).getAsDouble(),
+                    Sum.of(1).add(values, from, to).getAsDouble());
+            }
+        }
+        final Sum sum = Sum.create();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.add(values, -1, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.add(values, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.of(values, 0, values.length + 1));
+    }
+
+    @Test
+    void testSum_strided() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(321L);
+        final double[] values = rng.doubles(50, -1, 1).toArray();
+        for (final int stride : new int[] {1, 2, 3, 7}) {
+            for (int offset = 0; offset < 5; offset++) {
+                final int max = (values.length - 1 - offset) / stride + 1;
+                for (int count = 0; count <= max; count++) {
+                    final double[] v = new double[count];
+                    for (int i = 0; i < count; i++) {
+                        v[i] = values[offset + i * stride];
+                    }
+                    // Same accumulation order as the array method
+                    Assertions.assertEquals(Sum.of(v).getAsDouble(),
+                        Sum.of(values, offset, stride, count).getAsDouble());
+                    Assertions.assertEquals(Sum.of(1).add(v).getAsDouble(),
+                        Sum.of(1).add(values, offset, stride, count).getAsDouble());
+                }
+            }
+        }
+        // Empty range at the end of the array
+        Assertions.assertEquals(0.0, Sum.of(values, values.length, 3, 0).getAsDouble());
+    }
+
+    @Test
+    void testSum_stridedInvalidRange() {
+        final double[] values = new double[10];
+        final Sum sum = Sum.create();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sum.add(values, 0, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sum.add(values, 0, -1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sum.add(values, 0, 1, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.add(values, -1, 1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.add(values, 11, 1, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.add(values, 1, 3, 4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.of(values, 0, 1, 11));
+        // Overflow of the last index
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> Sum.of(values, 1, Integer.MAX_VALUE, 2));
+    }
+
+    @Test
+    void testSumOfProducts_strided() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(654L);
+        // Row-major matrices
+        final int n = 9;
+        final double[] a = rng.doubles(n * n, -1, 1).toArray();
+        final double[] b = rng.doubles(n * n, -1, 1).toArray();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                // Row i of a and column j of b
+                final double[] row = Arrays.copyOfRange(a, i * n, i * n + n);
+                final double[] col = new double[n];
+                for (int k = 0; k < n; k++) {
+                    col[k] = b[k * n + j];
+                }
+                final double expected = Sum.ofProducts(row, col).getAsDouble();
+                Assertions.assertEquals(expected, Sum.ofProducts(a, i * n, 1, b, j, n, n).getAsDouble());
+                Assertions.assertEquals(Sum.of(2).addProducts(row, col).getAsDouble(),
+                    Sum.of(2).addProducts(a, i * n, 1, b, j, n, n).getAsDouble());
+            }
+        }
+        Assertions.assertEquals(0.0, Sum.ofProducts(a, 0, 1, b, 0, 1, 0).getAsDouble());
+    }
+
+    @Test
+    void testSumOfProducts_stridedInvalidRange() {
+        final double[] a = new double[10];
+        final double[] b = new double[5];
+        final Sum sum = Sum.create();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sum.addProducts(a, 0, 0, b, 0, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sum.addProducts(a, 0, 1, b, 0, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sum.addProducts(a, 0, 1, b, 0, 1, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.addProducts(a, 0, 1, b, 0, 1, 6));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.addProducts(a, 0, 2, b, 0, 1, 6));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sum.addProducts(a, -1, 1, b, 0, 1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofProducts(a, 0, 1, b, 3, 1, 3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 1000, 100000})
+    void testParallelOf(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(9876L + n);
+        final double[] values = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            final double x = Math.scalb(rng.nextDouble(), rng.nextInt(60) - 30);
+            values[i] = x;
+            values[values.length - 1 - i] = -x * (1 + 0x1.0p-52);
+        }
+        final double expected = exactSum(values);
+        final double sumAbs = Arrays.stream(values).map(Math::abs).sum();
+        final double tol = errorBound(expected, values.length, sumAbs);
+        Assertions.assertEquals(expected, Sum.parallelOf(values).getAsDouble(), tol);
+        Assertions.assertEquals(expected,
+            Sum.parallelOf(values, 0, values.length, ForkJoinPool.commonPool(), 7).getAsDouble(), tol);
+        Assertions.assertEquals(expected,
+            Arrays.stream(values).boxed().parallel().collect(Sum.collector()).getAsDouble(), tol);
+        Assertions.assertEquals(expected, Sum.of(Arrays.stream(values).parallel()).getAsDouble(), tol);
+        Assertions.assertEquals(expected, Sum.of(Arrays.stream(values)).getAsDouble(), tol);
+        if (n != 0) {
+            final double[] v = Arrays.copyOfRange(values, 1, values.length - 1);
+            final double expected2 = exactSum(v);
+            Assertions.assertEquals(expected2,
+                Sum.parallelOf(values, 1, values.length - 1).getAsDouble(), errorBound(expected2, v.length, sumAbs));
+        }
+    }
+
+    @Test
+    void testParallelOf_nonFinite() {
+        final double[] values = new double[100];
+        Arrays.fill(values, 1);
+        values[3] = Double.POSITIVE_INFINITY;
+        values[97] = Double.POSITIVE_INFINITY;
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+            Sum.parallelOf(values, 0, values.length, pool, 3).getAsDouble());
+        values[50] = Double.NEGATIVE_INFINITY;
+        Assertions.assertEquals(Double.NaN, Sum.parallelOf(values, 0, values.length, pool, 3).getAsDouble());
+        values[50] = Double.NaN;
+        Assertions.assertEquals(Double.NaN, Sum.parallelOf(values, 0, values.length, pool, 3).getAsDouble());
+    }
+
+    @Test
+    void testParallelOf_invalidArguments() {
+        final double[] values = new double[10];
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.parallelOf(values, -1, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.parallelOf(values, 0, 11));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Sum.parallelOf(values, 0, 10, pool, 0));
+    }
+
+    @Test
+    void testSumOfProducts_range() {
+        final double[] a = {1, 2, 3, 4, 5, 6, 7};
+        final double[] b = {7, 6, 5, 4, 3, 2, 1};
+        for (int from = 0; from <= a.length; from++) {
+            for (int to = from; to <= a.length; to++) {
+                double expected = 0;
+                for (int i = from; i < to; i++) {
+                    expected += a[i] * b[i];
+                }
+                Assertions.assertEquals(expected, Sum.ofProducts(a, b, from, to).getAsDouble());
+                Assertions.assertEquals(expected + 1, Sum.of(1).addProducts(a, b, from, to).getAsDouble());
+            }
+        }
+    }
+
+    @Test
+    void testSumOfProducts_invalidRange() {
+        final double[] a = new double[5];
+        final double[] b = new double[5];
+        final Sum sum = Sum.create();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> sum.addProducts(a, new double[4], 0, 4));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Sum.ofProducts(a, new double[6], 0, 4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> sum.addProducts(a, b, -1, 4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> sum.addProducts(a, b, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> Sum.ofProducts(a, b, 0, 6));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 8, 13, 64, 1001})
+    void testSumOfProducts_multipleLanes(int n) {
+        // Ill-conditioned data: the products cancel and the result is dominated
+        // by the low order parts of the products
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(1234L + n);
+        final double[] a = new double[2 * n];
+        final double[] b = new double[2 * n];
+        final double[] args = new double[4 * n];
+        for (int i = 0; i < n; i++) {
+            final double x = Math.scalb(rng.nextDouble(), rng.nextInt(60) - 30);
+            final double y = rng.nextDouble() * (rng.nextBoolean() ? 1 : -1);
+            a[i] = x;
+            b[i] = y;
+            a[i + n] = -x * (1 + 0x1.0p-52);
+            b[i + n] = y;
+        }
+        for (int i = 0; i < a.length; i++) {
+            args[2 * i] = a[i];
+            args[2 * i + 1] = b[i];
+        }
+        final double expected = exactLinearCombination(args);
+        final double actual = Sum.ofProducts(a, b).getAsDouble();
+        // Dot2S has an error bound equivalent to computing in twice the working
+        // precision and then rounding to working precision:
+        // |res - s| <= eps |s| + gamma(n)^2 sum |a_i b_i|
+        double sumAbs = 0;
+        for (int i = 0; i < a.length; i++) {
+            sumAbs += Math.abs(a[i] * b[i]);
+        }
+        final double tol = errorBound(expected, a.length, sumAbs);
+        Assertions.assertEquals(expected, actual, tol);
+        Assertions.assertEquals(expected, Sum.ofProducts(a, b, 0, a.length).getAsDouble(), tol);
+        final Sum sequential = Sum.create();
+        for (int i = 0; i < a.length; i++) {
+            sequential.addProduct(a[i], b[i]);
+        }
+        Assertions.assertEquals(expected, sequential.getAsDouble(), tol);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 8, 13, 64, 1001})
+    void testSum_multipleLanes(int n) {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create(5678L + n);
+        final double[] values = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            final double x = Math.scalb(rng.nextDouble(), rng.nextInt(60) - 30);
+            values[i] = x;
+            values[i + n] = -x * (1 + 0x1.0p-52);
+        }
+        final double expected = exactSum(values);
+        final double sumAbs = Arrays.stream(values).map(Math::abs).sum();
+        final double tol = errorBound(expected, values.length, sumAbs);
+        Assertions.assertEquals(expected, Sum.of(values).getAsDouble(), tol);
+        final Sum sequential = Sum.create();
+        Arrays.stream(values).forEach(sequential);
+        Assertions.assertEquals(expected, sequential.getAsDouble(), tol);
+    }
+
+    @Test
+    void testSum_multipleLanesSignedZero() {
+        final double[] zeros = {-0.0, -0.0, -0.0, -0.0, -0.0, -0.0};
+        final double[] ones = {1, 1, 1, 1, 1, 1};
+        for (final double initial : new double[] {-0.0, 0.0}) {
+            final Sum sequential = Sum.of(initial);
+            Arrays.stream(zeros).forEach(sequential);
+            final double expected = sequential.getAsDouble();
+            Assertions.assertEquals(expected, Sum.of(initial).add(zeros).getAsDouble());
+            Assertions.assertEquals(expected, Sum.of(initial).addProducts(zeros, ones).getAsDouble());
+        }
+    }
+
+    /**
+     * Compute the error bound of the compensated sum or dot product.
+     *
+     * @param s Exact result.
+     * @param n Number of terms.
+     * @param sumAbs Sum of the absolute terms.
+     * @return the error bound
+     */
+    private static double errorBound(double s, int n, double sumAbs) {
+        final double eps = 0x1.0p-53;
+        final double gamma = n * eps / (1 - n * eps);
+        return eps * Math.abs(s) + gamma * gamma * sumAbs;
+    }
+
     @Test
     void testSumOfProducts_singleElement() {
         final double[] a = {1.23456789};
@@ -18,6 +18,9 @@
 package org.apache.commons.numbers.examples.jmh.complex;
 
 import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexArray;
+import org.apache.commons.numbers.complex.ComplexFunctions;
+import org.apache.commons.numbers.complex.ComplexSink;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.ZigguratNormalizedGaussianSampler;
 import org.apache.commons.rng.simple.RandomSource;
@@ -206,6 +209,144 @@ public class ComplexPerformance {
         }
     }
 
+    /**
+     * Contains the real and imaginary parts of an array of complex numbers.
+     */
+    @State(Scope.Benchmark)
+    public static class PrimitiveComplexNumbers extends ComplexNumbers {
+        /** The real parts. */
+        private double[] real;
+        /** The imaginary parts. */
+        private double[] imaginary;
+
+        /**
+         * Gets the real parts.
+         *
+         * @return the real parts
+         */
+        public double[] getReal() {
+            return real;
+        }
+
+        /**
+         * Gets the imaginary parts.
+         *
+         * @return the imaginary parts
+         */
+        public double[] getImaginary() {
+            return imaginary;
+        }
+
+        /**
+         * Create the complex numbers.
+         */
+        @Override
+        @Setup
+        public void setup() {
+            super.setup();
+            real = Arrays.stream(numbers).mapToDouble(Complex::real).toArray();
+            imaginary = Arrays.stream(numbers).mapToDouble(Complex::imag).toArray();
+        }
+    }
+
+    /**
+     * Contains the real and imaginary parts of two arrays of complex numbers.
+     */
+    @State(Scope.Benchmark)
+    public static class TwoPrimitiveComplexNumbers extends TwoComplexNumbers {
+        /** The real parts. */
+        private double[] real;
+        /** The imaginary parts. */
+        private double[] imaginary;
+        /** The real parts of the second numbers. */
+        private double[] real2;
+        /** The imaginary parts of the second numbers. */
+        private double[] imaginary2;
+
+        /**
+         * Gets the real parts.
+         *
+         * @return the real parts
+         */
+        public double[] getReal() {
+            return real;
+        }
+
+        /**
+         * Gets the imaginary parts.
+         *
+         * @return the imaginary parts
+         */
+        public double[] getImaginary() {
+            return imaginary;
+        }
+
+        /**
+         * Gets the real parts of the second numbers.
+         *
+         * @return the real parts
+         */
+        public double[] getReal2() {
+            return real2;
+        }
+
+        /**
+         * Gets the imaginary parts of the second numbers.
+         *
+         * @return the imaginary parts
+         */
+        public double[] getImaginary2() {
+            return imaginary2;
+        }
+
+        /**
+         * Create the complex numbers.
+         */
+        @Override
+        @Setup
+        public void setup() {
+            super.setup();
+            real = Arrays.stream(getNumbers()).mapToDouble(Complex::real).toArray();
+            imaginary = Arrays.stream(getNumbers()).mapToDouble(Complex::imag).toArray();
+            real2 = Arrays.stream(getNumbers2()).mapToDouble(Complex::real).toArray();
+            imaginary2 = Arrays.stream(getNumbers2()).mapToDouble(Complex::imag).toArray();
+        }
+    }
+
+    /**
+     * Define a function on the real and imaginary parts of a complex number.
+     */
+    private interface PrimitiveUnaryFunction {
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param <R> the type of the result
+         * @param real the real part
+         * @param imaginary the imaginary part
+         * @param action the action to create the result
+         * @return the function result
+         */
+        <R> R apply(double real, double imaginary, ComplexSink<R> action);
+    }
+
+    /**
+     * Define a function on the real and imaginary parts of two complex numbers.
+     */
+    private interface PrimitiveBinaryFunction {
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param <R> the type of the result
+         * @param re1 the real part of the first argument
+         * @param im1 the imaginary part of the first argument
+         * @param re2 the real part of the second argument
+         * @param im2 the imaginary part of the second argument
+         * @param action the action to create the result
+         * @return the function result
+         */
+        <R> R apply(double re1, double im1, double re2, double im2, ComplexSink<R> action);
+    }
+
     /**
      * Define a function between a complex and real number.
      */
@@ -336,6 +477,65 @@ public class ComplexPerformance {
         }
     }
 
+    /**
+     * Apply the function to all the numbers. The result is passed to a single
+     * reusable sink that consumes the real and imaginary parts.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param fun Function.
+     * @param bh Data sink.
+     */
+    private static void apply(double[] real, double[] imaginary,
+            PrimitiveUnaryFunction fun, Blackhole bh) {
+        final ComplexSink<Void> sink = (x, y) -> {
+            bh.consume(x);
+            bh.consume(y);
+            return null;
+        };
+        for (int i = 0; i < real.length; i++) {
+            fun.apply(real[i], imaginary[i], sink);
+        }
+    }
+
+    /**
+     * Apply the function to the paired numbers. The result is passed to a single
+     * reusable sink that consumes the real and imaginary parts.
+     *
+     * @param numbers Numbers.
+     * @param fun Function.
+     * @param bh Data sink.
+     */
+    private static void apply(TwoPrimitiveComplexNumbers numbers,
+            PrimitiveBinaryFunction fun, Blackhole bh) {
+        final double[] re1 = numbers.getReal();
+        final double[] im1 = numbers.getImaginary();
+        final double[] re2 = numbers.getReal2();
+        final double[] im2 = numbers.getImaginary2();
+        final ComplexSink<Void> sink = (x, y) -> {
+            bh.consume(x);
+            bh.consume(y);
+            return null;
+        };
+        for (int i = 0; i < re1.length; i++) {
+            fun.apply(re1[i], im1[i], re2[i], im2[i], sink);
+        }
+    }
+
+    /**
+     * Identity function on the real and imaginary parts. This can be used to measure
+     * overhead of consuming the primitive parts.
+     *
+     * @param <R> Type of the result.
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param action Action to create the result.
+     * @return the result
+     */
+    private static <R> R identityParts(double real, double imaginary, ComplexSink<R> action) {
+        return action.apply(real, imaginary);
+    }
+
     /**
      * Identity function. This can be used to measure overhead of object array creation.
      *
@@ -652,4 +852,99 @@ public class ComplexPerformance {
     public void subtractReal(ComplexAndRealNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::subtract, bh);
     }
+
+    // Allocation-free functions on the real and imaginary parts.
+    // The result is consumed by a reusable sink.
+
+    /**
+     * Baseline the JMH overhead for the loop execute to consume the real and
+     * imaginary parts using a sink.
+     *
+     * @param numbers Numbers.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void primitiveBaselineIdentity(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexPerformance::identityParts, bh);
+    }
+
+    @Benchmark
+    public void primitiveAbs(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        final double[] re = numbers.getReal();
+        final double[] im = numbers.getImaginary();
+        for (int i = 0; i < re.length; i++) {
+            bh.consume(ComplexFunctions.abs(re[i], im[i]));
+        }
+    }
+
+    @Benchmark
+    public void primitiveConj(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::conj, bh);
+    }
+
+    @Benchmark
+    public void primitiveExp(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::exp, bh);
+    }
+
+    @Benchmark
+    public void primitiveLog(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::log, bh);
+    }
+
+    @Benchmark
+    public void primitiveSqrt(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::sqrt, bh);
+    }
+
+    @Benchmark
+    public void primitiveSin(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::sin, bh);
+    }
+
+    @Benchmark
+    public void primitiveTanh(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::tanh, bh);
+    }
+
+    @Benchmark
+    public void primitiveAsin(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getReal(), numbers.getImaginary(), ComplexFunctions::asin, bh);
+    }
+
+    @Benchmark
+    public void primitiveMultiply(TwoPrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers, ComplexFunctions::multiply, bh);
+    }
+
+    @Benchmark
+    public void primitiveDivide(TwoPrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers, ComplexFunctions::divide, bh);
+    }
+
+    @Benchmark
+    public void primitivePow(TwoPrimitiveComplexNumbers numbers, Blackhole bh) {
+        apply(numbers, ComplexFunctions::pow, bh);
+    }
+
+    // Bulk operations on split real and imaginary arrays.
+
+    @Benchmark
+    public void arrayExp(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        final ComplexArray a = ComplexArray.of(numbers.getReal(), numbers.getImaginary());
+        bh.consume(a.exp(ComplexArray.ofSize(a.size())));
+    }
+
+    @Benchmark
+    public void arraySqrt(PrimitiveComplexNumbers numbers, Blackhole bh) {
+        final ComplexArray a = ComplexArray.of(numbers.getReal(), numbers.getImaginary());
+        bh.consume(a.sqrt(ComplexArray.ofSize(a.size())));
+    }
+
+    @Benchmark
+    public void arrayMultiply(TwoPrimitiveComplexNumbers numbers, Blackhole bh) {
+        final ComplexArray a = ComplexArray.of(numbers.getReal(), numbers.getImaginary());
+        final ComplexArray b = ComplexArray.of(numbers.getReal2(), numbers.getImaginary2());
+        bh.consume(a.multiply(b, ComplexArray.ofSize(a.size())));
+    }
 }
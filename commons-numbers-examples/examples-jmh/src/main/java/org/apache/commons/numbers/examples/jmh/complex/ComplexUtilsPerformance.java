@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.streams.ComplexUtils;
+import org.apache.commons.numbers.complex.streams.ParallelComplexUtils;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a benchmark to measure the speed of the multi-dimensional array
+ * conversions in {@link ComplexUtils} and {@link ParallelComplexUtils}.
+ *
+ * <p>Note: The largest sizes require a large heap, e.g. {@code -Xmx16g}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx16G"})
+public class ComplexUtilsPerformance {
+    /** Length of the inner (interleaved) dimension in complex numbers. */
+    private static final int DEPTH = 1000;
+    /** Length of the middle dimension. */
+    private static final int HEIGHT = 100;
+
+    /**
+     * Contains a 3D volume of complex numbers in interleaved, split and object form.
+     */
+    @State(Scope.Benchmark)
+    public static class Volume {
+        /** The number of complex elements. */
+        @Param({"1000000", "10000000", "100000000"})
+        private int size;
+
+        /** The number of threads for the parallel conversions. Use zero for the common pool. */
+        @Param({"0"})
+        private int threads;
+
+        /** Interleaved data. */
+        private double[][][] interleaved;
+        /** Real parts. */
+        private double[][][] real;
+        /** Imaginary parts. */
+        private double[][][] imaginary;
+        /** Complex data. */
+        private Complex[][][] complex;
+        /** Pool for the parallel conversions. */
+        private ForkJoinPool pool;
+
+        /**
+         * Gets the interleaved data. The last dimension is interleaved.
+         *
+         * @return the data
+         */
+        public double[][][] getInterleaved() {
+            return interleaved;
+        }
+
+        /**
+         * Gets the real parts.
+         *
+         * @return the real parts
+         */
+        public double[][][] getReal() {
+            return real;
+        }
+
+        /**
+         * Gets the imaginary parts.
+         *
+         * @return the imaginary parts
+         */
+        public double[][][] getImaginary() {
+            return imaginary;
+        }
+
+        /**
+         * Gets the complex data.
+         *
+         * @return the data
+         */
+        public Complex[][][] getComplex() {
+            return complex;
+        }
+
+        /**
+         * Gets the pool.
+         *
+         * @return the pool
+         */
+        public ForkJoinPool getPool() {
+            return pool;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup(Level.Trial)
+        public void setup() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            final int width = Math.max(1, size / (HEIGHT * DEPTH));
+            real = new double[width][HEIGHT][];
+            imaginary = new double[width][HEIGHT][];
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < HEIGHT; y++) {
+                    real[x][y] = rng.doubles(DEPTH).toArray();
+                    imaginary[x][y] = rng.doubles(DEPTH).toArray();
+                }
+            }
+            complex = ComplexUtils.split2Complex(real, imaginary);
+            interleaved = ComplexUtils.complex2Interleaved(complex);
+            pool = threads == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(threads);
+        }
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public Complex[][][] interleaved2Complex(Volume volume) {
+        return ComplexUtils.interleaved2Complex(volume.getInterleaved(), 2);
+    }
+
+    @Benchmark
+    public Complex[][][] interleaved2ComplexParallel(Volume volume) {
+        return ParallelComplexUtils.interleaved2Complex(volume.getInterleaved(), 2,
+            volume.getPool(), ParallelComplexUtils.DEFAULT_THRESHOLD);
+    }
+
+    @Benchmark
+    public double interleaved2ComplexStream(Volume volume) {
+        return ComplexUtils.interleaved2ComplexStream(volume.getInterleaved()).mapToDouble(Complex::abs).sum();
+    }
+
+    @Benchmark
+    public double interleaved2ComplexArraySum(Volume volume) {
+        double sum = 0;
+        for (final Complex[][] a : ComplexUtils.interleaved2Complex(volume.getInterleaved(), 2)) {
+            for (final Complex[] b : a) {
+                for (final Complex z : b) {
+                    sum += z.abs();
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Complex[][][] split2Complex(Volume volume) {
+        return ComplexUtils.split2Complex(volume.getReal(), volume.getImaginary());
+    }
+
+    @Benchmark
+    public Complex[][][] split2ComplexParallel(Volume volume) {
+        return ParallelComplexUtils.split2Complex(volume.getReal(), volume.getImaginary(),
+            volume.getPool(), ParallelComplexUtils.DEFAULT_THRESHOLD);
+    }
+
+    @Benchmark
+    public double[][][] complex2Interleaved(Volume volume) {
+        return ComplexUtils.complex2Interleaved(volume.getComplex(), 2);
+    }
+
+    @Benchmark
+    public double[][][] complex2InterleavedParallel(Volume volume) {
+        return ParallelComplexUtils.complex2Interleaved(volume.getComplex(), 2,
+            volume.getPool(), ParallelComplexUtils.DEFAULT_THRESHOLD);
+    }
+
+    @Benchmark
+    public double complex2InterleavedStream(Volume volume) {
+        return ComplexUtils.complex2InterleavedStream(volume.getComplex()).sum();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.core;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.numbers.angle.CosAngle;
+import org.apache.commons.numbers.core.Norm;
+import org.apache.commons.numbers.core.Sum;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Executes a benchmark to measure the speed of the array range and strided
+ * methods in {@link Norm}, {@link Sum} and {@link CosAngle} against copying
+ * the rows or columns of a matrix stored in a row-major array.
+ *
+ * <p>Run with the GC profiler ({@code -prof gc}) to show the range and strided
+ * methods do not allocate memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class ArrayRangePerformance {
+    /**
+     * The seed to use to create the random benchmark input.
+     * Using a fixed seed ensures the same values are created across benchmarks.
+     */
+    private static final long SEED = System.currentTimeMillis();
+
+    /** Class providing a square matrix stored in a row-major array.
+     */
+    @State(Scope.Benchmark)
+    public static class MatrixInput {
+        /** Number of rows and columns. */
+        @Param({"16", "256"})
+        private int size;
+
+        /** Matrix data. */
+        private double[] data;
+
+        /** Get the number of rows and columns.
+         * @return the size
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /** Get the matrix data.
+         * @return the data
+         */
+        public double[] getData() {
+            return data;
+        }
+
+        /** Create the matrix for the instance. */
+        @Setup
+        public void createMatrix() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(SEED);
+            data = DoubleUtils.randomArray(size * size, -10, 10, rng);
+        }
+    }
+
+    /** Copy a row of the matrix.
+     * @param data Matrix data.
+     * @param n Matrix size.
+     * @param i Row.
+     * @return the row
+     */
+    private static double[] row(double[] data, int n, int i) {
+        return Arrays.copyOfRange(data, i * n, i * n + n);
+    }
+
+    /** Copy a column of the matrix.
+     * @param data Matrix data.
+     * @param n Matrix size.
+     * @param j Column.
+     * @return the column
+     */
+    private static double[] column(double[] data, int n, int j) {
+        final double[] c = new double[n];
+        for (int i = 0; i < n; i++) {
+            c[i] = data[i * n + j];
+        }
+        return c;
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public void normRowCopy(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int i = 0; i < n; i++) {
+            bh.consume(Norm.L2.of(row(data, n, i)));
+        }
+    }
+
+    @Benchmark
+    public void normRowRange(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int i = 0; i < n; i++) {
+            bh.consume(Norm.L2.of(data, i * n, i * n + n));
+        }
+    }
+
+    @Benchmark
+    public void normColumnCopy(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int j = 0; j < n; j++) {
+            bh.consume(Norm.L2.of(column(data, n, j)));
+        }
+    }
+
+    @Benchmark
+    public void normColumnStrided(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int j = 0; j < n; j++) {
+            bh.consume(Norm.L2.of(data, j, n, n));
+        }
+    }
+
+    @Benchmark
+    public void sumOfProductsCopy(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int i = 0; i < n; i++) {
+            bh.consume(Sum.ofProducts(row(data, n, i), column(data, n, i)).getAsDouble());
+        }
+    }
+
+    @Benchmark
+    public void sumOfProductsStrided(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int i = 0; i < n; i++) {
+            bh.consume(Sum.ofProducts(data, i * n, 1, data, i, n, n).getAsDouble());
+        }
+    }
+
+    @Benchmark
+    public void cosAngleCopy(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int i = 0; i < n; i++) {
+            bh.consume(CosAngle.value(row(data, n, i), column(data, n, i)));
+        }
+    }
+
+    @Benchmark
+    public void cosAngleStrided(MatrixInput input, Blackhole bh) {
+        final double[] data = input.getData();
+        final int n = input.getSize();
+        for (int i = 0; i < n; i++) {
+            bh.consume(CosAngle.value(data, i * n, 1, data, i, n, n));
+        }
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.core;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.apache.commons.math3.dfp.Dfp;
+import org.apache.commons.math3.dfp.DfpField;
+import org.apache.commons.math3.dfp.DfpMath;
+import org.apache.commons.numbers.core.DD;
+import org.apache.commons.numbers.core.DDMath;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Executes a benchmark to estimate the speed of the double-double elementary functions
+ * in {@link DDMath}. These are compared to computation using {@link BigDecimal} or
+ * {@link Dfp} with a similar precision, and to the {@code double} functions in {@link Math}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class DDMathPerformance {
+    /** The exp function. */
+    private static final String EXP = "exp";
+    /** The expm1 function. */
+    private static final String EXPM1 = "expm1";
+    /** The log function. */
+    private static final String LOG = "log";
+    /** The log1p function. */
+    private static final String LOG1P = "log1p";
+    /** The sin function. */
+    private static final String SIN = "sin";
+    /** The cos function. */
+    private static final String COS = "cos";
+    /** The atan function. */
+    private static final String ATAN = "atan";
+    /** Precision for the BigDecimal computation. This is above the approximately
+     * 32 decimal digits of precision of a double-double number. */
+    private static final MathContext MC = new MathContext(40);
+    /** Size of the last term of a BigDecimal series. */
+    private static final BigDecimal SERIES_EPS = new BigDecimal("1e-42");
+    /** 2 pi to the precision of the BigDecimal computation. */
+    private static final BigDecimal TWO_PI = new BigDecimal("6.283185307179586476925286766559005768394338798750");
+    /** 2. */
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    /**
+     * Contains the function arguments.
+     */
+    @State(Scope.Benchmark)
+    public static class FunctionData {
+        /** The sample size. */
+        @Param({"1000"})
+        private int size;
+
+        /** The function. */
+        @Param({EXP, EXPM1, LOG, LOG1P, SIN, COS, ATAN})
+        private String function;
+
+        /** The data. */
+        private DD[] data;
+
+        /**
+         * Gets the data.
+         *
+         * @return the data
+         */
+        public DD[] getData() {
+            return data;
+        }
+
+        /**
+         * Gets the function name.
+         *
+         * @return the function
+         */
+        public String getFunction() {
+            return function;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup(Level.Iteration)
+        public void setup() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            double min = -1;
+            double max = 1;
+            if (EXP.equals(function)) {
+                min = -20;
+                max = 20;
+            } else if (LOG.equals(function)) {
+                min = 0;
+                max = 100;
+            } else if (SIN.equals(function) || COS.equals(function) || ATAN.equals(function)) {
+                min = -4;
+                max = 4;
+            }
+            data = new DD[size];
+            for (int i = 0; i < size; i++) {
+                final double x = rng.nextDouble(min, max);
+                data[i] = DD.ofSum(x, x * rng.nextDouble(-1, 1) * 0x1.0p-53);
+            }
+        }
+    }
+
+    /**
+     * Contains the function implementation.
+     */
+    @State(Scope.Benchmark)
+    public static class FunctionMethod {
+        /** The implementation of the function. */
+        @Param({"Math", "DD", "BigDecimal", "Dfp"})
+        private String implementation;
+
+        /** The function. */
+        private UnaryOperator<DD> fun;
+
+        /**
+         * Gets the function.
+         *
+         * @return the function
+         */
+        public UnaryOperator<DD> getFunction() {
+            return fun;
+        }
+
+        /**
+         * Create the function.
+         *
+         * @param data Function data.
+         */
+        @Setup
+        public void setup(FunctionData data) {
+            fun = createFunction(implementation, data.getFunction());
+        }
+
+        /**
+         * Creates the function.
+         *
+         * @param implementation Function implementation.
+         * @param function Function name.
+         * @return the function
+         */
+        static UnaryOperator<DD> createFunction(String implementation, String function) {
+            if ("Math".equals(implementation)) {
+                return createMathFunction(function);
+            } else if ("DD".equals(implementation)) {
+                return createDDFunction(function);
+            } else if ("BigDecimal".equals(implementation)) {
+                final UnaryOperator<BigDecimal> f = createBigDecimalFunction(function);
+                return x -> DD.from(f.apply(x.bigDecimalValue()));
+            } else if ("Dfp".equals(implementation)) {
+                final DfpField df = new DfpField(MathContext.DECIMAL128.getPrecision());
+                final UnaryOperator<Dfp> f = createDfpFunction(function);
+                return x -> {
+                    final Dfp y = f.apply(df.newDfp(x.hi()).add(x.lo()));
+                    final double hi = y.toDouble();
+                    return DD.ofSum(hi, y.subtract(hi).toDouble());
+                };
+            }
+            throw new IllegalStateException("unknown implementation: " + implementation);
+        }
+
+        /**
+         * Creates the {@code double} function. This evaluates the high part of the argument.
+         *
+         * @param function Function name.
+         * @return the function
+         */
+        private static UnaryOperator<DD> createMathFunction(String function) {
+            if (EXP.equals(function)) {
+                return x -> DD.of(Math.exp(x.hi()));
+            } else if (EXPM1.equals(function)) {
+                return x -> DD.of(Math.expm1(x.hi()));
+            } else if (LOG.equals(function)) {
+                return x -> DD.of(Math.log(x.hi()));
+            } else if (LOG1P.equals(function)) {
+                return x -> DD.of(Math.log1p(x.hi()));
+            } else if (SIN.equals(function)) {
+                return x -> DD.of(Math.sin(x.hi()));
+            } else if (COS.equals(function)) {
+                return x -> DD.of(Math.cos(x.hi()));
+            } else if (ATAN.equals(function)) {
+                return x -> DD.of(Math.atan(x.hi()));
+            }
+            throw unknownFunction(function);
+        }
+
+        /**
+         * Creates the double-double function.
+         *
+         * @param function Function name.
+         * @return the function
+         */
+        private static UnaryOperator<DD> createDDFunction(String function) {
+            if (EXP.equals(function)) {
+                return DDMath::exp;
+            } else if (EXPM1.equals(function)) {
+                return DDMath::expm1;
+            } else if (LOG.equals(function)) {
+                return DDMath::log;
+            } else if (LOG1P.equals(function)) {
+                return DDMath::log1p;
+            } else if (SIN.equals(function)) {
+                return DDMath::sin;
+            } else if (COS.equals(function)) {
+                return DDMath::cos;
+            } else if (ATAN.equals(function)) {
+                return DDMath::atan;
+            }
+            throw unknownFunction(function);
+        }
+
+        /**
+         * Creates the BigDecimal function.
+         *
+         * @param function Function name.
+         * @return the function
+         */
+        private static UnaryOperator<BigDecimal> createBigDecimalFunction(String function) {
+            if (EXP.equals(function)) {
+                return DDMathPerformance::exp;
+            } else if (EXPM1.equals(function)) {
+                return x -> exp(x).subtract(BigDecimal.ONE);
+            } else if (LOG.equals(function)) {
+                return DDMathPerformance::log;
+            } else if (LOG1P.equals(function)) {
+                return x -> log(x.add(BigDecimal.ONE));
+            } else if (SIN.equals(function)) {
+                return DDMathPerformance::sin;
+            } else if (COS.equals(function)) {
+                return DDMathPerformance::cos;
+            } else if (ATAN.equals(function)) {
+                return DDMathPerformance::atan;
+            }
+            throw unknownFunction(function);
+        }
+
+        /**
+         * Creates the Dfp function.
+         *
+         * @param function Function name.
+         * @return the function
+         */
+        private static UnaryOperator<Dfp> createDfpFunction(String function) {
+            if (EXP.equals(function)) {
+                return DfpMath::exp;
+            } else if (EXPM1.equals(function)) {
+                return x -> DfpMath.exp(x).subtract(1);
+            } else if (LOG.equals(function)) {
+                return DfpMath::log;
+            } else if (LOG1P.equals(function)) {
+                return x -> DfpMath.log(x.add(1));
+            } else if (SIN.equals(function)) {
+                return DfpMath::sin;
+            } else if (COS.equals(function)) {
+                return DfpMath::cos;
+            } else if (ATAN.equals(function)) {
+                return DfpMath::atan;
+            }
+            throw unknownFunction(function);
+        }
+    }
+
+    /**
+     * Create an exception for an unknown function.
+     *
+     * @param function Function name.
+     * @return the exception
+     */
+    static IllegalStateException unknownFunction(String function) {
+        return new IllegalStateException("unknown function: " + function);
+    }
+
+    /**
+     * Compute exp(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    static BigDecimal exp(BigDecimal x) {
+        // Scale to |x / 2^m| < 2^-8 and square the result m times
+        final int m = Math.max(0, Math.getExponent(x.doubleValue()) + 9);
+        final BigDecimal y = x.divide(TWO.pow(m), MC);
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 1; term.abs().compareTo(SERIES_EPS) > 0; n++) {
+            term = term.multiply(y, MC).divide(BigDecimal.valueOf(n), MC);
+            sum = sum.add(term, MC);
+        }
+        for (int i = 0; i < m; i++) {
+            sum = sum.multiply(sum, MC);
+        }
+        return sum;
+    }
+
+    /**
+     * Compute log(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    static BigDecimal log(BigDecimal x) {
+        // Halley iteration: y = y + 2 * (x - exp(y)) / (x + exp(y))
+        BigDecimal y = new BigDecimal(Math.log(x.doubleValue()));
+        for (int i = 0; i < 2; i++) {
+            final BigDecimal e = exp(y);
+            y = y.add(x.subtract(e).multiply(TWO).divide(x.add(e), MC), MC);
+        }
+        return y;
+    }
+
+    /**
+     * Compute sin(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    static BigDecimal sin(BigDecimal x) {
+        final BigDecimal r = reduce(x);
+        final BigDecimal r2 = r.multiply(r, MC).negate();
+        BigDecimal sum = r;
+        BigDecimal term = r;
+        for (int n = 3; term.abs().compareTo(SERIES_EPS) > 0; n += 2) {
+            term = term.multiply(r2, MC).divide(BigDecimal.valueOf((long) n * (n - 1)), MC);
+            sum = sum.add(term, MC);
+        }
+        return sum;
+    }
+
+    /**
+     * Compute cos(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    static BigDecimal cos(BigDecimal x) {
+        final BigDecimal r = reduce(x);
+        final BigDecimal r2 = r.multiply(r, MC).negate();
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 2; term.abs().compareTo(SERIES_EPS) > 0; n += 2) {
+            term = term.multiply(r2, MC).divide(BigDecimal.valueOf((long) n * (n - 1)), MC);
+            sum = sum.add(term, MC);
+        }
+        return sum;
+    }
+
+    /**
+     * Reduce x to the range [-pi, pi].
+     *
+     * @param x Argument.
+     * @return the reduced argument
+     */
+    private static BigDecimal reduce(BigDecimal x) {
+        final BigDecimal k = x.divide(TWO_PI, MC).setScale(0, RoundingMode.HALF_EVEN);
+        return x.subtract(k.multiply(TWO_PI), MC);
+    }
+
+    /**
+     * Compute atan(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    static BigDecimal atan(BigDecimal x) {
+        // Reduce using: atan(x) = 2 atan(x / (1 + sqrt(1 + x^2)))
+        BigDecimal y = x;
+        final int halvings = 4;
+        for (int i = 0; i < halvings; i++) {
+            y = y.divide(BigDecimal.ONE.add(sqrt(BigDecimal.ONE.add(y.multiply(y, MC)))), MC);
+        }
+        final BigDecimal y2 = y.multiply(y, MC).negate();
+        BigDecimal sum = y;
+        BigDecimal power = y;
+        for (int n = 3;; n += 2) {
+            power = power.multiply(y2, MC);
+            final BigDecimal term = power.divide(BigDecimal.valueOf(n), MC);
+            sum = sum.add(term, MC);
+            if (term.abs().compareTo(SERIES_EPS) <= 0) {
+                return sum.multiply(BigDecimal.valueOf(1 << halvings));
+            }
+        }
+    }
+
+    /**
+     * Compute sqrt(x).
+     *
+     * @param x Argument.
+     * @return the result
+     */
+    private static BigDecimal sqrt(BigDecimal x) {
+        // Newton iteration: s = (s + x / s) / 2
+        BigDecimal s = new BigDecimal(Math.sqrt(x.doubleValue()));
+        for (int i = 0; i < 2; i++) {
+            s = s.add(x.divide(s, MC)).divide(TWO, MC);
+        }
+        return s;
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public void function(FunctionMethod method, FunctionData data, Blackhole bh) {
+        final UnaryOperator<DD> fun = method.getFunction();
+        for (final DD x : data.getData()) {
+            bh.consume(fun.apply(x));
+        }
+    }
+}
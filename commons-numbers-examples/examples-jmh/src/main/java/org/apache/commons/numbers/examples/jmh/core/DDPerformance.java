@@ -35,6 +35,7 @@ import org.apache.commons.math3.dfp.DfpField;
 import org.apache.commons.numbers.core.DD;
 import org.apache.commons.numbers.core.DDExt;
 import org.apache.commons.numbers.core.DDMath;
+import org.apache.commons.numbers.core.MutableDD;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.simple.RandomSource;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -502,6 +503,176 @@ public class DDPerformance {
         }
     }
 
+    /**
+     * Contains the method to accumulate a result over an array of double-double numbers.
+     * This compares the immutable {@link DD} with the in-place {@link MutableDD}.
+     *
+     * <p>The allocation rate of each implementation can be compared using the JMH
+     * GC profiler ({@code -prof gc}).
+     */
+    @State(Scope.Benchmark)
+    public static class AccumulateMethod {
+        /** The implementation of the function. */
+        @Param({"sum", "mutableSum",
+                "dot", "mutableDot",
+                "horner", "mutableHorner",
+                "productSum", "mutableProductSum"})
+        private String implementation;
+
+        /** The function. */
+        private BiFunction<DD[], DD[], DD> function;
+
+        /**
+         * Gets the function.
+         *
+         * @return the function
+         */
+        public BiFunction<DD[], DD[], DD> getFunction() {
+            return function;
+        }
+
+        /**
+         * Create the function.
+         */
+        @Setup
+        public void setup() {
+            function = createFunction(implementation);
+        }
+
+        /**
+         * Creates the function to compute the double-double accumulation.
+         *
+         * @param implementation Function implementation
+         * @return the function
+         */
+        static BiFunction<DD[], DD[], DD> createFunction(String implementation) {
+            if ("sum".equals(implementation)) {
+                return (a, b) -> {
+                    DD s = DD.ZERO;
+                    for (final DD x : a) {
+                        s = s.add(x);
+                    }
+                    return s;
+                };
+            } else if ("mutableSum".equals(implementation)) {
+                return (a, b) -> {
+                    final MutableDD s = MutableDD.create();
+                    for (final DD x : a) {
+                        s.add(x);
+                    }
+                    return s.toDD();
+                };
+            } else if ("dot".equals(implementation)) {
+                return (a, b) -> {
+                    DD s = DD.ZERO;
+                    for (int i = 0; i < a.length; i++) {
+                        s = s.add(a[i].multiply(b[i]));
+                    }
+                    return s;
+                };
+            } else if ("mutableDot".equals(implementation)) {
+                return (a, b) -> {
+                    final MutableDD s = MutableDD.create();
+                    for (int i = 0; i < a.length; i++) {
+                        s.addProduct(a[i], b[i]);
+                    }
+                    return s.toDD();
+                };
+            } else if ("horner".equals(implementation)) {
+                // Polynomial with coefficients a evaluated at b[0]
+                return (a, b) -> {
+                    final DD x = b[0];
+                    DD s = DD.ZERO;
+                    for (int i = a.length; --i >= 0;) {
+                        s = s.multiply(x).add(a[i]);
+                    }
+                    return s;
+                };
+            } else if ("mutableHorner".equals(implementation)) {
+                return (a, b) -> {
+                    final DD x = b[0];
+                    final MutableDD s = MutableDD.create();
+                    for (int i = a.length; --i >= 0;) {
+                        s.multiply(x).add(a[i]);
+                    }
+                    return s.toDD();
+                };
+            } else if ("productSum".equals(implementation)) {
+                // Sum of exact products of the high parts
+                return (a, b) -> {
+                    DD s = DD.ZERO;
+                    for (int i = 0; i < a.length; i++) {
+                        s = s.add(DD.ofProduct(a[i].hi(), b[i].hi()));
+                    }
+                    return s;
+                };
+            } else if ("mutableProductSum".equals(implementation)) {
+                return (a, b) -> {
+                    final MutableDD s = MutableDD.create();
+                    for (int i = 0; i < a.length; i++) {
+                        s.addProduct(a[i].hi(), b[i].hi());
+                    }
+                    return s.toDD();
+                };
+            } else {
+                throw new IllegalStateException("unknown accumulate method: " + implementation);
+            }
+        }
+    }
+
+    /**
+     * Contains the data to compute a batch of powers {@code (x, xx)^n} with a shared base.
+     */
+    @State(Scope.Benchmark)
+    public static class PowBatchSample {
+        /** The number of powers. */
+        @Param({"1000", "100000"})
+        private int size;
+
+        /** The distribution of the powers. A range of consecutive powers share
+         * leading bits; random powers share few intermediate results. */
+        @Param({"range", "random"})
+        private String powers;
+
+        /** The base. */
+        private DD x;
+        /** The powers. */
+        private int[] n;
+
+        /**
+         * Gets the base.
+         *
+         * @return the base
+         */
+        public DD getX() {
+            return x;
+        }
+
+        /**
+         * Gets the powers.
+         *
+         * @return the powers
+         */
+        public int[] getN() {
+            return n;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup
+        public void setup() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            x = makeSignedDoubleDouble(rng).abs().add(1);
+            if ("range".equals(powers)) {
+                final int start = rng.nextInt(1 << 20);
+                n = IntStream.range(start, start + size).toArray();
+            } else {
+                n = rng.ints(size, 1, 1 << 20).toArray();
+            }
+        }
+    }
+
     /**
      * Contains the data to computes the power function {@code (x, xx)^n}.
      */
@@ -886,4 +1057,53 @@ public class DDPerformance {
     public Object powScaled(PowScaledMethod method, PowScaledSample data) {
         return method.getFunction().apply(data.getDD(), data.getN());
     }
+
+    /**
+     * Benchmark accumulation of a result over the numbers.
+     *
+     * @param method Test method.
+     * @param data Test data.
+     * @return the result
+     */
+    @Benchmark
+    public DD accumulate(AccumulateMethod method, OperatorData data) {
+        return method.getFunction().apply(data.getData(), data.getData2());
+    }
+
+    /**
+     * Benchmark a batch of powers with a shared base computed using a loop.
+     *
+     * @param data Test data.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void powBatchLoop(PowBatchSample data, Blackhole bh) {
+        final DD x = data.getX();
+        final long[] exp = {0};
+        for (final int n : data.getN()) {
+            bh.consume(DDMath.pow(x, n, exp));
+        }
+    }
+
+    /**
+     * Benchmark a batch of powers with a shared base.
+     *
+     * @param data Test data.
+     * @return the result
+     */
+    @Benchmark
+    public DD[] powBatch(PowBatchSample data) {
+        return DDMath.pow(data.getX(), data.getN(), new long[data.getN().length]);
+    }
+
+    /**
+     * Benchmark a batch of powers with a shared base computed in parallel.
+     *
+     * @param data Test data.
+     * @return the result
+     */
+    @Benchmark
+    public DD[] parallelPowBatch(PowBatchSample data) {
+        return DDMath.parallelPow(data.getX(), data.getN(), new long[data.getN().length]);
+    }
 }
@@ -175,6 +175,8 @@ public class LinearCombinationPerformance {
          */
         @Param({"standard",
                 "current",
+                // Current implementation using a single compensated sum for arrays
+                "current_sequential",
                 "dekker",
                 "dot2s",
                 "dot2", "dot3", "dot4", "dot5", "dot6", "dot7",
@@ -229,7 +231,7 @@ public class LinearCombinationPerformance {
          */
         @Setup
         public void setup() {
-            if ("current".endsWith(name)) {
+            if (name.startsWith("current")) {
                 twod = (a1, b1, a2, b2) ->
                     Sum.create()
                         .addProduct(a1, b1)
@@ -245,7 +247,18 @@ public class LinearCombinationPerformance {
                         .addProduct(a2, b2)
                         .addProduct(a3, b3)
                         .addProduct(a4, b4).getAsDouble();
-                nd = (a, b) -> Sum.ofProducts(a, b).getAsDouble();
+                if ("current_sequential".equals(name)) {
+                    // Add each product to a single compensated sum
+                    nd = (a, b) -> {
+                        final Sum sum = Sum.create();
+                        for (int i = 0; i < a.length; i++) {
+                            sum.addProduct(a[i], b[i]);
+                        }
+                        return sum.getAsDouble();
+                    };
+                } else {
+                    nd = (a, b) -> Sum.ofProducts(a, b).getAsDouble();
+                }
                 return;
             }
             // All implementations below are expected to implement all the interfaces.
@@ -210,4 +210,19 @@ public class NormPerformance {
     public void euclideanArray(final VectorArrayInput input, final Blackhole bh) {
         eval(Norm.L2, input, bh);
     }
+
+    /** Compute the performance of the {@link Norm#L2} accumulator.
+     * @param input benchmark input
+     * @param bh blackhole
+     */
+    @Benchmark
+    public void euclideanAccumulator(final VectorArrayInput input, final Blackhole bh) {
+        eval(v -> {
+            final Norm.Accumulator acc = Norm.L2.accumulator();
+            for (final double x : v) {
+                acc.accept(x);
+            }
+            return acc.getAsDouble();
+        }, input, bh);
+    }
 }
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.core;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.numbers.core.Precision;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Executes a benchmark to measure the speed of the methods in {@link Precision}.
+ *
+ * <p>The bulk array comparison methods are compared against a loop over the
+ * equivalent scalar method. Rounding is compared against rounding of the String
+ * representation using {@link BigDecimal}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class PrecisionPerformance {
+    /**
+     * The seed to use to create the random benchmark input.
+     * Using a fixed seed ensures the same values are created across benchmarks.
+     */
+    private static final long SEED = System.currentTimeMillis();
+    /** The maximum ULP difference between the arrays. */
+    private static final int MAX_ULPS = 4;
+    /** The epsilon for the equivalence. */
+    private static final double EPS = 1e-10;
+
+    /** Class providing two arrays that are equal within {@value #MAX_ULPS} ulp.
+     */
+    @State(Scope.Benchmark)
+    public static class ArrayInput {
+        /** Size of the arrays. */
+        @Param({"1000", "100000"})
+        private int size;
+
+        /** First array. */
+        private double[] a;
+        /** Second array. */
+        private double[] b;
+
+        /** Get the first array.
+         * @return the array
+         */
+        public double[] getA() {
+            return a;
+        }
+
+        /** Get the second array.
+         * @return the array
+         */
+        public double[] getB() {
+            return b;
+        }
+
+        /** Create the arrays for the instance. */
+        @Setup
+        public void createArrays() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(SEED);
+            a = DoubleUtils.randomArray(size, -10, 10, rng);
+            b = new double[size];
+            for (int i = 0; i < size; i++) {
+                // Offset the value by up to the maximum ULP difference
+                b[i] = Double.longBitsToDouble(Double.doubleToRawLongBits(a[i]) + rng.nextInt(MAX_ULPS + 1));
+            }
+        }
+    }
+
+    /** Class providing an equivalence.
+     */
+    @State(Scope.Benchmark)
+    public static class EquivalenceInput {
+        /** Type of the equivalence. */
+        @Param({"epsilon", "default"})
+        private String type;
+
+        /** Equivalence. */
+        private Precision.DoubleEquivalence equivalence;
+
+        /** Get the equivalence.
+         * @return the equivalence
+         */
+        public Precision.DoubleEquivalence getEquivalence() {
+            return equivalence;
+        }
+
+        /** Create the equivalence for the instance. */
+        @Setup
+        public void createEquivalence() {
+            if ("epsilon".equals(type)) {
+                equivalence = Precision.doubleEquivalenceOfEpsilon(EPS);
+            } else {
+                // Use the default interface methods
+                equivalence = (x, y) -> Precision.compareTo(x, y, EPS);
+            }
+        }
+    }
+
+    /** Class providing values to round.
+     */
+    @State(Scope.Benchmark)
+    public static class RoundInput {
+        /** Number of values. */
+        private static final int SIZE = 1000;
+
+        /** Type of the values. */
+        @Param({"price", "random"})
+        private String type;
+
+        /** Number of digits to the right of the decimal point. */
+        @Param({"2"})
+        private int scale;
+
+        /** Rounding mode. */
+        @Param({"HALF_UP", "DOWN"})
+        private RoundingMode mode;
+
+        /** Values. */
+        private double[] values;
+
+        /** Get the values.
+         * @return the values
+         */
+        public double[] getValues() {
+            return values;
+        }
+
+        /** Get the scale.
+         * @return the scale
+         */
+        public int getScale() {
+            return scale;
+        }
+
+        /** Get the rounding mode.
+         * @return the mode
+         */
+        public RoundingMode getMode() {
+            return mode;
+        }
+
+        /** Create the values for the instance. */
+        @Setup
+        public void createValues() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(SEED);
+            values = new double[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                if ("price".equals(type)) {
+                    // Decimal with one more digit than the scale
+                    values[i] = rng.nextInt(100000000) / Math.pow(10, scale + 1);
+                } else {
+                    values[i] = rng.nextDouble() * 1000;
+                }
+            }
+        }
+    }
+
+    /**
+     * Round the value using the String representation (the original implementation of
+     * {@link Precision#round(double, int, RoundingMode)}).
+     *
+     * @param x Value to round.
+     * @param scale Number of digits to the right of the decimal point.
+     * @param roundingMode Rounding mode.
+     * @return the rounded value
+     */
+    private static double roundBigDecimal(double x, int scale, RoundingMode roundingMode) {
+        try {
+            final double rounded = new BigDecimal(Double.toString(x))
+                .setScale(scale, roundingMode)
+                .doubleValue();
+            return rounded == 0 ? 0.0 * x : rounded;
+        } catch (NumberFormatException ex) {
+            if (Double.isInfinite(x)) {
+                return x;
+            }
+            return Double.NaN;
+        }
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public boolean equalsScalarLoop(ArrayInput input) {
+        final double[] a = input.getA();
+        final double[] b = input.getB();
+        for (int i = 0; i < a.length; i++) {
+            if (!Precision.equals(a[i], b[i], MAX_ULPS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean equalsArray(ArrayInput input) {
+        return Precision.equals(input.getA(), input.getB(), MAX_ULPS);
+    }
+
+    @Benchmark
+    public int mismatch(ArrayInput input) {
+        return Precision.mismatch(input.getA(), input.getB(), MAX_ULPS);
+    }
+
+    @Benchmark
+    public long maxUlpDistance(ArrayInput input) {
+        return Precision.maxUlpDistance(input.getA(), input.getB());
+    }
+
+    @Benchmark
+    public boolean equivalenceScalarLoop(ArrayInput input, EquivalenceInput eq) {
+        final double[] a = input.getA();
+        final double[] b = input.getB();
+        final Precision.DoubleEquivalence e = eq.getEquivalence();
+        for (int i = 0; i < a.length; i++) {
+            if (!e.eq(a[i], b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean equivalenceArray(ArrayInput input, EquivalenceInput eq) {
+        return eq.getEquivalence().eq(input.getA(), input.getB());
+    }
+
+    @Benchmark
+    public void roundBigDecimal(RoundInput input, Blackhole bh) {
+        final int scale = input.getScale();
+        final RoundingMode mode = input.getMode();
+        for (final double x : input.getValues()) {
+            bh.consume(roundBigDecimal(x, scale, mode));
+        }
+    }
+
+    @Benchmark
+    public void round(RoundInput input, Blackhole bh) {
+        final int scale = input.getScale();
+        final RoundingMode mode = input.getMode();
+        for (final double x : input.getValues()) {
+            bh.consume(Precision.round(x, scale, mode));
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.numbers.examples.jmh.core;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.ToDoubleBiFunction;
 import java.util.function.ToDoubleFunction;
@@ -62,7 +63,7 @@ public class SumPerformance {
         private int samples;
 
         /** Number of values in each input array. */
-        @Param("50")
+        @Param({"4", "50"})
         private int len;
 
         /** Minimum possible double exponent. */
@@ -118,6 +119,32 @@ public class SumPerformance {
         }
     }
 
+    /** Class providing a large double array for benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeArrayInput {
+        /** Number of values in the array. */
+        @Param({"1000000", "10000000"})
+        private int size;
+
+        /** Input array. */
+        private double[] a;
+
+        /** Get the input array.
+         * @return input array
+         */
+        public double[] getA() {
+            return a;
+        }
+
+        /** Create the input array for the instance. */
+        @Setup
+        public void createArray() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(SEED);
+            a = DoubleUtils.randomArray(size, -10, 10, rng);
+        }
+    }
+
     /** Run a benchmark for a function that accepts a single array and produces a double result.
      * @param input benchmark input
      * @param bh data sink
@@ -180,4 +207,74 @@ public class SumPerformance {
     public void sumOfProducts(final ArrayInput input, final Blackhole bh) {
         runDouble(input, bh, (a, b) -> Sum.ofProducts(a, b).getAsDouble());
     }
+
+    /** Benchmark testing {@link Sum} addition performance when adding
+     * the terms individually. This uses a single compensated sum.
+     * @param input benchmark input
+     * @param bh data sink
+     */
+    @Benchmark
+    public void sumSequential(final ArrayInput input, final Blackhole bh) {
+        runSingle(input, bh, a -> {
+            final Sum sum = Sum.create();
+            for (final double x : a) {
+                sum.add(x);
+            }
+            return sum.getAsDouble();
+        });
+    }
+
+    /** Benchmark testing {@link Sum} linear combination performance when adding
+     * the products individually. This uses a single compensated sum.
+     * @param input benchmark input
+     * @param bh data sink
+     */
+    @Benchmark
+    public void sumOfProductsSequential(final ArrayInput input, final Blackhole bh) {
+        runDouble(input, bh, (a, b) -> {
+            final Sum sum = Sum.create();
+            for (int i = 0; i < a.length; i++) {
+                sum.addProduct(a[i], b[i]);
+            }
+            return sum.getAsDouble();
+        });
+    }
+
+    /** Benchmark testing {@link Sum} linear combination performance using a range
+     * of the input arrays.
+     * @param input benchmark input
+     * @param bh data sink
+     */
+    @Benchmark
+    public void sumOfProductsRange(final ArrayInput input, final Blackhole bh) {
+        runDouble(input, bh, (a, b) -> Sum.ofProducts(a, b, 1, a.length).getAsDouble());
+    }
+
+    /** Benchmark testing {@link Sum} addition performance on a large array.
+     * @param input benchmark input
+     * @return the sum
+     */
+    @Benchmark
+    public double sumLarge(final LargeArrayInput input) {
+        return Sum.of(input.getA()).getAsDouble();
+    }
+
+    /** Benchmark testing {@link Sum} parallel addition performance on a large array.
+     * @param input benchmark input
+     * @return the sum
+     */
+    @Benchmark
+    public double parallelSumLarge(final LargeArrayInput input) {
+        return Sum.parallelOf(input.getA()).getAsDouble();
+    }
+
+    /** Benchmark testing {@link Sum} addition performance on a large array using
+     * a parallel stream.
+     * @param input benchmark input
+     * @return the sum
+     */
+    @Benchmark
+    public double parallelStreamSumLarge(final LargeArrayInput input) {
+        return Arrays.stream(input.getA()).parallel().collect(Sum::create, Sum::add, Sum::add).getAsDouble();
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.gamma;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+import org.apache.commons.numbers.gamma.Erfc;
+import org.apache.commons.numbers.gamma.LogGamma;
+import org.apache.commons.numbers.gamma.RegularizedBeta;
+import org.apache.commons.numbers.gamma.RegularizedGamma;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a benchmark to measure the speed of evaluating gamma family functions
+ * on arrays of arguments.
+ *
+ * <p>A loop calling the scalar function is compared against the array
+ * and parallel array methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class GammaArrayPerformance {
+    /** The seed for random number generation. */
+    private static final long SEED = ThreadLocalRandom.current().nextLong();
+    /** Parameter {@code a} of the regularized gamma function. */
+    private static final double GAMMA_A = 12.5;
+    /** Parameter {@code a} of the regularized beta function. */
+    private static final double BETA_A = 2.5;
+    /** Parameter {@code b} of the regularized beta function. */
+    private static final double BETA_B = 7.5;
+
+    /**
+     * Evaluate a function on a range of an array.
+     */
+    interface ArrayFunction {
+        /**
+         * Evaluate the function for each argument in the range {@code [from, to)}.
+         *
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         */
+        void apply(double[] x, int from, int to, double[] result);
+    }
+
+    /**
+     * Contains the arguments and the function.
+     */
+    @State(Scope.Benchmark)
+    public static class FunctionData {
+        /** The size of the data. */
+        @Param({"1000", "100000"})
+        private int size;
+
+        /** The function. */
+        @Param({"erfc", "logGamma", "regularizedGammaP", "regularizedBeta"})
+        private String function;
+
+        /** The arguments. */
+        private double[] numbers;
+        /** The results. */
+        private double[] result;
+        /** The scalar function. */
+        private DoubleUnaryOperator scalar;
+        /** The array function. */
+        private ArrayFunction array;
+        /** The parallel array function. */
+        private ArrayFunction parallel;
+
+        /** Get the arguments.
+         * @return the arguments
+         */
+        public double[] getNumbers() {
+            return numbers;
+        }
+
+        /** Get the results.
+         * @return the results
+         */
+        public double[] getResult() {
+            return result;
+        }
+
+        /** Get the scalar function.
+         * @return the function
+         */
+        public DoubleUnaryOperator getScalar() {
+            return scalar;
+        }
+
+        /** Get the array function.
+         * @return the function
+         */
+        public ArrayFunction getArray() {
+            return array;
+        }
+
+        /** Get the parallel array function.
+         * @return the function
+         */
+        public ArrayFunction getParallel() {
+            return parallel;
+        }
+
+        /** Create the arguments and the functions. */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom(SEED);
+            result = new double[size];
+            if ("erfc".equals(function)) {
+                numbers = rng.doubles(size, -6, 28).toArray();
+                scalar = Erfc::value;
+                array = Erfc::value;
+                parallel = Erfc::parallelValue;
+            } else if ("logGamma".equals(function)) {
+                numbers = rng.doubles(size, 0, 200).toArray();
+                scalar = LogGamma::value;
+                array = LogGamma::value;
+                parallel = LogGamma::parallelValue;
+            } else if ("regularizedGammaP".equals(function)) {
+                numbers = rng.doubles(size, 0, 4 * GAMMA_A).toArray();
+                scalar = x -> RegularizedGamma.P.value(GAMMA_A, x);
+                array = (x, from, to, r) -> RegularizedGamma.P.value(GAMMA_A, x, from, to, r);
+                parallel = (x, from, to, r) -> RegularizedGamma.P.parallelValue(GAMMA_A, x, from, to, r);
+            } else if ("regularizedBeta".equals(function)) {
+                numbers = rng.doubles(size, 0, 1).toArray();
+                scalar = x -> RegularizedBeta.value(x, BETA_A, BETA_B);
+                array = (x, from, to, r) -> RegularizedBeta.value(x, BETA_A, BETA_B, from, to, r);
+                parallel = (x, from, to, r) -> RegularizedBeta.parallelValue(x, BETA_A, BETA_B, from, to, r);
+            } else {
+                throw new IllegalStateException("unknown function: " + function);
+            }
+        }
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public double[] scalarLoop(FunctionData data) {
+        final double[] x = data.getNumbers();
+        final double[] r = data.getResult();
+        final DoubleUnaryOperator f = data.getScalar();
+        for (int i = 0; i < x.length; i++) {
+            r[i] = f.applyAsDouble(x[i]);
+        }
+        return r;
+    }
+
+    @Benchmark
+    public double[] array(FunctionData data) {
+        final double[] x = data.getNumbers();
+        final double[] r = data.getResult();
+        data.getArray().apply(x, 0, x.length, r);
+        return r;
+    }
+
+    @Benchmark
+    public double[] parallelArray(FunctionData data) {
+        final double[] x = data.getNumbers();
+        final double[] r = data.getResult();
+        data.getParallel().apply(x, 0, x.length, r);
+        return r;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.gamma;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.numbers.gamma.IncompleteGamma;
+import org.apache.commons.numbers.gamma.Policy;
+import org.apache.commons.numbers.gamma.RegularizedBeta;
+import org.apache.commons.numbers.gamma.RegularizedGamma;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Executes a benchmark to measure the speed of the incomplete gamma and beta
+ * functions using a {@link Policy} with a range of relative error thresholds.
+ *
+ * <p>The maximum relative error of each policy compared to the default policy is
+ * computed on the benchmark data and reported during the setup. The combination
+ * of the score and the error describes the throughput/accuracy trade-off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class GammaPolicyPerformance {
+    /** The seed for random number generation. */
+    private static final long SEED = ThreadLocalRandom.current().nextLong();
+    /** The maximum value of the function parameters. */
+    private static final double MAX_PARAMETER = 100;
+
+    /**
+     * Evaluate a function of the parameters and argument using the policy.
+     */
+    interface PolicyFunction {
+        /**
+         * Evaluate the function.
+         *
+         * @param a First parameter.
+         * @param b Second parameter.
+         * @param x Argument.
+         * @param policy Policy.
+         * @return the value
+         */
+        double apply(double a, double b, double x, Policy policy);
+    }
+
+    /**
+     * Contains the arguments and the policy.
+     */
+    @State(Scope.Benchmark)
+    public static class FunctionData {
+        /** The number of arguments. */
+        @Param({"1000"})
+        private int size;
+
+        /** The relative error of the policy. */
+        @Param({"1.1102230246251565E-16", "1e-12", "1e-8", "1e-4", "1e-2"})
+        private double eps;
+
+        /** The function. */
+        @Param({"regularizedGammaP", "incompleteGammaUpper", "regularizedBeta"})
+        private String function;
+
+        /** The first parameter. */
+        private double[] a;
+        /** The second parameter. */
+        private double[] b;
+        /** The argument. */
+        private double[] x;
+        /** The policy. */
+        private Policy policy;
+        /** The function. */
+        private PolicyFunction fun;
+
+        /** Get the first parameter.
+         * @return the first parameter
+         */
+        public double[] getA() {
+            return a;
+        }
+
+        /** Get the second parameter.
+         * @return the second parameter
+         */
+        public double[] getB() {
+            return b;
+        }
+
+        /** Get the argument.
+         * @return the argument
+         */
+        public double[] getX() {
+            return x;
+        }
+
+        /** Get the policy.
+         * @return the policy
+         */
+        public Policy getPolicy() {
+            return policy;
+        }
+
+        /** Get the function.
+         * @return the function
+         */
+        public PolicyFunction getFunction() {
+            return fun;
+        }
+
+        /** Create the arguments and the policy. */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom(SEED);
+            a = rng.doubles(size, 1, MAX_PARAMETER).toArray();
+            b = rng.doubles(size, 1, MAX_PARAMETER).toArray();
+            // The gamma function argument is close to the parameter a where
+            // the series and continued fraction evaluations are used.
+            x = new double[size];
+            for (int i = 0; i < size; i++) {
+                x[i] = a[i] * rng.nextDouble(0.5, 1.5);
+            }
+            if ("regularizedGammaP".equals(function)) {
+                fun = (p, q, y, pol) -> RegularizedGamma.P.value(p, y, pol);
+            } else if ("incompleteGammaUpper".equals(function)) {
+                fun = (p, q, y, pol) -> IncompleteGamma.Upper.value(p, y, pol);
+            } else if ("regularizedBeta".equals(function)) {
+                // The beta function argument is in [0, 1]
+                x = rng.doubles(size).toArray();
+                fun = (p, q, y, pol) -> RegularizedBeta.value(y, p, q, pol);
+            } else {
+                throw new IllegalStateException("unknown function: " + function);
+            }
+            policy = Policy.of(eps, Policy.getDefault().getMaxIterations());
+
+            // Maximum relative error of the policy compared to the default
+            double max = 0;
+            for (int i = 0; i < size; i++) {
+                final double expected = fun.apply(a[i], b[i], x[i], Policy.getDefault());
+                final double actual = fun.apply(a[i], b[i], x[i], policy);
+                if (expected != 0) {
+                    max = Math.max(max, Math.abs((actual - expected) / expected));
+                }
+            }
+            // CHECKSTYLE: stop Regexp
+            System.out.printf("%n%s eps=%s : max relative error %s%n", function, eps, max);
+            // CHECKSTYLE: resume Regexp
+        }
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public void evaluate(FunctionData data, Blackhole bh) {
+        final double[] a = data.getA();
+        final double[] b = data.getB();
+        final double[] x = data.getX();
+        final Policy policy = data.getPolicy();
+        final PolicyFunction fun = data.getFunction();
+        for (int i = 0; i < x.length; i++) {
+            bh.consume(fun.apply(a[i], b[i], x[i], policy));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.primes;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.numbers.primes.PrimeFactorizer;
+import org.apache.commons.numbers.primes.Primes;
+import org.apache.commons.numbers.primes.SmallestPrimeFactorTable;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Executes a benchmark to measure the speed of prime factorization of bounded numbers.
+ *
+ * <p>Factorization using lookups in a {@link SmallestPrimeFactorTable} is compared
+ * against trial division and the methods in {@link Primes} and {@link PrimeFactorizer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class PrimeFactorsPerformance {
+    /**
+     * The seed to use to create the random benchmark input.
+     * Using a fixed seed ensures the same values are created across benchmarks.
+     */
+    private static final long SEED = System.currentTimeMillis();
+
+    /** Class providing numbers to factorize and the table.
+     */
+    @State(Scope.Benchmark)
+    public static class NumberInput {
+        /** Number of values. */
+        private static final int SIZE = 1000;
+
+        /** Upper limit of the values. */
+        @Param({"1000000", "100000000"})
+        private int limit;
+
+        /** Values. */
+        private int[] values;
+        /** Table. */
+        private SmallestPrimeFactorTable table;
+
+        /** Get the values.
+         * @return the values
+         */
+        public int[] getValues() {
+            return values;
+        }
+
+        /** Get the table.
+         * @return the table
+         */
+        public SmallestPrimeFactorTable getTable() {
+            return table;
+        }
+
+        /** Create the table for the instance. */
+        @Setup(Level.Trial)
+        public void createTable() {
+            table = SmallestPrimeFactorTable.create(limit);
+        }
+
+        /** Create the values for the instance. */
+        @Setup(Level.Iteration)
+        public void createValues() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(SEED);
+            values = rng.ints(SIZE, 2, limit + 1).toArray();
+        }
+    }
+
+    /**
+     * Factorize the number by trial division.
+     *
+     * @param n Number (must be &ge; 2).
+     * @param factors Array where to write the factors.
+     * @return the number of factors
+     */
+    private static int trialDivision(int n, int[] factors) {
+        int m = n;
+        int count = 0;
+        while ((m & 1) == 0) {
+            factors[count++] = 2;
+            m >>>= 1;
+        }
+        for (int p = 3; p <= m / p; p += 2) {
+            while (m % p == 0) {
+                factors[count++] = p;
+                m /= p;
+            }
+        }
+        if (m != 1) {
+            factors[count++] = m;
+        }
+        return count;
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public void trialDivision(NumberInput input, Blackhole bh) {
+        final int[] factors = new int[Integer.SIZE];
+        for (final int n : input.getValues()) {
+            bh.consume(trialDivision(n, factors));
+        }
+    }
+
+    @Benchmark
+    public void primesList(NumberInput input, Blackhole bh) {
+        for (final int n : input.getValues()) {
+            bh.consume(Primes.primeFactors(n));
+        }
+    }
+
+    @Benchmark
+    public void primeFactorizer(NumberInput input, Blackhole bh) {
+        final PrimeFactorizer f = new PrimeFactorizer();
+        final int[] factors = new int[Integer.SIZE];
+        for (final int n : input.getValues()) {
+            bh.consume(f.primeFactors(n, factors));
+        }
+    }
+
+    @Benchmark
+    public void table(NumberInput input, Blackhole bh) {
+        final SmallestPrimeFactorTable table = input.getTable();
+        final int[] factors = new int[Integer.SIZE];
+        for (final int n : input.getValues()) {
+            bh.consume(table.primeFactors(n, factors));
+        }
+    }
+}
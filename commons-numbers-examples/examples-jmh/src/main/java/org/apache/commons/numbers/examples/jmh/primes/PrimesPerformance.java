@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.examples.jmh.primes;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.numbers.primes.Primes;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Executes a benchmark to measure the speed of the methods in {@link Primes}.
+ *
+ * <p>The primality test for {@code long} values is compared against
+ * {@link BigInteger#isProbablePrime(int)}. Enumeration of the primes in a range
+ * using the sieve is compared against repeated calls to {@link Primes#nextPrime(long)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class PrimesPerformance {
+    /**
+     * The seed to use to create the random benchmark input.
+     * Using a fixed seed ensures the same values are created across benchmarks.
+     */
+    private static final long SEED = System.currentTimeMillis();
+    /**
+     * Certainty for {@link BigInteger#isProbablePrime(int)}. The probability that a
+     * composite is reported as prime is below {@code 2^-certainty}.
+     */
+    private static final int CERTAINTY = 64;
+
+    /** Class providing numbers to test for primality.
+     */
+    @State(Scope.Benchmark)
+    public static class NumberInput {
+        /** Number of values. */
+        private static final int SIZE = 1000;
+
+        /** Number of bits of the values. */
+        @Param({"40", "63"})
+        private int bits;
+
+        /** Type of the values. */
+        @Param({"odd", "prime"})
+        private String type;
+
+        /** Values. */
+        private long[] values;
+
+        /** Get the values.
+         * @return the values
+         */
+        public long[] getValues() {
+            return values;
+        }
+
+        /** Create the values for the instance. */
+        @Setup
+        public void createValues() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_1024_PP.create(SEED);
+            values = new long[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                // Random odd value with the top bit set
+                final long x = (rng.nextLong() >>> (64 - bits)) | (1L << (bits - 1)) | 1;
+                values[i] = "prime".equals(type) ? Primes.nextPrime(x) : x;
+            }
+        }
+    }
+
+    /** Class providing a range of numbers.
+     */
+    @State(Scope.Benchmark)
+    public static class RangeInput {
+        /** Lower bound of the range. */
+        @Param({"0", "1000000000000"})
+        private long from;
+
+        /** Length of the range. */
+        @Param({"10000000"})
+        private long length;
+
+        /** Get the lower bound (inclusive).
+         * @return the lower bound
+         */
+        public long getFrom() {
+            return from;
+        }
+
+        /** Get the upper bound (exclusive).
+         * @return the upper bound
+         */
+        public long getTo() {
+            return from + length;
+        }
+    }
+
+    // Benchmark methods.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public void isProbablePrime(NumberInput input, Blackhole bh) {
+        for (final long x : input.getValues()) {
+            bh.consume(BigInteger.valueOf(x).isProbablePrime(CERTAINTY));
+        }
+    }
+
+    @Benchmark
+    public void isPrime(NumberInput input, Blackhole bh) {
+        for (final long x : input.getValues()) {
+            bh.consume(Primes.isPrime(x));
+        }
+    }
+
+    @Benchmark
+    public long nextPrimeLoop(RangeInput input) {
+        final long to = input.getTo();
+        long count = 0;
+        for (long p = Primes.nextPrime(input.getFrom()); p < to; p = Primes.nextPrime(p + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long stream(RangeInput input) {
+        return Primes.stream(input.getFrom(), input.getTo()).count();
+    }
+
+    @Benchmark
+    public long parallelStream(RangeInput input) {
+        return Primes.parallelStream(input.getFrom(), input.getTo()).count();
+    }
+
+    @Benchmark
+    public long primePi(RangeInput input) {
+        return Primes.primePi(input.getTo() - 1) - Primes.primePi(input.getFrom() - 1);
+    }
+}
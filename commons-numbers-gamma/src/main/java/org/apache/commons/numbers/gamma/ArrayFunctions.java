@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.gamma;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Support for the evaluation of functions on arrays of arguments.
+ *
+ * <p>Each function evaluates a range {@code [from, to)} of the argument array
+ * and writes the result to the same index of the result array. The arrays may be
+ * the same to evaluate the function in-place.
+ */
+final class ArrayFunctions {
+    /**
+     * Number of values below which a range is evaluated sequentially. The functions
+     * require approximately 10 to 1000 nanoseconds per evaluation; this amortizes
+     * the overhead of a fork-join task.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 11;
+
+    /** No instances. */
+    private ArrayFunctions() {}
+
+    /**
+     * Evaluate the function for each argument.
+     *
+     * @param f Function.
+     * @param x Arguments.
+     * @return the results
+     */
+    static double[] apply(DoubleUnaryOperator f, double[] x) {
+        final double[] result = new double[x.length];
+        compute(f, x, 0, x.length, result);
+        return result;
+    }
+
+    /**
+     * Evaluate the function for each argument in the range {@code [from, to)}.
+     *
+     * @param f Function.
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     */
+    static void apply(DoubleUnaryOperator f, double[] x, int from, int to, double[] result) {
+        checkRange(x, from, to, result);
+        compute(f, x, from, to, result);
+    }
+
+    /**
+     * Evaluate the function for each argument in the range {@code [from, to)}
+     * using parallel computation in the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param f Function.
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     */
+    static void parallelApply(DoubleUnaryOperator f, double[] x, int from, int to, double[] result) {
+        parallelApply(f, x, from, to, result, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Evaluate the function for each argument in the range {@code [from, to)}
+     * using parallel computation in the specified pool. Ranges containing fewer
+     * than {@code threshold} values are not split.
+     *
+     * @param f Function.
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @param pool Pool used to execute the evaluation.
+     * @param threshold Number of values below which a range is evaluated sequentially.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @throws IllegalArgumentException if {@code threshold < 1}.
+     */
+    static void parallelApply(DoubleUnaryOperator f, double[] x, int from, int to, double[] result,
+                              ForkJoinPool pool, int threshold) {
+        checkRange(x, from, to, result);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be strictly positive: " + threshold);
+        }
+        if (to - from <= threshold) {
+            compute(f, x, from, to, result);
+        } else {
+            pool.invoke(new ApplyTask(f, x, from, to, result, threshold));
+        }
+    }
+
+    /**
+     * Evaluate the function for each argument in the range {@code [from, to)}.
+     * The range must be valid for the arrays.
+     *
+     * @param f Function.
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     */
+    private static void compute(DoubleUnaryOperator f, double[] x, int from, int to, double[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = f.applyAsDouble(x[i]);
+        }
+    }
+
+    /**
+     * Checks the range {@code [from, to)} is within the bounds of the argument
+     * and result arrays.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     */
+    private static void checkRange(double[] x, int from, int to, double[] result) {
+        checkFromToIndex(from, to, x.length);
+        checkFromToIndex(from, to, result.length);
+    }
+
+    /**
+     * Checks if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * within the bounds of range from 0 (inclusive) to length (exclusive).
+     *
+     * <p>This function provides the functionality of
+     * {@code java.utils.Objects.checkFromToIndex} introduced in JDK 9.
+     *
+     * @param fromIndex Lower-bound (inclusive) of the sub-range.
+     * @param toIndex Upper-bound (exclusive) of the sub-range.
+     * @param length Upper-bound (exclusive) of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    private static void checkFromToIndex(int fromIndex, int toIndex, int length) {
+        // Checks as documented in JDK 9
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [%d, %d) out of bounds for length %d", fromIndex, toIndex, length));
+        }
+    }
+
+    /**
+     * Task to evaluate a function on a range of an array.
+     */
+    private static final class ApplyTask extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261017L;
+
+        /** Function. */
+        private final transient DoubleUnaryOperator f;
+        /** Arguments. */
+        private final double[] x;
+        /** Index of the first element (inclusive). */
+        private final int from;
+        /** Index of the last element (exclusive). */
+        private final int to;
+        /** Results. */
+        private final double[] result;
+        /** Number of values below which the range is evaluated sequentially. */
+        private final int threshold;
+
+        /**
+         * @param f Function.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @param threshold Number of values below which the range is evaluated sequentially.
+         */
+        ApplyTask(DoubleUnaryOperator f, double[] x, int from, int to, double[] result, int threshold) {
+            this.f = f;
+            this.x = x;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                ArrayFunctions.compute(f, x, from, to, result);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            final ApplyTask right = new ApplyTask(f, x, mid, to, result, threshold);
+            right.fork();
+            new ApplyTask(f, x, from, mid, result, threshold).compute();
+            right.join();
+        }
+    }
+}
@@ -887,9 +887,6 @@ final class BoostBeta {
             rescale = TWO_POW_M53;
         }
 
-        final double eps = pol.getEps();
-        final int maxIterations = pol.getMaxIterations();
-
         // Create effectively final 'result' for initialisation
         final double result1 = result;
         final DoubleSupplier gen = new DoubleSupplier() {
@@ -909,7 +906,7 @@ final class BoostBeta {
             }
         };
 
-        return BoostTools.sumSeries(gen, eps, maxIterations, s0) * rescale;
+        return BoostTools.sumSeries(gen, pol, s0) * rescale;
     }
 
     /**
@@ -1587,9 +1587,6 @@ final class BoostGamma {
      */
     // This is package-private for testing
     static double lowerGammaSeries(double a, double z, double initValue, Policy pol) {
-        final double eps = pol.getEps();
-        final int maxIterations = pol.getMaxIterations();
-
         // Lower gamma series representation.
         final DoubleSupplier gen = new DoubleSupplier() {
             /** Next result. */
@@ -1606,7 +1603,7 @@ final class BoostGamma {
             }
         };
 
-        return BoostTools.kahanSumSeries(gen, eps, maxIterations, initValue);
+        return BoostTools.kahanSumSeries(gen, pol, initValue);
     }
 
     /**
@@ -1636,7 +1633,6 @@ final class BoostGamma {
         result -= p;
         result /= a;
         // Removed subtraction of 10 from this value
-        final int maxIter = pol.getMaxIterations();
         p += 1;
         final double initValue = invert ? pgam[0] : 0;
 
@@ -1658,7 +1654,7 @@ final class BoostGamma {
             }
         };
 
-        result = -p * BoostTools.kahanSumSeries(gen, pol.getEps(), maxIter, (initValue - result) / p);
+        result = -p * BoostTools.kahanSumSeries(gen, pol, (initValue - result) / p);
         if (invert) {
             result = -result;
         }
@@ -2033,9 +2029,6 @@ final class BoostGamma {
      */
     // This is package-private for testing
     static double incompleteTgammaLargeX(double a, double x, Policy pol) {
-        final double eps = pol.getEps();
-        final int maxIterations = pol.getMaxIterations();
-
         // Asymptotic approximation for large argument, see: https://dlmf.nist.gov/8.11#E2.
         final DoubleSupplier gen = new DoubleSupplier() {
             /** Result term. */
@@ -2052,7 +2045,7 @@ final class BoostGamma {
             }
         };
 
-        return BoostTools.kahanSumSeries(gen, eps, maxIterations);
+        return BoostTools.kahanSumSeries(gen, pol);
     }
 
     /**
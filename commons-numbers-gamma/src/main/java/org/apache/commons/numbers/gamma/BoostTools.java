@@ -199,6 +199,44 @@ final class BoostTools {
         return result;
     }
 
+    /**
+     * Sum the series using the convergence criteria of the policy.
+     *
+     * @param func Series generator
+     * @param pol Function evaluation policy
+     * @param initValue Initial value
+     * @return result
+     * @see #sumSeries(DoubleSupplier, double, int, double)
+     */
+    static double sumSeries(DoubleSupplier func, Policy pol, double initValue) {
+        return sumSeries(func, pol.getEps(), pol.getMaxIterations(), initValue);
+    }
+
+    /**
+     * Sum the series using Kahan summation and the convergence criteria of the policy.
+     *
+     * @param func Series generator
+     * @param pol Function evaluation policy
+     * @return result
+     * @see #kahanSumSeries(DoubleSupplier, double, int)
+     */
+    static double kahanSumSeries(DoubleSupplier func, Policy pol) {
+        return kahanSumSeries(func, pol.getEps(), pol.getMaxIterations(), 0);
+    }
+
+    /**
+     * Sum the series using Kahan summation and the convergence criteria of the policy.
+     *
+     * @param func Series generator
+     * @param pol Function evaluation policy
+     * @param initValue Initial value
+     * @return result
+     * @see #kahanSumSeries(DoubleSupplier, double, int, double)
+     */
+    static double kahanSumSeries(DoubleSupplier func, Policy pol, double initValue) {
+        return kahanSumSeries(func, pol.getEps(), pol.getMaxIterations(), initValue);
+    }
+
     /**
      * Gets the epsilon ensuring it satisfies the minimum allowed value.
      *
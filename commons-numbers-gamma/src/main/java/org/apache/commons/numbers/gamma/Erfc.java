@@ -51,4 +51,47 @@ public final class Erfc {
     public static double value(double x) {
         return BoostErf.erfc(x);
     }
+
+    /**
+     * Computes the complementary error function for each argument.
+     *
+     * @param x Arguments.
+     * @return the results.
+     * @see #value(double)
+     * @since 1.2
+     */
+    public static double[] value(double[] x) {
+        return ArrayFunctions.apply(BoostErf::erfc, x);
+    }
+
+    /**
+     * Computes the complementary error function for each argument in the range {@code [from, to)}.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #value(double)
+     * @since 1.2
+     */
+    public static void value(double[] x, int from, int to, double[] result) {
+        ArrayFunctions.apply(BoostErf::erfc, x, from, to, result);
+    }
+
+    /**
+     * Computes the complementary error function for each argument in the range {@code [from, to)}
+     * using parallel computation.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #value(double[], int, int, double[])
+     * @since 1.2
+     */
+    public static void parallelValue(double[] x, int from, int to, double[] result) {
+        ArrayFunctions.parallelApply(BoostErf::erfc, x, from, to, result);
+    }
 }
@@ -52,4 +52,47 @@ public final class Gamma {
     public static double value(final double x) {
         return BoostGamma.tgamma(x);
     }
+
+    /**
+     * Computes \( \Gamma(x) \) for each argument.
+     *
+     * @param x Arguments.
+     * @return the results.
+     * @see #value(double)
+     * @since 1.2
+     */
+    public static double[] value(double[] x) {
+        return ArrayFunctions.apply(BoostGamma::tgamma, x);
+    }
+
+    /**
+     * Computes \( \Gamma(x) \) for each argument in the range {@code [from, to)}.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #value(double)
+     * @since 1.2
+     */
+    public static void value(double[] x, int from, int to, double[] result) {
+        ArrayFunctions.apply(BoostGamma::tgamma, x, from, to, result);
+    }
+
+    /**
+     * Computes \( \Gamma(x) \) for each argument in the range {@code [from, to)}
+     * using parallel computation.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #value(double[], int, int, double[])
+     * @since 1.2
+     */
+    public static void parallelValue(double[] x, int from, int to, double[] result) {
+        ArrayFunctions.parallelApply(BoostGamma::tgamma, x, from, to, result);
+    }
 }
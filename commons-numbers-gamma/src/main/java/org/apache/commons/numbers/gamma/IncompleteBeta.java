@@ -79,6 +79,30 @@ public final class IncompleteBeta {
         return BoostBeta.beta(a, b, x, new Policy(epsilon, maxIterations));
     }
 
+    /**
+     * Computes the value of the
+     * <a href="https://mathworld.wolfram.com/IncompleteBetaFunction.html">
+     * incomplete beta function</a> B(x, a, b).
+     *
+     * <p>\[ B_x(a,b) = \int_0^x t^{a-1}\,(1-t)^{b-1}\,dt \]
+     *
+     * @param x the value.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param policy Function evaluation policy.
+     * @return the incomplete beta function \( B_x(a, b) \).
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @throws NullPointerException if {@code policy} is null.
+     * @since 1.2
+     */
+    public static double value(double x,
+                               final double a,
+                               final double b,
+                               Policy policy) {
+        Policy.requireNonNull(policy);
+        return BoostBeta.beta(a, b, x, policy);
+    }
+
     /**
      * Computes the complement of the
      * <a href="https://mathworld.wolfram.com/IncompleteBetaFunction.html">
@@ -124,4 +148,30 @@ public final class IncompleteBeta {
                                     int maxIterations) {
         return BoostBeta.betac(a, b, x, new Policy(epsilon, maxIterations));
     }
+
+    /**
+     * Computes the complement of the
+     * <a href="https://mathworld.wolfram.com/IncompleteBetaFunction.html">
+     * incomplete beta function</a> B(x, a, b).
+     *
+     * <p>\[ B(a, b) - B_x(a,b) = B_{1-x}(b, a) \]
+     *
+     * <p>where \( B(a, b) \) is the beta function.
+     *
+     * @param x the value.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param policy Function evaluation policy.
+     * @return the complement of the incomplete beta function \( B(a, b) - B_x(a, b) \).
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @throws NullPointerException if {@code policy} is null.
+     * @since 1.2
+     */
+    public static double complement(double x,
+                                    final double a,
+                                    final double b,
+                                    Policy policy) {
+        Policy.requireNonNull(policy);
+        return BoostBeta.betac(a, b, x, policy);
+    }
 }
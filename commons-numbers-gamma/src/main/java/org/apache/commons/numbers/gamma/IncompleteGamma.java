@@ -76,6 +76,24 @@ public final class IncompleteGamma {
                                    int maxIterations) {
             return BoostGamma.tgammaLower(a, x, new Policy(epsilon, maxIterations));
         }
+
+        /**
+         * Computes the lower incomplete gamma function \( \gamma(a, x) \).
+         *
+         * @param a Argument.
+         * @param x Argument.
+         * @param policy Function evaluation policy.
+         * @return \( \gamma(a, x) \).
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @since 1.2
+         */
+        public static double value(final double a,
+                                   double x,
+                                   Policy policy) {
+            Policy.requireNonNull(policy);
+            return BoostGamma.tgammaLower(a, x, policy);
+        }
     }
 
     /**
@@ -118,5 +136,23 @@ public final class IncompleteGamma {
                                    int maxIterations) {
             return BoostGamma.tgamma(a, x, new Policy(epsilon, maxIterations));
         }
+
+        /**
+         * Computes the upper incomplete gamma function \( \Gamma(a, x) \).
+         *
+         * @param a Argument.
+         * @param x Argument.
+         * @param policy Function evaluation policy.
+         * @return \( \Gamma(a, x) \).
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @since 1.2
+         */
+        public static double value(double a,
+                                   double x,
+                                   Policy policy) {
+            Policy.requireNonNull(policy);
+            return BoostGamma.tgamma(a, x, policy);
+        }
     }
 }
@@ -63,4 +63,47 @@ public final class LogGamma {
     public static double value(double x, int[] sign) {
         return BoostGamma.lgamma(x, sign);
     }
+
+    /**
+     * Computes \( \ln \lvert \Gamma(x) \rvert \) for each argument.
+     *
+     * @param x Arguments.
+     * @return the results.
+     * @see #value(double)
+     * @since 1.2
+     */
+    public static double[] value(double[] x) {
+        return ArrayFunctions.apply(BoostGamma::lgamma, x);
+    }
+
+    /**
+     * Computes \( \ln \lvert \Gamma(x) \rvert \) for each argument in the range {@code [from, to)}.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #value(double)
+     * @since 1.2
+     */
+    public static void value(double[] x, int from, int to, double[] result) {
+        ArrayFunctions.apply(BoostGamma::lgamma, x, from, to, result);
+    }
+
+    /**
+     * Computes \( \ln \lvert \Gamma(x) \rvert \) for each argument in the range {@code [from, to)}
+     * using parallel computation.
+     *
+     * @param x Arguments.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @see #value(double[], int, int, double[])
+     * @since 1.2
+     */
+    public static void parallelValue(double[] x, int from, int to, double[] result) {
+        ArrayFunctions.parallelApply(BoostGamma::lgamma, x, from, to, result);
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.commons.numbers.gamma;
 
+import java.util.Objects;
+
 /**
  * Encapsulate the policy for function evaluation.
  * This is a reduced implementation of the Boost {@code boost::math::policies}
@@ -24,10 +26,20 @@ package org.apache.commons.numbers.gamma;
  * promotion of data types for computations.
  * This controls the convergence criteria and maximum iterations for series evaluations.
  *
+ * <p>The policy can be used to trade accuracy for speed in the evaluation of the
+ * incomplete gamma and beta functions. A larger relative error allows series and
+ * continued fraction evaluations to terminate after fewer terms. An epsilon below the
+ * precision supported by an evaluation method is raised to the minimum supported
+ * value. If the evaluation does not converge within the maximum number of
+ * iterations an {@link ArithmeticException} is raised.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
  * @see <a href="https://www.boost.org/doc/libs/1_77_0/libs/math/doc/html/policy.html">
  * Policies: Controlling Precision, Error Handling etc</a>
+ * @since 1.2
  */
-final class Policy {
+public final class Policy {
     /** Default policy. The Boost default uses 2^-52 for the epsilon. This uses
      * 2^-53 to use an extra guard digit in the Kahan series summations.
      * The minimum value for the Commons continued fraction epsilon is also 2^-53. */
@@ -51,20 +63,52 @@ final class Policy {
     }
 
     /**
-     * Gets the default.
+     * Create a policy.
+     *
+     * @param eps Maximum relative error allowed.
+     * @param maxIterations Maximum number of iterations permitted in a series
+     * evaluation.
+     * @return the policy
+     * @throws IllegalArgumentException if {@code eps} is not in the open interval
+     * {@code (0, 1)}, or {@code maxIterations < 1}.
+     */
+    public static Policy of(double eps, int maxIterations) {
+        if (!(eps > 0 && eps < 1)) {
+            throw new IllegalArgumentException("Epsilon must be in (0, 1): " + eps);
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Maximum iterations must be strictly positive: " + maxIterations);
+        }
+        return new Policy(eps, maxIterations);
+    }
+
+    /**
+     * Gets the default. This uses a relative error of 2<sup>-53</sup> and a maximum
+     * of 1000000 iterations.
      *
      * @return the default policy
      */
-    static Policy getDefault() {
+    public static Policy getDefault() {
         return DEFAULT;
     }
 
+    /**
+     * Checks the policy is not null.
+     *
+     * @param policy Policy.
+     * @return the policy
+     * @throws NullPointerException if {@code policy} is null.
+     */
+    static Policy requireNonNull(Policy policy) {
+        return Objects.requireNonNull(policy, "policy");
+    }
+
     /**
      * Gets the epsilon value for relative error.
      *
      * @return the epsilon
      */
-    double getEps() {
+    public double getEps() {
         return eps;
     }
 
@@ -73,7 +117,7 @@ final class Policy {
      *
      * @return max iterations
      */
-    int getMaxIterations() {
+    public int getMaxIterations() {
         return maxIterations;
     }
 }
@@ -84,6 +84,155 @@ public final class RegularizedBeta {
         return BoostBeta.ibeta(a, b, x, new Policy(epsilon, maxIterations));
     }
 
+    /**
+     * Computes the value of the
+     * <a href="https://mathworld.wolfram.com/RegularizedBetaFunction.html">
+     * regularized beta function</a> I(x, a, b).
+     *
+     * <p>\[ I_x(a,b) = \frac{1}{B(a, b)} \int_0^x t^{a-1}\,(1-t)^{b-1}\,dt \]
+     *
+     * <p>where \( B(a, b) \) is the beta function.
+     *
+     * @param x the value.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param policy Function evaluation policy.
+     * @return the regularized beta function \( I_x(a, b) \).
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @throws NullPointerException if {@code policy} is null.
+     * @since 1.2
+     */
+    public static double value(double x,
+                               final double a,
+                               final double b,
+                               Policy policy) {
+        Policy.requireNonNull(policy);
+        return BoostBeta.ibeta(a, b, x, policy);
+    }
+
+    /**
+     * Computes the value of the regularized beta function \( I_x(a, b) \) for each
+     * value {@code x}.
+     *
+     * @param x Values.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @return the results.
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @see #value(double, double, double)
+     * @since 1.2
+     */
+    public static double[] value(double[] x,
+                                 double a,
+                                 double b) {
+        final Policy policy = Policy.getDefault();
+        return ArrayFunctions.apply(y -> BoostBeta.ibeta(a, b, y, policy), x);
+    }
+
+    /**
+     * Computes the value of the regularized beta function \( I_x(a, b) \) for each
+     * value {@code x} in the range {@code [from, to)}.
+     *
+     * @param x Values.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @see #value(double, double, double)
+     * @since 1.2
+     */
+    public static void value(double[] x,
+                             double a,
+                             double b,
+                             int from,
+                             int to,
+                             double[] result) {
+        value(x, a, b, from, to, result, Policy.getDefault());
+    }
+
+    /**
+     * Computes the value of the regularized beta function \( I_x(a, b) \) for each
+     * value {@code x} in the range {@code [from, to)}.
+     *
+     * @param x Values.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @param policy Function evaluation policy.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @throws NullPointerException if {@code policy} is null.
+     * @see #value(double, double, double)
+     * @since 1.2
+     */
+    public static void value(double[] x,
+                             double a,
+                             double b,
+                             int from,
+                             int to,
+                             double[] result,
+                             Policy policy) {
+        Policy.requireNonNull(policy);
+        ArrayFunctions.apply(y -> BoostBeta.ibeta(a, b, y, policy), x, from, to, result);
+    }
+
+    /**
+     * Computes the value of the regularized beta function \( I_x(a, b) \) for each
+     * value {@code x} in the range {@code [from, to)} using parallel computation.
+     *
+     * @param x Values.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @see #value(double, double, double)
+     * @since 1.2
+     */
+    public static void parallelValue(double[] x,
+                                     double a,
+                                     double b,
+                                     int from,
+                                     int to,
+                                     double[] result) {
+        parallelValue(x, a, b, from, to, result, Policy.getDefault());
+    }
+
+    /**
+     * Computes the value of the regularized beta function \( I_x(a, b) \) for each
+     * value {@code x} in the range {@code [from, to)} using parallel computation.
+     *
+     * @param x Values.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param from Index of the first element (inclusive).
+     * @param to Index of the last element (exclusive).
+     * @param result Results.
+     * @param policy Function evaluation policy.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @throws NullPointerException if {@code policy} is null.
+     * @see #value(double, double, double)
+     * @since 1.2
+     */
+    public static void parallelValue(double[] x,
+                                     double a,
+                                     double b,
+                                     int from,
+                                     int to,
+                                     double[] result,
+                                     Policy policy) {
+        Policy.requireNonNull(policy);
+        ArrayFunctions.parallelApply(y -> BoostBeta.ibeta(a, b, y, policy), x, from, to, result);
+    }
+
     /**
      * Computes the complement of the
      * <a href="https://mathworld.wolfram.com/RegularizedBetaFunction.html">
@@ -128,6 +277,30 @@ public final class RegularizedBeta {
         return BoostBeta.ibetac(a, b, x, new Policy(epsilon, maxIterations));
     }
 
+    /**
+     * Computes the complement of the
+     * <a href="https://mathworld.wolfram.com/RegularizedBetaFunction.html">
+     * regularized beta function</a> I(x, a, b).
+     *
+     * <p>\[ 1 - I_x(a,b) = I_{1-x}(b, a) \]
+     *
+     * @param x the value.
+     * @param a Parameter {@code a}.
+     * @param b Parameter {@code b}.
+     * @param policy Function evaluation policy.
+     * @return the complement of the regularized beta function \( 1 - I_x(a, b) \).
+     * @throws ArithmeticException if the series evaluation fails to converge.
+     * @throws NullPointerException if {@code policy} is null.
+     * @since 1.2
+     */
+    public static double complement(double x,
+                                    final double a,
+                                    final double b,
+                                    Policy policy) {
+        Policy.requireNonNull(policy);
+        return BoostBeta.ibetac(a, b, x, policy);
+    }
+
     /**
      * Computes the derivative of the
      * <a href="https://mathworld.wolfram.com/RegularizedBetaFunction.html">
@@ -77,6 +77,139 @@ public final class RegularizedGamma {
             return BoostGamma.gammaP(a, x, new Policy(epsilon, maxIterations));
         }
 
+        /**
+         * Computes the lower regularized gamma function \( P(a, x) \).
+         *
+         * @param a Argument.
+         * @param x Argument.
+         * @param policy Function evaluation policy.
+         * @return \( P(a, x) \).
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @since 1.2
+         */
+        public static double value(double a,
+                                   double x,
+                                   Policy policy) {
+            Policy.requireNonNull(policy);
+            return BoostGamma.gammaP(a, x, policy);
+        }
+
+        /**
+         * Computes the lower regularized gamma function \( P(a, x) \) for each
+         * argument {@code x}.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @return the results.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static double[] value(double a,
+                                     double[] x) {
+            final Policy policy = Policy.getDefault();
+            return ArrayFunctions.apply(y -> BoostGamma.gammaP(a, y, policy), x);
+        }
+
+        /**
+         * Computes the lower regularized gamma function \( P(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)}.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void value(double a,
+                                 double[] x,
+                                 int from,
+                                 int to,
+                                 double[] result) {
+            value(a, x, from, to, result, Policy.getDefault());
+        }
+
+        /**
+         * Computes the lower regularized gamma function \( P(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)}.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @param policy Function evaluation policy.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void value(double a,
+                                 double[] x,
+                                 int from,
+                                 int to,
+                                 double[] result,
+                                 Policy policy) {
+            Policy.requireNonNull(policy);
+            ArrayFunctions.apply(y -> BoostGamma.gammaP(a, y, policy), x, from, to, result);
+        }
+
+        /**
+         * Computes the lower regularized gamma function \( P(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)} using parallel
+         * computation.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void parallelValue(double a,
+                                         double[] x,
+                                         int from,
+                                         int to,
+                                         double[] result) {
+            parallelValue(a, x, from, to, result, Policy.getDefault());
+        }
+
+        /**
+         * Computes the lower regularized gamma function \( P(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)} using parallel
+         * computation.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @param policy Function evaluation policy.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void parallelValue(double a,
+                                         double[] x,
+                                         int from,
+                                         int to,
+                                         double[] result,
+                                         Policy policy) {
+            Policy.requireNonNull(policy);
+            ArrayFunctions.parallelApply(y -> BoostGamma.gammaP(a, y, policy), x, from, to, result);
+        }
+
         /**
          * Computes the derivative of the lower regularized gamma function \( P(a, x) \).
          *
@@ -135,6 +268,139 @@ public final class RegularizedGamma {
             return BoostGamma.gammaQ(a, x, new Policy(epsilon, maxIterations));
         }
 
+        /**
+         * Computes the upper regularized gamma function \( Q(a, x) \).
+         *
+         * @param a Argument.
+         * @param x Argument.
+         * @param policy Function evaluation policy.
+         * @return \( Q(a, x) \).
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @since 1.2
+         */
+        public static double value(final double a,
+                                   double x,
+                                   Policy policy) {
+            Policy.requireNonNull(policy);
+            return BoostGamma.gammaQ(a, x, policy);
+        }
+
+        /**
+         * Computes the upper regularized gamma function \( Q(a, x) \) for each
+         * argument {@code x}.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @return the results.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static double[] value(double a,
+                                     double[] x) {
+            final Policy policy = Policy.getDefault();
+            return ArrayFunctions.apply(y -> BoostGamma.gammaQ(a, y, policy), x);
+        }
+
+        /**
+         * Computes the upper regularized gamma function \( Q(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)}.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void value(double a,
+                                 double[] x,
+                                 int from,
+                                 int to,
+                                 double[] result) {
+            value(a, x, from, to, result, Policy.getDefault());
+        }
+
+        /**
+         * Computes the upper regularized gamma function \( Q(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)}.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @param policy Function evaluation policy.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void value(double a,
+                                 double[] x,
+                                 int from,
+                                 int to,
+                                 double[] result,
+                                 Policy policy) {
+            Policy.requireNonNull(policy);
+            ArrayFunctions.apply(y -> BoostGamma.gammaQ(a, y, policy), x, from, to, result);
+        }
+
+        /**
+         * Computes the upper regularized gamma function \( Q(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)} using parallel
+         * computation.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void parallelValue(double a,
+                                         double[] x,
+                                         int from,
+                                         int to,
+                                         double[] result) {
+            parallelValue(a, x, from, to, result, Policy.getDefault());
+        }
+
+        /**
+         * Computes the upper regularized gamma function \( Q(a, x) \) for each
+         * argument {@code x} in the range {@code [from, to)} using parallel
+         * computation.
+         *
+         * @param a Argument.
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         * @param policy Function evaluation policy.
+         * @throws IndexOutOfBoundsException if the range is out of bounds of either array.
+         * @throws ArithmeticException if the series evaluation fails to converge.
+         * @throws NullPointerException if {@code policy} is null.
+         * @see #value(double, double)
+         * @since 1.2
+         */
+        public static void parallelValue(double a,
+                                         double[] x,
+                                         int from,
+                                         int to,
+                                         double[] result,
+                                         Policy policy) {
+            Policy.requireNonNull(policy);
+            ArrayFunctions.parallelApply(y -> BoostGamma.gammaQ(a, y, policy), x, from, to, result);
+        }
+
         /**
          * Computes the derivative of the upper regularized gamma function \( Q(a, x) \).
          *
@@ -35,5 +35,12 @@
  * </ul>
  * and implemented in the
  * <a href="http://www.dtic.mil/docs/citations/ADA476840">NSWC Library of Mathematical Functions</a>.
+ *
+ * <p>Several functions provide overloads to evaluate an array of arguments.
+ * The range variants evaluate the arguments in {@code [from, to)} and write the result for
+ * {@code x[i]} to {@code result[i]}; the argument and result arrays may be the same.
+ * The {@code parallelValue} variants split the range across the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} and compute
+ * results identical to the sequential evaluation.
  */
 package org.apache.commons.numbers.gamma;
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.gamma;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link ArrayFunctions}.
+ */
+class ArrayFunctionsTest {
+    /**
+     * Evaluate a function on a range of an array.
+     */
+    @FunctionalInterface
+    interface RangeFunction {
+        /**
+         * Evaluate the function for each argument in the range {@code [from, to)}.
+         *
+         * @param x Arguments.
+         * @param from Index of the first element (inclusive).
+         * @param to Index of the last element (exclusive).
+         * @param result Results.
+         */
+        void apply(double[] x, int from, int to, double[] result);
+    }
+
+    /**
+     * Create arguments uniformly spaced in {@code [lo, hi]}. The number of arguments
+     * is above the parallel threshold.
+     *
+     * @param lo Lower bound.
+     * @param hi Upper bound.
+     * @return the arguments
+     */
+    static double[] createArguments(double lo, double hi) {
+        final int n = ArrayFunctions.PARALLEL_THRESHOLD * 3 + 17;
+        final double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = lo + (hi - lo) * i / (n - 1);
+        }
+        return x;
+    }
+
+    /**
+     * Assert the array functions compute the same result as the scalar function.
+     *
+     * @param f Scalar function.
+     * @param array Function evaluated on an array.
+     * @param range Function evaluated on a range of an array.
+     * @param parallel Function evaluated on a range of an array in parallel.
+     * @param x Arguments.
+     */
+    static void assertArrayFunctions(DoubleUnaryOperator f,
+                                     UnaryOperator<double[]> array,
+                                     RangeFunction range,
+                                     RangeFunction parallel,
+                                     double[] x) {
+        final double[] expected = Arrays.stream(x).map(f).toArray();
+        Assertions.assertArrayEquals(expected, array.apply(x));
+        Assertions.assertArrayEquals(new double[0], array.apply(new double[0]));
+
+        final int n = x.length;
+        for (final RangeFunction fun : new RangeFunction[] {range, parallel}) {
+            // Full range
+            final double[] y = new double[n];
+            fun.apply(x, 0, n, y);
+            Assertions.assertArrayEquals(expected, y);
+
+            // Sub-range. Other results are not written.
+            final int from = 3;
+            final int to = n - 5;
+            Arrays.fill(y, -1);
+            fun.apply(x, from, to, y);
+            for (int i = 0; i < n; i++) {
+                final double e = i < from || i >= to ? -1 : expected[i];
+                Assertions.assertEquals(e, y[i]);
+            }
+
+            // In-place
+            final double[] z = x.clone();
+            fun.apply(z, 0, n, z);
+            Assertions.assertArrayEquals(expected, z);
+
+            // Empty range
+            fun.apply(x, 2, 2, y);
+
+            final double[] small = new double[n - 1];
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fun.apply(x, 0, n, small));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fun.apply(small, 0, n, y));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fun.apply(x, -1, n, y));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fun.apply(x, 2, 1, y));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 100, 1000})
+    void testParallelApply(int threshold) {
+        final double[] x = createArguments(-3, 3);
+        final double[] expected = Arrays.stream(x).map(BoostErf::erfc).toArray();
+        final double[] result = new double[x.length];
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ArrayFunctions.parallelApply(BoostErf::erfc, x, 0, x.length, result, pool, threshold);
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void testParallelApplyThrows() {
+        final double[] x = new double[10];
+        final DoubleUnaryOperator f = y -> y;
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ArrayFunctions.parallelApply(f, x, 0, x.length, x, pool, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ArrayFunctions.parallelApply(f, x, 0, x.length, x, pool, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ArrayFunctions.parallelApply(f, x, 0, x.length + 1, x, pool, 1));
+    }
+}
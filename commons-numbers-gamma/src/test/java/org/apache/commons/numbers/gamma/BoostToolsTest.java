@@ -74,6 +74,28 @@ class BoostToolsTest {
         Assertions.assertThrows(ArithmeticException.class, () -> BoostTools.sumSeries(fun, eps, 3));
     }
 
+    @ParameterizedTest
+    @ValueSource(doubles = {1e-6, 1e-10, 0x1.0p-53})
+    void testSumSeriesWithPolicy(double eps) {
+        final double a = 2.5;
+        final double x = 0.5;
+        final int maxTerms = 1000;
+        final Policy pol = Policy.of(eps, maxTerms);
+        Assertions.assertEquals(BoostTools.sumSeries(new LogApXSeries(1, x), eps, maxTerms),
+            BoostTools.sumSeries(new LogApXSeries(1, x), pol, 0));
+        Assertions.assertEquals(BoostTools.sumSeries(new LogApXSeries(a, x), eps, maxTerms, Math.log(a)),
+            BoostTools.sumSeries(new LogApXSeries(a, x), pol, Math.log(a)));
+        Assertions.assertEquals(BoostTools.kahanSumSeries(new LogApXSeries(1, x), eps, maxTerms),
+            BoostTools.kahanSumSeries(new LogApXSeries(1, x), pol));
+        Assertions.assertEquals(BoostTools.kahanSumSeries(new LogApXSeries(a, x), eps, maxTerms, Math.log(a)),
+            BoostTools.kahanSumSeries(new LogApXSeries(a, x), pol, Math.log(a)));
+
+        // 3 terms are not enough to converge
+        final Policy pol3 = Policy.of(eps, 3);
+        Assertions.assertThrows(ArithmeticException.class, () -> BoostTools.sumSeries(new LogApXSeries(1, x), pol3, 0));
+        Assertions.assertThrows(ArithmeticException.class, () -> BoostTools.kahanSumSeries(new LogApXSeries(1, x), pol3));
+    }
+
     /**
      * Test sum series with an invalid epsilon. For convergence to work the relative error
      * epsilon should be above zero. Invalid values are set to the minimum epsilon
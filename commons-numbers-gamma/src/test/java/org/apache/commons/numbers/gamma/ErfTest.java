@@ -107,4 +107,10 @@ class ErfTest {
             x += 0.5d;
         }
     }
+
+    @Test
+    void testArrayValues() {
+        ArrayFunctionsTest.assertArrayFunctions(Erf::value, Erf::value, Erf::value, Erf::parallelValue,
+            ArrayFunctionsTest.createArguments(-7, 7));
+    }
 }
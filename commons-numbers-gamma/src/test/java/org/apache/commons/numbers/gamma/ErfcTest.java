@@ -81,4 +81,10 @@ class ErfcTest {
             Assertions.assertEquals(ref[i][1], result, ref[i][1] * 1e-13);
         }
     }
+
+    @Test
+    void testArrayValues() {
+        ArrayFunctionsTest.assertArrayFunctions(Erfc::value, Erfc::value, Erfc::value, Erfc::parallelValue,
+            ArrayFunctionsTest.createArguments(-7, 30));
+    }
 }
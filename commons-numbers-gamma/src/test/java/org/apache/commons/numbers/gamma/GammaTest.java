@@ -567,4 +567,10 @@ class GammaTest {
             previousGamma = gamma;
         }
     }
+
+    @Test
+    void testArrayValues() {
+        ArrayFunctionsTest.assertArrayFunctions(Gamma::value, Gamma::value, Gamma::value, Gamma::parallelValue,
+            ArrayFunctionsTest.createArguments(-20.5, 171.5));
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.numbers.gamma;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -85,6 +86,14 @@ class IncompleteBetaTest {
         Assertions.assertThrows(ArithmeticException.class, () -> IncompleteBeta.value(x, a, b, EPS, 1), "ibeta");
         Assertions.assertThrows(ArithmeticException.class, () -> IncompleteBeta.complement(x, a, b, EPS, 1), "ibetac");
 
+        final Policy pol1 = Policy.of(EPS, 1);
+        Assertions.assertThrows(ArithmeticException.class, () -> IncompleteBeta.value(x, a, b, pol1), "beta");
+        Assertions.assertThrows(ArithmeticException.class, () -> IncompleteBeta.complement(x, a, b, pol1), "betac");
+        // The policy is equivalent to the epsilon and maximum iterations
+        final Policy pol2 = Policy.of(1e-3, MAX_ITER);
+        Assertions.assertEquals(IncompleteBeta.value(x, a, b, 1e-3, MAX_ITER), IncompleteBeta.value(x, a, b, pol2), "beta");
+        Assertions.assertEquals(IncompleteBeta.complement(x, a, b, 1e-3, MAX_ITER), IncompleteBeta.complement(x, a, b, pol2), "betac");
+
         // Low epsilon should not be as accurate
 
         // Ignore infinite
@@ -109,4 +118,10 @@ class IncompleteBetaTest {
         Assertions.assertTrue(dx < dy,
             () -> String.format("%s %s : %s (%s) : %s (%s)", msg, expected, x, dx, y, dy));
     }
+
+    @Test
+    void testNullPolicy() {
+        Assertions.assertThrows(NullPointerException.class, () -> IncompleteBeta.value(0.5, 1, 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> IncompleteBeta.complement(0.5, 1, 2, null));
+    }
 }
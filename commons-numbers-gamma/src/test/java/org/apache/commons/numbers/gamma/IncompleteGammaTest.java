@@ -17,6 +17,7 @@
 package org.apache.commons.numbers.gamma;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -68,6 +69,14 @@ class IncompleteGammaTest {
         Assertions.assertThrows(ArithmeticException.class, () -> IncompleteGamma.Upper.value(a, x, EPS, 1), "upper");
         Assertions.assertThrows(ArithmeticException.class, () -> IncompleteGamma.Lower.value(a, x, EPS, 1), "lower");
 
+        final Policy pol1 = Policy.of(EPS, 1);
+        Assertions.assertThrows(ArithmeticException.class, () -> IncompleteGamma.Upper.value(a, x, pol1), "upper");
+        Assertions.assertThrows(ArithmeticException.class, () -> IncompleteGamma.Lower.value(a, x, pol1), "lower");
+        // The policy is equivalent to the epsilon and maximum iterations
+        final Policy pol2 = Policy.of(1e-3, Integer.MAX_VALUE);
+        Assertions.assertEquals(IncompleteGamma.Upper.value(a, x, 1e-3, Integer.MAX_VALUE), IncompleteGamma.Upper.value(a, x, pol2), "upper");
+        Assertions.assertEquals(IncompleteGamma.Lower.value(a, x, 1e-3, Integer.MAX_VALUE), IncompleteGamma.Lower.value(a, x, pol2), "lower");
+
         // Low epsilon should not be as accurate
 
         // Innore infinite
@@ -92,4 +101,10 @@ class IncompleteGammaTest {
         Assertions.assertTrue(dx < dy,
             () -> String.format("%s %s : %s (%s) : %s (%s)", msg, expected, x, dx, y, dy));
     }
+
+    @Test
+    void testNullPolicy() {
+        Assertions.assertThrows(NullPointerException.class, () -> IncompleteGamma.Lower.value(1, 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> IncompleteGamma.Upper.value(1, 2, null));
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.numbers.gamma;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -217,4 +218,10 @@ class LogGammaTest {
         final int[] sign = {0};
         Assertions.assertEquals(actual, LogGamma.value(x, sign));
     }
+
+    @Test
+    void testArrayValues() {
+        ArrayFunctionsTest.assertArrayFunctions(LogGamma::value, LogGamma::value, LogGamma::value, LogGamma::parallelValue,
+            ArrayFunctionsTest.createArguments(-50.5, 1000000.0));
+    }
 }
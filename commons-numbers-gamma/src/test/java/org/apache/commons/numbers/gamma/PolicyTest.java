@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.gamma;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link Policy}.
+ */
+class PolicyTest {
+    @Test
+    void testDefault() {
+        final Policy pol = Policy.getDefault();
+        Assertions.assertSame(pol, Policy.getDefault());
+        Assertions.assertEquals(0x1.0p-53, pol.getEps());
+        Assertions.assertEquals(1000000, pol.getMaxIterations());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1e-3, 1",
+        "0x1.0p-60, 1000",
+        "0.999, 2147483647",
+        "4.9e-324, 10",
+    })
+    void testOf(double eps, int maxIterations) {
+        final Policy pol = Policy.of(eps, maxIterations);
+        Assertions.assertEquals(eps, pol.getEps());
+        Assertions.assertEquals(maxIterations, pol.getMaxIterations());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 10",
+        "-1e-10, 10",
+        "1, 10",
+        "Infinity, 10",
+        "NaN, 10",
+        "1e-10, 0",
+        "1e-10, -1",
+    })
+    void testOfThrows(double eps, int maxIterations) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Policy.of(eps, maxIterations));
+    }
+}
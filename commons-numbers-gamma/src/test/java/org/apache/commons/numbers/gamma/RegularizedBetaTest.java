@@ -214,6 +214,14 @@ class RegularizedBetaTest {
         Assertions.assertThrows(ArithmeticException.class, () -> RegularizedBeta.value(x, a, b, EPS, 1), "ibeta");
         Assertions.assertThrows(ArithmeticException.class, () -> RegularizedBeta.complement(x, a, b, EPS, 1), "ibetac");
 
+        final Policy pol1 = Policy.of(EPS, 1);
+        Assertions.assertThrows(ArithmeticException.class, () -> RegularizedBeta.value(x, a, b, pol1), "ibeta");
+        Assertions.assertThrows(ArithmeticException.class, () -> RegularizedBeta.complement(x, a, b, pol1), "ibetac");
+        // The policy is equivalent to the epsilon and maximum iterations
+        final Policy pol2 = Policy.of(1e-3, MAX_ITER);
+        Assertions.assertEquals(RegularizedBeta.value(x, a, b, 1e-3, MAX_ITER), RegularizedBeta.value(x, a, b, pol2), "ibeta");
+        Assertions.assertEquals(RegularizedBeta.complement(x, a, b, 1e-3, MAX_ITER), RegularizedBeta.complement(x, a, b, pol2), "ibetac");
+
         // Low epsilon should not be as accurate
 
         // Ignore 0 or 1
@@ -261,4 +269,40 @@ class RegularizedBetaTest {
         Assertions.assertTrue(dx < dy,
             () -> String.format("%s %s : %s (%s) : %s (%s)", msg, expected, x, dx, y, dy));
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.5, 0.5",
+        "2, 5",
+        "120, 30",
+    })
+    void testArrayValues(double a, double b) {
+        ArrayFunctionsTest.assertArrayFunctions(
+            y -> RegularizedBeta.value(y, a, b),
+            y -> RegularizedBeta.value(y, a, b),
+            (y, from, to, r) -> RegularizedBeta.value(y, a, b, from, to, r),
+            (y, from, to, r) -> RegularizedBeta.parallelValue(y, a, b, from, to, r),
+            ArrayFunctionsTest.createArguments(0, 1));
+        final Policy pol = Policy.of(1e-6, MAX_ITER);
+        ArrayFunctionsTest.assertArrayFunctions(
+            y -> RegularizedBeta.value(y, a, b, pol),
+            y -> {
+                final double[] r = new double[y.length];
+                RegularizedBeta.value(y, a, b, 0, y.length, r, pol);
+                return r;
+            },
+            (y, from, to, r) -> RegularizedBeta.value(y, a, b, from, to, r, pol),
+            (y, from, to, r) -> RegularizedBeta.parallelValue(y, a, b, from, to, r, pol),
+            ArrayFunctionsTest.createArguments(0, 1));
+    }
+
+    @Test
+    void testNullPolicy() {
+        final double[] x = {0.25, 0.5};
+        final double[] r = new double[2];
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedBeta.value(0.5, 1, 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedBeta.complement(0.5, 1, 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedBeta.value(x, 1, 2, 0, 2, r, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedBeta.parallelValue(x, 1, 2, 0, 2, r, null));
+    }
 }
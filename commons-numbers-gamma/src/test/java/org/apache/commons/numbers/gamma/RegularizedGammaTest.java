@@ -17,6 +17,7 @@
 package org.apache.commons.numbers.gamma;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -145,6 +146,14 @@ class RegularizedGammaTest {
         Assertions.assertThrows(ArithmeticException.class, () -> RegularizedGamma.P.value(a, x, EPS, 1), "p");
         Assertions.assertThrows(ArithmeticException.class, () -> RegularizedGamma.Q.value(a, x, EPS, 1), "q");
 
+        final Policy pol1 = Policy.of(EPS, 1);
+        Assertions.assertThrows(ArithmeticException.class, () -> RegularizedGamma.P.value(a, x, pol1), "p");
+        Assertions.assertThrows(ArithmeticException.class, () -> RegularizedGamma.Q.value(a, x, pol1), "q");
+        // The policy is equivalent to the epsilon and maximum iterations
+        final Policy pol2 = Policy.of(1e-3, Integer.MAX_VALUE);
+        Assertions.assertEquals(RegularizedGamma.P.value(a, x, 1e-3, Integer.MAX_VALUE), RegularizedGamma.P.value(a, x, pol2), "p");
+        Assertions.assertEquals(RegularizedGamma.Q.value(a, x, 1e-3, Integer.MAX_VALUE), RegularizedGamma.Q.value(a, x, pol2), "q");
+
         // Low epsilon should not be as accurate
 
         // Ignore 0 or 1
@@ -191,4 +200,55 @@ class RegularizedGammaTest {
         Assertions.assertTrue(dx < dy,
             () -> String.format("%s %s : %s (%s) : %s (%s)", msg, expected, x, dx, y, dy));
     }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.25, 1, 12.5, 250})
+    void testArrayValues(double a) {
+        final double[] x = ArrayFunctionsTest.createArguments(0, 2 * a + 20);
+        ArrayFunctionsTest.assertArrayFunctions(
+            y -> RegularizedGamma.P.value(a, y),
+            y -> RegularizedGamma.P.value(a, y),
+            (y, from, to, r) -> RegularizedGamma.P.value(a, y, from, to, r),
+            (y, from, to, r) -> RegularizedGamma.P.parallelValue(a, y, from, to, r),
+            x);
+        ArrayFunctionsTest.assertArrayFunctions(
+            y -> RegularizedGamma.Q.value(a, y),
+            y -> RegularizedGamma.Q.value(a, y),
+            (y, from, to, r) -> RegularizedGamma.Q.value(a, y, from, to, r),
+            (y, from, to, r) -> RegularizedGamma.Q.parallelValue(a, y, from, to, r),
+            x);
+        final Policy pol = Policy.of(1e-6, Policy.getDefault().getMaxIterations());
+        ArrayFunctionsTest.assertArrayFunctions(
+            y -> RegularizedGamma.P.value(a, y, pol),
+            y -> {
+                final double[] r = new double[y.length];
+                RegularizedGamma.P.value(a, y, 0, y.length, r, pol);
+                return r;
+            },
+            (y, from, to, r) -> RegularizedGamma.P.value(a, y, from, to, r, pol),
+            (y, from, to, r) -> RegularizedGamma.P.parallelValue(a, y, from, to, r, pol),
+            x);
+        ArrayFunctionsTest.assertArrayFunctions(
+            y -> RegularizedGamma.Q.value(a, y, pol),
+            y -> {
+                final double[] r = new double[y.length];
+                RegularizedGamma.Q.value(a, y, 0, y.length, r, pol);
+                return r;
+            },
+            (y, from, to, r) -> RegularizedGamma.Q.value(a, y, from, to, r, pol),
+            (y, from, to, r) -> RegularizedGamma.Q.parallelValue(a, y, from, to, r, pol),
+            x);
+    }
+
+    @Test
+    void testNullPolicy() {
+        final double[] x = {1, 2};
+        final double[] r = new double[2];
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedGamma.P.value(1, 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedGamma.Q.value(1, 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedGamma.P.value(1, x, 0, 2, r, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedGamma.Q.value(1, x, 0, 2, r, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedGamma.P.parallelValue(1, x, 0, 2, r, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RegularizedGamma.Q.parallelValue(1, x, 0, 2, r, null));
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.primes;
+
+import java.util.Arrays;
+import org.apache.commons.numbers.core.ArithmeticUtils;
+import org.apache.commons.numbers.core.Montgomery;
+
+/**
+ * Utility methods to work on primes within the <code>long</code> range.
+ */
+final class LargePrimes {
+    /** The largest prime in the <code>long</code> range: 2^63 - 25. */
+    static final long LARGEST_PRIME = Long.MAX_VALUE - 24;
+    /** The maximum number of prime factors of a <code>long</code> (2^62 has 62 factors). */
+    static final int MAX_FACTORS = 62;
+
+    /**
+     * Number of the smallest primes used for trial division before the
+     * Miller-Rabin test.
+     */
+    private static final int TRIAL_DIVISION_PRIMES = 16;
+
+    /**
+     * Miller-Rabin bases that are deterministic for all {@code n < 2^64}.
+     * Found by Jim Sinclair (2011).
+     */
+    private static final long[] BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+    /** Numbers below this limit with no factor in {@link SmallPrimes#PRIMES} are prime. */
+    private static final long SMALL_PRIME_LIMIT = (long) (SmallPrimes.PRIMES_LAST + 2) * (SmallPrimes.PRIMES_LAST + 2);
+    /** Number of iterations of Pollard-Brent rho between each gcd computation. */
+    private static final int RHO_BATCH = 128;
+
+    /**
+     * Utility class.
+     */
+    private LargePrimes() {}
+
+    /**
+     * Primality test for numbers above the <code>int</code> range.
+     *
+     * @param n Number to test: must be &gt; {@code Integer.MAX_VALUE}.
+     * @return true if {@code n} is prime.
+     */
+    static boolean isPrime(long n) {
+        for (int i = 0; i < TRIAL_DIVISION_PRIMES; i++) {
+            if (0 == (n % SmallPrimes.PRIMES[i])) {
+                return false;
+            }
+        }
+        return millerRabinPrimeTest(n);
+    }
+
+    /**
+     * Miller-Rabin probabilistic primality test for long type, used in such
+     * a way that a result is always guaranteed.
+     * <p>
+     * It uses a set of 7 bases which has been verified to have no strong
+     * pseudoprimes below 2^64. All arithmetic uses {@link Montgomery}
+     * multiplication for the modulus {@code n}.
+     *
+     * @param n Number to test: an odd integer &gt; {@code Integer.MAX_VALUE}
+     * (all bases are less than {@code n}).
+     * @return true if {@code n} is prime, false if it is definitely composite.
+     * @see <a href="https://miller-rabin.appspot.com/">Deterministic variants of the Miller-Rabin primality test</a>
+     */
+    static boolean millerRabinPrimeTest(long n) {
+        final long nMinus1 = n - 1;
+        final int s = Long.numberOfTrailingZeros(nMinus1);
+        final long d = nMinus1 >> s;
+        final Montgomery m = Montgomery.of(n);
+        final long one = m.one();
+        final long minusOne = n - one;
+        for (final long a : BASES) {
+            if (!isStrongProbablePrime(m, m.toMontgomery(a), d, s, one, minusOne)) {
+                // definitely composite
+                return false;
+            }
+        }
+        // definitely prime
+        return true;
+    }
+
+    /**
+     * Test if {@code n} is a strong probable prime to the base {@code a}, where
+     * {@code n - 1 = d * 2^s} and {@code d} is odd.
+     *
+     * @param m Montgomery arithmetic for the modulus {@code n}.
+     * @param a Base (in Montgomery form).
+     * @param d Odd part of {@code n - 1}.
+     * @param s Power of 2 of {@code n - 1}.
+     * @param one 1 (in Montgomery form).
+     * @param minusOne {@code n - 1} (in Montgomery form).
+     * @return true if {@code n} is a strong probable prime to the base {@code a}
+     */
+    private static boolean isStrongProbablePrime(Montgomery m, long a, long d, int s,
+                                                 long one, long minusOne) {
+        long y = m.pow(a, d);
+        if (y == one || y == minusOne) {
+            return true;
+        }
+        for (int j = 1; j < s; j++) {
+            y = m.multiply(y, y);
+            if (y == minusOne) {
+                return true;
+            }
+            if (y == one) {
+                // Non-trivial square root of 1
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prime factors decomposition. The factors are written to the array in ascending
+     * order; a factor occurs as many times as its multiplicity.
+     * <p>
+     * Small factors are extracted by trial division by {@link SmallPrimes#PRIMES}.
+     * The remaining part is split recursively using the Pollard-Brent rho algorithm
+     * until each part is shown to be prime.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @param factors Array where to write the factors: must have a length of at least
+     * {@link #MAX_FACTORS}.
+     * @return the number of factors
+     */
+    static int primeFactors(long n, long[] factors) {
+        int count = 0;
+        long m = n;
+        for (final int p : SmallPrimes.PRIMES) {
+            if ((long) p * p > m) {
+                // m is 1 or prime
+                if (m != 1) {
+                    factors[count++] = m;
+                }
+                return count;
+            }
+            while (0 == m % p) {
+                m /= p;
+                factors[count++] = p;
+            }
+        }
+        if (m == 1) {
+            return count;
+        }
+        // All remaining factors are larger than the small primes
+        final int from = count;
+        count = rhoFactors(m, factors, count);
+        Arrays.sort(factors, from, count);
+        return count;
+    }
+
+    /**
+     * Split the number into prime factors using the Pollard-Brent rho algorithm.
+     *
+     * @param n Number to factorize: must have no factors in {@link SmallPrimes#PRIMES}.
+     * @param factors Array where to write the factors.
+     * @param count Current number of factors.
+     * @return the number of factors
+     */
+    private static int rhoFactors(long n, long[] factors, int count) {
+        if (isPrimeNoSmallFactors(n)) {
+            factors[count] = n;
+            return count + 1;
+        }
+        final long d = pollardBrent(n);
+        return rhoFactors(n / d, factors, rhoFactors(d, factors, count));
+    }
+
+    /**
+     * Primality test for a number with no factors in {@link SmallPrimes#PRIMES}.
+     *
+     * @param n Number to test: must be &gt; 1.
+     * @return true if {@code n} is prime.
+     */
+    private static boolean isPrimeNoSmallFactors(long n) {
+        if (n < SMALL_PRIME_LIMIT) {
+            return true;
+        }
+        if (n <= Integer.MAX_VALUE) {
+            return SmallPrimes.millerRabinPrimeTest((int) n);
+        }
+        return millerRabinPrimeTest(n);
+    }
+
+    /**
+     * Find a non-trivial factor of the composite number using the Pollard-Brent rho
+     * algorithm. The polynomial {@code f(y) = y^2 + c} is evaluated using
+     * {@link Montgomery} multiplication; the gcd with {@code n} is computed for the
+     * product of a batch of differences.
+     *
+     * @param n Number to factorize: an odd composite number.
+     * @return a non-trivial factor of {@code n}
+     * @see <a href="https://doi.org/10.1007/BF01933190">Brent (1980) An improved
+     * Monte Carlo factorization algorithm. BIT 20, 176-184</a>
+     */
+    private static long pollardBrent(long n) {
+        final Montgomery mont = Montgomery.of(n);
+        // Using the polynomial in Montgomery form is a different choice of c:
+        // any constant other than 0 and -2 is suitable.
+        for (long c = mont.one(); ; c = mont.add(c, mont.one())) {
+            final long g = pollardBrent(mont, c);
+            if (g != n) {
+                return g;
+            }
+        }
+    }
+
+    /**
+     * Find a factor of {@code n} using the Pollard-Brent rho algorithm with the
+     * polynomial {@code f(y) = y^2 + c}.
+     *
+     * @param mont Montgomery arithmetic for the modulus {@code n}.
+     * @param c Constant of the polynomial (in Montgomery form).
+     * @return a factor of {@code n} (may be {@code n} if the algorithm failed)
+     */
+    private static long pollardBrent(Montgomery mont, long c) {
+        final long n = mont.getModulus();
+        long y = mont.toMontgomery(2);
+        long x = y;
+        long ys = y;
+        long q = mont.one();
+        long g = 1;
+        for (long r = 1; g == 1; r <<= 1) {
+            x = y;
+            for (long i = 0; i < r; i++) {
+                y = mont.add(mont.multiply(y, y), c);
+            }
+            for (long k = 0; k < r && g == 1; k += RHO_BATCH) {
+                ys = y;
+                final long steps = Math.min(RHO_BATCH, r - k);
+                for (long i = 0; i < steps; i++) {
+                    y = mont.add(mont.multiply(y, y), c);
+                    // Accumulate |x - y|. The Montgomery factor R is coprime to n.
+                    q = mont.multiply(q, mont.subtract(x, y));
+                }
+                g = ArithmeticUtils.gcd(q, n);
+            }
+        }
+        if (g == n) {
+            // The batch overshot: repeat the final batch one step at a time
+            do {
+                ys = mont.add(mont.multiply(ys, ys), c);
+                g = ArithmeticUtils.gcd(mont.subtract(x, ys), n);
+            } while (g == 1);
+        }
+        return g;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.primes;
+
+import java.util.Arrays;
+
+/**
+ * Prime factorization using primitive arrays.
+ *
+ * <p>The factorization of a number is computed into a scratch buffer owned by the
+ * instance; the results are written to arrays provided by the caller. Repeat
+ * factorizations using the same instance do not allocate memory. Arithmetic
+ * functions of the number are computed directly from the factorization.
+ *
+ * <p>The factorization uses the same algorithm as {@link Primes#primeFactors(long)}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 1.2
+ */
+public final class PrimeFactorizer {
+    /** The maximum number of prime factors (including multiplicity) of a <code>long</code>. */
+    public static final int MAX_FACTORS = LargePrimes.MAX_FACTORS;
+    /**
+     * The maximum number of distinct prime factors of a <code>long</code>. This is
+     * the number of primes whose product (the primorial) is below 2^63.
+     */
+    public static final int MAX_DISTINCT_FACTORS = 15;
+
+    /** Scratch buffer for the prime factors. */
+    private final long[] scratch = new long[MAX_FACTORS];
+
+    /**
+     * Create an instance.
+     */
+    public PrimeFactorizer() {
+        // Do nothing
+    }
+
+    /**
+     * Prime factors decomposition.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @return the prime factors of {@code n} in ascending order; each factor
+     * occurs as many times as its multiplicity.
+     * @throws IllegalArgumentException if n &lt; 2.
+     */
+    public int[] primeFactors(int n) {
+        final int count = factorize(n, 2);
+        final int[] factors = new int[count];
+        copy(count, factors);
+        return factors;
+    }
+
+    /**
+     * Prime factors decomposition.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @return the prime factors of {@code n} in ascending order; each factor
+     * occurs as many times as its multiplicity.
+     * @throws IllegalArgumentException if n &lt; 2.
+     * @see Primes#primeFactors(long)
+     */
+    public long[] primeFactors(long n) {
+        return Arrays.copyOf(scratch, factorize(n, 2));
+    }
+
+    /**
+     * Prime factors decomposition into the provided array. The factors are written in
+     * ascending order; each factor occurs as many times as its multiplicity.
+     *
+     * <p>An array of length 31 is sufficient for any <code>int</code>.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @param factors Array where to write the factors.
+     * @return the number of factors
+     * @throws IllegalArgumentException if n &lt; 2, or the array is too small.
+     */
+    public int primeFactors(int n, int[] factors) {
+        final int count = factorize(n, 2);
+        checkSpace(factors.length, count);
+        copy(count, factors);
+        return count;
+    }
+
+    /**
+     * Prime factors decomposition into the provided array. The factors are written in
+     * ascending order; each factor occurs as many times as its multiplicity.
+     *
+     * <p>An array of length {@link #MAX_FACTORS} is sufficient for any <code>long</code>.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @param factors Array where to write the factors.
+     * @return the number of factors
+     * @throws IllegalArgumentException if n &lt; 2, or the array is too small.
+     */
+    public int primeFactors(long n, long[] factors) {
+        final int count = factorize(n, 2);
+        checkSpace(factors.length, count);
+        System.arraycopy(scratch, 0, factors, 0, count);
+        return count;
+    }
+
+    /**
+     * Prime factors decomposition into distinct primes and their multiplicity:
+     * <pre>
+     * n = primes[0]^exponents[0] * primes[1]^exponents[1] * ...
+     * </pre>
+     *
+     * <p>The primes are written in ascending order. Arrays of length
+     * {@link #MAX_DISTINCT_FACTORS} are sufficient for any <code>long</code>.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @param primes Array where to write the distinct prime factors.
+     * @param exponents Array where to write the multiplicity of each prime factor.
+     * @return the number of distinct prime factors
+     * @throws IllegalArgumentException if n &lt; 2, or the arrays are too small.
+     */
+    public int factor(long n, long[] primes, int[] exponents) {
+        final int count = factorize(n, 2);
+        final int size = distinct(count);
+        checkSpace(Math.min(primes.length, exponents.length), size);
+        int k = -1;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || scratch[i] != scratch[i - 1]) {
+                k++;
+                primes[k] = scratch[i];
+                exponents[k] = 1;
+            } else {
+                exponents[k]++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Euler's totient function: the number of integers in {@code [1, n]} that are
+     * coprime to {@code n}.
+     * <pre>
+     * phi(n) = n * prod (1 - 1/p)
+     * </pre>
+     * <p>where the product is over the distinct prime factors of {@code n}.
+     *
+     * @param n Number: must be &ge; 1.
+     * @return the totient of {@code n}
+     * @throws IllegalArgumentException if n &lt; 1.
+     */
+    public long totient(long n) {
+        final int count = factorize(n, 1);
+        long phi = n;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || scratch[i] != scratch[i - 1]) {
+                // Exact division
+                phi = phi / scratch[i] * (scratch[i] - 1);
+            }
+        }
+        return phi;
+    }
+
+    /**
+     * Divisor function: the number of positive divisors of {@code n}.
+     * <pre>
+     * d(n) = prod (e + 1)
+     * </pre>
+     * <p>where the product is over the exponents of the distinct prime factors of {@code n}.
+     *
+     * @param n Number: must be &ge; 1.
+     * @return the number of divisors of {@code n}
+     * @throws IllegalArgumentException if n &lt; 1.
+     */
+    public long divisorCount(long n) {
+        final int count = factorize(n, 1);
+        long d = 1;
+        int e = 1;
+        for (int i = 1; i <= count; i++) {
+            if (i < count && scratch[i] == scratch[i - 1]) {
+                e++;
+            } else {
+                d *= e + 1;
+                e = 1;
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Radical: the product of the distinct prime factors of {@code n}.
+     *
+     * @param n Number: must be &ge; 1.
+     * @return the radical of {@code n}
+     * @throws IllegalArgumentException if n &lt; 1.
+     */
+    public long radical(long n) {
+        final int count = factorize(n, 1);
+        long rad = 1;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || scratch[i] != scratch[i - 1]) {
+                rad *= scratch[i];
+            }
+        }
+        return rad;
+    }
+
+    /**
+     * M&ouml;bius function:
+     * <ul>
+     * <li>1 if {@code n} is square-free with an even number of prime factors;</li>
+     * <li>-1 if {@code n} is square-free with an odd number of prime factors;</li>
+     * <li>0 if {@code n} has a squared prime factor.</li>
+     * </ul>
+     *
+     * @param n Number: must be &ge; 1.
+     * @return the M&ouml;bius function of {@code n}
+     * @throws IllegalArgumentException if n &lt; 1.
+     */
+    public int mobius(long n) {
+        final int count = factorize(n, 1);
+        for (int i = 1; i < count; i++) {
+            if (scratch[i] == scratch[i - 1]) {
+                return 0;
+            }
+        }
+        return (count & 1) == 0 ? 1 : -1;
+    }
+
+    /**
+     * Factorize the number into the scratch buffer. The number 1 has no factors.
+     *
+     * @param n Number to factorize.
+     * @param min Minimum allowed value for the number.
+     * @return the number of factors
+     * @throws IllegalArgumentException if {@code n < min}.
+     */
+    private int factorize(long n, int min) {
+        if (n < min) {
+            throw new IllegalArgumentException(String.format(Primes.NUMBER_TOO_SMALL, n, min));
+        }
+        return n == 1 ? 0 : LargePrimes.primeFactors(n, scratch);
+    }
+
+    /**
+     * Count the distinct factors in the scratch buffer.
+     *
+     * @param count Number of factors.
+     * @return the number of distinct factors
+     */
+    private int distinct(int count) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || scratch[i] != scratch[i - 1]) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Copy the factors from the scratch buffer.
+     *
+     * @param count Number of factors.
+     * @param factors Destination.
+     */
+    private void copy(int count, int[] factors) {
+        for (int i = 0; i < count; i++) {
+            factors[i] = (int) scratch[i];
+        }
+    }
+
+    /**
+     * Check the space available for the results.
+     *
+     * @param length Length of the destination.
+     * @param count Number of results.
+     * @throws IllegalArgumentException if {@code length < count}.
+     */
+    private static void checkSpace(int length, int count) {
+        if (length < count) {
+            throw new IllegalArgumentException("Insufficient space: " + length + " < " + count);
+        }
+    }
+}
@@ -16,19 +16,28 @@
  */
 package org.apache.commons.numbers.primes;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
 
 /**
- * Methods related to prime numbers in the range of <code>int</code>.
+ * Methods related to prime numbers in the range of <code>int</code> and <code>long</code>.
  * <ul>
  * <li>primality test</li>
  * <li>prime number generation</li>
+ * <li>prime enumeration and counting</li>
  * <li>factorization</li>
  * </ul>
  */
 public final class Primes {
     /** Exception message format when an argument is too small. */
     static final String NUMBER_TOO_SMALL = "%d is smaller than the minimum (%d)";
+    /** Exception message format when an argument is too large. */
+    static final String NUMBER_TOO_LARGE = "%d is larger than the maximum (%d)";
+    /** Limit below which the prime-counting function uses a sieve. */
+    private static final long PRIME_PI_SIEVE_LIMIT = 1 << 16;
 
     /**
      * Utility class.
@@ -98,6 +107,144 @@ public final class Primes {
         }
     }
 
+    /**
+     * Primality test: tells if the argument is a (provable) prime or not.
+     * <p>
+     * Numbers in the range of <code>int</code> use {@link #isPrime(int)}. Larger
+     * numbers use trial division by small primes followed by a deterministic
+     * Miller-Rabin test with a fixed set of bases that is known to be correct
+     * for all 64-bit numbers.
+     *
+     * @param n Number to test.
+     * @return true if {@code n} is prime. All numbers &lt; 2 return false.
+     * @since 1.2
+     */
+    public static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        if (n <= Integer.MAX_VALUE) {
+            return isPrime((int) n);
+        }
+        return LargePrimes.isPrime(n);
+    }
+
+    /**
+     * Return the smallest prime greater than or equal to n.
+     *
+     * @param n Positive number.
+     * @return the smallest prime greater than or equal to {@code n}.
+     * @throws IllegalArgumentException if n &lt; 0, or n is larger than the
+     * largest prime in the <code>long</code> range (2^63 - 25).
+     * @since 1.2
+     */
+    public static long nextPrime(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format(NUMBER_TOO_SMALL, n, 0));
+        }
+        if (n <= Integer.MAX_VALUE) {
+            // Integer.MAX_VALUE is prime
+            return nextPrime((int) n);
+        }
+        if (n > LargePrimes.LARGEST_PRIME) {
+            throw new IllegalArgumentException(String.format(NUMBER_TOO_LARGE, n, LargePrimes.LARGEST_PRIME));
+        }
+        n |= 1; // make sure n is odd
+
+        // prepare entry in the +2, +4 loop:
+        // n should not be a multiple of 3
+        final long rem = n % 3;
+        if (0 == rem) { // if n % 3 == 0
+            n += 2; // n % 3 == 2
+        } else if (1 == rem) { // if n % 3 == 1
+            if (LargePrimes.isPrime(n)) {
+                return n;
+            }
+            n += 4; // n % 3 == 2
+        }
+        while (true) { // this loop skips all multiple of 3
+            if (LargePrimes.isPrime(n)) {
+                return n;
+            }
+            n += 2; // n % 3 == 1
+            if (LargePrimes.isPrime(n)) {
+                return n;
+            }
+            n += 4; // n % 3 == 2
+        }
+    }
+
+    /**
+     * Create a stream of the primes in the range {@code [from, to)} in ascending order.
+     *
+     * <p>The primes are generated using a segmented sieve of Eratosthenes. Each
+     * segment of the range is sieved when required using the primes up to
+     * {@code sqrt(to)}; the memory requirement is {@code O(sqrt(to))}.
+     *
+     * <p>The range is empty if {@code to <= from}.
+     *
+     * @param from Lower bound (inclusive).
+     * @param to Upper bound (exclusive).
+     * @return the primes
+     * @see #parallelStream(long, long)
+     * @since 1.2
+     */
+    public static LongStream stream(long from, long to) {
+        return new SegmentedSieve(from, to).stream();
+    }
+
+    /**
+     * Create a parallel stream of the primes in the range {@code [from, to)}.
+     *
+     * <p>The segments of the range are sieved in parallel. The stream is ordered:
+     * the encounter order of the primes is ascending.
+     *
+     * @param from Lower bound (inclusive).
+     * @param to Upper bound (exclusive).
+     * @return the primes
+     * @see #stream(long, long)
+     * @since 1.2
+     */
+    public static LongStream parallelStream(long from, long to) {
+        return new SegmentedSieve(from, to).parallelStream();
+    }
+
+    /**
+     * Create an iterator over the primes in the range {@code [from, to)} in ascending order.
+     *
+     * @param from Lower bound (inclusive).
+     * @param to Upper bound (exclusive).
+     * @return the iterator
+     * @see #stream(long, long)
+     * @since 1.2
+     */
+    public static PrimitiveIterator.OfLong iterator(long from, long to) {
+        return new SegmentedSieve(from, to).iterator();
+    }
+
+    /**
+     * Prime-counting function: the number of primes less than or equal to n.
+     *
+     * <p>The count is computed without enumerating the primes using the
+     * combinatorial method of Legendre. The time complexity is {@code O(n^(3/4))}
+     * and the memory requirement is {@code O(sqrt(n))}: 16 bytes per unit of {@code sqrt(n)},
+     * or 512 MiB for the largest supported argument of 2^50.
+     *
+     * @param n Number.
+     * @return the number of primes {@code <= n}. All numbers &lt; 2 return 0.
+     * @throws IllegalArgumentException if n is larger than 2^50.
+     * @since 1.2
+     */
+    public static long primePi(long n) {
+        if (n > SegmentedSieve.PRIME_PI_MAX) {
+            throw new IllegalArgumentException(String.format(NUMBER_TOO_LARGE, n, SegmentedSieve.PRIME_PI_MAX));
+        }
+        if (n < PRIME_PI_SIEVE_LIMIT) {
+            return n < 2 ? 0 : new SegmentedSieve(2, n + 1).count();
+        }
+        return SegmentedSieve.primePi(n);
+    }
+
     /**
      * Prime factors decomposition.
      *
@@ -109,6 +256,33 @@ public final class Primes {
         if (n < 2) {
             throw new IllegalArgumentException(String.format(NUMBER_TOO_SMALL, n, 2));
         }
-        return SmallPrimes.trialDivision(n);
+        final long[] factors = new long[Integer.SIZE];
+        final int count = LargePrimes.primeFactors(n, factors);
+        final List<Integer> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add((int) factors[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Prime factors decomposition.
+     * <p>
+     * Small factors are found by trial division. The remaining part is factorized
+     * using the Pollard-Brent rho algorithm and a deterministic primality test.
+     *
+     * @param n Number to factorize: must be &ge; 2.
+     * @return the prime factors of {@code n} in ascending order; each factor
+     * occurs as many times as its multiplicity.
+     * @throws IllegalArgumentException if n &lt; 2.
+     * @see PrimeFactorizer
+     * @since 1.2
+     */
+    public static long[] primeFactors(long n) {
+        if (n < 2) {
+            throw new IllegalArgumentException(String.format(NUMBER_TOO_SMALL, n, 2));
+        }
+        final long[] factors = new long[LargePrimes.MAX_FACTORS];
+        return Arrays.copyOf(factors, LargePrimes.primeFactors(n, factors));
     }
 }
@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.primes;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Segmented sieve of Eratosthenes for the primes in a range {@code [from, to)}.
+ *
+ * <p>Only odd numbers are stored. Each segment is a bit set of composite
+ * numbers sized to fit in the processor cache. Segments are independent
+ * and can be sieved in parallel using the shared base primes up to
+ * {@code sqrt(to)}.
+ *
+ * <p>A range that is small compared to {@code sqrt(to)} is sieved by a primality
+ * test of each odd number. This avoids creating the base primes which would
+ * dominate the time and memory.
+ */
+final class SegmentedSieve {
+    /** Largest argument of the prime-counting function. The two tables of
+     * {@code sqrt(n)} longs require 512 MiB at this limit. */
+    static final long PRIME_PI_MAX = 1L << 50;
+    /** Number of bits in a word. */
+    private static final int WORD_BITS = Long.SIZE;
+    /** Log2 of the number of bits in a word. */
+    private static final int WORD_SHIFT = 6;
+    /** Number of odd numbers in a segment (32 KiB of bits). */
+    private static final int SEGMENT_SIZE = 1 << 18;
+    /** Characteristics of the stream of primes. */
+    private static final int CHARACTERISTICS =
+        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED |
+        Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    /** Largest value whose square is representable as a long: {@code floor(sqrt(2^63 - 1))}. */
+    private static final long MAX_SQRT = 3037000499L;
+    /** Log2 of the ratio of {@code sqrt(to)} to the number of odd numbers in the range
+     * above which each odd number is tested for primality. */
+    private static final int SPARSE_SHIFT = 10;
+
+    /** Set to true if the range contains 2. */
+    private final boolean two;
+    /** First odd number of the range. */
+    private final long start;
+    /** Number of odd numbers in the range. */
+    private final long size;
+    /** Set to true if each odd number is tested for primality. */
+    private final boolean sparse;
+    /** Odd primes up to {@code sqrt(to - 1)} (unsigned). Empty if the range is sparse. */
+    private final int[] basePrimes;
+
+    /**
+     * @param from Lower bound (inclusive).
+     * @param to Upper bound (exclusive).
+     */
+    SegmentedSieve(long from, long to) {
+        final long lo = Math.max(from, 2);
+        two = lo == 2 && to > 2;
+        // First odd number >= max(from, 3)
+        start = Math.max(lo, 3) | 1;
+        // Number of odd numbers in [start, to)
+        size = to > start ? ((to - start - 1) >>> 1) + 1 : 0;
+        final long root = size == 0 ? 0 : sqrt(start + 2 * (size - 1));
+        sparse = size < root >>> SPARSE_SHIFT;
+        basePrimes = size == 0 || sparse ? new int[0] : basePrimes(root);
+    }
+
+    /**
+     * Gets the number of segments.
+     *
+     * @return the number of segments
+     */
+    long segments() {
+        return (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+    }
+
+    /**
+     * Create a sequential stream of the primes in the range.
+     *
+     * @return the primes
+     */
+    LongStream stream() {
+        return StreamSupport.longStream(
+            Spliterators.spliteratorUnknownSize(iterator(), CHARACTERISTICS), false);
+    }
+
+    /**
+     * Create a parallel stream of the primes in the range. Each segment is sieved
+     * independently.
+     *
+     * @return the primes
+     */
+    LongStream parallelStream() {
+        final LongStream odd = LongStream.range(0, segments()).parallel()
+            .flatMap(s -> Arrays.stream(primes(s)));
+        return two ? LongStream.concat(LongStream.of(2), odd).parallel() : odd;
+    }
+
+    /**
+     * Create an iterator over the primes in the range.
+     *
+     * @return the iterator
+     */
+    PrimitiveIterator.OfLong iterator() {
+        return new SieveIterator();
+    }
+
+    /**
+     * Count the primes in the range.
+     *
+     * @return the count
+     */
+    long count() {
+        long count = two ? 1 : 0;
+        final long n = segments();
+        for (long s = 0; s < n; s++) {
+            final long[] bits = sieve(s);
+            final int length = length(s);
+            for (final long w : bits) {
+                count += Long.bitCount(~w);
+            }
+            // Remove unused bits of the final word
+            count -= bits.length * (long) WORD_BITS - length;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the primes of the segment.
+     *
+     * @param segment Segment index.
+     * @return the primes
+     */
+    private long[] primes(long segment) {
+        final long[] bits = sieve(segment);
+        final int length = length(segment);
+        int count = 0;
+        for (final long w : bits) {
+            count += Long.bitCount(~w);
+        }
+        count -= bits.length * WORD_BITS - length;
+        final long[] primes = new long[count];
+        final long base = start + 2L * SEGMENT_SIZE * segment;
+        int n = 0;
+        for (int i = 0; i < bits.length; i++) {
+            long w = ~bits[i];
+            while (w != 0 && n < count) {
+                final int j = (i << WORD_SHIFT) + Long.numberOfTrailingZeros(w);
+                primes[n++] = base + 2L * j;
+                w &= w - 1;
+            }
+        }
+        return primes;
+    }
+
+    /**
+     * Gets the number of odd numbers in the segment.
+     *
+     * @param segment Segment index.
+     * @return the length
+     */
+    private int length(long segment) {
+        return (int) Math.min(SEGMENT_SIZE, size - segment * SEGMENT_SIZE);
+    }
+
+    /**
+     * Sieve the segment. Bit {@code j} represents the odd number
+     * {@code start + 2 * (segment * SEGMENT_SIZE + j)} and is set if the number
+     * is composite.
+     *
+     * @param segment Segment index.
+     * @return the composite bit set
+     */
+    private long[] sieve(long segment) {
+        final int length = length(segment);
+        final long[] bits = new long[(length + WORD_BITS - 1) >>> WORD_SHIFT];
+        final long lo = start + 2L * SEGMENT_SIZE * segment;
+        if (sparse) {
+            for (int j = 0; j < length; j++) {
+                if (!Primes.isPrime(lo + 2L * j)) {
+                    bits[j >>> WORD_SHIFT] |= 1L << j;
+                }
+            }
+            return bits;
+        }
+        final long hi = lo + 2L * (length - 1);
+        for (final int bp : basePrimes) {
+            final long p = Integer.toUnsignedLong(bp);
+            final long p2 = p * p;
+            if (p2 > hi) {
+                break;
+            }
+            // First odd multiple of p >= max(p^2, lo)
+            long m;
+            if (p2 >= lo) {
+                m = p2;
+            } else {
+                final long r = lo % p;
+                m = r == 0 ? lo : lo + (p - r);
+                if ((m & 1) == 0) {
+                    m += p;
+                }
+            }
+            for (long j = (m - lo) >>> 1; j < length; j += p) {
+                bits[(int) (j >>> WORD_SHIFT)] |= 1L << j;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Compute the odd primes up to the limit using a sieve of Eratosthenes.
+     *
+     * @param limit Limit (inclusive).
+     * @return the primes (unsigned)
+     */
+    private static int[] basePrimes(long limit) {
+        if (limit < 3) {
+            return new int[0];
+        }
+        if (limit > SEGMENT_SIZE) {
+            // Large limits use the cache efficient segmented sieve
+            final SegmentedSieve sieve = new SegmentedSieve(3, limit + 1);
+            int[] primes = new int[0];
+            int count = 0;
+            final long n = sieve.segments();
+            for (long s = 0; s < n; s++) {
+                final long[] p = sieve.primes(s);
+                if (count + p.length > primes.length) {
+                    primes = Arrays.copyOf(primes, Math.max(count + p.length, primes.length * 2));
+                }
+                for (final long x : p) {
+                    primes[count++] = (int) x;
+                }
+            }
+            return Arrays.copyOf(primes, count);
+        }
+        // Bit i represents the odd number 2i + 1
+        final int n = (int) ((limit - 1) >>> 1) + 1;
+        final long[] bits = new long[(n + WORD_BITS - 1) >>> WORD_SHIFT];
+        for (long i = 1; 2 * i * (i + 1) < n; i++) {
+            if ((bits[(int) (i >>> WORD_SHIFT)] & (1L << i)) == 0) {
+                // Sieve multiples of p = 2i + 1 from p^2 with index 2i(i + 1)
+                final long p = 2 * i + 1;
+                for (long j = 2 * i * (i + 1); j < n; j += p) {
+                    bits[(int) (j >>> WORD_SHIFT)] |= 1L << j;
+                }
+            }
+        }
+        int[] primes = new int[Math.max(16, (int) (limit / Math.max(1, Math.log(limit))))];
+        int count = 0;
+        for (int i = 1; i < n; i++) {
+            if ((bits[i >>> WORD_SHIFT] & (1L << i)) == 0) {
+                if (count == primes.length) {
+                    primes = Arrays.copyOf(primes, count * 2);
+                }
+                primes[count++] = (int) (2L * i + 1);
+            }
+        }
+        return Arrays.copyOf(primes, count);
+    }
+
+    /**
+     * Count the primes less than or equal to {@code n}.
+     *
+     * <p>Uses the combinatorial method of Legendre as described by Lucy_Hedgehog
+     * (Project Euler problem 10). The count {@code S(v, p)} of the numbers in
+     * {@code [2, v]} that are prime or have no prime factor {@code <= p} is updated
+     * for each prime {@code p} for all values {@code v = n / i}:
+     * <pre>
+     * S(v, p) = S(v, p - 1) - (S(v / p, p - 1) - S(p - 1, p - 1))
+     * </pre>
+     *
+     * <p>The time complexity is {@code O(n^(3/4))} and the memory is {@code O(sqrt(n))}.
+     *
+     * @param n Upper limit (inclusive); must be in {@code [2, PRIME_PI_MAX]}.
+     * @return the number of primes {@code <= n}
+     */
+    static long primePi(long n) {
+        final int r = (int) sqrt(n);
+        // small[v] = S(v) for v <= r; large[i] = S(n / i) for i <= r
+        final long[] small = new long[r + 1];
+        final long[] large = new long[r + 1];
+        for (int v = 1; v <= r; v++) {
+            small[v] = v - 1;
+            large[v] = n / v - 1;
+        }
+        for (int p = 2; p <= r; p++) {
+            if (small[p] == small[p - 1]) {
+                // Not prime
+                continue;
+            }
+            final long sp = small[p - 1];
+            final long p2 = (long) p * p;
+            final int lim = (int) Math.min(r, n / p2);
+            for (int i = 1; i <= lim; i++) {
+                final long d = (long) i * p;
+                large[i] -= (d <= r ? large[(int) d] : small[(int) (n / d)]) - sp;
+            }
+            for (int v = r; v >= p2; v--) {
+                small[v] -= small[v / p] - sp;
+            }
+        }
+        return large[1];
+    }
+
+    /**
+     * Compute {@code floor(sqrt(x))}.
+     *
+     * @param x Value (must be positive).
+     * @return the square root
+     */
+    static long sqrt(long x) {
+        long r = (long) Math.sqrt(x);
+        // Correct the floating-point rounding
+        while (r * r > x) {
+            r--;
+        }
+        // Avoid overflow of (r + 1)^2
+        while (r < MAX_SQRT && (r + 1) * (r + 1) <= x) {
+            r++;
+        }
+        return r;
+    }
+
+    /**
+     * Iterate over the primes of the sieve one segment at a time.
+     */
+    private final class SieveIterator implements PrimitiveIterator.OfLong {
+        /** Next segment to sieve. */
+        private long nextSegment;
+        /** Composite bit set of the current segment. */
+        private long[] bits;
+        /** First odd number of the current segment. */
+        private long base;
+        /** Number of odd numbers in the current segment. */
+        private int length;
+        /** Index of the current word. */
+        private int word;
+        /** Unreported primes of the current word (set bits). */
+        private long current;
+        /** Next prime, or 0 if not yet found. */
+        private long next;
+
+        /** Create an instance. */
+        SieveIterator() {
+            bits = new long[0];
+            word = -1;
+            next = two ? 2 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != 0) {
+                return true;
+            }
+            while (current == 0) {
+                if (++word >= bits.length) {
+                    if (nextSegment == segments()) {
+                        return false;
+                    }
+                    bits = sieve(nextSegment);
+                    base = start + 2L * SEGMENT_SIZE * nextSegment;
+                    length = length(nextSegment);
+                    nextSegment++;
+                    word = 0;
+                }
+                current = ~bits[word];
+                if (word == bits.length - 1 && (length & (WORD_BITS - 1)) != 0) {
+                    // Clear unused bits of the final word
+                    current &= (1L << length) - 1;
+                }
+            }
+            final int j = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(current);
+            current &= current - 1;
+            next = base + 2L * j;
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final long p = next;
+            next = 0;
+            return p;
+        }
+    }
+}
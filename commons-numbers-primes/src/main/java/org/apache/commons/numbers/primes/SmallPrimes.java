@@ -16,7 +16,6 @@
  */
 package org.apache.commons.numbers.primes;
 
-import java.math.BigInteger;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -25,6 +24,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.apache.commons.numbers.core.ArithmeticUtils;
+
 /**
  * Utility methods to work on primes within the <code>int</code> range.
  */
@@ -262,13 +263,8 @@ final class SmallPrimes {
         if (n >= 25326001) {
             t = 4;
         } // works up to 3.2 billion, int range stops at 2.7 so we are safe :-)
-        final BigInteger br = BigInteger.valueOf(r);
-        final BigInteger bn = BigInteger.valueOf(n);
-
         for (int i = 0; i < t; i++) {
-            final BigInteger a = BigInteger.valueOf(SmallPrimes.PRIMES[i]);
-            final BigInteger bPow = a.modPow(br, bn);
-            int y = bPow.intValue();
+            int y = (int) ArithmeticUtils.powMod(SmallPrimes.PRIMES[i], r, n);
             if (1 != y && y != nMinus1) {
                 int j = 1;
                 while (j <= s - 1 && nMinus1 != y) {
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.primes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Table of the smallest prime factor of each number up to a limit.
+ *
+ * <p>The table allows the prime factorization of any number up to the limit
+ * using {@code O(log n)} lookups. It is built using a linear sieve.
+ *
+ * <p>Only odd numbers are stored. The smallest prime factor of an odd composite
+ * number {@code n} is at most {@code sqrt(n) < 2^16} and is stored as a
+ * {@code char}; primes are stored as 0. The table requires 1 byte per number
+ * up to the limit.
+ *
+ * <p>The table can be written to a file and memory-mapped. This allows the
+ * table to be built once and shared by many processes using the operating system
+ * page cache. The file format is a header of two little-endian {@code int} values
+ * (a format identifier and the limit) followed by the table as little-endian
+ * {@code char} values.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @since 1.2
+ */
+public final class SmallestPrimeFactorTable {
+    /** The maximum supported limit. The file size must be supported by a memory-mapped buffer. */
+    public static final int MAX_LIMIT = Integer.MAX_VALUE - 32;
+
+    /** Identifier of the file format ("SPF1"). */
+    private static final int FORMAT = 0x31465053;
+    /** Size of the file header in bytes. */
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    /** Number of table entries written to the file in a single operation. */
+    private static final int WRITE_CHUNK = 1 << 16;
+
+    /** The limit. */
+    private final int limit;
+    /** Smallest prime factor of the odd number {@code 2i + 1} at index {@code i}; 0 for prime. */
+    private final CharBuffer table;
+
+    /**
+     * @param limit Limit.
+     * @param table Table.
+     */
+    private SmallestPrimeFactorTable(int limit, CharBuffer table) {
+        this.limit = limit;
+        this.table = table;
+    }
+
+    /**
+     * Create a table of the smallest prime factor of the numbers up to the limit.
+     *
+     * @param limit Limit (inclusive).
+     * @return the table
+     * @throws IllegalArgumentException if {@code limit < 2} or
+     * {@code limit > }{@link #MAX_LIMIT}.
+     */
+    public static SmallestPrimeFactorTable create(int limit) {
+        if (limit < 2) {
+            throw new IllegalArgumentException(String.format(Primes.NUMBER_TOO_SMALL, limit, 2));
+        }
+        if (limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(String.format(Primes.NUMBER_TOO_LARGE, limit, MAX_LIMIT));
+        }
+        return new SmallestPrimeFactorTable(limit, CharBuffer.wrap(sieve(limit)));
+    }
+
+    /**
+     * Memory-map a table from a file created using {@link #write(Path)}.
+     *
+     * <p>The table is mapped read-only; the file should not be modified while
+     * the table is in use.
+     *
+     * @param file File.
+     * @return the table
+     * @throws IOException if an I/O error occurs, or the file is not a valid table.
+     */
+    public static SmallestPrimeFactorTable map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid table file size: " + size);
+            }
+            // The mapping remains valid after the channel is closed
+            final ByteBuffer bb = channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            final int format = bb.getInt(0);
+            final int limit = bb.getInt(Integer.BYTES);
+            if (format != FORMAT || limit < 2 || limit > MAX_LIMIT ||
+                size != HEADER_BYTES + (long) Character.BYTES * size(limit)) {
+                throw new IOException("Invalid table file: " + file);
+            }
+            bb.position(HEADER_BYTES);
+            return new SmallestPrimeFactorTable(limit, bb.slice().order(ByteOrder.LITTLE_ENDIAN).asCharBuffer());
+        }
+    }
+
+    /**
+     * Write the table to a file. An existing file is replaced.
+     *
+     * @param file File.
+     * @throws IOException if an I/O error occurs.
+     * @see #map(Path)
+     */
+    public void write(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(FORMAT).putInt(limit).flip();
+            writeFully(channel, header);
+            final ByteBuffer bb = ByteBuffer.allocate(WRITE_CHUNK * Character.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            final int size = table.limit();
+            for (int i = 0; i < size; i += WRITE_CHUNK) {
+                final int end = Math.min(size, i + WRITE_CHUNK);
+                bb.clear();
+                for (int j = i; j < end; j++) {
+                    bb.putChar(table.get(j));
+                }
+                bb.flip();
+                writeFully(channel, bb);
+            }
+        }
+    }
+
+    /**
+     * Gets the limit of the table.
+     *
+     * @return the limit (inclusive)
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the smallest prime factor of the number.
+     *
+     * @param n Number: must be in {@code [2, limit]}.
+     * @return the smallest prime factor
+     * @throws IllegalArgumentException if {@code n} is outside the range of the table.
+     */
+    public int smallestPrimeFactor(int n) {
+        checkNumber(n);
+        return spf(n);
+    }
+
+    /**
+     * Primality test.
+     *
+     * @param n Number: must be in {@code [2, limit]}.
+     * @return true if {@code n} is prime
+     * @throws IllegalArgumentException if {@code n} is outside the range of the table.
+     */
+    public boolean isPrime(int n) {
+        checkNumber(n);
+        return (n & 1) == 0 ? n == 2 : table.get(n >>> 1) == 0;
+    }
+
+    /**
+     * Prime factors decomposition.
+     *
+     * @param n Number to factorize: must be in {@code [2, limit]}.
+     * @return the prime factors of {@code n} in ascending order; each factor
+     * occurs as many times as its multiplicity.
+     * @throws IllegalArgumentException if {@code n} is outside the range of the table.
+     */
+    public int[] primeFactors(int n) {
+        final int[] factors = new int[Integer.SIZE];
+        return Arrays.copyOf(factors, primeFactors(n, factors));
+    }
+
+    /**
+     * Prime factors decomposition into the provided array. The factors are written in
+     * ascending order; each factor occurs as many times as its multiplicity.
+     *
+     * <p>An array of length 31 is sufficient for any <code>int</code>.
+     *
+     * @param n Number to factorize: must be in {@code [2, limit]}.
+     * @param factors Array where to write the factors.
+     * @return the number of factors
+     * @throws IllegalArgumentException if {@code n} is outside the range of the table.
+     * @throws IndexOutOfBoundsException if the array is too small.
+     */
+    public int primeFactors(int n, int[] factors) {
+        checkNumber(n);
+        int m = n;
+        int count = Integer.numberOfTrailingZeros(m);
+        Arrays.fill(factors, 0, count, 2);
+        m >>>= count;
+        while (m != 1) {
+            final int p = table.get(m >>> 1);
+            if (p == 0) {
+                factors[count++] = m;
+                break;
+            }
+            factors[count++] = p;
+            m /= p;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the smallest prime factor of the number.
+     *
+     * @param n Number in {@code [2, limit]}.
+     * @return the smallest prime factor
+     */
+    private int spf(int n) {
+        if ((n & 1) == 0) {
+            return 2;
+        }
+        final int p = table.get(n >>> 1);
+        return p == 0 ? n : p;
+    }
+
+    /**
+     * Check the number is within the range of the table.
+     *
+     * @param n Number.
+     * @throws IllegalArgumentException if {@code n} is outside the range of the table.
+     */
+    private void checkNumber(int n) {
+        if (n < 2) {
+            throw new IllegalArgumentException(String.format(Primes.NUMBER_TOO_SMALL, n, 2));
+        }
+        if (n > limit) {
+            throw new IllegalArgumentException(String.format(Primes.NUMBER_TOO_LARGE, n, limit));
+        }
+    }
+
+    /**
+     * Gets the size of the table for the limit.
+     *
+     * @param limit Limit.
+     * @return the number of odd numbers up to the limit
+     */
+    private static int size(int limit) {
+        return (limit + 1) >>> 1;
+    }
+
+    /**
+     * Build the table of the smallest prime factor of the odd numbers up to the
+     * limit using a linear sieve. Each composite is marked exactly once as
+     * {@code p * i} where {@code p} is its smallest prime factor.
+     *
+     * @param limit Limit.
+     * @return the table
+     */
+    private static char[] sieve(int limit) {
+        final int size = size(limit);
+        final char[] spf = new char[size];
+        // Odd primes up to sqrt(limit); these are the only primes that mark composites
+        final int[] primes = new int[Math.max(16, (int) Math.sqrt(limit))];
+        int count = 0;
+        final int sqrt = (int) Math.sqrt(limit);
+        // Index 0 is the number 1: never used
+        for (int j = 1; j < size; j++) {
+            final int i = 2 * j + 1;
+            final int s = spf[j];
+            if (s == 0 && i <= sqrt) {
+                primes[count++] = i;
+            }
+            final int maxFactor = s == 0 ? i : s;
+            // Mark p * i for odd primes p <= spf(i)
+            for (int k = 0; k < count; k++) {
+                final int p = primes[k];
+                final long pi = (long) p * i;
+                if (p > maxFactor || pi > limit) {
+                    break;
+                }
+                spf[(int) (pi >>> 1)] = (char) p;
+            }
+        }
+        return spf;
+    }
+
+    /**
+     * Write the buffer to the channel.
+     *
+     * @param channel Channel.
+     * @param bb Buffer.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer bb) throws IOException {
+        while (bb.hasRemaining()) {
+            channel.write(bb);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.primes;
+
+import java.util.Arrays;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link PrimeFactorizer}.
+ */
+class PrimeFactorizerTest {
+    /** Limit for the brute force tests. */
+    private static final int LIMIT = 5000;
+
+    @Test
+    void testPrimeFactors() {
+        final PrimeFactorizer f = new PrimeFactorizer();
+        final int[] intFactors = new int[31];
+        final long[] longFactors = new long[PrimeFactorizer.MAX_FACTORS];
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 500; i++) {
+            final int n = Math.max(2, rng.nextInt() >>> rng.nextInt(31));
+            final int[] expected = Primes.primeFactors(n).stream().mapToInt(Integer::intValue).toArray();
+            Assertions.assertArrayEquals(expected, f.primeFactors(n));
+            final int count = f.primeFactors(n, intFactors);
+            Assertions.assertArrayEquals(expected, Arrays.copyOf(intFactors, count));
+
+            final long m = Math.max(2, rng.nextLong() >>> (1 + rng.nextInt(62)));
+            final long[] expected2 = Primes.primeFactors(m);
+            Assertions.assertArrayEquals(expected2, f.primeFactors(m));
+            final int count2 = f.primeFactors(m, longFactors);
+            Assertions.assertArrayEquals(expected2, Arrays.copyOf(longFactors, count2));
+        }
+        // Maximum number of factors
+        Assertions.assertEquals(30, f.primeFactors(1 << 30, intFactors));
+        Assertions.assertEquals(PrimeFactorizer.MAX_FACTORS, f.primeFactors(1L << 62, longFactors));
+    }
+
+    @Test
+    void testFactor() {
+        final PrimeFactorizer f = new PrimeFactorizer();
+        final long[] primes = new long[PrimeFactorizer.MAX_DISTINCT_FACTORS];
+        final int[] exponents = new int[PrimeFactorizer.MAX_DISTINCT_FACTORS];
+        Assertions.assertEquals(3, f.factor(360, primes, exponents));
+        Assertions.assertArrayEquals(new long[] {2, 3, 5}, Arrays.copyOf(primes, 3));
+        Assertions.assertArrayEquals(new int[] {3, 2, 1}, Arrays.copyOf(exponents, 3));
+        Assertions.assertEquals(1, f.factor(Long.MAX_VALUE - 24, primes, exponents));
+        Assertions.assertEquals(Long.MAX_VALUE - 24, primes[0]);
+        Assertions.assertEquals(1, exponents[0]);
+        // Primorial: 2 * 3 * 5 * ... * 47
+        final long primorial = 614889782588491410L;
+        Assertions.assertEquals(PrimeFactorizer.MAX_DISTINCT_FACTORS, f.factor(primorial, primes, exponents));
+        Assertions.assertEquals(47, primes[PrimeFactorizer.MAX_DISTINCT_FACTORS - 1]);
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 200; i++) {
+            final long n = Math.max(2, rng.nextLong() >>> (1 + rng.nextInt(62)));
+            final int size = f.factor(n, primes, exponents);
+            long product = 1;
+            for (int j = 0; j < size; j++) {
+                Assertions.assertTrue(Primes.isPrime(primes[j]));
+                if (j > 0) {
+                    Assertions.assertTrue(primes[j - 1] < primes[j]);
+                }
+                for (int k = 0; k < exponents[j]; k++) {
+                    product *= primes[j];
+                }
+            }
+            Assertions.assertEquals(n, product);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final PrimeFactorizer f = new PrimeFactorizer();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.primeFactors(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.primeFactors(1L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.primeFactors(0, new int[31]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.primeFactors(-1L, new long[62]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.factor(1, new long[15], new int[15]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.totient(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.divisorCount(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.radical(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.mobius(Long.MIN_VALUE));
+        // Insufficient space
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.primeFactors(8, new int[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.primeFactors(8L, new long[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.factor(30, new long[2], new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.factor(30, new long[3], new int[2]));
+    }
+
+    @Test
+    void testArithmeticFunctionsBruteForce() {
+        final PrimeFactorizer f = new PrimeFactorizer();
+        for (int n = 1; n <= LIMIT; n++) {
+            long phi = 0;
+            long d = 0;
+            for (int k = 1; k <= n; k++) {
+                if (gcd(k, n) == 1) {
+                    phi++;
+                }
+                if (n % k == 0) {
+                    d++;
+                }
+            }
+            Assertions.assertEquals(phi, f.totient(n), "totient");
+            Assertions.assertEquals(d, f.divisorCount(n), "divisorCount");
+            long rad = 1;
+            int mu = 1;
+            int m = n;
+            for (int p = 2; m > 1; p++) {
+                if (m % p == 0) {
+                    rad *= p;
+                    mu = -mu;
+                    m /= p;
+                    if (m % p == 0) {
+                        mu = 0;
+                        while (m % p == 0) {
+                            m /= p;
+                        }
+                    }
+                }
+            }
+            Assertions.assertEquals(rad, f.radical(n), "radical");
+            Assertions.assertEquals(mu, f.mobius(n), "mobius");
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // n, totient, divisorCount, radical, mobius
+        "9223372036854775783, 9223372036854775782, 2, 9223372036854775783, -1",
+        "4611686018427387904, 2305843009213693952, 63, 2, 0",
+        "614889782588491410, 85287729364992000, 32768, 614889782588491410, -1",
+        "9223372036854775807, 7713001620195508224, 96, 1317624576693539401, 0",
+        "897612484786617600, 133493837266944000, 103680, 7420738134810, 0",
+    })
+    void testArithmeticFunctions(long n, long totient, long divisorCount, long radical, int mobius) {
+        final PrimeFactorizer f = new PrimeFactorizer();
+        Assertions.assertEquals(totient, f.totient(n));
+        Assertions.assertEquals(divisorCount, f.divisorCount(n));
+        Assertions.assertEquals(radical, f.radical(n));
+        Assertions.assertEquals(mobius, f.mobius(n));
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
@@ -16,11 +16,20 @@
  */
 package org.apache.commons.numbers.primes;
 
+import java.math.BigInteger;
 import java.util.HashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
 
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class PrimesTest {
 
@@ -112,6 +121,75 @@ class PrimesTest {
         assertNextPrimeException(-13, String.format(Primes.NUMBER_TOO_SMALL, -13, 0));
     }
 
+    void assertNextPrimeException(long n, String expected) {
+        try {
+            Primes.nextPrime(n);
+            Assertions.fail("Exception not thrown");
+        } catch (IllegalArgumentException e) {
+            Assertions.assertEquals(expected, e.getMessage());
+        }
+    }
+
+    @Test
+    void testNextPrimeLong() {
+        Assertions.assertEquals(2L, Primes.nextPrime(0L));
+        Assertions.assertEquals(5L, Primes.nextPrime(4L));
+        Assertions.assertEquals(Integer.MAX_VALUE, Primes.nextPrime((long) Integer.MAX_VALUE));
+        for (long i = Integer.MAX_VALUE + 1L; i <= 2147483659L; i++) {
+            Assertions.assertEquals(2147483659L, Primes.nextPrime(i));
+        }
+        Assertions.assertEquals(1000000000000000003L, Primes.nextPrime(1000000000000000000L));
+        Assertions.assertEquals(4611686018427388039L, Primes.nextPrime(1L << 62));
+        Assertions.assertEquals(Long.MAX_VALUE - 24, Primes.nextPrime(Long.MAX_VALUE - 30));
+        Assertions.assertEquals(Long.MAX_VALUE - 24, Primes.nextPrime(Long.MAX_VALUE - 24));
+
+        assertNextPrimeException(Long.MIN_VALUE, String.format(Primes.NUMBER_TOO_SMALL, Long.MIN_VALUE, 0));
+        assertNextPrimeException(-1L, String.format(Primes.NUMBER_TOO_SMALL, -1L, 0));
+        assertNextPrimeException(Long.MAX_VALUE - 23,
+            String.format(Primes.NUMBER_TOO_LARGE, Long.MAX_VALUE - 23, Long.MAX_VALUE - 24));
+        assertNextPrimeException(Long.MAX_VALUE,
+            String.format(Primes.NUMBER_TOO_LARGE, Long.MAX_VALUE, Long.MAX_VALUE - 24));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {
+        2147483659L, 4294967291L, 4294967279L,
+        // 2^61 - 1
+        2305843009213693951L,
+        // 2^63 - 25
+        9223372036854775783L,
+    })
+    void testIsPrimeLong(long n) {
+        Assertions.assertTrue(Primes.isPrime(n));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {
+        Long.MIN_VALUE, -2147483659L, -1, 0, 1, 4, Long.MAX_VALUE,
+        // 4294967291 * 2147483647
+        9223372021822390277L,
+        // Strong pseudoprimes to several prime bases
+        3215031751L, 2152302898747L, 3474749660383L, 341550071728321L, 3825123056546413051L,
+    })
+    void testIsNotPrimeLong(long n) {
+        Assertions.assertFalse(Primes.isPrime(n));
+    }
+
+    @Test
+    void testIsPrimeLongRandom() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 2000; i++) {
+            // Odd numbers with a random bit length
+            final long n = (rng.nextLong() >>> (1 + rng.nextInt(32))) | 1;
+            Assertions.assertEquals(BigInteger.valueOf(n).isProbablePrime(100), Primes.isPrime(n), () -> Long.toString(n));
+        }
+        // Int range is the same
+        for (int i = 0; i < 200; i++) {
+            final int n = rng.nextInt();
+            Assertions.assertEquals(Primes.isPrime(n), Primes.isPrime((long) n));
+        }
+    }
+
     @Test
     void testIsPrime() {
         for (int i : BELOW_2) {
@@ -133,6 +211,167 @@ class PrimesTest {
         return out;
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "-10, -5",
+        "0, 2",
+        "2, 2",
+        "0, 3",
+        "0, 1000",
+        "-5, 100",
+        "3, 4",
+        "4, 5",
+        "24, 29",
+        "24, 30",
+        "1000, 1100",
+        // Multiple segments
+        "0, 2000000",
+        "1000000000, 1001000000",
+        "4294967000, 4294968000",
+        "100000000000000, 100000000001000",
+        // Upper limit of the long range
+        "9223372036854775000, 9223372036854775807",
+    })
+    void testStream(long from, long to) {
+        final long[] expected = LongStream.range(Math.max(0, from), Math.max(0, to))
+            .filter(Primes::isPrime).toArray();
+        Assertions.assertArrayEquals(expected, Primes.stream(from, to).toArray());
+        Assertions.assertArrayEquals(expected, Primes.parallelStream(from, to).toArray());
+        final PrimitiveIterator.OfLong it = Primes.iterator(from, to);
+        for (final long p : expected) {
+            Assertions.assertTrue(it.hasNext());
+            Assertions.assertEquals(p, it.nextLong());
+        }
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, it::nextLong);
+        if (from <= 0) {
+            Assertions.assertEquals(expected.length, Primes.primePi(to - 1));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 0",
+        "1, 0",
+        "2, 1",
+        "10, 4",
+        "100, 25",
+        "1000, 168",
+        "65535, 6542",
+        "65536, 6542",
+        "65537, 6543",
+        "1000000, 78498",
+        "10000000, 664579",
+        "100000000, 5761455",
+        "1000000000, 50847534",
+        "4294967296, 203280221",
+        "10000000000, 455052511",
+    })
+    void testPrimePi(long n, long expected) {
+        Assertions.assertEquals(expected, Primes.primePi(n));
+    }
+
+    @Test
+    void testPrimePiThrows() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Primes.primePi((1L << 50) + 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Primes.primePi(Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 2, 3, 4, 15, 16, 17, 1L << 52, (1L << 52) + 1, (1L << 62) - 1, 1L << 62,
+        3037000499L * 3037000499L - 1, 3037000499L * 3037000499L, Long.MAX_VALUE})
+    void testSqrt(long x) {
+        final BigInteger r = BigInteger.valueOf(SegmentedSieve.sqrt(x));
+        final BigInteger bx = BigInteger.valueOf(x);
+        Assertions.assertTrue(r.multiply(r).compareTo(bx) <= 0);
+        final BigInteger r1 = r.add(BigInteger.ONE);
+        Assertions.assertTrue(r1.multiply(r1).compareTo(bx) > 0);
+    }
+
+    @Test
+    void testPrimePiMatchesSieve() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 20; i++) {
+            final long n = rng.nextLong(1 << 16, 1 << 22);
+            Assertions.assertEquals(Primes.stream(0, n + 1).count(), Primes.primePi(n), () -> Long.toString(n));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {
+        2, 3, 4, 12, 1024, 3671 * 3671, 3673L * 3673, 3673L * 3677,
+        // Semiprimes near 2^31
+        2147483647L * 2147483629L, 46337 * 46327,
+        // Prime squares near 2^62
+        3037000493L * 3037000493L, 2147483647L * 2147483647L,
+        // Powers
+        1L << 62, 4052555153018976267L,
+        // Carmichael numbers
+        561, 41041, 3215031751L, 9999109081L,
+        // Primes
+        2147483659L, Long.MAX_VALUE - 24,
+        Long.MAX_VALUE, Long.MAX_VALUE - 1, 9223372021822390277L, 1000000000000000000L,
+    })
+    void testPrimeFactorsLong(long n) {
+        assertPrimeFactors(n, Primes.primeFactors(n));
+    }
+
+    @Test
+    void testPrimeFactorsLongRandom() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 500; i++) {
+            final long n = Math.max(2, rng.nextLong() >>> (1 + rng.nextInt(62)));
+            assertPrimeFactors(n, Primes.primeFactors(n));
+        }
+        // Products of two random primes
+        for (int i = 0; i < 100; i++) {
+            final int bits = rng.nextInt(10, 53);
+            final long p = Primes.nextPrime(rng.nextLong(1L << bits));
+            final long q = Primes.nextPrime(rng.nextLong(Long.MAX_VALUE / p));
+            final long[] f = Primes.primeFactors(p * q);
+            assertPrimeFactors(p * q, f);
+            Assertions.assertArrayEquals(new long[] {Math.min(p, q), Math.max(p, q)}, f);
+        }
+    }
+
+    @Test
+    void testPrimeFactorsIntMatchesTrialDivision() {
+        final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+        for (int i = 0; i < 500; i++) {
+            final int n = Math.max(2, rng.nextInt() >>> rng.nextInt(31));
+            Assertions.assertEquals(SmallPrimes.trialDivision(n), Primes.primeFactors(n));
+        }
+    }
+
+    @Test
+    void testPrimeFactorsLongBelow2() {
+        for (final long n : new long[] {Long.MIN_VALUE, -1, 0, 1}) {
+            final IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Primes.primeFactors(n));
+            Assertions.assertEquals(String.format(Primes.NUMBER_TOO_SMALL, n, 2), e.getMessage());
+        }
+    }
+
+    /**
+     * Assert the factors are prime, in ascending order, and the product is {@code n}.
+     *
+     * @param n Number.
+     * @param factors Factors.
+     */
+    static void assertPrimeFactors(long n, long[] factors) {
+        BigInteger product = BigInteger.ONE;
+        for (int i = 0; i < factors.length; i++) {
+            final long p = factors[i];
+            Assertions.assertTrue(Primes.isPrime(p), () -> "Not prime: " + p);
+            if (i > 0) {
+                Assertions.assertTrue(factors[i - 1] <= p, "Not sorted");
+            }
+            product = product.multiply(BigInteger.valueOf(p));
+        }
+        Assertions.assertEquals(BigInteger.valueOf(n), product);
+    }
+
     static int product(List<Integer> numbers) {
         int out = 1;
         for (int i : numbers) {
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.primes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link SmallestPrimeFactorTable}.
+ */
+class SmallestPrimeFactorTableTest {
+    /** Limit for the tests. */
+    private static final int LIMIT = 200000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 9, 10, 25, 26, 1000, 1001, 65536, LIMIT})
+    void testTable(int limit) {
+        assertTable(SmallestPrimeFactorTable.create(limit), limit);
+    }
+
+    @Test
+    void testInvalidLimit() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SmallestPrimeFactorTable.create(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SmallestPrimeFactorTable.create(-1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> SmallestPrimeFactorTable.create(SmallestPrimeFactorTable.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void testInvalidNumber() {
+        final SmallestPrimeFactorTable table = SmallestPrimeFactorTable.create(100);
+        for (final int n : new int[] {Integer.MIN_VALUE, 0, 1, 101, Integer.MAX_VALUE}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> table.smallestPrimeFactor(n));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> table.isPrime(n));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> table.primeFactors(n));
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.primeFactors(64, new int[5]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.primeFactors(81, new int[3]));
+    }
+
+    @Test
+    void testWriteMap(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("spf.bin");
+        final SmallestPrimeFactorTable table = SmallestPrimeFactorTable.create(LIMIT);
+        table.write(file);
+        Assertions.assertEquals(8 + LIMIT, Files.size(file));
+        final SmallestPrimeFactorTable mapped = SmallestPrimeFactorTable.map(file);
+        assertTable(mapped, LIMIT);
+        // Overwrite an existing file with a smaller table
+        SmallestPrimeFactorTable.create(99).write(file);
+        assertTable(SmallestPrimeFactorTable.map(file), 99);
+    }
+
+    @Test
+    void testMapInvalidFile(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve("spf.bin");
+        Files.write(file, new byte[7]);
+        Assertions.assertThrows(IOException.class, () -> SmallestPrimeFactorTable.map(file));
+        Files.write(file, new byte[16]);
+        Assertions.assertThrows(IOException.class, () -> SmallestPrimeFactorTable.map(file));
+        // Truncated table
+        SmallestPrimeFactorTable.create(100).write(file);
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+        Assertions.assertThrows(IOException.class, () -> SmallestPrimeFactorTable.map(file));
+    }
+
+    /**
+     * Assert the table against the factorization of each number.
+     *
+     * @param table Table.
+     * @param limit Expected limit.
+     */
+    private static void assertTable(SmallestPrimeFactorTable table, int limit) {
+        Assertions.assertEquals(limit, table.getLimit());
+        final PrimeFactorizer f = new PrimeFactorizer();
+        final int[] factors = new int[31];
+        for (int n = 2; n <= limit; n++) {
+            final int[] expected = f.primeFactors(n);
+            Assertions.assertEquals(expected[0], table.smallestPrimeFactor(n));
+            Assertions.assertEquals(expected.length == 1, table.isPrime(n));
+            final int count = table.primeFactors(n, factors);
+            Assertions.assertArrayEquals(expected, Arrays.copyOf(factors, count));
+        }
+        Assertions.assertArrayEquals(f.primeFactors(limit), table.primeFactors(limit));
+    }
+}